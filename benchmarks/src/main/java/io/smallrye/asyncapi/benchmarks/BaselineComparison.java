@@ -0,0 +1,234 @@
+/*
+ * Copyright 2019 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.smallrye.asyncapi.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Compares the JMH results of a run (written with {@code -rf json}) against the committed baseline. Prints the
+ * change of the score and of the normalized allocation rate ({@code -prof gc}) of every benchmark contained in both
+ * and exits with status 1 if a benchmark got significantly slower or allocates significantly more.
+ * <p>
+ * A change is significant if it exceeds the combined score errors of both runs, the half-widths of the 99.9%
+ * confidence intervals reported by JMH, and the minimum change (1 percent by default). Changes within the errors
+ * are noise of the runs, the minimum change ignores tiny but stable differences, e.g. of the allocation.
+ * <p>
+ * The baseline is a compact form of a JMH result: an array of the benchmark name, mode, score and score error of
+ * every metric. The name of a metric is the name of its benchmark followed by {@code :param=value} for every
+ * parameter, the name of the allocation additionally has the suffix {@code :·gc.alloc.rate.norm} before the
+ * parameters. Both files may be either a JMH result or a compact baseline, {@code --record} converts a JMH result
+ * into a compact baseline.
+ *
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar io.smallrye.asyncapi.benchmarks.BaselineComparison \
+ *         benchmarks/baseline/baseline.json target/result.json [minimum-change-percent]
+ * java -cp benchmarks/target/benchmarks.jar io.smallrye.asyncapi.benchmarks.BaselineComparison \
+ *         --record target/result.json benchmarks/baseline/baseline.json
+ * </pre>
+ */
+public final class BaselineComparison {
+
+    private static final String ALLOCATION_METRIC = "·gc.alloc.rate.norm";
+
+    private static final double DEFAULT_MINIMUM_CHANGE = 1.0;
+
+    private BaselineComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 3 && "--record".equals(args[0])) {
+            record(read(new File(args[1])), new File(args[2]));
+            return;
+        }
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineComparison <baseline.json> <result.json> [minimum-change-percent]");
+            System.err.println("       BaselineComparison --record <result.json> <baseline.json>");
+            System.exit(2);
+        }
+        double minimumChange = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_MINIMUM_CHANGE;
+
+        Map<String, Run> baseline = read(new File(args[0]));
+        Map<String, Run> result = read(new File(args[1]));
+
+        boolean regressed = false;
+        System.out.println(String.format(Locale.ROOT, "%-100s %22s %22s %8s %12s %12s %8s", "Benchmark", "Baseline",
+                "Result", "Change", "Alloc base", "Alloc", "Change"));
+        for (Map.Entry<String, Run> entry : result.entrySet()) {
+            Run baselineRun = baseline.get(entry.getKey());
+            if (baselineRun == null) {
+                continue;
+            }
+            Run run = entry.getValue();
+
+            boolean runRegressed = regressed(baselineRun.score, run.score, minimumChange)
+                    || regressed(baselineRun.allocation, run.allocation, minimumChange);
+            regressed |= runRegressed;
+
+            System.out.println(String.format(Locale.ROOT, "%-100s %22s %22s %+7.1f%% %12.0f %12.0f %+7.1f%%%s",
+                    entry.getKey(), format(baselineRun.score), format(run.score),
+                    change(baselineRun.score, run.score), value(baselineRun.allocation), value(run.allocation),
+                    change(baselineRun.allocation, run.allocation), runRegressed ? "  REGRESSION" : ""));
+        }
+        System.exit(regressed ? 1 : 0);
+    }
+
+    /**
+     * Read the runs of a JMH result or of a compact baseline, keyed by the benchmark name and its parameters.
+     */
+    private static Map<String, Run> read(File file) throws IOException {
+        Map<String, Run> runs = new LinkedHashMap<>();
+        for (JsonNode entry : new ObjectMapper().readTree(file)) {
+            String name = entry.path("benchmark").asText();
+            if (entry.has("primaryMetric")) {
+                StringBuilder params = new StringBuilder();
+                entry.path("params").fields().forEachRemaining(param -> params.append(':')
+                        .append(param.getKey())
+                        .append('=')
+                        .append(param.getValue().asText()));
+                Run run = runs.computeIfAbsent(name + params, key -> new Run());
+                run.score = Metric.of(entry.path("mode").asText(), entry.path("primaryMetric"));
+                JsonNode allocation = entry.path("secondaryMetrics").path(ALLOCATION_METRIC);
+                if (!allocation.isMissingNode()) {
+                    run.allocation = Metric.of(entry.path("mode").asText(), allocation);
+                }
+            } else {
+                Metric metric = Metric.of(entry.path("mode").asText(), entry);
+                int allocation = name.indexOf(':' + ALLOCATION_METRIC);
+                if (allocation < 0) {
+                    runs.computeIfAbsent(name, key -> new Run()).score = metric;
+                } else {
+                    String key = name.substring(0, allocation) + name.substring(allocation + ALLOCATION_METRIC.length() + 1);
+                    runs.computeIfAbsent(key, k -> new Run()).allocation = metric;
+                }
+            }
+        }
+        return runs;
+    }
+
+    /**
+     * Write the runs as a compact baseline.
+     */
+    private static void record(Map<String, Run> runs, File file) throws IOException {
+        ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        ArrayNode baseline = mapper.createArrayNode();
+        for (Map.Entry<String, Run> entry : runs.entrySet()) {
+            String key = entry.getKey();
+            Run run = entry.getValue();
+            if (run.score != null) {
+                baseline.add(run.score.toJson(mapper, key));
+            }
+            if (run.allocation != null) {
+                int params = key.indexOf(':');
+                String name = params < 0 ? key + ':' + ALLOCATION_METRIC
+                        : key.substring(0, params) + ':' + ALLOCATION_METRIC + key.substring(params);
+                baseline.add(run.allocation.toJson(mapper, name));
+            }
+        }
+        mapper.writeValue(file, baseline);
+    }
+
+    /**
+     * @return true if the metric increased by more than the combined score errors of both runs and the minimum
+     *         change
+     */
+    private static boolean regressed(Metric baseline, Metric result, double minimumChange) {
+        double increase = value(result) - value(baseline);
+        double error = Math.sqrt(square(error(baseline)) + square(error(result)));
+        return increase > error && change(baseline, result) > minimumChange;
+    }
+
+    private static double value(Metric metric) {
+        return metric == null ? Double.NaN : metric.score;
+    }
+
+    /**
+     * @return the half-width of the confidence interval of the metric, 0 if it is unknown (e.g. of a single
+     *         iteration)
+     */
+    private static double error(Metric metric) {
+        return metric == null || Double.isNaN(metric.error) ? 0 : metric.error;
+    }
+
+    private static double square(double value) {
+        return value * value;
+    }
+
+    private static String format(Metric metric) {
+        return String.format(Locale.ROOT, "%.3f +- %.3f", value(metric), error(metric));
+    }
+
+    /**
+     * @return the relative change in percent, positive if the result is higher (slower or allocating more)
+     */
+    private static double change(Metric baselineMetric, Metric resultMetric) {
+        double baseline = value(baselineMetric);
+        double result = value(resultMetric);
+        if (Double.isNaN(baseline) || Double.isNaN(result) || baseline == 0) {
+            return 0;
+        }
+        return (result - baseline) / baseline * 100;
+    }
+
+    /**
+     * The metrics of a benchmark with one set of parameters.
+     */
+    private static final class Run {
+
+        private Metric score;
+
+        private Metric allocation;
+    }
+
+    private static final class Metric {
+
+        private final String mode;
+
+        private final double score;
+
+        private final double error;
+
+        private Metric(String mode, double score, double error) {
+            this.mode = mode;
+            this.score = score;
+            this.error = error;
+        }
+
+        private static Metric of(String mode, JsonNode metric) {
+            return new Metric(mode, metric.path("score").asDouble(), metric.path("scoreError").asDouble(Double.NaN));
+        }
+
+        private ObjectNode toJson(ObjectMapper mapper, String name) {
+            ObjectNode json = mapper.createObjectNode()
+                    .put("benchmark", name)
+                    .put("mode", mode)
+                    .put("score", score);
+            if (!Double.isNaN(error)) {
+                json.put("scoreError", error);
+            }
+            return json;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2019 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.smallrye.asyncapi.benchmarks;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.asyncapi.core.api.util.FilterUtil;
+import io.smallrye.asyncapi.spec.AASFilter;
+import io.smallrye.asyncapi.spec.models.AsyncAPI;
+import io.smallrye.asyncapi.spec.models.schema.Schema;
+import io.smallrye.asyncapi.spec.models.tag.Tag;
+
+/**
+ * Applies a filter to a synthetic document with {@link FilterUtil}, as done for the filter configured by the app.
+ * The filter visits every element, removes the shared tags and changes the schema descriptions.
+ * <p>
+ * Filtering modifies the document, so a fresh document is created for every invocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FilterBenchmark {
+
+    private static final List<AASFilter> FILTERS = Collections.singletonList(new AASFilter() {
+        @Override
+        public Tag filterTag(Tag tag) {
+            return "shared".equals(tag.getName()) ? null : tag;
+        }
+
+        @Override
+        public Schema filterSchema(Schema schema) {
+            schema.setDescription(null);
+            return schema;
+        }
+    });
+
+    @Param({ "10", "100", "400" })
+    int channels;
+
+    @Param({ "3" })
+    int schemaDepth;
+
+    private AsyncAPI document;
+
+    @Setup(Level.Invocation)
+    public void setup() {
+        document = SyntheticDocuments.document("filter", channels, schemaDepth);
+    }
+
+    @Benchmark
+    public AsyncAPI filter() {
+        return FilterUtil.applyFilters(FILTERS, document);
+    }
+}
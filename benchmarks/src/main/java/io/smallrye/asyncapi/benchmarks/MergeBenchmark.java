@@ -0,0 +1,75 @@
+/*
+ * Copyright 2019 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.smallrye.asyncapi.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.asyncapi.core.api.util.MergeUtil;
+import io.smallrye.asyncapi.spec.models.AsyncAPI;
+
+/**
+ * Compares the introspection based merge with the strategy based merge of {@link MergeUtil} by merging
+ * two synthetic documents of the same shape, as done for the reader, static file and annotations models.
+ * <p>
+ * Merging modifies the first document, so fresh documents are created for every invocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MergeBenchmark {
+
+    @Param({ "10", "100", "400" })
+    int channels;
+
+    @Param({ "3" })
+    int schemaDepth;
+
+    private AsyncAPI document1;
+
+    private AsyncAPI document2;
+
+    @Setup(Level.Invocation)
+    public void setup() {
+        document1 = SyntheticDocuments.document("reader", channels, schemaDepth);
+        document2 = SyntheticDocuments.document("annotations", channels, schemaDepth);
+    }
+
+    @Benchmark
+    public AsyncAPI introspection() {
+        return LegacyMergeUtil.mergeObjects(document1, document2);
+    }
+
+    @Benchmark
+    public AsyncAPI strategies() {
+        return MergeUtil.mergeObjects(document1, document2);
+    }
+}
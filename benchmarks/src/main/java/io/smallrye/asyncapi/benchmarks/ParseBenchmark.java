@@ -0,0 +1,78 @@
+/*
+ * Copyright 2019 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.smallrye.asyncapi.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.asyncapi.core.runtime.AsyncApiFormat;
+import io.smallrye.asyncapi.core.runtime.io.AsyncApiParser;
+import io.smallrye.asyncapi.core.runtime.io.AsyncApiSerializer;
+import io.smallrye.asyncapi.spec.models.AsyncAPI;
+
+/**
+ * Compares the tree based with the streaming {@link AsyncApiParser} by parsing a serialized synthetic
+ * document, as done for static files. Run with {@code -prof gc} to compare the allocation rates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParseBenchmark {
+
+    @Param({ "10", "100", "400" })
+    int channels;
+
+    @Param({ "3" })
+    int schemaDepth;
+
+    @Param({ "JSON", "YAML" })
+    AsyncApiFormat format;
+
+    private byte[] document;
+
+    @Setup
+    public void setup() throws IOException {
+        AsyncAPI model = SyntheticDocuments.document("static", channels, schemaDepth);
+        document = AsyncApiSerializer.serialize(model, format).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public AsyncAPI tree() throws IOException {
+        return AsyncApiParser.parse(new ByteArrayInputStream(document), format, false);
+    }
+
+    @Benchmark
+    public AsyncAPI streaming() throws IOException {
+        return AsyncApiParser.parse(new ByteArrayInputStream(document), format, true);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2019 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.smallrye.asyncapi.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.smallrye.asyncapi.core.runtime.sample.SampleGenerator;
+import io.smallrye.asyncapi.core.runtime.validation.PayloadValidator;
+import io.smallrye.asyncapi.core.runtime.validation.PayloadValidators;
+import io.smallrye.asyncapi.core.runtime.validation.ValidationResult;
+import io.smallrye.asyncapi.spec.models.AsyncAPI;
+
+/**
+ * Generates payloads of a message of a synthetic document with the {@link SampleGenerator} and validates them
+ * with the {@link PayloadValidator}, parsed into a tree and while parsing. Run with {@code -prof gc} to compare
+ * the allocation rates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PayloadBenchmark {
+
+    private static final int PAYLOADS = 1024;
+
+    @Param({ "1", "3" })
+    int schemaDepth;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private SampleGenerator generator;
+
+    private PayloadValidator validator;
+
+    private byte[][] payloads;
+
+    private byte[] buffer;
+
+    private long seed;
+
+    @Setup
+    public void setup() {
+        AsyncAPI document = SyntheticDocuments.document("payload", 1, schemaDepth);
+        generator = SampleGenerator.compile(document.getComponents().getMessages().get("channel0Message"), document);
+        validator = PayloadValidators.compile(document).get("channel0Message");
+        payloads = new byte[PAYLOADS][];
+        for (int i = 0; i < PAYLOADS; i++) {
+            payloads[i] = generator.generate(i);
+        }
+        buffer = new byte[4096];
+    }
+
+    @Benchmark
+    public int generate() {
+        return generator.write(seed++, buffer, 0);
+    }
+
+    @Benchmark
+    public ValidationResult validateTree() throws IOException {
+        return validator.validate(mapper.readTree(payloads[(int) (seed++ % PAYLOADS)]));
+    }
+
+    @Benchmark
+    public ValidationResult validateStreaming() throws IOException {
+        return validator.validate(payloads[(int) (seed++ % PAYLOADS)], 10);
+    }
+}
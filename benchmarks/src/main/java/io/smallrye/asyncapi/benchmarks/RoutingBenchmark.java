@@ -0,0 +1,99 @@
+/*
+ * Copyright 2019 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.smallrye.asyncapi.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.asyncapi.core.runtime.routing.ChannelMatch;
+import io.smallrye.asyncapi.core.runtime.routing.ChannelMatcher;
+import io.smallrye.asyncapi.spec.models.AsyncAPI;
+
+/**
+ * Routes topics to the channels of a synthetic document with the {@link ChannelMatcher} and with a linear scan of
+ * regular expressions compiled from the channel names, extracting the parameter of the channel name.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RoutingBenchmark {
+
+    private static final int TOPICS = 1024;
+
+    private static final Pattern PARAMETER = Pattern.compile("\\{([^}]+)}");
+
+    @Param({ "100", "1000" })
+    int channels;
+
+    private ChannelMatcher matcher;
+
+    private List<Pattern> patterns;
+
+    private String[] topics;
+
+    private int next;
+
+    @Setup
+    public void setup() {
+        AsyncAPI document = SyntheticDocuments.document("routing", channels, 1);
+        matcher = ChannelMatcher.compile(document);
+
+        patterns = new ArrayList<>(channels);
+        for (String channel : document.getChannels().getChannels().keySet()) {
+            patterns.add(Pattern.compile(PARAMETER.matcher(channel).replaceAll("([^/]+)")));
+        }
+
+        topics = new String[TOPICS];
+        for (int i = 0; i < TOPICS; i++) {
+            topics[i] = "smallrye/channel" + (i * 7919 % channels) + "/" + Integer.toHexString(i * 31);
+        }
+    }
+
+    @Benchmark
+    public ChannelMatch matcher() {
+        return matcher.match(topics[next++ & (TOPICS - 1)]);
+    }
+
+    @Benchmark
+    public String regexScan() {
+        String topic = topics[next++ & (TOPICS - 1)];
+        for (int i = 0; i < patterns.size(); i++) {
+            Matcher match = patterns.get(i).matcher(topic);
+            if (match.matches()) {
+                return match.group(1);
+            }
+        }
+        return null;
+    }
+}
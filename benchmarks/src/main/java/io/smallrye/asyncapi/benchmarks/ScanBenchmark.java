@@ -0,0 +1,78 @@
+/*
+ * Copyright 2019 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.smallrye.asyncapi.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.asyncapi.core.api.AsyncApiConfig;
+import io.smallrye.asyncapi.core.runtime.scanner.AsyncApiAnnotationScanner;
+import io.smallrye.asyncapi.spec.models.AsyncAPI;
+
+/**
+ * Scans a synthetic deployment with the {@link AsyncApiAnnotationScanner}, including the registration of the
+ * payload schemas in the {@code SchemaRegistry}. Every invocation is a complete scan, as done on startup or on
+ * a build.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScanBenchmark {
+
+    @Param({ "10", "100", "400" })
+    int channels;
+
+    @Param({ "3" })
+    int schemaDepth;
+
+    @Param({ "false", "true" })
+    boolean parallel;
+
+    private SyntheticDeployments.Deployment deployment;
+
+    private AsyncApiConfig config;
+
+    @Setup
+    public void setup() {
+        deployment = SyntheticDeployments.deployment(channels, schemaDepth);
+        boolean scanParallel = parallel;
+        config = new AsyncApiConfig() {
+            @Override
+            public boolean scanParallelEnable() {
+                return scanParallel;
+            }
+        };
+    }
+
+    @Benchmark
+    public AsyncAPI scan() {
+        return new AsyncApiAnnotationScanner(config, deployment.getClassLoader(), deployment.getIndex()).scan();
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2019 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.smallrye.asyncapi.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
+
+import io.smallrye.asyncapi.core.runtime.AsyncApiFormat;
+import io.smallrye.asyncapi.core.runtime.io.AsyncApiSerializer;
+import io.smallrye.asyncapi.core.runtime.io.JsonUtil;
+import io.smallrye.asyncapi.core.runtime.io.definition.DefinitionWriter;
+import io.smallrye.asyncapi.spec.models.AsyncAPI;
+
+/**
+ * Compares serializing a synthetic document through a json tree and a String, as done by the former
+ * {@link AsyncApiSerializer}, with the streaming {@link AsyncApiSerializer#serializeBytes(AsyncAPI, AsyncApiFormat)}.
+ * Run with {@code -prof gc} to compare the allocation rates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializeBenchmark {
+
+    @Param({ "10", "100", "400" })
+    int channels;
+
+    @Param({ "3" })
+    int schemaDepth;
+
+    @Param({ "JSON", "YAML" })
+    AsyncApiFormat format;
+
+    private AsyncAPI document;
+
+    private ObjectMapper mapper;
+
+    @Setup
+    public void setup() {
+        document = SyntheticDocuments.document("serialize", channels, schemaDepth);
+        if (format == AsyncApiFormat.JSON) {
+            mapper = new ObjectMapper();
+        } else {
+            YAMLFactory factory = new YAMLFactory();
+            factory.enable(YAMLGenerator.Feature.ALWAYS_QUOTE_NUMBERS_AS_STRINGS);
+            factory.enable(YAMLGenerator.Feature.SPLIT_LINES);
+            mapper = new ObjectMapper(factory);
+        }
+    }
+
+    @Benchmark
+    public byte[] tree() throws IOException {
+        ObjectNode tree = JsonUtil.objectNode();
+        DefinitionWriter.writeAsyncAPI(tree, document);
+        String serialized;
+        if (format == AsyncApiFormat.JSON) {
+            serialized = mapper.writerWithDefaultPrettyPrinter().writeValueAsString(tree);
+        } else {
+            serialized = mapper.writer().writeValueAsString(tree);
+        }
+        return serialized.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] streaming() throws IOException {
+        return AsyncApiSerializer.serializeBytes(document, format);
+    }
+}
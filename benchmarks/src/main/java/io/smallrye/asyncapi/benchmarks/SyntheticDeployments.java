@@ -0,0 +1,244 @@
+/*
+ * Copyright 2019 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.smallrye.asyncapi.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Builds synthetic deployments of a configurable size for the scanner benchmarks. The annotated classes are
+ * generated as bytecode, they have the same shape as the documents of {@link SyntheticDocuments}: every channel
+ * is declared by a service method with a parameter, a publish and a subscribe operation, and a message whose
+ * payload is a class of the given schema depth.
+ */
+public final class SyntheticDeployments {
+
+    private static final String PACKAGE = "io/smallrye/asyncapi/benchmarks/synthetic/";
+
+    private static final String ANNOTATIONS = "Lio/smallrye/asyncapi/spec/annotations/";
+
+    private static final String CHANNEL_ITEM = ANNOTATIONS + "channel/ChannelItem;";
+
+    private static final String MESSAGE = ANNOTATIONS + "message/Message;";
+
+    private static final String OPERATION = ANNOTATIONS + "operation/Operation;";
+
+    private static final String PARAMETER = ANNOTATIONS + "parameter/Parameter;";
+
+    private static final String PARAMETERS = ANNOTATIONS + "parameter/Parameters;";
+
+    private static final String SCHEMA = ANNOTATIONS + "schema/Schema;";
+
+    private static final String SCHEMA_TYPE = ANNOTATIONS + "schema/SchemaType;";
+
+    private SyntheticDeployments() {
+    }
+
+    /**
+     * A synthetic deployment, the index of the generated classes and a class loader providing them.
+     */
+    public static final class Deployment {
+
+        private final Index index;
+
+        private final ClassLoader classLoader;
+
+        private Deployment(Index index, ClassLoader classLoader) {
+            this.index = index;
+            this.classLoader = classLoader;
+        }
+
+        public Index getIndex() {
+            return index;
+        }
+
+        public ClassLoader getClassLoader() {
+            return classLoader;
+        }
+    }
+
+    /**
+     * Creates a deployment with the given number of channels.
+     *
+     * @param channels Number of channels
+     * @param schemaDepth Depth of the payload classes
+     * @return Deployment
+     */
+    public static Deployment deployment(int channels, int schemaDepth) {
+        Map<String, byte[]> classes = new HashMap<>();
+        for (int i = 0; i < channels; i++) {
+            String name = "Channel" + i;
+            classes.put(PACKAGE + name + "Service", service(name));
+            for (int level = 0; level < Math.max(schemaDepth, 1); level++) {
+                classes.put(PACKAGE + payloadName(name, level), payload(name, level, schemaDepth));
+            }
+        }
+
+        Indexer indexer = new Indexer();
+        try {
+            for (byte[] bytecode : classes.values()) {
+                indexer.index(new ByteArrayInputStream(bytecode));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new Deployment(indexer.complete(), new SyntheticClassLoader(classes));
+    }
+
+    private static byte[] service(String name) {
+        ClassWriter writer = type(name + "Service");
+
+        MethodVisitor method = writer.visitMethod(Opcodes.ACC_PUBLIC, "publish", "()V", null, null);
+        AnnotationVisitor channelItem = method.visitAnnotation(CHANNEL_ITEM, true);
+        channelItem.visit("channel", "smallrye/" + name.toLowerCase() + "/{id}");
+        channelItem.visit("description", name);
+
+        AnnotationVisitor parameters = channelItem.visitAnnotation("parameters", PARAMETERS);
+        AnnotationVisitor parameterArray = parameters.visitArray("value");
+        AnnotationVisitor parameter = parameterArray.visitAnnotation(null, PARAMETER);
+        parameter.visit("name", "id");
+        parameter.visit("description", "Identifier");
+        AnnotationVisitor parameterSchema = parameter.visitAnnotation("schema", SCHEMA);
+        parameterSchema.visitEnum("type", SCHEMA_TYPE, "STRING");
+        parameterSchema.visitEnd();
+        parameter.visitEnd();
+        parameterArray.visitEnd();
+        parameters.visitEnd();
+        operation(channelItem.visitAnnotation("publish", OPERATION), name, name + "Publish");
+        operation(channelItem.visitAnnotation("subscribe", OPERATION), name, name + "Subscribe");
+        channelItem.visitEnd();
+
+        AnnotationVisitor message = method.visitAnnotation(MESSAGE, true);
+        message.visit("name", name + "Message");
+        message.visit("contentType", "application/json");
+        message.visit("summary", "Message of " + name);
+        AnnotationVisitor payload = message.visitAnnotation("payload", SCHEMA);
+        payload.visit("ref", "#/components/schemas/" + name + "Payload");
+        payload.visitEnd();
+        message.visitEnd();
+
+        method.visitCode();
+        method.visitInsn(Opcodes.RETURN);
+        method.visitMaxs(0, 1);
+        method.visitEnd();
+        return writer.toByteArray();
+    }
+
+    private static void operation(AnnotationVisitor operation, String name, String operationId) {
+        operation.visit("operationId", operationId);
+        operation.visit("summary", operationId);
+        AnnotationVisitor message = operation.visitAnnotation("message", MESSAGE);
+        message.visit("ref", "#/components/messages/" + name + "Message");
+        message.visitEnd();
+        operation.visitEnd();
+    }
+
+    private static String payloadName(String name, int level) {
+        return level == 0 ? name + "Payload" : name + "Node" + level;
+    }
+
+    /**
+     * The payload is annotated and registered as a component, the nested classes are introspected.
+     */
+    private static byte[] payload(String name, int level, int schemaDepth) {
+        String className = payloadName(name, level);
+        ClassWriter writer = type(className);
+        if (level == 0) {
+            AnnotationVisitor schema = writer.visitAnnotation(SCHEMA, true);
+            schema.visit("name", className);
+            schema.visitEnum("type", SCHEMA_TYPE, "OBJECT");
+            schema.visit("description", className);
+            schema.visitEnd();
+        }
+
+        field(writer, "id", "Ljava/lang/String;", true);
+        field(writer, "count", "I", false);
+        field(writer, "enabled", "Z", false);
+        if (level + 1 < schemaDepth) {
+            field(writer, "child", "L" + PACKAGE + payloadName(name, level + 1) + ";", false);
+        }
+        return writer.toByteArray();
+    }
+
+    private static void field(ClassWriter writer, String name, String descriptor, boolean required) {
+        FieldVisitor field = writer.visitField(Opcodes.ACC_PRIVATE, name, descriptor, null, null);
+        AnnotationVisitor schema = field.visitAnnotation(SCHEMA, true);
+        schema.visit("description", name);
+        schema.visit("required", required);
+        schema.visitEnd();
+        field.visitEnd();
+    }
+
+    private static ClassWriter type(String className) {
+        ClassWriter writer = new ClassWriter(0);
+        writer.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER, PACKAGE + className, null,
+                "java/lang/Object", null);
+
+        MethodVisitor constructor = writer.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+        constructor.visitCode();
+        constructor.visitVarInsn(Opcodes.ALOAD, 0);
+        constructor.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+        constructor.visitInsn(Opcodes.RETURN);
+        constructor.visitMaxs(1, 1);
+        constructor.visitEnd();
+        return writer;
+    }
+
+    /**
+     * Provides the generated classes, both as classes and as class file resources.
+     */
+    private static final class SyntheticClassLoader extends ClassLoader {
+
+        private final Map<String, byte[]> classes;
+
+        private SyntheticClassLoader(Map<String, byte[]> classes) {
+            super(SyntheticDeployments.class.getClassLoader());
+            this.classes = classes;
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            byte[] bytecode = classes.get(name.replace('.', '/'));
+            if (bytecode == null) {
+                throw new ClassNotFoundException(name);
+            }
+            return defineClass(name, bytecode, 0, bytecode.length);
+        }
+
+        @Override
+        public InputStream getResourceAsStream(String name) {
+            if (name.endsWith(".class")) {
+                byte[] bytecode = classes.get(name.substring(0, name.length() - ".class".length()));
+                if (bytecode != null) {
+                    return new ByteArrayInputStream(bytecode);
+                }
+            }
+            return super.getResourceAsStream(name);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2019 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.smallrye.asyncapi.benchmarks;
+
+import io.smallrye.asyncapi.core.api.constants.AsyncApiConstants;
+import io.smallrye.asyncapi.core.api.models.AsyncAPIImpl;
+import io.smallrye.asyncapi.core.api.models.ComponentsImpl;
+import io.smallrye.asyncapi.core.api.models.channel.ChannelItemImpl;
+import io.smallrye.asyncapi.core.api.models.info.InfoImpl;
+import io.smallrye.asyncapi.core.api.models.message.MessageImpl;
+import io.smallrye.asyncapi.core.api.models.operation.OperationImpl;
+import io.smallrye.asyncapi.core.api.models.parameter.ParameterImpl;
+import io.smallrye.asyncapi.core.api.models.parameter.ParametersImpl;
+import io.smallrye.asyncapi.core.api.models.schema.SchemaImpl;
+import io.smallrye.asyncapi.core.api.models.server.ServerImpl;
+import io.smallrye.asyncapi.core.api.models.tag.TagImpl;
+import io.smallrye.asyncapi.spec.models.AsyncAPI;
+import io.smallrye.asyncapi.spec.models.Components;
+import io.smallrye.asyncapi.spec.models.schema.Schema;
+import io.smallrye.asyncapi.spec.annotations.schema.SchemaType;
+
+/**
+ * Builds synthetic AsyncAPI models of a configurable size for the benchmarks.
+ */
+public final class SyntheticDocuments {
+
+    private SyntheticDocuments() {
+    }
+
+    /**
+     * Creates a document with the given number of channels. Every channel has a parameter, a publish and
+     * a subscribe operation, and a message whose payload is an object schema of the given depth. All
+     * messages and payloads are registered as components as well.
+     *
+     * @param variant Distinguishes documents of the same size, e.g. the reader model and the annotations model
+     * @param channels Number of channels
+     * @param schemaDepth Depth of the payload schemas
+     * @return AsyncAPI model
+     */
+    public static AsyncAPI document(String variant, int channels, int schemaDepth) {
+        AsyncAPI asyncAPI = new AsyncAPIImpl();
+        asyncAPI.setAsyncapi(AsyncApiConstants.ASYNC_API_VERSION);
+        asyncAPI.setIdentifier("urn:io:smallrye:asyncapi:benchmarks");
+
+        InfoImpl info = new InfoImpl();
+        info.setTitle("Synthetic API " + variant);
+        info.setVersion("1.0.0");
+        asyncAPI.setInfo(info);
+
+        asyncAPI.addServer(server("production", variant));
+        asyncAPI.addServer(server("test", variant));
+        asyncAPI.addTag(tag("shared", variant));
+        asyncAPI.addTag(tag(variant, variant));
+
+        Components components = new ComponentsImpl();
+        asyncAPI.setComponents(components);
+
+        for (int i = 0; i < channels; i++) {
+            String name = "channel" + i;
+            String channel = "smallrye/" + name + "/{id}";
+
+            Schema payload = schema(name, variant, schemaDepth);
+            components.addSchema(name + "Payload", payload);
+
+            MessageImpl message = new MessageImpl();
+            message.setName(name + "Message");
+            message.setContentType("application/json");
+            message.setSummary("Message of " + name + " (" + variant + ")");
+            message.addTag(tag("shared", variant));
+            message.setPayload(payload);
+            components.addMessage(name + "Message", message);
+
+            ParameterImpl parameter = new ParameterImpl();
+            parameter.setName("id");
+            parameter.setDescription("Identifier (" + variant + ")");
+            parameter.setSchema(primitive(SchemaType.STRING, variant));
+            ParametersImpl parameters = new ParametersImpl();
+            parameters.addParameter(parameter);
+
+            ChannelItemImpl channelItem = new ChannelItemImpl();
+            channelItem.setChannel(channel);
+            channelItem.setDescription(name + " (" + variant + ")");
+            channelItem.setParameters(parameters);
+            channelItem.setPublish(operation(name + "Publish", message, variant));
+            channelItem.setSubscribe(operation(name + "Subscribe", message, variant));
+            asyncAPI.addChannelItem(channel, channelItem);
+        }
+        return asyncAPI;
+    }
+
+    private static OperationImpl operation(String operationId, MessageImpl message, String variant) {
+        OperationImpl operation = new OperationImpl();
+        operation.setOperationId(operationId);
+        operation.setSummary(operationId + " (" + variant + ")");
+        operation.addTag(tag("shared", variant));
+        operation.addTag(tag(operationId, variant));
+        operation.setMessage(message);
+        return operation;
+    }
+
+    private static Schema schema(String name, String variant, int depth) {
+        SchemaImpl schema = new SchemaImpl();
+        schema.setType(SchemaType.OBJECT);
+        schema.setTitle(name);
+        schema.setDescription(name + " (" + variant + ")");
+        schema.addProperty("id", primitive(SchemaType.STRING, variant));
+        schema.addProperty("count", primitive(SchemaType.INTEGER, variant));
+        schema.addProperty("enabled", primitive(SchemaType.BOOLEAN, variant));
+        schema.addRequired("id");
+        if (depth > 1) {
+            schema.addProperty("child", schema(name + "Child", variant, depth - 1));
+        }
+        return schema;
+    }
+
+    private static Schema primitive(SchemaType type, String variant) {
+        SchemaImpl schema = new SchemaImpl();
+        schema.setType(type);
+        schema.setDescription(type + " (" + variant + ")");
+        return schema;
+    }
+
+    private static ServerImpl server(String name, String variant) {
+        ServerImpl server = new ServerImpl();
+        server.setUrl(name + ".smallrye.io");
+        server.setProtocol("mqtt");
+        server.setDescription(name + " (" + variant + ")");
+        return server;
+    }
+
+    private static TagImpl tag(String name, String variant) {
+        TagImpl tag = new TagImpl();
+        tag.setName(name);
+        tag.setDescription(name + " (" + variant + ")");
+        return tag;
+    }
+}
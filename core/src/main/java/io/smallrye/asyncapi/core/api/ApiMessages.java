@@ -32,4 +32,13 @@ public interface ApiMessages {
 
     @Message(id = 2, value = "OpenApiConfig must be set before init")
     IllegalStateException configMustBeSet();
+
+    @Message(id = 3, value = "The model is frozen, %s is not supported")
+    UnsupportedOperationException modelIsFrozen(String method);
+
+    @Message(id = 4, value = "The model contains a cycle, it can not be frozen")
+    IllegalArgumentException modelContainsCycle();
+
+    @Message(id = 5, value = "%s is not a model interface")
+    IllegalArgumentException notAModelInterface(String type);
 }
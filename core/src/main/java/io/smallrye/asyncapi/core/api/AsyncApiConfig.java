@@ -86,6 +86,10 @@ public interface AsyncApiConfig {
         return false;
     }
 
+    default boolean scanParallelEnable() {
+        return false;
+    }
+
     default Map<String, String> getSchemas() {
         return new HashMap<>();
     }
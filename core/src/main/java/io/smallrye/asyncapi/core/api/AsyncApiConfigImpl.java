@@ -55,6 +55,8 @@ public class AsyncApiConfigImpl implements AsyncApiConfig {
 
     private Boolean applicationPathDisable;
 
+    private Boolean scanParallelEnable;
+
     private Map<String, String> schemas;
 
     private String version;
@@ -261,6 +263,20 @@ public class AsyncApiConfigImpl implements AsyncApiConfig {
         return applicationPathDisable;
     }
 
+    /**
+     * @see AsyncApiConfig#scanParallelEnable()
+     */
+    @Override
+    public boolean scanParallelEnable() {
+        if (scanParallelEnable == null) {
+            scanParallelEnable = getConfig()
+                    .getOptionalValue(AsyncApiConstants.OPENKNOWLEDGE_SCAN_PARALLEL_ENABLE, Boolean.class)
+                    .orElse(getConfig().getOptionalValue(AsyncApiConstants.SCAN_PARALLEL_ENABLE, Boolean.class)
+                            .orElse(false));
+        }
+        return scanParallelEnable;
+    }
+
     @Override
     public Map<String, String> getSchemas() {
         if (schemas == null) {
@@ -15,15 +15,11 @@
  */
 package io.smallrye.asyncapi.core.api;
 
-import java.util.ArrayList;
-import java.util.List;
-
-import io.smallrye.asyncapi.core.api.constants.AsyncApiConstants;
-import io.smallrye.asyncapi.core.api.models.AsyncAPIImpl;
-import io.smallrye.asyncapi.core.api.models.info.InfoImpl;
-import io.smallrye.asyncapi.core.api.util.ConfigUtil;
-import io.smallrye.asyncapi.core.api.util.FilterUtil;
-import io.smallrye.asyncapi.core.api.util.MergeUtil;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+import io.smallrye.asyncapi.core.api.util.FreezeUtil;
+import io.smallrye.asyncapi.core.runtime.instrumentation.Instrumentation;
 import io.smallrye.asyncapi.spec.AASFilter;
 import io.smallrye.asyncapi.spec.models.AsyncAPI;
 
@@ -31,24 +27,15 @@ import io.smallrye.asyncapi.spec.models.AsyncAPI;
  * Holds the final AsyncAPI document produced during the startup of the app.
  * <p>
  * Note that the model must be initialized first!
+ * <p>
+ * This holder is kept for compatibility. The document is assembled by an {@link AsyncApiDocumentBuilder}, which
+ * should be used directly to produce independent documents, e.g. for several deployments in one JVM.
  */
 public class AsyncApiDocument {
 
     public static final AsyncApiDocument INSTANCE = new AsyncApiDocument();
 
-    private transient AsyncApiConfig config;
-
-    public transient AsyncAPI annotationsModel;
-
-    public transient AsyncAPI readerModel;
-
-    public transient AsyncAPI staticFileModel;
-
-    private transient List<AASFilter> filters = new ArrayList<>();
-
-    private transient String archiveName;
-
-    private transient AsyncAPI model;
+    private final AtomicReference<State> state = new AtomicReference<>(State.EMPTY);
 
     public AsyncApiDocument() {
     }
@@ -58,12 +45,11 @@ public class AsyncApiDocument {
      * @throws IllegalStateException If the final model is not initialized yet
      */
     public AsyncAPI get() {
-        synchronized (INSTANCE) {
-            if (this.model == null) {
-                throw ApiMessages.msg.modelNotInitialized();
-            }
-            return this.model;
+        AsyncAPI model = state.get().model;
+        if (model == null) {
+            throw ApiMessages.msg.modelNotInitialized();
         }
+        return model;
     }
 
     /**
@@ -72,139 +58,159 @@ public class AsyncApiDocument {
      * @param model AsyncAPI model instance
      */
     public void set(final AsyncAPI model) {
-        synchronized (INSTANCE) {
-            this.model = model;
-        }
+        state.set(model != null ? new State(AsyncApiDocumentBuilder.create(), model) : State.EMPTY);
     }
 
     /**
      * Reset the holder.
      */
     public void reset() {
-        synchronized (INSTANCE) {
-            this.model = null;
-            clear();
-        }
+        state.set(State.EMPTY);
     }
 
     /**
      * @return {@code true} if model initialized
      */
     public boolean isSet() {
-        synchronized (INSTANCE) {
-            return this.model != null;
-        }
+        return state.get().model != null;
     }
 
-    public synchronized void config(final AsyncApiConfig config) {
-        set(() -> this.config = config);
+    public void config(final AsyncApiConfig config) {
+        update(builder -> builder.config(config));
     }
 
     public void modelFromAnnotations(final AsyncAPI model) {
-        set(() -> this.annotationsModel = model);
+        update(builder -> builder.modelFromAnnotations(model));
     }
 
     public void modelFromReader(final AsyncAPI model) {
-        set(() -> this.readerModel = model);
+        update(builder -> builder.modelFromReader(model));
     }
 
     public void modelFromStaticFile(final AsyncAPI model) {
-        set(() -> this.staticFileModel = model);
+        update(builder -> builder.modelFromStaticFile(model));
     }
 
-    public void filter(final AASFilter filter) {
-        if (filter != null) {
-            set(() -> this.filters.add(filter));
-        }
+    /**
+     * @return the model from the annotations, null if it is not set or the document is initialized
+     * @deprecated the model is passed to the builder, use {@link #modelFromAnnotations(AsyncAPI)}
+     */
+    @Deprecated
+    public AsyncAPI getAnnotationsModel() {
+        return state.get().builder.getAnnotationsModel();
     }
 
-    public void archiveName(String archiveName) {
-        set(() -> this.archiveName = archiveName);
+    /**
+     * @deprecated use {@link #modelFromAnnotations(AsyncAPI)}
+     */
+    @Deprecated
+    public void setAnnotationsModel(final AsyncAPI model) {
+        modelFromAnnotations(model);
     }
 
-    public void initialize() {
-        synchronized (INSTANCE) {
+    /**
+     * @return the model from the reader, null if it is not set or the document is initialized
+     * @deprecated the model is passed to the builder, use {@link #modelFromReader(AsyncAPI)}
+     */
+    @Deprecated
+    public AsyncAPI getReaderModel() {
+        return state.get().builder.getReaderModel();
+    }
 
-            if (model != null) {
-                throw ApiMessages.msg.modelAlreadyInitialized();
-            }
-            // Check all the required parts are set
-            if (config == null) {
-                throw ApiMessages.msg.configMustBeSet();
-            }
+    /**
+     * @deprecated use {@link #modelFromReader(AsyncAPI)}
+     */
+    @Deprecated
+    public void setReaderModel(final AsyncAPI model) {
+        modelFromReader(model);
+    }
 
-            // Phase 1: Use AASModelReader
-            AsyncAPI merged = readerModel;
+    /**
+     * @return the model from the static file, null if it is not set or the document is initialized
+     * @deprecated the model is passed to the builder, use {@link #modelFromStaticFile(AsyncAPI)}
+     */
+    @Deprecated
+    public AsyncAPI getStaticFileModel() {
+        return state.get().builder.getStaticFileModel();
+    }
 
-            // Phase 2: Merge any static AsyncAPI file packaged in the app
-            merged = MergeUtil.mergeObjects(merged, staticFileModel);
+    /**
+     * @deprecated use {@link #modelFromStaticFile(AsyncAPI)}
+     */
+    @Deprecated
+    public void setStaticFileModel(final AsyncAPI model) {
+        modelFromStaticFile(model);
+    }
 
-            // Phase 3: Merge annotations
-            merged = MergeUtil.mergeObjects(merged, annotationsModel);
+    public void filter(final AASFilter filter) {
+        update(builder -> builder.filter(filter));
+    }
 
-            // Phase 4: Filter model via AASFilter
-            merged = filterModel(merged);
+    public void archiveName(String archiveName) {
+        update(builder -> builder.archiveName(archiveName));
+    }
 
-            // Phase 5: Default empty document if model == null
-            if (merged == null) {
-                merged = new AsyncAPIImpl();
-                merged.setAsyncapi(AsyncApiConstants.ASYNC_API_VERSION);
-            }
+    public void instrumentation(final Instrumentation instrumentation) {
+        update(builder -> builder.instrumentation(instrumentation));
+    }
 
-            // Phase 6: Provide missing required elements using defaults
-            if (merged.getInfo() == null) {
-                merged.setInfo(new InfoImpl());
-            }
-            if (merged.getInfo().getTitle() == null) {
-                merged.getInfo().setTitle((archiveName == null ? "Generated" : archiveName) + " API");
-            }
-            if (merged.getInfo().getVersion() == null) {
-                merged.getInfo().setVersion("1.0");
+    public void initialize() {
+        State current = state.get();
+        while (true) {
+            if (current.model != null) {
+                throw ApiMessages.msg.modelAlreadyInitialized();
             }
-
-            if (merged.getDefaultContentType() == null) {
-                merged.setDefaultContentType("application/json");
+            State initialized = new State(AsyncApiDocumentBuilder.create(), current.builder.build());
+            if (state.compareAndSet(current, initialized)) {
+                return;
             }
-
-            // Phase 7: Use Config values to add Servers (global, pathItem, operation)
-            ConfigUtil.applyConfig(config, merged);
-
-            model = merged;
-            clear();
+            current = state.get();
         }
     }
 
     /**
-     * Filter the final model using a {@link AASFilter} configured by the app. If no filter has been configured, this will
-     * simply return the model unchanged.
+     * Replace the initialized model by a compact, read-only copy, see {@link FreezeUtil}. The
+     * model can not be modified afterwards, which is recommended for apps keeping the model in memory.
      *
-     * @param model
+     * @throws IllegalStateException If the final model is not initialized yet
      */
-    private AsyncAPI filterModel(AsyncAPI model) {
-        if (model == null || filters.isEmpty()) {
-            return model;
-        }
-        for (AASFilter filter : filters) {
-            model = FilterUtil.applyFilter(filter, model);
+    public void freeze() {
+        State current = state.get();
+        while (true) {
+            if (current.model == null) {
+                throw ApiMessages.msg.modelNotInitialized();
+            }
+            if (FreezeUtil.isFrozen(current.model)) {
+                return;
+            }
+            State frozen = new State(current.builder, FreezeUtil.freeze(current.model));
+            if (state.compareAndSet(current, frozen)) {
+                return;
+            }
+            current = state.get();
         }
-        return model;
     }
 
-    private void set(Runnable action) {
-        synchronized (INSTANCE) {
-            if (model != null) {
+    private void update(UnaryOperator<AsyncApiDocumentBuilder> action) {
+        state.updateAndGet(current -> {
+            if (current.model != null) {
                 throw ApiMessages.msg.modelAlreadyInitialized();
             }
-            action.run();
-        }
+            return new State(action.apply(current.builder), null);
+        });
     }
 
-    private void clear() {
-        this.config = null;
-        this.annotationsModel = null;
-        this.readerModel = null;
-        this.staticFileModel = null;
-        this.filters.clear();
-        this.archiveName = null;
+    private static final class State {
+
+        private static final State EMPTY = new State(AsyncApiDocumentBuilder.create(), null);
+
+        private final AsyncApiDocumentBuilder builder;
+
+        private final AsyncAPI model;
+
+        private State(AsyncApiDocumentBuilder builder, AsyncAPI model) {
+            this.builder = builder;
+            this.model = model;
+        }
     }
 }
@@ -0,0 +1,264 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.api;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.smallrye.asyncapi.core.api.constants.AsyncApiConstants;
+import io.smallrye.asyncapi.core.api.models.AsyncAPIImpl;
+import io.smallrye.asyncapi.core.api.models.info.InfoImpl;
+import io.smallrye.asyncapi.core.api.util.ConfigUtil;
+import io.smallrye.asyncapi.core.api.util.FilterUtil;
+import io.smallrye.asyncapi.core.api.util.FreezeUtil;
+import io.smallrye.asyncapi.core.api.util.MergeUtil;
+import io.smallrye.asyncapi.core.runtime.instrumentation.Instrumentation;
+import io.smallrye.asyncapi.core.runtime.instrumentation.Instrumentation.Phase;
+import io.smallrye.asyncapi.core.runtime.instrumentation.Probe;
+import io.smallrye.asyncapi.spec.AASFilter;
+import io.smallrye.asyncapi.spec.models.AsyncAPI;
+
+/**
+ * Assembles the final AsyncAPI document of an app from the models of the reader, the static file and the
+ * annotations.
+ * <p>
+ * The builder is immutable, every method returns a new builder and leaves this one unchanged. A builder can
+ * therefore be shared and used concurrently. Every call of {@link #build()} produces an independent document. A
+ * model passed to the builder is assembled into the document in place the first time it is built, it is copied
+ * if it is frozen, see {@link FreezeUtil}, if it has been built before or if filters are configured.
+ *
+ * <pre>
+ * AsyncAPI document = AsyncApiDocumentBuilder.create()
+ *         .config(config)
+ *         .modelFromAnnotations(annotationsModel)
+ *         .filter(filter)
+ *         .build();
+ * </pre>
+ */
+public final class AsyncApiDocumentBuilder {
+
+    private static final AsyncApiDocumentBuilder EMPTY = new AsyncApiDocumentBuilder(null, null, null, null,
+            Collections.emptyList(), null, Instrumentation.NONE);
+
+    private final AsyncApiConfig config;
+
+    private final Input annotationsModel;
+
+    private final Input readerModel;
+
+    private final Input staticFileModel;
+
+    private final List<AASFilter> filters;
+
+    private final String archiveName;
+
+    private final Instrumentation instrumentation;
+
+    private AsyncApiDocumentBuilder(AsyncApiConfig config, Input annotationsModel, Input readerModel,
+            Input staticFileModel, List<AASFilter> filters, String archiveName, Instrumentation instrumentation) {
+        this.config = config;
+        this.annotationsModel = annotationsModel;
+        this.readerModel = readerModel;
+        this.staticFileModel = staticFileModel;
+        this.filters = filters;
+        this.archiveName = archiveName;
+        this.instrumentation = instrumentation;
+    }
+
+    /**
+     * @return an empty builder
+     */
+    public static AsyncApiDocumentBuilder create() {
+        return EMPTY;
+    }
+
+    public AsyncApiDocumentBuilder config(final AsyncApiConfig config) {
+        return new AsyncApiDocumentBuilder(config, annotationsModel, readerModel, staticFileModel, filters, archiveName,
+                instrumentation);
+    }
+
+    public AsyncApiDocumentBuilder modelFromAnnotations(final AsyncAPI model) {
+        return new AsyncApiDocumentBuilder(config, Input.of(model), readerModel, staticFileModel, filters, archiveName,
+                instrumentation);
+    }
+
+    public AsyncApiDocumentBuilder modelFromReader(final AsyncAPI model) {
+        return new AsyncApiDocumentBuilder(config, annotationsModel, Input.of(model), staticFileModel, filters,
+                archiveName, instrumentation);
+    }
+
+    public AsyncApiDocumentBuilder modelFromStaticFile(final AsyncAPI model) {
+        return new AsyncApiDocumentBuilder(config, annotationsModel, readerModel, Input.of(model), filters,
+                archiveName, instrumentation);
+    }
+
+    /**
+     * Add a filter, the filters are applied in the order they have been added.
+     *
+     * @param filter the filter, ignored if null
+     * @return the new builder
+     */
+    public AsyncApiDocumentBuilder filter(final AASFilter filter) {
+        if (filter == null) {
+            return this;
+        }
+        List<AASFilter> allFilters = new ArrayList<>(filters.size() + 1);
+        allFilters.addAll(filters);
+        allFilters.add(filter);
+        return new AsyncApiDocumentBuilder(config, annotationsModel, readerModel, staticFileModel,
+                Collections.unmodifiableList(allFilters), archiveName, instrumentation);
+    }
+
+    /**
+     * Set the instrumentation measuring the phases of {@link #build()}.
+     *
+     * @param instrumentation the instrumentation, null for none
+     * @return the new builder
+     */
+    public AsyncApiDocumentBuilder instrumentation(final Instrumentation instrumentation) {
+        return new AsyncApiDocumentBuilder(config, annotationsModel, readerModel, staticFileModel, filters, archiveName,
+                instrumentation != null ? instrumentation : Instrumentation.NONE);
+    }
+
+    public AsyncApiDocumentBuilder archiveName(final String archiveName) {
+        return new AsyncApiDocumentBuilder(config, annotationsModel, readerModel, staticFileModel, filters, archiveName,
+                instrumentation);
+    }
+
+    AsyncAPI getAnnotationsModel() {
+        return Input.model(annotationsModel);
+    }
+
+    AsyncAPI getReaderModel() {
+        return Input.model(readerModel);
+    }
+
+    AsyncAPI getStaticFileModel() {
+        return Input.model(staticFileModel);
+    }
+
+    /**
+     * Build the final AsyncAPI document.
+     *
+     * @return the final AsyncAPI document
+     * @throws IllegalStateException If the config is not set
+     */
+    public AsyncAPI build() {
+        // Check all the required parts are set
+        if (config == null) {
+            throw ApiMessages.msg.configMustBeSet();
+        }
+
+        // Phase 1: Use AASModelReader
+        Probe probe = Probe.phase(instrumentation, Phase.MERGE);
+        boolean filtered = !filters.isEmpty();
+        AsyncAPI merged = Input.use(readerModel, filtered);
+
+        // Phase 2: Merge any static AsyncAPI file packaged in the app
+        merged = MergeUtil.mergeObjects(merged, Input.use(staticFileModel, filtered));
+
+        // Phase 3: Merge annotations
+        merged = MergeUtil.mergeObjects(merged, Input.use(annotationsModel, filtered));
+
+        probe.stop(merged);
+
+        // Phase 4: Filter model via AASFilter
+        probe = Probe.phase(instrumentation, Phase.FILTER);
+        merged = filterModel(merged);
+        probe.stop(merged);
+
+        // Phase 5: Default empty document if model == null
+        probe = Probe.phase(instrumentation, Phase.DEFAULTS);
+        if (merged == null) {
+            merged = new AsyncAPIImpl();
+            merged.setAsyncapi(AsyncApiConstants.ASYNC_API_VERSION);
+        }
+
+        // Phase 6: Provide missing required elements using defaults
+        if (merged.getInfo() == null) {
+            merged.setInfo(new InfoImpl());
+        }
+        if (merged.getInfo().getTitle() == null) {
+            merged.getInfo().setTitle((archiveName == null ? "Generated" : archiveName) + " API");
+        }
+        if (merged.getInfo().getVersion() == null) {
+            merged.getInfo().setVersion("1.0");
+        }
+
+        if (merged.getDefaultContentType() == null) {
+            merged.setDefaultContentType("application/json");
+        }
+        probe.stop(merged);
+
+        // Phase 7: Use Config values to add Servers (global, pathItem, operation)
+        probe = Probe.phase(instrumentation, Phase.CONFIG);
+        ConfigUtil.applyConfig(config, merged);
+        probe.stop(merged);
+
+        return merged;
+    }
+
+    /**
+     * Filter the final model using the {@link AASFilter}s configured by the app. All filters are applied in a single
+     * traversal of the model. If no filter has been configured, this will simply return the model unchanged.
+     *
+     * @param model
+     */
+    private AsyncAPI filterModel(AsyncAPI model) {
+        if (model == null || filters.isEmpty()) {
+            return model;
+        }
+        return FilterUtil.applyFilters(filters, model);
+    }
+
+    /**
+     * A model passed to the builder, shared by the builders derived from the builder it has been passed to.
+     */
+    private static final class Input {
+
+        private final AsyncAPI model;
+
+        private final AtomicBoolean built = new AtomicBoolean();
+
+        private Input(AsyncAPI model) {
+            this.model = model;
+        }
+
+        static Input of(AsyncAPI model) {
+            return model != null ? new Input(model) : null;
+        }
+
+        static AsyncAPI model(Input input) {
+            return input != null ? input.model : null;
+        }
+
+        /**
+         * Get the model to assemble a document from, a copy if the model is used again. Frozen models are copied
+         * when they are merged.
+         */
+        static AsyncAPI use(Input input, boolean copy) {
+            if (input == null) {
+                return null;
+            }
+            if (input.built.getAndSet(true) || copy) {
+                return MergeUtil.copyObject(input.model);
+            }
+            return input.model;
+        }
+    }
+}
@@ -34,6 +34,8 @@ public final class AsyncApiConstants {
 
     public static final String SUFFIX_APP_PATH_DISABLE = "application-path.disable";
 
+    public static final String SUFFIX_SCAN_PARALLEL_ENABLE = "scan-parallel.enable";
+
     public static final String SCAN_DEPENDENCIES_DISABLE = AASConfig.EXTENSIONS_PREFIX + SUFFIX_SCAN_DEPENDENCIES_DISABLE;
 
     public static final String SCAN_DEPENDENCIES_JARS = AASConfig.EXTENSIONS_PREFIX + SUFFIX_SCAN_DEPENDENCIES_JARS;
@@ -42,6 +44,8 @@ public final class AsyncApiConstants {
 
     public static final String APP_PATH_DISABLE = AASConfig.EXTENSIONS_PREFIX + SUFFIX_APP_PATH_DISABLE;
 
+    public static final String SCAN_PARALLEL_ENABLE = AASConfig.EXTENSIONS_PREFIX + SUFFIX_SCAN_PARALLEL_ENABLE;
+
     public static final String OPENKNOWLEDGE_SCAN_DEPENDENCIES_DISABLE = AASConfig.EXTENSIONS_PREFIX + VENDOR_NAME
             + SUFFIX_SCAN_DEPENDENCIES_DISABLE;
 
@@ -54,6 +58,9 @@ public final class AsyncApiConstants {
     public static final String OPENKNOWLEDGE_APP_PATH_DISABLE = AASConfig.EXTENSIONS_PREFIX + VENDOR_NAME
             + SUFFIX_APP_PATH_DISABLE;
 
+    public static final String OPENKNOWLEDGE_SCAN_PARALLEL_ENABLE = AASConfig.EXTENSIONS_PREFIX + VENDOR_NAME
+            + SUFFIX_SCAN_PARALLEL_ENABLE;
+
     public static final String VERSION = AASConfig.EXTENSIONS_PREFIX + VENDOR_NAME + "asyncapi";
 
     public static final String INFO_TITLE = AASConfig.EXTENSIONS_PREFIX + VENDOR_NAME + "info.title";
@@ -97,6 +104,8 @@ public final class AsyncApiConstants {
 
     public static final String REF_PREFIX_SCHEMA = "#/components/schemas/";
 
+    public static final String REF_PREFIX_MESSAGE = "#/components/messages/";
+
     public static final String VALUE = "value";
 
     public static final String REF = "ref";
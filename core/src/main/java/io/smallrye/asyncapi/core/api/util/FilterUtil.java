@@ -15,8 +15,31 @@
  */
 package io.smallrye.asyncapi.core.api.util;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
 import io.smallrye.asyncapi.spec.AASFilter;
 import io.smallrye.asyncapi.spec.models.AsyncAPI;
+import io.smallrye.asyncapi.spec.models.Components;
+import io.smallrye.asyncapi.spec.models.channel.ChannelItem;
+import io.smallrye.asyncapi.spec.models.channel.Channels;
+import io.smallrye.asyncapi.spec.models.message.Message;
+import io.smallrye.asyncapi.spec.models.message.MessageTrait;
+import io.smallrye.asyncapi.spec.models.operation.Operation;
+import io.smallrye.asyncapi.spec.models.operation.OperationTrait;
+import io.smallrye.asyncapi.spec.models.parameter.Parameter;
+import io.smallrye.asyncapi.spec.models.parameter.Parameters;
+import io.smallrye.asyncapi.spec.models.schema.Schema;
+import io.smallrye.asyncapi.spec.models.security.SecurityScheme;
+import io.smallrye.asyncapi.spec.models.server.Server;
+import io.smallrye.asyncapi.spec.models.tag.Tag;
 
 public class FilterUtil {
 
@@ -31,6 +54,222 @@ public class FilterUtil {
      * @return Filtered AsyncAPI model
      */
     public static final AsyncAPI applyFilter(AASFilter filter, AsyncAPI model) {
-        return null;
+        return applyFilters(Collections.singletonList(filter), model);
+    }
+
+    /**
+     * Apply the given filters to the given model. The model is traversed once, the children of a node are filtered
+     * before the node itself and every node is passed through all filters in the given order. Nodes for which a
+     * filter returns null are removed from the model.
+     *
+     * @param filters list of AASFilter
+     * @param model AsyncAPI model
+     * @return Filtered AsyncAPI model
+     */
+    public static final AsyncAPI applyFilters(List<AASFilter> filters, AsyncAPI model) {
+        if (model == null || filters.isEmpty()) {
+            return model;
+        }
+        new Traversal(filters).filterAsyncAPI(model);
+        return model;
+    }
+
+    /**
+     * A single traversal of a model. Model instances may be referenced from several places of the model (e.g. a
+     * message used by a channel and by the components), they are filtered once and the result is reused.
+     */
+    private static final class Traversal {
+
+        private final List<AASFilter> filters;
+
+        private final Map<Object, Object> filtered = new IdentityHashMap<>();
+
+        Traversal(List<AASFilter> filters) {
+            this.filters = filters;
+        }
+
+        void filterAsyncAPI(AsyncAPI model) {
+            filterComponents(model.getComponents());
+            filterChannels(model.getChannels());
+            filterList(model.getServers(), this::filterServer, model::setServers);
+            filterList(model.getTags(), this::filterTag, model::setTags);
+            for (AASFilter filter : filters) {
+                filter.filterAsyncAPI(model);
+            }
+        }
+
+        private void filterComponents(Components model) {
+            if (model == null) {
+                return;
+            }
+            filterMap(model.getSchemas(), this::filterSchema, model::setSchemas);
+            filterMap(model.getMessages(), this::filterMessage, model::setMessages);
+            filterMap(model.getSecuritySchemes(), this::filterSecurityScheme, model::setSecuritySchemes);
+            filterMap(model.getParameters(), this::filterParameter, model::setParameters);
+            filterMap(model.getMessageTraits(), this::filterMessageTrait, model::setMessageTraits);
+            filterMap(model.getOperationTraits(), this::filterOperationTrait, model::setOperationTraits);
+        }
+
+        private void filterChannels(Channels model) {
+            if (model == null) {
+                return;
+            }
+            filterMap(model.getChannels(), this::filterChannelItem, model::setChannels);
+        }
+
+        private ChannelItem filterChannelItem(ChannelItem model) {
+            return filter(model, AASFilter::filterChannelItem, channelItem -> {
+                channelItem.setPublish(filterOperation(channelItem.getPublish()));
+                channelItem.setSubscribe(filterOperation(channelItem.getSubscribe()));
+                filterParameters(channelItem.getParameters());
+            });
+        }
+
+        /**
+         * Operations are not filtered themselves, but their tags and messages are.
+         */
+        private Operation filterOperation(Operation model) {
+            if (model != null) {
+                filterList(model.getTags(), this::filterTag, model::setTags);
+                filterList(model.getOperationTraits(), this::filterOperationTrait, model::setOperationTraits);
+                model.setMessage(filterMessage(model.getMessage()));
+            }
+            return model;
+        }
+
+        private OperationTrait filterOperationTrait(OperationTrait model) {
+            if (model != null) {
+                filterList(model.getTags(), this::filterTag, model::setTags);
+                model.setMessage(filterMessage(model.getMessage()));
+            }
+            return model;
+        }
+
+        private void filterParameters(Parameters model) {
+            if (model != null) {
+                filterList(model.getValue(), this::filterParameter, model::setValue);
+            }
+        }
+
+        /**
+         * Parameters are not filtered themselves, but their schemas are.
+         */
+        private Parameter filterParameter(Parameter model) {
+            if (model != null) {
+                model.setSchema(filterSchema(model.getSchema()));
+            }
+            return model;
+        }
+
+        private Message filterMessage(Message model) {
+            return filter(model, AASFilter::filterMessage, message -> {
+                message.setHeaders(filterSchema(message.getHeaders()));
+                message.setPayload(filterSchema(message.getPayload()));
+                filterList(message.getTags(), this::filterTag, message::setTags);
+                filterList(message.getTraits(), this::filterMessageTrait, message::setTraits);
+            });
+        }
+
+        private MessageTrait filterMessageTrait(MessageTrait model) {
+            if (model != null) {
+                model.setHeaders(filterSchema(model.getHeaders()));
+                filterList(model.getTags(), this::filterTag, model::setTags);
+            }
+            return model;
+        }
+
+        private Schema filterSchema(Schema model) {
+            return filter(model, AASFilter::filterSchema, schema -> {
+                filterMap(schema.getProperties(), this::filterSchema, schema::setProperties);
+                schema.setAdditionalPropertiesSchema(filterSchema(schema.getAdditionalPropertiesSchema()));
+                schema.setItems(filterSchema(schema.getItems()));
+                filterList(schema.getAllOf(), this::filterSchema, schema::setAllOf);
+                filterList(schema.getOneOf(), this::filterSchema, schema::setOneOf);
+                filterList(schema.getAnyOf(), this::filterSchema, schema::setAnyOf);
+                schema.setNot(filterSchema(schema.getNot()));
+                schema.setConstant(filterSchema(schema.getConstant()));
+            });
+        }
+
+        private SecurityScheme filterSecurityScheme(SecurityScheme model) {
+            return filter(model, AASFilter::filterSecurityScheme, null);
+        }
+
+        private Server filterServer(Server model) {
+            return filter(model, AASFilter::filterServer, null);
+        }
+
+        private Tag filterTag(Tag model) {
+            return filter(model, AASFilter::filterTag, null);
+        }
+
+        /**
+         * Filters the children of the model and then passes the model through all filters.
+         *
+         * @param model the model to filter
+         * @param filterMethod the filter method for the type of the model
+         * @param children filters the children of the model, may be null
+         * @return the filtered model or null if it was removed by one of the filters
+         */
+        @SuppressWarnings("unchecked")
+        private <T> T filter(T model, BiFunction<AASFilter, T, T> filterMethod, Consumer<T> children) {
+            if (model == null) {
+                return null;
+            }
+            if (filtered.containsKey(model)) {
+                return (T) filtered.get(model);
+            }
+            // a model referencing itself keeps the reference to the unfiltered model
+            filtered.put(model, model);
+
+            if (children != null) {
+                children.accept(model);
+            }
+            T result = model;
+            for (AASFilter filter : filters) {
+                result = filterMethod.apply(filter, result);
+                if (result == null) {
+                    break;
+                }
+            }
+            filtered.put(model, result);
+            return result;
+        }
+
+        private static <T> void filterMap(Map<String, T> map, UnaryOperator<T> filter, Consumer<Map<String, T>> setter) {
+            if (map == null || map.isEmpty()) {
+                return;
+            }
+            boolean changed = false;
+            Map<String, T> result = new LinkedHashMap<>(map.size());
+            for (Map.Entry<String, T> entry : map.entrySet()) {
+                T value = filter.apply(entry.getValue());
+                if (value != null) {
+                    result.put(entry.getKey(), value);
+                }
+                changed |= value != entry.getValue();
+            }
+            if (changed) {
+                setter.accept(result);
+            }
+        }
+
+        private static <T> void filterList(List<T> list, UnaryOperator<T> filter, Consumer<List<T>> setter) {
+            if (list == null || list.isEmpty()) {
+                return;
+            }
+            boolean changed = false;
+            List<T> result = new ArrayList<>(list.size());
+            for (T item : list) {
+                T value = filter.apply(item);
+                if (value != null) {
+                    result.add(value);
+                }
+                changed |= value != item;
+            }
+            if (changed) {
+                setter.accept(result);
+            }
+        }
     }
 }
@@ -0,0 +1,226 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.api.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.smallrye.asyncapi.core.api.ApiMessages;
+import io.smallrye.asyncapi.core.api.util.FrozenModel.ModelType;
+import io.smallrye.asyncapi.core.api.util.FrozenModel.Shape;
+import io.smallrye.asyncapi.spec.models.AsyncAPI;
+import io.smallrye.asyncapi.spec.models.Constructible;
+
+/**
+ * Freezes finalized models into compact, read-only views. A frozen model implements the same model interfaces as
+ * the original, but only stores the properties which are set:
+ * <ul>
+ * <li>equal strings, numbers, booleans and enum constants are shared,</li>
+ * <li>lists and maps are stored as arrays, maps keep the order of their entries,</li>
+ * <li>equal lists, maps and models are shared, e.g. the identical schemas of several properties.</li>
+ * </ul>
+ * Frozen models can be read concurrently, every method modifying them throws an
+ * {@link UnsupportedOperationException}. {@link MergeUtil#copyObject(Object)} copies a frozen model into a modifiable
+ * model. Values which are neither models, collections nor immutable values, e.g.
+ * the JSON nodes of extensions, are not copied and must not be modified.
+ */
+public class FreezeUtil {
+
+    private static final Object IN_PROGRESS = new Object();
+
+    private FreezeUtil() {
+    }
+
+    /**
+     * Freeze a document. The document is not modified, it can be discarded afterwards.
+     *
+     * @param model the document
+     * @return the frozen document, the document itself if it is frozen already
+     * @throws IllegalArgumentException If the document contains a cycle
+     */
+    public static AsyncAPI freeze(AsyncAPI model) {
+        return freeze(model, AsyncAPI.class);
+    }
+
+    /**
+     * Freeze a model. The model is not modified, it can be discarded afterwards. The frozen model only implements
+     * the model interfaces, not the implementation class of the model.
+     *
+     * @param model the model
+     * @param modelInterface the model interface the frozen model is used as, e.g. {@code Schema.class}
+     * @param <T> the model interface
+     * @return the frozen model, the model itself if it is frozen already
+     * @throws IllegalArgumentException If the model contains a cycle, or the type is not an interface
+     */
+    public static <T extends Constructible> T freeze(T model, Class<T> modelInterface) {
+        if (!modelInterface.isInterface()) {
+            throw ApiMessages.msg.notAModelInterface(modelInterface.getName());
+        }
+        if (model == null || isFrozen(model)) {
+            return model;
+        }
+        return modelInterface.cast(new Freezer().freezeValue(model));
+    }
+
+    /**
+     * @param model a model
+     * @return true if the model is frozen
+     */
+    public static boolean isFrozen(Object model) {
+        return FrozenModel.isFrozen(model);
+    }
+
+    private static final class Freezer {
+
+        // the canonical instances of the values frozen so far
+        private final Map<Object, Object> canonical = new HashMap<>();
+
+        // the frozen models by original model
+        private final Map<Object, Object> models = new IdentityHashMap<>();
+
+        private Object freezeValue(Object value) {
+            if (value == null || isFrozen(value)) {
+                return value;
+            }
+            if (value instanceof String || value instanceof Number || value instanceof Boolean
+                    || value instanceof Character || value instanceof Enum) {
+                return intern(value, value);
+            }
+            if (value instanceof Constructible) {
+                return freezeModel(value);
+            }
+            if (value instanceof List) {
+                return freezeList((List<?>) value);
+            }
+            if (value instanceof Map) {
+                return freezeMap((Map<?, ?>) value);
+            }
+            return value;
+        }
+
+        private Object freezeModel(Object model) {
+            Object frozen = models.get(model);
+            if (frozen == IN_PROGRESS) {
+                throw ApiMessages.msg.modelContainsCycle();
+            }
+            if (frozen != null) {
+                return frozen;
+            }
+            ModelType type = FrozenModel.type(model.getClass());
+            if (type == null) {
+                // not an implementation of the model interfaces
+                return model;
+            }
+
+            models.put(model, IN_PROGRESS);
+            BitSet present = new BitSet(type.size());
+            List<Object> values = new ArrayList<>(type.size());
+            for (int ordinal = 0; ordinal < type.size(); ordinal++) {
+                Object value = freezeValue(type.read(model, ordinal));
+                if (value != null) {
+                    present.set(ordinal);
+                    values.add(value);
+                }
+            }
+            Shape shape = type.shape(present);
+            Object[] array = values.toArray();
+            ContentKey key = new ContentKey(shape, array);
+            frozen = canonical.get(key);
+            if (frozen == null) {
+                frozen = FrozenModel.create(shape, array);
+                canonical.put(key, frozen);
+            }
+            models.put(model, frozen);
+            return frozen;
+        }
+
+        private Object freezeList(List<?> list) {
+            if (list.isEmpty()) {
+                return Collections.emptyList();
+            }
+            Object[] elements = new Object[list.size()];
+            int i = 0;
+            for (Object element : list) {
+                elements[i++] = freezeValue(element);
+            }
+            return intern(new ContentKey(FrozenList.class, elements), new FrozenList<>(elements));
+        }
+
+        private Object freezeMap(Map<?, ?> map) {
+            if (map.isEmpty()) {
+                return Collections.emptyMap();
+            }
+            int size = map.size();
+            // keys followed by values, the content key of the map
+            Object[] entries = new Object[size * 2];
+            int i = 0;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                entries[i] = freezeValue(entry.getKey());
+                entries[size + i] = freezeValue(entry.getValue());
+                i++;
+            }
+            return intern(new ContentKey(FrozenMap.class, entries), new FrozenMap<>(
+                    Arrays.copyOfRange(entries, 0, size), Arrays.copyOfRange(entries, size, size * 2)));
+        }
+
+        private Object intern(Object key, Object value) {
+            Object previous = canonical.putIfAbsent(key, value);
+            return previous != null ? previous : value;
+        }
+    }
+
+    /**
+     * The content of a frozen list, map or model. The values are frozen already, so nested models are compared by
+     * identity.
+     */
+    private static final class ContentKey {
+
+        private final Object kind;
+
+        private final Object[] values;
+
+        private final int hashCode;
+
+        private ContentKey(Object kind, Object[] values) {
+            this.kind = kind;
+            this.values = values;
+            this.hashCode = 31 * System.identityHashCode(kind) + Arrays.hashCode(values);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ContentKey)) {
+                return false;
+            }
+            ContentKey other = (ContentKey) o;
+            return kind == other.kind && Arrays.equals(values, other.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
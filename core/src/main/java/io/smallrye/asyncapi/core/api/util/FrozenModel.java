@@ -0,0 +1,399 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.api.util;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import io.smallrye.asyncapi.core.api.ApiMessages;
+import io.smallrye.asyncapi.spec.models.Constructible;
+
+/**
+ * The read-only implementation of the model interfaces behind a frozen model, see {@link FreezeUtil}. A frozen
+ * model only stores the properties which are set, in an array laid out by its {@link Shape}. Getters return the
+ * stored values, every other method of the model interfaces fails.
+ */
+final class FrozenModel implements InvocationHandler {
+
+    private static final String MODELS_PACKAGE = Constructible.class.getPackage().getName();
+
+    private static final ClassValue<ModelType> TYPES = new ClassValue<ModelType>() {
+        @Override
+        protected ModelType computeValue(Class<?> type) {
+            return ModelType.introspect(type);
+        }
+    };
+
+    private final Shape shape;
+
+    private final Object[] values;
+
+    private FrozenModel(Shape shape, Object[] values) {
+        this.shape = shape;
+        this.values = values;
+    }
+
+    /**
+     * @param type the implementation class of a model
+     * @return the type of the frozen models, null if the class implements no model interface
+     */
+    static ModelType type(Class<?> type) {
+        return TYPES.get(type);
+    }
+
+    /**
+     * @param model an object
+     * @return true if the object is a frozen model
+     */
+    static boolean isFrozen(Object model) {
+        return model != null && Proxy.isProxyClass(model.getClass())
+                && Proxy.getInvocationHandler(model) instanceof FrozenModel;
+    }
+
+    static Object create(Shape shape, Object[] values) {
+        return Proxy.newProxyInstance(shape.type.classLoader, shape.type.interfaces, new FrozenModel(shape, values));
+    }
+
+    /**
+     * Copy a frozen model into a new instance of the implementation class it was frozen from. Nested models, lists
+     * and maps are copied as well, the copy can be modified.
+     *
+     * @param model a frozen model
+     * @return the copy
+     */
+    static Object thaw(Object model) {
+        FrozenModel frozen = (FrozenModel) Proxy.getInvocationHandler(model);
+        ModelType type = frozen.shape.type;
+        Object copy = type.instantiate();
+        for (int ordinal = 0; ordinal < type.size(); ordinal++) {
+            int slot = frozen.shape.slots[ordinal];
+            if (slot >= 0) {
+                type.write(copy, ordinal, thawValue(frozen.values[slot]));
+            }
+        }
+        return copy;
+    }
+
+    private static Object thawValue(Object value) {
+        if (isFrozen(value)) {
+            return thaw(value);
+        }
+        if (value instanceof List) {
+            List<Object> list = new ArrayList<>(((List<?>) value).size());
+            for (Object element : (List<?>) value) {
+                list.add(thawValue(element));
+            }
+            return list;
+        }
+        if (value instanceof Map) {
+            Map<Object, Object> map = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                map.put(entry.getKey(), thawValue(entry.getValue()));
+            }
+            return map;
+        }
+        return value;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        ModelType type = shape.type;
+        Integer ordinal = type.ordinals.get(method);
+        if (ordinal != null) {
+            return get(ordinal);
+        }
+        if (method.getDeclaringClass() == Object.class) {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return "Frozen" + type.interfaces[0].getSimpleName() + "@"
+                            + Integer.toHexString(System.identityHashCode(proxy));
+            }
+        }
+        Integer lookup = type.lookups.get(method);
+        if (lookup != null) {
+            Map<?, ?> map = (Map<?, ?>) get(lookup);
+            if (method.getReturnType() == boolean.class) {
+                return map != null && map.containsKey(args[0]);
+            }
+            return map != null ? map.get(args[0]) : null;
+        }
+        throw ApiMessages.msg.modelIsFrozen(type.interfaces[0].getSimpleName() + "." + method.getName());
+    }
+
+    private Object get(int ordinal) {
+        int slot = shape.slots[ordinal];
+        return slot >= 0 ? values[slot] : shape.type.defaults[ordinal];
+    }
+
+    /**
+     * The model interfaces and getters of a model implementation class.
+     */
+    static final class ModelType {
+
+        private final Class<?> implementation;
+
+        private final ClassLoader classLoader;
+
+        private final Class<?>[] interfaces;
+
+        // the getters in the order of their ordinals, as declared by the first interface declaring them
+        private final Method[] getters;
+
+        // the values of absent properties, null except for primitive getters
+        private final Object[] defaults;
+
+        // the setters of the implementation by ordinal, null for properties which can not be set
+        private final Method[] setters;
+
+        // the ordinals of the getters of all interfaces
+        private final Map<Method, Integer> ordinals;
+
+        // keyed lookups of map properties, e.g. hasScheme(name), and the ordinals of the maps
+        private final Map<Method, Integer> lookups;
+
+        private final ConcurrentMap<BitSet, Shape> shapes = new ConcurrentHashMap<>();
+
+        private ModelType(Class<?> implementation, Class<?>[] interfaces, Method[] getters,
+                Map<Method, Integer> ordinals, Map<Method, Integer> lookups) {
+            this.implementation = implementation;
+            this.classLoader = interfaces[0].getClassLoader();
+            this.interfaces = interfaces;
+            this.getters = getters;
+            this.setters = new Method[getters.length];
+            for (int i = 0; i < getters.length; i++) {
+                setters[i] = setter(implementation, getters[i]);
+            }
+            this.ordinals = ordinals;
+            this.lookups = lookups;
+            this.defaults = new Object[getters.length];
+            for (int i = 0; i < getters.length; i++) {
+                Class<?> returnType = getters[i].getReturnType();
+                if (returnType.isPrimitive()) {
+                    defaults[i] = Array.get(Array.newInstance(returnType, 1), 0);
+                }
+            }
+        }
+
+        private static ModelType introspect(Class<?> type) {
+            Set<Class<?>> interfaces = new LinkedHashSet<>();
+            collectInterfaces(type, interfaces);
+            // keep the most specific interfaces only, their methods are the ones passed to the handler
+            interfaces.removeIf(candidate -> interfaces.stream()
+                    .anyMatch(other -> other != candidate && candidate.isAssignableFrom(other)));
+            if (interfaces.isEmpty()) {
+                return null;
+            }
+
+            Map<String, Integer> ordinalsByName = new LinkedHashMap<>();
+            List<Method> getters = new ArrayList<>();
+            Map<Method, Integer> ordinals = new HashMap<>();
+            for (Class<?> modelInterface : interfaces) {
+                for (Method method : modelInterface.getMethods()) {
+                    if (isGetter(method)) {
+                        Integer ordinal = ordinalsByName.get(method.getName());
+                        if (ordinal == null) {
+                            ordinal = getters.size();
+                            ordinalsByName.put(method.getName(), ordinal);
+                            getters.add(method);
+                        }
+                        ordinals.put(method, ordinal);
+                    }
+                }
+            }
+
+            Map<Method, Integer> lookups = new HashMap<>();
+            for (Class<?> modelInterface : interfaces) {
+                for (Method method : modelInterface.getMethods()) {
+                    Integer ordinal = lookupOrdinal(method, ordinalsByName, getters);
+                    if (ordinal != null) {
+                        lookups.put(method, ordinal);
+                    }
+                }
+            }
+
+            return new ModelType(type, interfaces.toArray(new Class<?>[0]), getters.toArray(new Method[0]), ordinals,
+                    lookups);
+        }
+
+        private static Method setter(Class<?> type, Method getter) {
+            String name = getter.getName();
+            String property = name.startsWith("is") ? name.substring(2) : name.substring(3);
+            try {
+                return type.getMethod("set" + property, getter.getReturnType());
+            } catch (NoSuchMethodException e) {
+                return null;
+            }
+        }
+
+        private static void collectInterfaces(Class<?> type, Set<Class<?>> interfaces) {
+            for (Class<?> candidate = type; candidate != null; candidate = candidate.getSuperclass()) {
+                for (Class<?> modelInterface : candidate.getInterfaces()) {
+                    if (Modifier.isPublic(modelInterface.getModifiers())
+                            && modelInterface.getName().startsWith(MODELS_PACKAGE)
+                            && Constructible.class.isAssignableFrom(modelInterface)) {
+                        interfaces.add(modelInterface);
+                    }
+                }
+            }
+        }
+
+        private static boolean isGetter(Method method) {
+            String name = method.getName();
+            return !Modifier.isStatic(method.getModifiers()) && method.getParameterCount() == 0
+                    && method.getReturnType() != void.class
+                    && (name.startsWith("get") && name.length() > 3 || name.startsWith("is") && name.length() > 2);
+        }
+
+        /**
+         * A lookup has a single key parameter and is named after a map getter, e.g. {@code hasScheme(String)} and
+         * {@code getScheme(String)} for {@code getSchemes()}.
+         */
+        private static Integer lookupOrdinal(Method method, Map<String, Integer> ordinalsByName, List<Method> getters) {
+            String name = method.getName();
+            if (Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 1) {
+                return null;
+            }
+            String property;
+            if (name.startsWith("has") && method.getReturnType() == boolean.class) {
+                property = name.substring(3);
+            } else if (name.startsWith("get")) {
+                property = name.substring(3);
+            } else {
+                return null;
+            }
+            Integer ordinal = ordinalsByName.get("get" + property + "s");
+            if (ordinal == null || !Map.class.isAssignableFrom(getters.get(ordinal).getReturnType())) {
+                return null;
+            }
+            return ordinal;
+        }
+
+        int size() {
+            return getters.length;
+        }
+
+        /**
+         * Read a property of a model implementation.
+         *
+         * @param model the model
+         * @param ordinal the ordinal of the property
+         * @return the value of the property
+         */
+        Object read(Object model, int ordinal) {
+            try {
+                return getters[ordinal].invoke(model);
+            } catch (InvocationTargetException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new IllegalStateException(e.getCause());
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        /**
+         * @return a new instance of the implementation class
+         */
+        Object instantiate() {
+            try {
+                return implementation.getConstructor().newInstance();
+            } catch (InvocationTargetException e) {
+                throw new IllegalStateException(e.getCause());
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        /**
+         * Set a property of a model implementation, properties without setter are skipped.
+         *
+         * @param model the model
+         * @param ordinal the ordinal of the property
+         * @param value the value of the property
+         */
+        void write(Object model, int ordinal, Object value) {
+            if (setters[ordinal] == null) {
+                return;
+            }
+            try {
+                setters[ordinal].invoke(model, value);
+            } catch (InvocationTargetException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new IllegalStateException(e.getCause());
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        /**
+         * @param present the ordinals of the properties which are set
+         * @return the interned shape of the models with these properties
+         */
+        Shape shape(BitSet present) {
+            Shape shape = shapes.get(present);
+            if (shape == null) {
+                shape = new Shape(this, present);
+                Shape previous = shapes.putIfAbsent(present, shape);
+                if (previous != null) {
+                    shape = previous;
+                }
+            }
+            return shape;
+        }
+    }
+
+    /**
+     * The layout of the values of frozen models having the same set of properties. Shapes are interned per
+     * {@link ModelType}, so they are compared by identity.
+     */
+    static final class Shape {
+
+        private final ModelType type;
+
+        // the slots of the values by ordinal, -1 for absent properties
+        private final int[] slots;
+
+        private Shape(ModelType type, BitSet present) {
+            this.type = type;
+            this.slots = new int[type.size()];
+            int slot = 0;
+            for (int ordinal = 0; ordinal < slots.length; ordinal++) {
+                slots[ordinal] = present.get(ordinal) ? slot++ : -1;
+            }
+        }
+    }
+}
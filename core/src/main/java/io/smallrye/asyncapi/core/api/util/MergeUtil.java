@@ -15,13 +15,7 @@
  */
 package io.smallrye.asyncapi.core.api.util;
 
-import java.beans.IntrospectionException;
-import java.beans.Introspector;
-import java.beans.PropertyDescriptor;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -45,12 +39,6 @@ public class MergeUtil {
 
     private static final Logger LOG = Logger.getLogger(MergeUtil.class);
 
-    private static final Set<String> EXCLUDED_PROPERTIES = new HashSet<>();
-    static {
-        EXCLUDED_PROPERTIES.add("class");
-        EXCLUDED_PROPERTIES.add("openapi");
-    }
-
     private MergeUtil() {
     }
 
@@ -66,15 +54,22 @@ public class MergeUtil {
     }
 
     /**
-     * Generic merge of two objects of the same type.
+     * Generic merge of two objects of the same type. The properties are merged by the
+     * {@link ModelMerger} registered for the type of the objects.
      *
      * @param object1 First object
      * @param object2 Second object
      * @param <T> Type parameter
      * @return Merged object
      */
-    @SuppressWarnings({ "rawtypes" })
     public static <T> T mergeObjects(T object1, T object2) {
+        // frozen models are merged as modifiable copies
+        if (FreezeUtil.isFrozen(object1)) {
+            object1 = copyObject(object1);
+        }
+        if (FreezeUtil.isFrozen(object2)) {
+            object2 = copyObject(object2);
+        }
         if (object1 == null && object2 != null) {
             return object2;
         }
@@ -91,62 +86,34 @@ public class MergeUtil {
             return object2;
         }
 
-        PropertyDescriptor[] descriptors = new PropertyDescriptor[0];
-        try {
-            descriptors = Introspector.getBeanInfo(object1.getClass()).getPropertyDescriptors();
-        } catch (IntrospectionException e) {
-            UtilLogging.logger.failedToIntrospectBeanInfo(object1.getClass(), e);
-        }
+        @SuppressWarnings("unchecked")
+        ModelMerger<T> merger = (ModelMerger<T>) ModelMergers.forType(object1.getClass());
+        merger.merge(object1, object2);
+        return object1;
+    }
 
-        for (PropertyDescriptor descriptor : descriptors) {
-            if (EXCLUDED_PROPERTIES.contains(descriptor.getName())) {
-                continue;
-            }
-            Class ptype = descriptor.getPropertyType();
-            Method writeMethod = descriptor.getWriteMethod();
-            if (writeMethod != null) {
-                if (Constructible.class.isAssignableFrom(ptype)) {
-                    try {
-                        Object val1 = descriptor.getReadMethod().invoke(object1);
-                        Object val2 = descriptor.getReadMethod().invoke(object2);
-                        Object newValue = mergeObjects(val1, val2);
-                        if (newValue != null) {
-                            writeMethod.invoke(object1, newValue);
-                        }
-                    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-                        throw new RuntimeException(e);
-                    }
-                } else if (Map.class.isAssignableFrom(ptype)) {
-                    try {
-                        Map values1 = (Map) descriptor.getReadMethod().invoke(object1);
-                        Map values2 = (Map) descriptor.getReadMethod().invoke(object2);
-                        Map newValues = mergeMaps(values1, values2);
-                        writeMethod.invoke(object1, newValues);
-                    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-                        throw new RuntimeException(e);
-                    }
-                } else if (List.class.isAssignableFrom(ptype)) {
-                    try {
-                        List values1 = (List) descriptor.getReadMethod().invoke(object1);
-                        List values2 = (List) descriptor.getReadMethod().invoke(object2);
-                        List newValues = mergeLists(values1, values2).orElse(null);
-                        writeMethod.invoke(object1, newValues);
-                    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-                        throw new RuntimeException(e);
-                    }
-                } else {
-                    try {
-                        Object newValue = descriptor.getReadMethod().invoke(object2);
-                        if (newValue != null) {
-                            writeMethod.invoke(object1, newValue);
-                        }
-                    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-                        throw new RuntimeException(e);
-                    }
-                }
-            }
+    /**
+     * Creates a deep copy of a model object, using the {@link ModelMerger} registered for the type
+     * of the object. The copy of a frozen model, see {@link FreezeUtil}, is a modifiable instance of the
+     * implementation class the model was frozen from.
+     *
+     * @param object Object to copy
+     * @param <T> Type parameter
+     * @return Copy of the object
+     */
+    public static <T> T copyObject(T object) {
+        if (object == null) {
+            return null;
         }
-        return object1;
+        if (FreezeUtil.isFrozen(object)) {
+            @SuppressWarnings("unchecked")
+            T copy = (T) FrozenModel.thaw(object);
+            return copy;
+        }
+
+        @SuppressWarnings("unchecked")
+        ModelMerger<T> merger = (ModelMerger<T>) ModelMergers.forType(object.getClass());
+        return merger.copy(object);
     }
 
     /**
@@ -157,7 +124,7 @@ public class MergeUtil {
      * @param values2
      */
     @SuppressWarnings({ "rawtypes", "unchecked" })
-    private static Map mergeMaps(Map values1, Map values2) {
+    static Map mergeMaps(Map values1, Map values2) {
         if (values1 == null && values2 == null) {
             return null;
         }
@@ -220,7 +187,7 @@ public class MergeUtil {
      * @param values2
      */
     @SuppressWarnings({ "rawtypes", "unchecked" })
-    private static Optional<List> mergeLists(List values1, List values2) {
+    static Optional<List> mergeLists(List values1, List values2) {
         if (values1 == null && values2 == null) {
             return Optional.empty();
         }
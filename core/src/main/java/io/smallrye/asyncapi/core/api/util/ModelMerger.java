@@ -0,0 +1,196 @@
+/*
+ * Copyright 2019 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.smallrye.asyncapi.core.api.util;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import io.smallrye.asyncapi.spec.models.Constructible;
+
+/**
+ * Merge strategy for a single model type. A merger is a fixed list of property merge steps which
+ * are bound to the getter and setter of the model type once, so merging two instances does not
+ * require any introspection. The same property list is used to create deep copies of instances.
+ *
+ * @param <T> Model type
+ */
+final class ModelMerger<T> {
+
+    private final Supplier<T> factory;
+
+    private final List<BiConsumer<T, T>> properties;
+
+    private final List<BiConsumer<T, T>> copies;
+
+    private ModelMerger(Supplier<T> factory, List<BiConsumer<T, T>> properties, List<BiConsumer<T, T>> copies) {
+        this.factory = factory;
+        this.properties = properties;
+        this.copies = copies;
+    }
+
+    /**
+     * Merges all properties of the source into the target.
+     *
+     * @param target Object to merge into
+     * @param source Object to merge from (the override)
+     */
+    void merge(T target, T source) {
+        for (BiConsumer<T, T> property : properties) {
+            property.accept(target, source);
+        }
+    }
+
+    /**
+     * Creates a deep copy of the source. Nested models, and models contained in map or list properties,
+     * are copied as well. Types without a public no-arg constructor cannot be copied, the source is
+     * returned instead.
+     *
+     * @param source Object to copy
+     * @return the copy
+     */
+    T copy(T source) {
+        if (factory == null) {
+            return source;
+        }
+        T target = factory.get();
+        for (BiConsumer<T, T> copy : copies) {
+            copy.accept(target, source);
+        }
+        return target;
+    }
+
+    static <T> Builder<T> builder(Class<T> type) {
+        return new Builder<>(factory(type));
+    }
+
+    private static <T> Supplier<T> factory(Class<T> type) {
+        final Constructor<T> constructor;
+        try {
+            constructor = type.getConstructor();
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+        return () -> {
+            try {
+                return constructor.newInstance();
+            } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> V copyValue(V value) {
+        if (value instanceof Constructible) {
+            return MergeUtil.copyObject(value);
+        }
+        return value;
+    }
+
+    static final class Builder<T> {
+
+        private final Supplier<T> factory;
+
+        private final List<BiConsumer<T, T>> properties = new ArrayList<>();
+
+        private final List<BiConsumer<T, T>> copies = new ArrayList<>();
+
+        private Builder(Supplier<T> factory) {
+            this.factory = factory;
+        }
+
+        /**
+         * Simple property. The value of the source overrides the value of the target if it is set.
+         */
+        <V> Builder<T> value(Function<T, V> getter, BiConsumer<T, V> setter) {
+            BiConsumer<T, T> property = (target, source) -> {
+                V value = getter.apply(source);
+                if (value != null) {
+                    setter.accept(target, value);
+                }
+            };
+            properties.add(property);
+            copies.add(property);
+            return this;
+        }
+
+        /**
+         * Model property. Both values are merged recursively.
+         */
+        <V> Builder<T> model(Function<T, V> getter, BiConsumer<T, V> setter) {
+            properties.add((target, source) -> {
+                V value = MergeUtil.mergeObjects(getter.apply(target), getter.apply(source));
+                if (value != null) {
+                    setter.accept(target, value);
+                }
+            });
+            copies.add((target, source) -> {
+                V value = getter.apply(source);
+                if (value != null) {
+                    setter.accept(target, MergeUtil.copyObject(value));
+                }
+            });
+            return this;
+        }
+
+        /**
+         * Map property. Entries of both maps are merged by key.
+         */
+        @SuppressWarnings("unchecked")
+        <V> Builder<T> map(Function<T, Map<String, V>> getter, BiConsumer<T, Map<String, V>> setter) {
+            properties.add((target, source) -> setter.accept(target,
+                    MergeUtil.mergeMaps(getter.apply(target), getter.apply(source))));
+            copies.add((target, source) -> {
+                Map<String, V> values = getter.apply(source);
+                if (values != null) {
+                    Map<String, V> copy = new LinkedHashMap<>(values.size());
+                    values.forEach((key, value) -> copy.put(key, copyValue(value)));
+                    setter.accept(target, copy);
+                }
+            });
+            return this;
+        }
+
+        /**
+         * List property. Both lists are merged depending on the type of their elements.
+         */
+        @SuppressWarnings("unchecked")
+        <V> Builder<T> list(Function<T, List<V>> getter, BiConsumer<T, List<V>> setter) {
+            properties.add((target, source) -> setter.accept(target,
+                    MergeUtil.mergeLists(getter.apply(target), getter.apply(source)).orElse(null)));
+            copies.add((target, source) -> {
+                List<V> values = getter.apply(source);
+                if (values != null) {
+                    List<V> copy = new ArrayList<>(values.size());
+                    values.forEach(value -> copy.add(copyValue(value)));
+                    setter.accept(target, copy);
+                }
+            });
+            return this;
+        }
+
+        ModelMerger<T> build() {
+            return new ModelMerger<>(factory, new ArrayList<>(properties), new ArrayList<>(copies));
+        }
+    }
+}
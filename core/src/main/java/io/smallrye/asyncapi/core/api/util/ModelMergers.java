@@ -0,0 +1,580 @@
+/*
+ * Copyright 2019 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.smallrye.asyncapi.core.api.util;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import io.smallrye.asyncapi.core.api.models.AsyncAPIImpl;
+import io.smallrye.asyncapi.core.api.models.ComponentsImpl;
+import io.smallrye.asyncapi.core.api.models.ExternalDocumentationImpl;
+import io.smallrye.asyncapi.core.api.models.binding.ChannelBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.ChannelBindingsImpl;
+import io.smallrye.asyncapi.core.api.models.binding.MessageBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.MessageBindingsImpl;
+import io.smallrye.asyncapi.core.api.models.binding.OperationBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.OperationBindingsImpl;
+import io.smallrye.asyncapi.core.api.models.binding.ServerBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.ServerBindingsImpl;
+import io.smallrye.asyncapi.core.api.models.binding.amqp.AMQPChannelBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.amqp.AMQPMessageBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.amqp.AMQPOperationBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.amqp.AMQPServerBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.amqp.ExchangeImpl;
+import io.smallrye.asyncapi.core.api.models.binding.amqp.QueueImpl;
+import io.smallrye.asyncapi.core.api.models.binding.amqp1.AMQP1ChannelBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.amqp1.AMQP1MessageBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.amqp1.AMQP1OperationBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.amqp1.AMQP1ServerBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.http.HTTPChannelBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.http.HTTPMessageBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.http.HTTPOperationBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.http.HTTPServerBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.jms.JMSChannelBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.jms.JMSMessageBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.jms.JMSOperationBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.jms.JMSServerBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.kafka.KafkaChannelBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.kafka.KafkaMessageBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.kafka.KafkaOperationBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.kafka.KafkaServerBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.mqtt.LastWillImpl;
+import io.smallrye.asyncapi.core.api.models.binding.mqtt.MQTTChannelBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.mqtt.MQTTMessageBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.mqtt.MQTTOperationBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.mqtt.MQTTServerBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.mqtt5.MQTT5ChannelBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.mqtt5.MQTT5MessageBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.mqtt5.MQTT5OperationBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.mqtt5.MQTT5ServerBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.nats.NATSChannelBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.nats.NATSMessageBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.nats.NATSOperationBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.nats.NATSServerBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.redis.RedisChannelBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.redis.RedisMessageBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.redis.RedisOperationBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.redis.RedisServerBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.sns.SNSChannelBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.sns.SNSMessageBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.sns.SNSOperationBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.sns.SNSServerBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.sqs.SQSChannelBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.sqs.SQSMessageBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.sqs.SQSOperationBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.sqs.SQSServerBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.stomp.STOMPChannelBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.stomp.STOMPMessageBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.stomp.STOMPOperationBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.stomp.STOMPServerBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.ws.WebSocketChannelBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.ws.WebSocketMessageBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.ws.WebSocketOperationBindingImpl;
+import io.smallrye.asyncapi.core.api.models.binding.ws.WebSocketServerBindingImpl;
+import io.smallrye.asyncapi.core.api.models.channel.ChannelItemImpl;
+import io.smallrye.asyncapi.core.api.models.channel.ChannelsImpl;
+import io.smallrye.asyncapi.core.api.models.info.ContactImpl;
+import io.smallrye.asyncapi.core.api.models.info.InfoImpl;
+import io.smallrye.asyncapi.core.api.models.info.LicenseImpl;
+import io.smallrye.asyncapi.core.api.models.message.CorrelationIDImpl;
+import io.smallrye.asyncapi.core.api.models.message.MessageImpl;
+import io.smallrye.asyncapi.core.api.models.message.MessageTraitImpl;
+import io.smallrye.asyncapi.core.api.models.operation.OperationImpl;
+import io.smallrye.asyncapi.core.api.models.operation.OperationTraitImpl;
+import io.smallrye.asyncapi.core.api.models.parameter.ParameterImpl;
+import io.smallrye.asyncapi.core.api.models.parameter.ParametersImpl;
+import io.smallrye.asyncapi.core.api.models.schema.SchemaImpl;
+import io.smallrye.asyncapi.core.api.models.schema.SchemaPropertyImpl;
+import io.smallrye.asyncapi.core.api.models.security.OAuthFlowImpl;
+import io.smallrye.asyncapi.core.api.models.security.OAuthFlowsImpl;
+import io.smallrye.asyncapi.core.api.models.security.OAuthScopeImpl;
+import io.smallrye.asyncapi.core.api.models.security.SecurityRequirementImpl;
+import io.smallrye.asyncapi.core.api.models.security.SecuritySchemeImpl;
+import io.smallrye.asyncapi.core.api.models.server.ServerImpl;
+import io.smallrye.asyncapi.core.api.models.server.ServerVariableImpl;
+import io.smallrye.asyncapi.core.api.models.tag.TagImpl;
+import io.smallrye.asyncapi.spec.models.Constructible;
+import io.smallrye.asyncapi.spec.models.Extensible;
+
+/**
+ * Registry of the {@link ModelMerger}s used by {@link MergeUtil}. Every model implementation in
+ * {@code io.smallrye.asyncapi.core.api.models} has a merger bound to its getters and setters. Any other
+ * model type (e.g. a custom implementation) gets a merger derived from its bean properties, which is
+ * introspected only once per type.
+ */
+final class ModelMergers {
+
+    private static final Set<String> EXCLUDED_PROPERTIES = new HashSet<>();
+    static {
+        EXCLUDED_PROPERTIES.add("class");
+        EXCLUDED_PROPERTIES.add("openapi");
+    }
+
+    private static final Map<Class<?>, ModelMerger<?>> MERGERS = new HashMap<>();
+
+    private static final ClassValue<ModelMerger<?>> INTROSPECTED = new ClassValue<ModelMerger<?>>() {
+        @Override
+        protected ModelMerger<?> computeValue(Class<?> type) {
+            return introspect(type);
+        }
+    };
+
+    static {
+        register(AsyncAPIImpl.class, extensible(AsyncAPIImpl.class)
+                .value(AsyncAPIImpl::getAsyncapi, AsyncAPIImpl::setAsyncapi)
+                .model(AsyncAPIImpl::getChannels, AsyncAPIImpl::setChannels)
+                .model(AsyncAPIImpl::getComponents, AsyncAPIImpl::setComponents)
+                .value(AsyncAPIImpl::getDefaultContentType, AsyncAPIImpl::setDefaultContentType)
+                .model(AsyncAPIImpl::getExternalDocs, AsyncAPIImpl::setExternalDocs)
+                .value(AsyncAPIImpl::getIdentifier, AsyncAPIImpl::setIdentifier)
+                .model(AsyncAPIImpl::getInfo, AsyncAPIImpl::setInfo)
+                .list(AsyncAPIImpl::getServers, AsyncAPIImpl::setServers)
+                .list(AsyncAPIImpl::getTags, AsyncAPIImpl::setTags));
+        register(ComponentsImpl.class, extensible(ComponentsImpl.class)
+                .map(ComponentsImpl::getCorrelationIds, ComponentsImpl::setCorrelationIds)
+                .map(ComponentsImpl::getMessageBindings, ComponentsImpl::setMessageBindings)
+                .map(ComponentsImpl::getMessageTraits, ComponentsImpl::setMessageTraits)
+                .map(ComponentsImpl::getMessages, ComponentsImpl::setMessages)
+                .map(ComponentsImpl::getOperationBindings, ComponentsImpl::setOperationBindings)
+                .map(ComponentsImpl::getOperationTraits, ComponentsImpl::setOperationTraits)
+                .map(ComponentsImpl::getParameters, ComponentsImpl::setParameters)
+                .map(ComponentsImpl::getSchemas, ComponentsImpl::setSchemas)
+                .map(ComponentsImpl::getSecuritySchemes, ComponentsImpl::setSecuritySchemes)
+                .map(ComponentsImpl::getServerBindings, ComponentsImpl::setServerBindings));
+        register(ExternalDocumentationImpl.class, extensible(ExternalDocumentationImpl.class)
+                .value(ExternalDocumentationImpl::getDescription, ExternalDocumentationImpl::setDescription)
+                .value(ExternalDocumentationImpl::getUrl, ExternalDocumentationImpl::setUrl));
+        register(ChannelBindingImpl.class, extensible(ChannelBindingImpl.class));
+        register(ChannelBindingsImpl.class, extensible(ChannelBindingsImpl.class)
+                .model(ChannelBindingsImpl::getAMQPBinding, ChannelBindingsImpl::setAMQPBinding)
+                .list(ChannelBindingsImpl::getBindings, ChannelBindingsImpl::setBindings)
+                .model(ChannelBindingsImpl::getWebSocketBinding, ChannelBindingsImpl::setWebSocketBinding));
+        register(MessageBindingImpl.class, extensible(MessageBindingImpl.class));
+        register(MessageBindingsImpl.class, extensible(MessageBindingsImpl.class)
+                .model(MessageBindingsImpl::getAMQPBinding, MessageBindingsImpl::setAMQPBinding)
+                .model(MessageBindingsImpl::getHTTPBinding, MessageBindingsImpl::setHTTPBinding)
+                .model(MessageBindingsImpl::getMQTTBinding, MessageBindingsImpl::setMQTTBinding)
+                .list(MessageBindingsImpl::getBindings, MessageBindingsImpl::setBindings)
+                .model(MessageBindingsImpl::getKafkaBinding, MessageBindingsImpl::setKafkaBinding));
+        register(OperationBindingImpl.class, extensible(OperationBindingImpl.class));
+        register(OperationBindingsImpl.class, extensible(OperationBindingsImpl.class)
+                .model(OperationBindingsImpl::getAMQPBinding, OperationBindingsImpl::setAMQPBinding)
+                .model(OperationBindingsImpl::getHTTPBinding, OperationBindingsImpl::setHTTPBinding)
+                .model(OperationBindingsImpl::getMQTTBinding, OperationBindingsImpl::setMQTTBinding)
+                .list(OperationBindingsImpl::getBindings, OperationBindingsImpl::setBindings)
+                .model(OperationBindingsImpl::getKafkaBinding, OperationBindingsImpl::setKafkaBinding));
+        register(ServerBindingImpl.class, extensible(ServerBindingImpl.class));
+        register(ServerBindingsImpl.class, extensible(ServerBindingsImpl.class)
+                .model(ServerBindingsImpl::getMQTTBinding, ServerBindingsImpl::setMQTTBinding)
+                .list(ServerBindingsImpl::getBindings, ServerBindingsImpl::setBindings));
+        register(AMQPChannelBindingImpl.class, extensible(AMQPChannelBindingImpl.class)
+                .value(AMQPChannelBindingImpl::getBindingVersion, AMQPChannelBindingImpl::setBindingVersion)
+                .model(AMQPChannelBindingImpl::getExchange, AMQPChannelBindingImpl::setExchange)
+                .value(AMQPChannelBindingImpl::getIs, AMQPChannelBindingImpl::setIs)
+                .model(AMQPChannelBindingImpl::getQueue, AMQPChannelBindingImpl::setQueue));
+        register(AMQPMessageBindingImpl.class, extensible(AMQPMessageBindingImpl.class)
+                .value(AMQPMessageBindingImpl::getBindingVersion, AMQPMessageBindingImpl::setBindingVersion)
+                .value(AMQPMessageBindingImpl::getContentEncoding, AMQPMessageBindingImpl::setContentEncoding)
+                .value(AMQPMessageBindingImpl::getMessageType, AMQPMessageBindingImpl::setMessageType));
+        register(AMQPOperationBindingImpl.class, extensible(AMQPOperationBindingImpl.class)
+                .value(AMQPOperationBindingImpl::getAck, AMQPOperationBindingImpl::setAck)
+                .list(AMQPOperationBindingImpl::getBcc, AMQPOperationBindingImpl::setBcc)
+                .value(AMQPOperationBindingImpl::getBindingVersion, AMQPOperationBindingImpl::setBindingVersion)
+                .list(AMQPOperationBindingImpl::getCc, AMQPOperationBindingImpl::setCc)
+                .value(AMQPOperationBindingImpl::getDeliveryMode, AMQPOperationBindingImpl::setDeliveryMode)
+                .value(AMQPOperationBindingImpl::getExpiration, AMQPOperationBindingImpl::setExpiration)
+                .value(AMQPOperationBindingImpl::isMandatory, AMQPOperationBindingImpl::setMandatory)
+                .value(AMQPOperationBindingImpl::getPriority, AMQPOperationBindingImpl::setPriority)
+                .value(AMQPOperationBindingImpl::getReplyTo, AMQPOperationBindingImpl::setReplyTo)
+                .value(AMQPOperationBindingImpl::getTimeStamp, AMQPOperationBindingImpl::setTimeStamp)
+                .value(AMQPOperationBindingImpl::getUserId, AMQPOperationBindingImpl::setUserId));
+        register(AMQPServerBindingImpl.class, extensible(AMQPServerBindingImpl.class));
+        register(ExchangeImpl.class, extensible(ExchangeImpl.class)
+                .value(ExchangeImpl::isAutoDelete, ExchangeImpl::setAutoDelete)
+                .value(ExchangeImpl::isDurable, ExchangeImpl::setDurable)
+                .value(ExchangeImpl::getExchangeType, ExchangeImpl::setExchangeType)
+                .value(ExchangeImpl::getName, ExchangeImpl::setName)
+                .value(ExchangeImpl::getVirtualHost, ExchangeImpl::setVirtualHost));
+        register(QueueImpl.class, extensible(QueueImpl.class)
+                .value(QueueImpl::isAutoDelete, QueueImpl::setAutoDelete)
+                .value(QueueImpl::getDurable, QueueImpl::setDurable)
+                .value(QueueImpl::isExclusive, QueueImpl::setExclusive)
+                .value(QueueImpl::getName, QueueImpl::setName)
+                .value(QueueImpl::getVirtualHost, QueueImpl::setVirtualHost));
+        register(AMQP1ChannelBindingImpl.class, extensible(AMQP1ChannelBindingImpl.class));
+        register(AMQP1MessageBindingImpl.class, extensible(AMQP1MessageBindingImpl.class));
+        register(AMQP1OperationBindingImpl.class, extensible(AMQP1OperationBindingImpl.class));
+        register(AMQP1ServerBindingImpl.class, extensible(AMQP1ServerBindingImpl.class));
+        register(HTTPChannelBindingImpl.class, extensible(HTTPChannelBindingImpl.class));
+        register(HTTPMessageBindingImpl.class, extensible(HTTPMessageBindingImpl.class)
+                .value(HTTPMessageBindingImpl::getBindingVersion, HTTPMessageBindingImpl::setBindingVersion)
+                .model(HTTPMessageBindingImpl::getHeaders, HTTPMessageBindingImpl::setHeaders));
+        register(HTTPOperationBindingImpl.class, extensible(HTTPOperationBindingImpl.class)
+                .value(HTTPOperationBindingImpl::getBindingVersion, HTTPOperationBindingImpl::setBindingVersion)
+                .value(HTTPOperationBindingImpl::getMethod, HTTPOperationBindingImpl::setMethod)
+                .model(HTTPOperationBindingImpl::getQuery, HTTPOperationBindingImpl::setQuery)
+                .value(HTTPOperationBindingImpl::getType, HTTPOperationBindingImpl::setType));
+        register(HTTPServerBindingImpl.class, extensible(HTTPServerBindingImpl.class));
+        register(JMSChannelBindingImpl.class, extensible(JMSChannelBindingImpl.class));
+        register(JMSMessageBindingImpl.class, extensible(JMSMessageBindingImpl.class));
+        register(JMSOperationBindingImpl.class, extensible(JMSOperationBindingImpl.class));
+        register(JMSServerBindingImpl.class, extensible(JMSServerBindingImpl.class));
+        register(KafkaChannelBindingImpl.class, extensible(KafkaChannelBindingImpl.class));
+        register(KafkaMessageBindingImpl.class, extensible(KafkaMessageBindingImpl.class)
+                .value(KafkaMessageBindingImpl::getBindingVersion, KafkaMessageBindingImpl::setBindingVersion)
+                .model(KafkaMessageBindingImpl::getKey, KafkaMessageBindingImpl::setKey));
+        register(KafkaOperationBindingImpl.class, extensible(KafkaOperationBindingImpl.class)
+                .value(KafkaOperationBindingImpl::getBindingVersion, KafkaOperationBindingImpl::setBindingVersion)
+                .model(KafkaOperationBindingImpl::getClientId, KafkaOperationBindingImpl::setClientId)
+                .model(KafkaOperationBindingImpl::getGroupId, KafkaOperationBindingImpl::setGroupId));
+        register(KafkaServerBindingImpl.class, extensible(KafkaServerBindingImpl.class));
+        register(LastWillImpl.class, extensible(LastWillImpl.class)
+                .value(LastWillImpl::getMessage, LastWillImpl::setMessage)
+                .value(LastWillImpl::getQos, LastWillImpl::setQos)
+                .value(LastWillImpl::isRetain, LastWillImpl::setRetain)
+                .value(LastWillImpl::getTopic, LastWillImpl::setTopic));
+        register(MQTTChannelBindingImpl.class, extensible(MQTTChannelBindingImpl.class));
+        register(MQTTMessageBindingImpl.class, extensible(MQTTMessageBindingImpl.class)
+                .value(MQTTMessageBindingImpl::getBindingVersion, MQTTMessageBindingImpl::setBindingVersion));
+        register(MQTTOperationBindingImpl.class, extensible(MQTTOperationBindingImpl.class)
+                .value(MQTTOperationBindingImpl::getBindingVersion, MQTTOperationBindingImpl::setBindingVersion)
+                .value(MQTTOperationBindingImpl::getQos, MQTTOperationBindingImpl::setQos)
+                .value(MQTTOperationBindingImpl::getRetain, MQTTOperationBindingImpl::setRetain));
+        register(MQTTServerBindingImpl.class, extensible(MQTTServerBindingImpl.class)
+                .value(MQTTServerBindingImpl::getBindingVersion, MQTTServerBindingImpl::setBindingVersion)
+                .value(MQTTServerBindingImpl::getCleanSession, MQTTServerBindingImpl::setCleanSession)
+                .value(MQTTServerBindingImpl::getClientId, MQTTServerBindingImpl::setClientId)
+                .model(MQTTServerBindingImpl::getLastWill, MQTTServerBindingImpl::setLastWill));
+        register(MQTT5ChannelBindingImpl.class, extensible(MQTT5ChannelBindingImpl.class));
+        register(MQTT5MessageBindingImpl.class, extensible(MQTT5MessageBindingImpl.class));
+        register(MQTT5OperationBindingImpl.class, extensible(MQTT5OperationBindingImpl.class));
+        register(MQTT5ServerBindingImpl.class, extensible(MQTT5ServerBindingImpl.class));
+        register(NATSChannelBindingImpl.class, extensible(NATSChannelBindingImpl.class));
+        register(NATSMessageBindingImpl.class, extensible(NATSMessageBindingImpl.class));
+        register(NATSOperationBindingImpl.class, extensible(NATSOperationBindingImpl.class));
+        register(NATSServerBindingImpl.class, extensible(NATSServerBindingImpl.class));
+        register(RedisChannelBindingImpl.class, extensible(RedisChannelBindingImpl.class));
+        register(RedisMessageBindingImpl.class, extensible(RedisMessageBindingImpl.class));
+        register(RedisOperationBindingImpl.class, extensible(RedisOperationBindingImpl.class));
+        register(RedisServerBindingImpl.class, extensible(RedisServerBindingImpl.class));
+        register(SNSChannelBindingImpl.class, extensible(SNSChannelBindingImpl.class));
+        register(SNSMessageBindingImpl.class, extensible(SNSMessageBindingImpl.class));
+        register(SNSOperationBindingImpl.class, extensible(SNSOperationBindingImpl.class));
+        register(SNSServerBindingImpl.class, extensible(SNSServerBindingImpl.class));
+        register(SQSChannelBindingImpl.class, extensible(SQSChannelBindingImpl.class));
+        register(SQSMessageBindingImpl.class, extensible(SQSMessageBindingImpl.class));
+        register(SQSOperationBindingImpl.class, extensible(SQSOperationBindingImpl.class));
+        register(SQSServerBindingImpl.class, extensible(SQSServerBindingImpl.class));
+        register(STOMPChannelBindingImpl.class, extensible(STOMPChannelBindingImpl.class));
+        register(STOMPMessageBindingImpl.class, extensible(STOMPMessageBindingImpl.class));
+        register(STOMPOperationBindingImpl.class, extensible(STOMPOperationBindingImpl.class));
+        register(STOMPServerBindingImpl.class, extensible(STOMPServerBindingImpl.class));
+        register(WebSocketChannelBindingImpl.class, extensible(WebSocketChannelBindingImpl.class)
+                .value(WebSocketChannelBindingImpl::getBindingVersion, WebSocketChannelBindingImpl::setBindingVersion)
+                .model(WebSocketChannelBindingImpl::getHeaders, WebSocketChannelBindingImpl::setHeaders)
+                .value(WebSocketChannelBindingImpl::getMethod, WebSocketChannelBindingImpl::setMethod)
+                .model(WebSocketChannelBindingImpl::getQuery, WebSocketChannelBindingImpl::setQuery));
+        register(WebSocketMessageBindingImpl.class, extensible(WebSocketMessageBindingImpl.class));
+        register(WebSocketOperationBindingImpl.class, extensible(WebSocketOperationBindingImpl.class));
+        register(WebSocketServerBindingImpl.class, extensible(WebSocketServerBindingImpl.class));
+        register(ChannelItemImpl.class, extensible(ChannelItemImpl.class)
+                .model(ChannelItemImpl::getBindings, ChannelItemImpl::setBindings)
+                .value(ChannelItemImpl::getChannel, ChannelItemImpl::setChannel)
+                .value(ChannelItemImpl::getDescription, ChannelItemImpl::setDescription)
+                .model(ChannelItemImpl::getParameters, ChannelItemImpl::setParameters)
+                .model(ChannelItemImpl::getPublish, ChannelItemImpl::setPublish)
+                .value(ChannelItemImpl::getRef, ChannelItemImpl::setRef)
+                .model(ChannelItemImpl::getSubscribe, ChannelItemImpl::setSubscribe));
+        register(ChannelsImpl.class, extensible(ChannelsImpl.class)
+                .map(ChannelsImpl::getChannels, ChannelsImpl::setChannels));
+        register(ContactImpl.class, extensible(ContactImpl.class)
+                .value(ContactImpl::getEmail, ContactImpl::setEmail)
+                .value(ContactImpl::getName, ContactImpl::setName)
+                .value(ContactImpl::getUrl, ContactImpl::setUrl));
+        register(InfoImpl.class, extensible(InfoImpl.class)
+                .model(InfoImpl::getContact, InfoImpl::setContact)
+                .value(InfoImpl::getDescription, InfoImpl::setDescription)
+                .model(InfoImpl::getLicense, InfoImpl::setLicense)
+                .value(InfoImpl::getTermsOfService, InfoImpl::setTermsOfService)
+                .value(InfoImpl::getTitle, InfoImpl::setTitle)
+                .value(InfoImpl::getVersion, InfoImpl::setVersion));
+        register(LicenseImpl.class, extensible(LicenseImpl.class)
+                .value(LicenseImpl::getName, LicenseImpl::setName)
+                .value(LicenseImpl::getUrl, LicenseImpl::setUrl));
+        register(CorrelationIDImpl.class, extensible(CorrelationIDImpl.class)
+                .value(CorrelationIDImpl::getDescription, CorrelationIDImpl::setDescription)
+                .value(CorrelationIDImpl::getLocation, CorrelationIDImpl::setLocation));
+        register(MessageImpl.class, extensible(MessageImpl.class)
+                .model(MessageImpl::getBindings, MessageImpl::setBindings)
+                .value(MessageImpl::getContentType, MessageImpl::setContentType)
+                .model(MessageImpl::getCorrelationID, MessageImpl::setCorrelationID)
+                .value(MessageImpl::getDescription, MessageImpl::setDescription)
+                .list(MessageImpl::getExample, MessageImpl::setExample)
+                .model(MessageImpl::getExternalDocumentation, MessageImpl::setExternalDocumentation)
+                .model(MessageImpl::getHeaders, MessageImpl::setHeaders)
+                .value(MessageImpl::getName, MessageImpl::setName)
+                .model(MessageImpl::getPayload, MessageImpl::setPayload)
+                .value(MessageImpl::getRef, MessageImpl::setRef)
+                .value(MessageImpl::getSchemaFormat, MessageImpl::setSchemaFormat)
+                .value(MessageImpl::getSummary, MessageImpl::setSummary)
+                .list(MessageImpl::getTags, MessageImpl::setTags)
+                .value(MessageImpl::getTitle, MessageImpl::setTitle)
+                .list(MessageImpl::getTraits, MessageImpl::setTraits));
+        register(MessageTraitImpl.class, extensible(MessageTraitImpl.class)
+                .model(MessageTraitImpl::getBindings, MessageTraitImpl::setBindings)
+                .value(MessageTraitImpl::getContentType, MessageTraitImpl::setContentType)
+                .model(MessageTraitImpl::getCorrelationID, MessageTraitImpl::setCorrelationID)
+                .value(MessageTraitImpl::getDescription, MessageTraitImpl::setDescription)
+                .list(MessageTraitImpl::getExample, MessageTraitImpl::setExample)
+                .model(MessageTraitImpl::getExternalDocumentation, MessageTraitImpl::setExternalDocumentation)
+                .model(MessageTraitImpl::getHeaders, MessageTraitImpl::setHeaders)
+                .value(MessageTraitImpl::getName, MessageTraitImpl::setName)
+                .value(MessageTraitImpl::getRef, MessageTraitImpl::setRef)
+                .value(MessageTraitImpl::getSchemaFormat, MessageTraitImpl::setSchemaFormat)
+                .value(MessageTraitImpl::getSummary, MessageTraitImpl::setSummary)
+                .list(MessageTraitImpl::getTags, MessageTraitImpl::setTags)
+                .value(MessageTraitImpl::getTitle, MessageTraitImpl::setTitle));
+        register(OperationImpl.class, extensible(OperationImpl.class)
+                .model(OperationImpl::getBindings, OperationImpl::setBindings)
+                .value(OperationImpl::getDescription, OperationImpl::setDescription)
+                .model(OperationImpl::getExternalDocumentation, OperationImpl::setExternalDocumentation)
+                .model(OperationImpl::getMessage, OperationImpl::setMessage)
+                .value(OperationImpl::getOperationId, OperationImpl::setOperationId)
+                .list(OperationImpl::getOperationTraits, OperationImpl::setOperationTraits)
+                .value(OperationImpl::getSummary, OperationImpl::setSummary)
+                .list(OperationImpl::getTags, OperationImpl::setTags));
+        register(OperationTraitImpl.class, extensible(OperationTraitImpl.class)
+                .model(OperationTraitImpl::getBindings, OperationTraitImpl::setBindings)
+                .value(OperationTraitImpl::getDescription, OperationTraitImpl::setDescription)
+                .model(OperationTraitImpl::getExternalDocumentation, OperationTraitImpl::setExternalDocumentation)
+                .model(OperationTraitImpl::getMessage, OperationTraitImpl::setMessage)
+                .value(OperationTraitImpl::getOperationId, OperationTraitImpl::setOperationId)
+                .value(OperationTraitImpl::getRef, OperationTraitImpl::setRef)
+                .value(OperationTraitImpl::getSummary, OperationTraitImpl::setSummary)
+                .list(OperationTraitImpl::getTags, OperationTraitImpl::setTags));
+        register(ParameterImpl.class, extensible(ParameterImpl.class)
+                .value(ParameterImpl::getDescription, ParameterImpl::setDescription)
+                .value(ParameterImpl::getLocation, ParameterImpl::setLocation)
+                .value(ParameterImpl::getName, ParameterImpl::setName)
+                .value(ParameterImpl::getRef, ParameterImpl::setRef)
+                .model(ParameterImpl::getSchema, ParameterImpl::setSchema));
+        register(ParametersImpl.class, extensible(ParametersImpl.class)
+                .list(ParametersImpl::getValue, ParametersImpl::setValue));
+        register(SchemaImpl.class, extensible(SchemaImpl.class)
+                .value(SchemaImpl::getAdditionalPropertiesBoolean, SchemaImpl::setAdditionalPropertiesBoolean)
+                .model(SchemaImpl::getAdditionalPropertiesSchema, SchemaImpl::setAdditionalPropertiesSchema)
+                .list(SchemaImpl::getAllOf, SchemaImpl::setAllOf)
+                .list(SchemaImpl::getAnyOf, SchemaImpl::setAnyOf)
+                .model(SchemaImpl::getConstant, SchemaImpl::setConstant)
+                .value(SchemaImpl::getDescription, SchemaImpl::setDescription)
+                .list(SchemaImpl::getEnumeration, SchemaImpl::setEnumeration)
+                .value(SchemaImpl::getExample, SchemaImpl::setExample)
+                .value(SchemaImpl::getExclusiveMaximum, SchemaImpl::setExclusiveMaximum)
+                .value(SchemaImpl::getExclusiveMinimum, SchemaImpl::setExclusiveMinimum)
+                .model(SchemaImpl::getExternalDocs, SchemaImpl::setExternalDocs)
+                .value(SchemaImpl::getFormat, SchemaImpl::setFormat)
+                .model(SchemaImpl::getItems, SchemaImpl::setItems)
+                .value(SchemaImpl::getMaxItems, SchemaImpl::setMaxItems)
+                .value(SchemaImpl::getMaxLength, SchemaImpl::setMaxLength)
+                .value(SchemaImpl::getMaxProperties, SchemaImpl::setMaxProperties)
+                .value(SchemaImpl::getMaximum, SchemaImpl::setMaximum)
+                .value(SchemaImpl::getMinItems, SchemaImpl::setMinItems)
+                .value(SchemaImpl::getMinLength, SchemaImpl::setMinLength)
+                .value(SchemaImpl::getMinProperties, SchemaImpl::setMinProperties)
+                .value(SchemaImpl::getMinimum, SchemaImpl::setMinimum)
+                .value(SchemaImpl::getMultipleOf, SchemaImpl::setMultipleOf)
+                .value(SchemaImpl::getName, SchemaImpl::setName)
+                .model(SchemaImpl::getNot, SchemaImpl::setNot)
+                .list(SchemaImpl::getOneOf, SchemaImpl::setOneOf)
+                .value(SchemaImpl::getPattern, SchemaImpl::setPattern)
+                .map(SchemaImpl::getProperties, SchemaImpl::setProperties)
+                .value(SchemaImpl::getReadOnly, SchemaImpl::setReadOnly)
+                .value(SchemaImpl::getRef, SchemaImpl::setRef)
+                .list(SchemaImpl::getRequired, SchemaImpl::setRequired)
+                .value(SchemaImpl::getTitle, SchemaImpl::setTitle)
+                .value(SchemaImpl::getType, SchemaImpl::setType)
+                .value(SchemaImpl::getUniqueItems, SchemaImpl::setUniqueItems)
+                .value(SchemaImpl::getWriteOnly, SchemaImpl::setWriteOnly));
+        register(SchemaPropertyImpl.class, extensible(SchemaPropertyImpl.class)
+                .list(SchemaPropertyImpl::getAllOf, SchemaPropertyImpl::setAllOf)
+                .list(SchemaPropertyImpl::getAnyOf, SchemaPropertyImpl::setAnyOf)
+                .model(SchemaPropertyImpl::getConstant, SchemaPropertyImpl::setConstant)
+                .value(SchemaPropertyImpl::getDescription, SchemaPropertyImpl::setDescription)
+                .list(SchemaPropertyImpl::getEnumeration, SchemaPropertyImpl::setEnumeration)
+                .value(SchemaPropertyImpl::getExample, SchemaPropertyImpl::setExample)
+                .value(SchemaPropertyImpl::getExclusiveMaximum, SchemaPropertyImpl::setExclusiveMaximum)
+                .value(SchemaPropertyImpl::getExclusiveMinimum, SchemaPropertyImpl::setExclusiveMinimum)
+                .value(SchemaPropertyImpl::getFormat, SchemaPropertyImpl::setFormat)
+                .value(SchemaPropertyImpl::getMaxItems, SchemaPropertyImpl::setMaxItems)
+                .value(SchemaPropertyImpl::getMaxLength, SchemaPropertyImpl::setMaxLength)
+                .value(SchemaPropertyImpl::getMaxProperties, SchemaPropertyImpl::setMaxProperties)
+                .value(SchemaPropertyImpl::getMaximum, SchemaPropertyImpl::setMaximum)
+                .value(SchemaPropertyImpl::getMinItems, SchemaPropertyImpl::setMinItems)
+                .value(SchemaPropertyImpl::getMinLength, SchemaPropertyImpl::setMinLength)
+                .value(SchemaPropertyImpl::getMinProperties, SchemaPropertyImpl::setMinProperties)
+                .value(SchemaPropertyImpl::getMinimum, SchemaPropertyImpl::setMinimum)
+                .value(SchemaPropertyImpl::getMultipleOf, SchemaPropertyImpl::setMultipleOf)
+                .value(SchemaPropertyImpl::getName, SchemaPropertyImpl::setName)
+                .list(SchemaPropertyImpl::getNot, SchemaPropertyImpl::setNot)
+                .list(SchemaPropertyImpl::getOneOf, SchemaPropertyImpl::setOneOf)
+                .value(SchemaPropertyImpl::getPattern, SchemaPropertyImpl::setPattern)
+                .value(SchemaPropertyImpl::getReadOnly, SchemaPropertyImpl::setReadOnly)
+                .value(SchemaPropertyImpl::getRef, SchemaPropertyImpl::setRef)
+                .list(SchemaPropertyImpl::getRequired, SchemaPropertyImpl::setRequired)
+                .value(SchemaPropertyImpl::getTitle, SchemaPropertyImpl::setTitle)
+                .value(SchemaPropertyImpl::getType, SchemaPropertyImpl::setType)
+                .value(SchemaPropertyImpl::getUniqueItems, SchemaPropertyImpl::setUniqueItems)
+                .value(SchemaPropertyImpl::getWriteOnly, SchemaPropertyImpl::setWriteOnly));
+        register(OAuthFlowImpl.class, extensible(OAuthFlowImpl.class)
+                .value(OAuthFlowImpl::getAuthorizationUrl, OAuthFlowImpl::setAuthorizationUrl)
+                .value(OAuthFlowImpl::getRefreshUrl, OAuthFlowImpl::setRefreshUrl)
+                .list(OAuthFlowImpl::getScopes, OAuthFlowImpl::setScopes)
+                .value(OAuthFlowImpl::getTokenUrl, OAuthFlowImpl::setTokenUrl));
+        register(OAuthFlowsImpl.class, extensible(OAuthFlowsImpl.class)
+                .model(OAuthFlowsImpl::getAuthorizationCode, OAuthFlowsImpl::setAuthorizationCode)
+                .model(OAuthFlowsImpl::getClientCredentials, OAuthFlowsImpl::setClientCredentials)
+                .model(OAuthFlowsImpl::getImplicit, OAuthFlowsImpl::setImplicit)
+                .model(OAuthFlowsImpl::getPassword, OAuthFlowsImpl::setPassword));
+        register(OAuthScopeImpl.class, extensible(OAuthScopeImpl.class)
+                .value(OAuthScopeImpl::getDescription, OAuthScopeImpl::setDescription)
+                .value(OAuthScopeImpl::getName, OAuthScopeImpl::setName));
+        register(SecurityRequirementImpl.class, ModelMerger.builder(SecurityRequirementImpl.class)
+                .map(SecurityRequirementImpl::getSchemes, SecurityRequirementImpl::setSchemes));
+        register(SecuritySchemeImpl.class, extensible(SecuritySchemeImpl.class)
+                .value(SecuritySchemeImpl::getBearerFormat, SecuritySchemeImpl::setBearerFormat)
+                .value(SecuritySchemeImpl::getDescription, SecuritySchemeImpl::setDescription)
+                .model(SecuritySchemeImpl::getFlows, SecuritySchemeImpl::setFlows)
+                .value(SecuritySchemeImpl::getIn, SecuritySchemeImpl::setIn)
+                .value(SecuritySchemeImpl::getName, SecuritySchemeImpl::setName)
+                .value(SecuritySchemeImpl::getOpenIdConnectUrl, SecuritySchemeImpl::setOpenIdConnectUrl)
+                .value(SecuritySchemeImpl::getScheme, SecuritySchemeImpl::setScheme)
+                .value(SecuritySchemeImpl::getType, SecuritySchemeImpl::setType));
+        register(ServerImpl.class, extensible(ServerImpl.class)
+                .value(ServerImpl::getDescription, ServerImpl::setDescription)
+                .value(ServerImpl::getProtocol, ServerImpl::setProtocol)
+                .value(ServerImpl::getProtocolVersion, ServerImpl::setProtocolVersion)
+                .list(ServerImpl::getSecurityRequirements, ServerImpl::setSecurityRequirements)
+                .model(ServerImpl::getServerBindings, ServerImpl::setServerBindings)
+                .value(ServerImpl::getUrl, ServerImpl::setUrl)
+                .map(ServerImpl::getVariables, ServerImpl::setVariables));
+        register(ServerVariableImpl.class, extensible(ServerVariableImpl.class)
+                .value(ServerVariableImpl::getDefaultValue, ServerVariableImpl::setDefaultValue)
+                .value(ServerVariableImpl::getDescription, ServerVariableImpl::setDescription)
+                .list(ServerVariableImpl::getEnumeration, ServerVariableImpl::setEnumeration)
+                .list(ServerVariableImpl::getExamples, ServerVariableImpl::setExamples)
+                .value(ServerVariableImpl::getName, ServerVariableImpl::setName));
+        register(TagImpl.class, extensible(TagImpl.class)
+                .value(TagImpl::getDescription, TagImpl::setDescription)
+                .model(TagImpl::getExternalDocumentation, TagImpl::setExternalDocumentation)
+                .value(TagImpl::getName, TagImpl::setName));
+    }
+
+    private ModelMergers() {
+    }
+
+    /**
+     * Returns the merger for the given model type.
+     *
+     * @param type Model type
+     * @param <T> Type parameter
+     * @return ModelMerger
+     */
+    @SuppressWarnings("unchecked")
+    static <T> ModelMerger<T> forType(Class<T> type) {
+        ModelMerger<?> merger = MERGERS.get(type);
+        if (merger == null) {
+            merger = INTROSPECTED.get(type);
+        }
+        return (ModelMerger<T>) merger;
+    }
+
+    /**
+     * @return the model types with a registered merger
+     */
+    static Set<Class<?>> registeredTypes() {
+        return Collections.unmodifiableSet(MERGERS.keySet());
+    }
+
+    private static <T> void register(Class<T> type, ModelMerger.Builder<T> builder) {
+        MERGERS.put(type, builder.build());
+    }
+
+    private static <T extends Extensible<?>> ModelMerger.Builder<T> extensible(Class<T> type) {
+        return ModelMerger.builder(type).map(Extensible::getExtensions, Extensible::setExtensions);
+    }
+
+    /**
+     * Derives a merger from the bean properties of a type without a registered merger. Properties
+     * without a getter or setter are skipped.
+     *
+     * @param type Model type
+     * @param <T> Type parameter
+     * @return ModelMerger
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static <T> ModelMerger<T> introspect(Class<T> type) {
+        ModelMerger.Builder<T> builder = ModelMerger.builder(type);
+
+        PropertyDescriptor[] descriptors = new PropertyDescriptor[0];
+        try {
+            descriptors = Introspector.getBeanInfo(type).getPropertyDescriptors();
+        } catch (IntrospectionException e) {
+            UtilLogging.logger.failedToIntrospectBeanInfo(type, e);
+        }
+
+        for (PropertyDescriptor descriptor : descriptors) {
+            Method readMethod = descriptor.getReadMethod();
+            Method writeMethod = descriptor.getWriteMethod();
+            if (readMethod == null || writeMethod == null || EXCLUDED_PROPERTIES.contains(descriptor.getName())) {
+                continue;
+            }
+
+            Function getter = target -> invoke(readMethod, target);
+            BiConsumer setter = (target, value) -> invoke(writeMethod, target, value);
+
+            Class<?> ptype = descriptor.getPropertyType();
+            if (Constructible.class.isAssignableFrom(ptype)) {
+                builder.model(getter, setter);
+            } else if (Map.class.isAssignableFrom(ptype)) {
+                builder.map(getter, setter);
+            } else if (List.class.isAssignableFrom(ptype)) {
+                builder.list(getter, setter);
+            } else {
+                builder.value(getter, setter);
+            }
+        }
+        return builder.build();
+    }
+
+    private static Object invoke(Method method, Object target, Object... args) {
+        try {
+            return method.invoke(target, args);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
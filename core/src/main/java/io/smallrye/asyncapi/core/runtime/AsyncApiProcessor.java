@@ -19,6 +19,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.eclipse.microprofile.config.Config;
@@ -27,9 +28,14 @@ import org.jboss.jandex.IndexView;
 
 import io.smallrye.asyncapi.core.api.AsyncApiConfig;
 import io.smallrye.asyncapi.core.api.AsyncApiConfigImpl;
-import io.smallrye.asyncapi.core.api.AsyncApiDocument;
+import io.smallrye.asyncapi.core.api.AsyncApiDocumentBuilder;
 import io.smallrye.asyncapi.core.api.util.ClassLoaderUtil;
+import io.smallrye.asyncapi.core.runtime.instrumentation.Instrumentation;
+import io.smallrye.asyncapi.core.runtime.instrumentation.Instrumentation.Phase;
+import io.smallrye.asyncapi.core.runtime.instrumentation.Instrumentations;
+import io.smallrye.asyncapi.core.runtime.instrumentation.Probe;
 import io.smallrye.asyncapi.core.runtime.io.AsyncApiParser;
+import io.smallrye.asyncapi.core.runtime.scanner.AnnotationScannerExtension;
 import io.smallrye.asyncapi.core.runtime.scanner.AsyncApiAnnotationScanner;
 import io.smallrye.asyncapi.spec.AASFilter;
 import io.smallrye.asyncapi.spec.AASModelReader;
@@ -66,36 +72,40 @@ public class AsyncApiProcessor {
 
     public static AsyncAPI bootstrap(AsyncApiConfig config, IndexView index, ClassLoader classLoader,
             AsyncApiStaticFile... staticFiles) {
-        AsyncApiDocument.INSTANCE.reset();
+        Instrumentation instrumentation = Instrumentations.load(classLoader);
+        AsyncApiDocumentBuilder document = AsyncApiDocumentBuilder.create()
+                .instrumentation(instrumentation);
 
         // Set the config
         if (config != null) {
-            AsyncApiDocument.INSTANCE.config(config);
+            document = document.config(config);
         }
         // Load all static files
         if (staticFiles != null && staticFiles.length > 0) {
             for (AsyncApiStaticFile staticFile : staticFiles) {
-                AsyncApiDocument.INSTANCE.modelFromStaticFile(modelFromStaticFile(staticFile));
+                Probe probe = Probe.phase(instrumentation, Phase.STATIC_FILE);
+                AsyncAPI model = modelFromStaticFile(staticFile);
+                probe.stop(model);
+                document = document.modelFromStaticFile(model);
             }
         }
         // Scan annotations
         if (config != null && index != null) {
-            AsyncAPI model = modelFromAnnotations(config, classLoader, index);
-            AsyncApiDocument.INSTANCE.modelFromAnnotations(model);
+            Probe probe = Probe.phase(instrumentation, Phase.ANNOTATIONS);
+            AsyncAPI model = modelFromAnnotations(config, classLoader, index, instrumentation);
+            probe.stop(model, index);
+            document = document.modelFromAnnotations(model);
         }
         // Filter and model
         if (config != null && classLoader != null) {
-            AsyncApiDocument.INSTANCE.modelFromReader(modelFromReader(config, classLoader));
-            AsyncApiDocument.INSTANCE.filter(getFilter(config, classLoader));
+            Probe probe = Probe.phase(instrumentation, Phase.READER);
+            AsyncAPI model = modelFromReader(config, classLoader);
+            probe.stop(model);
+            document = document.modelFromReader(model)
+                    .filter(getFilter(config, classLoader));
         }
 
-        AsyncApiDocument.INSTANCE.initialize();
-
-        AsyncAPI asyncAPI = AsyncApiDocument.INSTANCE.get();
-
-        AsyncApiDocument.INSTANCE.reset();
-
-        return asyncAPI;
+        return document.build();
     }
 
     /**
@@ -141,11 +151,29 @@ public class AsyncApiProcessor {
      * @return AsyncAPIImpl generated from annotations
      */
     public static AsyncAPI modelFromAnnotations(AsyncApiConfig config, ClassLoader loader, IndexView index) {
+        return modelFromAnnotations(config, loader, index, Instrumentations.load(loader));
+    }
+
+    /**
+     * Create an {@link AsyncAPI} model by scanning the deployment for relevant JAX-RS and
+     * AsyncAPI annotations. If scanning is disabled, this method returns null. If scanning
+     * is enabled but no relevant annotations are found, an empty AsyncAPI model is returned.
+     *
+     * @param config OpenApiConfig
+     * @param loader ClassLoader
+     * @param index IndexView of Archive
+     * @param instrumentation measures the scanners
+     * @return AsyncAPIImpl generated from annotations
+     */
+    public static AsyncAPI modelFromAnnotations(AsyncApiConfig config, ClassLoader loader, IndexView index,
+            Instrumentation instrumentation) {
         if (config.scanDisable()) {
             return null;
         }
 
-        AsyncApiAnnotationScanner scanner = new AsyncApiAnnotationScanner(config, loader, index);
+        AsyncApiAnnotationScanner scanner = new AsyncApiAnnotationScanner(config, loader, index,
+                Collections.singletonList(new AnnotationScannerExtension() {
+                }), null, instrumentation);
         return scanner.scan();
     }
 
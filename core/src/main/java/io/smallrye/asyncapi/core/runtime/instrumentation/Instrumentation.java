@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.instrumentation;
+
+/**
+ * Receives the measurements of the generation of an AsyncAPI document, i.e. the wall time, the allocated bytes and
+ * the size of the produced models of every phase of {@link io.smallrye.asyncapi.core.runtime.AsyncApiProcessor} and
+ * {@link io.smallrye.asyncapi.core.api.AsyncApiDocumentBuilder} and of every scanner of
+ * {@link io.smallrye.asyncapi.core.runtime.scanner.AsyncApiAnnotationScanner}.
+ * <p>
+ * Implementations are loaded with the {@link java.util.ServiceLoader} from the class loader of the deployment, see
+ * {@link Instrumentations#load(ClassLoader)}. They must be thread safe, the phases of a document are measured on the
+ * thread which generates it, but several documents may be generated concurrently. The phases and scanners of one
+ * thread are strictly nested, every started phase or scanner is completed on the same thread.
+ */
+public interface Instrumentation {
+
+    /**
+     * An instrumentation ignoring all measurements.
+     */
+    Instrumentation NONE = new Instrumentation() {
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+    };
+
+    /**
+     * The phases of the generation of a document.
+     */
+    enum Phase {
+        /** Building the model of the {@link io.smallrye.asyncapi.spec.AASModelReader} */
+        READER,
+        /** Parsing a static file */
+        STATIC_FILE,
+        /** Scanning the annotations */
+        ANNOTATIONS,
+        /** Merging the models of the reader, the static files and the annotations */
+        MERGE,
+        /** Applying the {@link io.smallrye.asyncapi.spec.AASFilter}s */
+        FILTER,
+        /** Providing missing required elements */
+        DEFAULTS,
+        /** Applying the config */
+        CONFIG
+    }
+
+    /**
+     * @return false if the measurements are not used, nothing is measured then
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    default void phaseStarted(Phase phase) {
+    }
+
+    /**
+     * @param phase the completed phase
+     * @param measurement the measurement of the phase, its counts are the ones of the model produced by the phase
+     */
+    default void phaseCompleted(Phase phase, Measurement measurement) {
+    }
+
+    default void scannerStarted(String scanner) {
+    }
+
+    /**
+     * @param scanner the name of the completed scanner
+     * @param measurement the measurement of the scanner, its counts are the ones added to the model by the scanner
+     */
+    default void scannerCompleted(String scanner, Measurement measurement) {
+    }
+}
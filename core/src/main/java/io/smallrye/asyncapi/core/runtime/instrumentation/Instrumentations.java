@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.instrumentation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.ServiceLoader;
+
+/**
+ * Loads and combines {@link Instrumentation}s.
+ */
+public final class Instrumentations {
+
+    private Instrumentations() {
+    }
+
+    /**
+     * Load the {@link Instrumentation}s registered as services of the class loader. If the JVM supports Java Flight
+     * Recorder, the phases and scanners are additionally reported as JFR events, see {@link JfrInstrumentation}.
+     *
+     * @param classLoader the class loader of the deployment
+     * @return the combined instrumentations
+     */
+    public static Instrumentation load(ClassLoader classLoader) {
+        List<Instrumentation> instrumentations = new ArrayList<>();
+        for (Instrumentation instrumentation : ServiceLoader.load(Instrumentation.class, classLoader)) {
+            instrumentations.add(instrumentation);
+        }
+        Instrumentation jfr = JfrSupport.INSTRUMENTATION;
+        if (jfr != null) {
+            instrumentations.add(jfr);
+        }
+        return of(instrumentations);
+    }
+
+    /**
+     * @param instrumentations the instrumentations, nulls are ignored
+     * @return an instrumentation passing all measurements to the given ones
+     */
+    public static Instrumentation of(Instrumentation... instrumentations) {
+        return of(Arrays.asList(instrumentations));
+    }
+
+    /**
+     * @param instrumentations the instrumentations, nulls are ignored
+     * @return an instrumentation passing all measurements to the given ones
+     */
+    public static Instrumentation of(List<Instrumentation> instrumentations) {
+        List<Instrumentation> all = new ArrayList<>(instrumentations.size());
+        for (Instrumentation instrumentation : instrumentations) {
+            if (instrumentation instanceof CompositeInstrumentation) {
+                all.addAll(((CompositeInstrumentation) instrumentation).instrumentations);
+            } else if (instrumentation != null && instrumentation != Instrumentation.NONE) {
+                all.add(instrumentation);
+            }
+        }
+        if (all.isEmpty()) {
+            return Instrumentation.NONE;
+        }
+        if (all.size() == 1) {
+            return all.get(0);
+        }
+        return new CompositeInstrumentation(Collections.unmodifiableList(all));
+    }
+
+    private static final class CompositeInstrumentation implements Instrumentation {
+
+        private final List<Instrumentation> instrumentations;
+
+        private CompositeInstrumentation(List<Instrumentation> instrumentations) {
+            this.instrumentations = instrumentations;
+        }
+
+        @Override
+        public boolean isEnabled() {
+            for (Instrumentation instrumentation : instrumentations) {
+                if (instrumentation.isEnabled()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void phaseStarted(Phase phase) {
+            for (Instrumentation instrumentation : instrumentations) {
+                instrumentation.phaseStarted(phase);
+            }
+        }
+
+        @Override
+        public void phaseCompleted(Phase phase, Measurement measurement) {
+            for (Instrumentation instrumentation : instrumentations) {
+                instrumentation.phaseCompleted(phase, measurement);
+            }
+        }
+
+        @Override
+        public void scannerStarted(String scanner) {
+            for (Instrumentation instrumentation : instrumentations) {
+                instrumentation.scannerStarted(scanner);
+            }
+        }
+
+        @Override
+        public void scannerCompleted(String scanner, Measurement measurement) {
+            for (Instrumentation instrumentation : instrumentations) {
+                instrumentation.scannerCompleted(scanner, measurement);
+            }
+        }
+    }
+
+    /**
+     * Creates the {@link JfrInstrumentation} only if the JFR API is available, the JFR classes are never loaded
+     * otherwise.
+     */
+    private static final class JfrSupport {
+
+        private static final Instrumentation INSTRUMENTATION = create();
+
+        private static Instrumentation create() {
+            try {
+                Class.forName("jdk.jfr.FlightRecorder", false, Instrumentations.class.getClassLoader());
+                return new JfrInstrumentation();
+            } catch (ClassNotFoundException | LinkageError e) {
+                return null;
+            }
+        }
+    }
+}
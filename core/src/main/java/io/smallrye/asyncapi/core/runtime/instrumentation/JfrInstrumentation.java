@@ -0,0 +1,133 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.instrumentation;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Reports the phases and scanners as Java Flight Recorder events, {@code io.smallrye.asyncapi.Phase} and
+ * {@code io.smallrye.asyncapi.Scanner}. Nothing is measured unless one of the events is enabled in a recording.
+ */
+class JfrInstrumentation implements Instrumentation {
+
+    private static final EventType PHASE_TYPE = EventType.getEventType(PhaseEvent.class);
+
+    private static final EventType SCANNER_TYPE = EventType.getEventType(ScannerEvent.class);
+
+    private final ThreadLocal<Deque<MeasurementEvent>> events = ThreadLocal.withInitial(ArrayDeque::new);
+
+    @Override
+    public boolean isEnabled() {
+        return PHASE_TYPE.isEnabled() || SCANNER_TYPE.isEnabled();
+    }
+
+    @Override
+    public void phaseStarted(Phase phase) {
+        PhaseEvent event = new PhaseEvent();
+        event.phase = phase.name();
+        start(event);
+    }
+
+    @Override
+    public void phaseCompleted(Phase phase, Measurement measurement) {
+        complete(measurement);
+    }
+
+    @Override
+    public void scannerStarted(String scanner) {
+        ScannerEvent event = new ScannerEvent();
+        event.scanner = scanner;
+        start(event);
+    }
+
+    @Override
+    public void scannerCompleted(String scanner, Measurement measurement) {
+        complete(measurement);
+    }
+
+    private void start(MeasurementEvent event) {
+        events.get()
+                .push(event);
+        event.begin();
+    }
+
+    private void complete(Measurement measurement) {
+        MeasurementEvent event = events.get()
+                .poll();
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.allocatedBytes = measurement.getAllocatedBytes();
+            event.classes = measurement.getClasses();
+            event.schemas = measurement.getSchemas();
+            event.channels = measurement.getChannels();
+            event.messages = measurement.getMessages();
+            event.commit();
+        }
+    }
+
+    abstract static class MeasurementEvent extends Event {
+
+        @Label("Allocated")
+        @Description("Bytes allocated by the thread, -1 if not supported")
+        @DataAmount
+        long allocatedBytes;
+
+        @Label("Classes")
+        @Description("Classes in the scanned index")
+        int classes;
+
+        @Label("Schemas")
+        int schemas;
+
+        @Label("Channels")
+        int channels;
+
+        @Label("Messages")
+        int messages;
+    }
+
+    @Name("io.smallrye.asyncapi.Phase")
+    @Label("AsyncAPI Phase")
+    @Category("SmallRye AsyncAPI")
+    @Description("A phase of the generation of an AsyncAPI document")
+    static class PhaseEvent extends MeasurementEvent {
+
+        @Label("Phase")
+        String phase;
+    }
+
+    @Name("io.smallrye.asyncapi.Scanner")
+    @Label("AsyncAPI Scanner")
+    @Category("SmallRye AsyncAPI")
+    @Description("An annotation scanner run while generating an AsyncAPI document")
+    static class ScannerEvent extends MeasurementEvent {
+
+        @Label("Scanner")
+        String scanner;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.instrumentation;
+
+import org.jboss.jandex.Type;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The JFR events of {@link ScanEvents}, only loaded if the JVM supports JFR.
+ */
+final class JfrScanEvents {
+
+    private static final EventType PROCESS = EventType.getEventType(DataObjectScanEvent.class);
+
+    private static final EventType PROCESS_TYPE = EventType.getEventType(TypeProcessingEvent.class);
+
+    private static final EventType REGISTER = EventType.getEventType(SchemaRegistrationEvent.class);
+
+    private static final EventType PUSH = EventType.getEventType(DataObjectPushEvent.class);
+
+    private JfrScanEvents() {
+    }
+
+    static Object begin(ScanEvents.Kind kind) {
+        ScanEvent event;
+        switch (kind) {
+            case PROCESS:
+                event = PROCESS.isEnabled() ? new DataObjectScanEvent() : null;
+                break;
+            case PROCESS_TYPE:
+                event = PROCESS_TYPE.isEnabled() ? new TypeProcessingEvent() : null;
+                break;
+            case REGISTER:
+                event = REGISTER.isEnabled() ? new SchemaRegistrationEvent() : null;
+                break;
+            default:
+                event = PUSH.isEnabled() ? new DataObjectPushEvent() : null;
+                break;
+        }
+        if (event != null) {
+            event.begin();
+        }
+        return event;
+    }
+
+    static void end(Object begun, Type type, int depth, boolean cacheHit) {
+        ScanEvent event = (ScanEvent) begun;
+        event.end();
+        if (event.shouldCommit()) {
+            event.typeName = type != null ? type.toString() : null;
+            event.depth = depth;
+            event.cacheHit = cacheHit;
+            event.commit();
+        }
+    }
+
+    @Category({ "SmallRye AsyncAPI", "Schema Generation" })
+    @Enabled(false)
+    @StackTrace(false)
+    abstract static class ScanEvent extends Event {
+
+        @Label("Type")
+        String typeName;
+
+        @Label("Depth")
+        @Description("Depth of the type in the object graph, -1 if unknown")
+        int depth;
+
+        @Label("Cache Hit")
+        boolean cacheHit;
+    }
+
+    @Name("io.smallrye.asyncapi.DataObjectScan")
+    @Label("Data Object Scan")
+    @Description("A data object scanned for its schema, cache hit if the schema of a previous scan was reused")
+    static final class DataObjectScanEvent extends ScanEvent {
+    }
+
+    @Name("io.smallrye.asyncapi.TypeProcessing")
+    @Label("Type Processing")
+    @Description("A type of a property processed while scanning a data object")
+    static final class TypeProcessingEvent extends ScanEvent {
+    }
+
+    @Name("io.smallrye.asyncapi.SchemaRegistration")
+    @Label("Schema Registration")
+    @Description("A schema registration, cache hit if a schema was already registered for the type")
+    static final class SchemaRegistrationEvent extends ScanEvent {
+    }
+
+    @Name("io.smallrye.asyncapi.DataObjectPush")
+    @Label("Data Object Push")
+    @Description("A type pushed to the object graph of a data object scan, cache hit if a cycle was detected")
+    static final class DataObjectPushEvent extends ScanEvent {
+    }
+}
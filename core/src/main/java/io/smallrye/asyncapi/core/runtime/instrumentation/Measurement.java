@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.instrumentation;
+
+/**
+ * The measurement of a phase or a scanner, see {@link Instrumentation}.
+ */
+public final class Measurement {
+
+    private final long durationNanos;
+
+    private final long allocatedBytes;
+
+    private final int classes;
+
+    private final int schemas;
+
+    private final int channels;
+
+    private final int messages;
+
+    public Measurement(long durationNanos, long allocatedBytes, int classes, int schemas, int channels, int messages) {
+        this.durationNanos = durationNanos;
+        this.allocatedBytes = allocatedBytes;
+        this.classes = classes;
+        this.schemas = schemas;
+        this.channels = channels;
+        this.messages = messages;
+    }
+
+    /**
+     * @return the wall time in nanoseconds
+     */
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    /**
+     * The bytes allocated by the thread executing the phase or scanner. Allocations of other threads, e.g. of a
+     * parallel scan, are not included.
+     *
+     * @return the allocated bytes, -1 if the JVM does not support measuring the allocations of a thread
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * @return the number of classes in the scanned index, 0 if the phase does not scan an index
+     */
+    public int getClasses() {
+        return classes;
+    }
+
+    public int getSchemas() {
+        return schemas;
+    }
+
+    public int getChannels() {
+        return channels;
+    }
+
+    public int getMessages() {
+        return messages;
+    }
+
+    @Override
+    public String toString() {
+        return "Measurement{" + "durationNanos=" + durationNanos + ", allocatedBytes=" + allocatedBytes + ", classes="
+                + classes + ", schemas=" + schemas + ", channels=" + channels + ", messages=" + messages + '}';
+    }
+}
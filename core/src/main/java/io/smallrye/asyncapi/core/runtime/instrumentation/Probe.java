@@ -0,0 +1,181 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.instrumentation;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Map;
+
+import org.jboss.jandex.IndexView;
+
+import io.smallrye.asyncapi.core.runtime.instrumentation.Instrumentation.Phase;
+import io.smallrye.asyncapi.spec.models.AsyncAPI;
+import io.smallrye.asyncapi.spec.models.Components;
+
+/**
+ * Measures a single phase or scanner for an {@link Instrumentation}. A probe is started when the phase or scanner
+ * starts and stopped on the same thread when it completes:
+ *
+ * <pre>
+ * Probe probe = Probe.phase(instrumentation, Phase.FILTER);
+ * model = filter(model);
+ * probe.stop(model);
+ * </pre>
+ *
+ * If the instrumentation is not enabled, nothing is measured and stopping the probe does nothing.
+ */
+public final class Probe {
+
+    private static final Probe NONE = new Probe(null, null, null, null);
+
+    private final Instrumentation instrumentation;
+
+    private final Phase phase;
+
+    private final String scanner;
+
+    private final int[] startCounts;
+
+    private final long startBytes;
+
+    private final long startNanos;
+
+    private Probe(Instrumentation instrumentation, Phase phase, String scanner, int[] startCounts) {
+        this.instrumentation = instrumentation;
+        this.phase = phase;
+        this.scanner = scanner;
+        this.startCounts = startCounts;
+        this.startBytes = instrumentation != null ? Allocations.allocatedBytes() : -1;
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Start measuring a phase.
+     *
+     * @param instrumentation the instrumentation receiving the measurement
+     * @param phase the phase
+     * @return the started probe
+     */
+    public static Probe phase(Instrumentation instrumentation, Phase phase) {
+        if (!instrumentation.isEnabled()) {
+            return NONE;
+        }
+        instrumentation.phaseStarted(phase);
+        return new Probe(instrumentation, phase, null, new int[3]);
+    }
+
+    /**
+     * Start measuring a scanner.
+     *
+     * @param instrumentation the instrumentation receiving the measurement
+     * @param scanner the name of the scanner
+     * @param model the model the scanner adds to
+     * @return the started probe
+     */
+    public static Probe scanner(Instrumentation instrumentation, String scanner, AsyncAPI model) {
+        if (!instrumentation.isEnabled()) {
+            return NONE;
+        }
+        instrumentation.scannerStarted(scanner);
+        return new Probe(instrumentation, null, scanner, counts(model));
+    }
+
+    /**
+     * Stop measuring.
+     *
+     * @param model the model produced by the phase or scanner, may be null
+     */
+    public void stop(AsyncAPI model) {
+        stop(model, null);
+    }
+
+    /**
+     * Stop measuring.
+     *
+     * @param model the model produced by the phase or scanner, may be null
+     * @param index the index scanned by the phase or scanner, may be null
+     */
+    public void stop(AsyncAPI model, IndexView index) {
+        if (instrumentation == null) {
+            return;
+        }
+        long durationNanos = System.nanoTime() - startNanos;
+        long allocatedBytes = startBytes >= 0 ? Allocations.allocatedBytes() - startBytes : -1;
+
+        int[] counts = counts(model);
+        Measurement measurement = new Measurement(durationNanos, allocatedBytes,
+                index != null ? index.getKnownClasses().size() : 0,
+                counts[0] - startCounts[0], counts[1] - startCounts[1], counts[2] - startCounts[2]);
+
+        if (phase != null) {
+            instrumentation.phaseCompleted(phase, measurement);
+        } else {
+            instrumentation.scannerCompleted(scanner, measurement);
+        }
+    }
+
+    /**
+     * @return the number of schemas, channels and messages of the model
+     */
+    private static int[] counts(AsyncAPI model) {
+        int[] counts = new int[3];
+        if (model == null) {
+            return counts;
+        }
+        Components components = model.getComponents();
+        if (components != null) {
+            counts[0] = size(components.getSchemas());
+            counts[2] = size(components.getMessages());
+        }
+        if (model.getChannels() != null) {
+            counts[1] = size(model.getChannels()
+                    .getChannels());
+        }
+        return counts;
+    }
+
+    private static int size(Map<?, ?> map) {
+        return map != null ? map.size() : 0;
+    }
+
+    /**
+     * Measures the allocations of the current thread, if supported by the JVM.
+     */
+    private static final class Allocations {
+
+        private static final com.sun.management.ThreadMXBean THREADS = threads();
+
+        private static com.sun.management.ThreadMXBean threads() {
+            try {
+                ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+                if (threads instanceof com.sun.management.ThreadMXBean) {
+                    com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threads;
+                    if (allocations.isThreadAllocatedMemorySupported() && allocations.isThreadAllocatedMemoryEnabled()) {
+                        return allocations;
+                    }
+                }
+            } catch (LinkageError | RuntimeException e) {
+                // no management support, e.g. in a native image
+            }
+            return null;
+        }
+
+        private static long allocatedBytes() {
+            return THREADS != null ? THREADS.getThreadAllocatedBytes(Thread.currentThread()
+                    .getId()) : -1;
+        }
+    }
+}
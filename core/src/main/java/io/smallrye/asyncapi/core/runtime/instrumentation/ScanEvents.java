@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.instrumentation;
+
+import org.jboss.jandex.Type;
+
+/**
+ * Emits Java Flight Recorder events around the inner loops of the schema generation, e.g. for every type processed
+ * while scanning a data object:
+ *
+ * <pre>
+ * Object event = ScanEvents.begin(ScanEvents.Kind.PROCESS_TYPE);
+ * ...
+ * ScanEvents.end(event, type, depth, false);
+ * </pre>
+ *
+ * The events are disabled by default and have to be enabled in a recording, e.g. with
+ * {@code -XX:StartFlightRecording:settings=profile,+io.smallrye.asyncapi.TypeProcessing#enabled=true} or a custom
+ * {@code .jfc} file. While they are disabled, or if the JVM does not support JFR, {@link #begin(Kind)} returns null
+ * and nothing is measured.
+ */
+public final class ScanEvents {
+
+    private static final boolean AVAILABLE = isAvailable();
+
+    private ScanEvents() {
+    }
+
+    /**
+     * The operations emitting events, every one has its own event type.
+     */
+    public enum Kind {
+        /** A data object scanned for a schema, {@code io.smallrye.asyncapi.DataObjectScan} */
+        PROCESS,
+        /** A type processed while scanning a data object, {@code io.smallrye.asyncapi.TypeProcessing} */
+        PROCESS_TYPE,
+        /** A schema registration, {@code io.smallrye.asyncapi.SchemaRegistration} */
+        REGISTER,
+        /** A type pushed to the object graph, {@code io.smallrye.asyncapi.DataObjectPush} */
+        PUSH
+    }
+
+    /**
+     * Begin an event.
+     *
+     * @param kind the kind of the event
+     * @return the begun event, to be passed to {@link #end(Object, Type, int, boolean)}, null if the event is disabled
+     */
+    public static Object begin(Kind kind) {
+        return AVAILABLE ? JfrScanEvents.begin(kind) : null;
+    }
+
+    /**
+     * End an event and commit it, if it passes the thresholds of the recording.
+     *
+     * @param event the event returned by {@link #begin(Kind)}, nothing is done if null
+     * @param type the type of the operation
+     * @param depth the depth of the type in the object graph, -1 if unknown
+     * @param cacheHit whether a previous result has been used, or for {@link Kind#PUSH} whether a cycle was detected
+     */
+    public static void end(Object event, Type type, int depth, boolean cacheHit) {
+        if (event != null) {
+            JfrScanEvents.end(event, type, depth, cacheHit);
+        }
+    }
+
+    private static boolean isAvailable() {
+        try {
+            Class.forName("jdk.jfr.Event", false, ScanEvents.class.getClassLoader());
+            // initializes the event types
+            Class.forName(JfrScanEvents.class.getName(), true, ScanEvents.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
@@ -20,6 +20,8 @@ import java.io.InputStream;
 import java.net.URISyntaxException;
 import java.net.URL;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
@@ -74,7 +76,8 @@ public class AsyncApiParser {
     }
 
     /**
-     * Parses the resource found at the given stream. The format of the stream must be specified.
+     * Parses the resource found at the given stream. The format of the stream must be specified. The model is read
+     * directly from the tokens of the stream.
      *
      * @param stream InputStream containing an AsyncAPI document
      * @param format Format of the stream
@@ -82,17 +85,42 @@ public class AsyncApiParser {
      * @throws IOException Errors in reading the stream
      */
     public static final AsyncAPI parse(InputStream stream, AsyncApiFormat format) throws IOException {
-        ObjectMapper mapper;
+        return parse(stream, format, true);
+    }
+
+    /**
+     * Parses the resource found at the given stream. The format of the stream must be specified. If streaming is
+     * disabled the whole document is read into a json tree first.
+     *
+     * @param stream InputStream containing an AsyncAPI document
+     * @param format Format of the stream
+     * @param streaming whether to read the model directly from the tokens of the stream
+     * @return AsyncAPIImpl parsed from the stream
+     * @throws IOException Errors in reading the stream
+     */
+    public static final AsyncAPI parse(InputStream stream, AsyncApiFormat format, boolean streaming) throws IOException {
+        JsonFactory factory;
         if (format == AsyncApiFormat.JSON) {
-            mapper = new ObjectMapper();
+            factory = new JsonFactory();
         } else {
-            mapper = new ObjectMapper(new YAMLFactory());
+            factory = new YAMLFactory();
         }
-        JsonNode tree = mapper.readTree(stream);
 
-        AsyncApiParser parser = new AsyncApiParser(tree);
+        if (!streaming) {
+            JsonNode tree = new ObjectMapper(factory).readTree(stream);
 
-        return parser.parse();
+            AsyncApiParser parser = new AsyncApiParser(tree);
+
+            return parser.parse();
+        }
+
+        try (JsonParser parser = factory.createParser(stream)) {
+            AsyncAPI aai = new AsyncAPIImpl();
+            if (parser.nextToken() != null) {
+                DefinitionReader.processDefinition(aai, parser);
+            }
+            return aai;
+        }
     }
 
     /**
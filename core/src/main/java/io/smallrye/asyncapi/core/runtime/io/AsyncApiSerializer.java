@@ -15,11 +15,17 @@
  */
 package io.smallrye.asyncapi.core.runtime.io;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
 
@@ -29,6 +35,14 @@ import io.smallrye.asyncapi.spec.models.AsyncAPI;
 
 public class AsyncApiSerializer {
 
+    private static final JsonFactory JSON_FACTORY = new JsonFactory()
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+    private static final YAMLFactory YAML_FACTORY = (YAMLFactory) new YAMLFactory()
+            .enable(YAMLGenerator.Feature.ALWAYS_QUOTE_NUMBERS_AS_STRINGS)
+            .enable(YAMLGenerator.Feature.SPLIT_LINES)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
     private AsyncApiSerializer() {
     }
 
@@ -41,24 +55,72 @@ public class AsyncApiSerializer {
      * @throws IOException Errors in processing the JSON
      */
     public static final String serialize(AsyncAPI asyncAPI, AsyncApiFormat format) throws IOException {
-        try {
-            ObjectNode tree = JsonUtil.objectNode();
-            DefinitionWriter.writeAsyncAPI(tree, asyncAPI);
+        StringWriter writer = new StringWriter();
+        JsonFactory factory = format == AsyncApiFormat.JSON ? JSON_FACTORY : YAML_FACTORY;
+        try (JsonGenerator generator = factory.createGenerator(writer)) {
+            serialize(asyncAPI, format, generator);
+        }
+        return writer.toString();
+    }
 
-            if (format == AsyncApiFormat.JSON) {
-                return new ObjectMapper().writerWithDefaultPrettyPrinter()
-                        .writeValueAsString(tree);
-            }
+    /**
+     * Serializes the given AsyncAPI object into either JSON or YAML and returns it UTF-8 encoded.
+     *
+     * @param asyncAPI the AsyncAPI object
+     * @param format the serialization format
+     * @return AsyncAPI object as UTF-8 encoded bytes
+     * @throws IOException Errors in processing the JSON
+     */
+    public static final byte[] serializeBytes(AsyncAPI asyncAPI, AsyncApiFormat format) throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        serialize(asyncAPI, format, stream);
+        return stream.toByteArray();
+    }
 
-            YAMLFactory factory = new YAMLFactory();
-            factory.enable(YAMLGenerator.Feature.ALWAYS_QUOTE_NUMBERS_AS_STRINGS);
-            factory.enable(YAMLGenerator.Feature.SPLIT_LINES);
+    /**
+     * Serializes the given AsyncAPI object into either JSON or YAML and writes it UTF-8 encoded to the given stream.
+     * The stream is flushed, but not closed.
+     *
+     * @param asyncAPI the AsyncAPI object
+     * @param format the serialization format
+     * @param stream the stream to write to
+     * @throws IOException Errors in processing the JSON or writing to the stream
+     */
+    public static final void serialize(AsyncAPI asyncAPI, AsyncApiFormat format, OutputStream stream) throws IOException {
+        JsonFactory factory = format == AsyncApiFormat.JSON ? JSON_FACTORY : YAML_FACTORY;
+        try (JsonGenerator generator = factory.createGenerator(stream, JsonEncoding.UTF8)) {
+            serialize(asyncAPI, format, generator);
+        }
+    }
 
-            return new ObjectMapper(factory).writer()
-                    .writeValueAsString(tree);
+    /**
+     * Serializes the given AsyncAPI object into either JSON or YAML and writes it UTF-8 encoded to the given channel.
+     * The channel is not closed.
+     *
+     * @param asyncAPI the AsyncAPI object
+     * @param format the serialization format
+     * @param channel the channel to write to
+     * @throws IOException Errors in processing the JSON or writing to the channel
+     */
+    public static final void serialize(AsyncAPI asyncAPI, AsyncApiFormat format, WritableByteChannel channel)
+            throws IOException {
+        serialize(asyncAPI, format, Channels.newOutputStream(channel));
+    }
 
-        } catch (JsonProcessingException e) {
-            throw new IOException(e);
+    /**
+     * Serializes the given AsyncAPI object to the given generator. JSON generators are configured to pretty print the
+     * document, YAML generators are expected to be created by a {@link YAMLFactory}.
+     *
+     * @param asyncAPI the AsyncAPI object
+     * @param format the serialization format
+     * @param generator the generator to write to
+     * @throws IOException Errors in processing the JSON
+     */
+    public static final void serialize(AsyncAPI asyncAPI, AsyncApiFormat format, JsonGenerator generator)
+            throws IOException {
+        if (format == AsyncApiFormat.JSON) {
+            generator.setPrettyPrinter(new DefaultPrettyPrinter());
         }
+        DefinitionWriter.writeAsyncAPI(generator, asyncAPI);
     }
 }
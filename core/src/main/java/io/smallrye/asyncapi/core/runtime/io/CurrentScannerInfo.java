@@ -27,29 +27,65 @@ public class CurrentScannerInfo {
     }
 
     public static AnnotationScanner getCurrentAnnotationScanner() {
-        return current.get().annotationScanner;
+        CurrentScannerInfo info = current.get();
+        return info != null ? info.annotationScanner : null;
     }
 
     public static void setCurrentConsumes(final String[] currentConsumes) {
-        current.get().currentConsumes = currentConsumes;
+        CurrentScannerInfo info = current.get();
+        if (info != null) {
+            info.currentConsumes = currentConsumes;
+        }
     }
 
     public static String[] getCurrentConsumes() {
-        return current.get().currentConsumes;
+        CurrentScannerInfo info = current.get();
+        return info != null ? info.currentConsumes : null;
     }
 
     public static void setCurrentProduces(final String[] currentProduces) {
-        current.get().currentProduces = currentProduces;
+        CurrentScannerInfo info = current.get();
+        if (info != null) {
+            info.currentProduces = currentProduces;
+        }
     }
 
     public static String[] getCurrentProduces() {
-        return current.get().currentProduces;
+        CurrentScannerInfo info = current.get();
+        return info != null ? info.currentProduces : null;
     }
 
     public static void remove() {
         current.remove();
     }
 
+    /**
+     * Retrieve the scanner info of the current thread, to be handed over to a worker thread
+     * with {@link #attach(CurrentScannerInfo)}.
+     *
+     * @return the scanner info of the current thread or null
+     */
+    public static CurrentScannerInfo current() {
+        return current.get();
+    }
+
+    /**
+     * Set a copy of the given scanner info on the current thread, so changes made by the worker
+     * thread are not visible to other threads. A null info removes the scanner info of the current thread.
+     *
+     * @param info scanner info captured with {@link #current()}
+     */
+    public static void attach(CurrentScannerInfo info) {
+        if (info == null) {
+            current.remove();
+        } else {
+            CurrentScannerInfo copy = new CurrentScannerInfo(info.annotationScanner);
+            copy.currentConsumes = info.currentConsumes;
+            copy.currentProduces = info.currentProduces;
+            current.set(copy);
+        }
+    }
+
     public static boolean isWrapperType(Type type) {
         AnnotationScanner scanner = getCurrentAnnotationScanner();
         return scanner != null && scanner.isWrapperType(type);
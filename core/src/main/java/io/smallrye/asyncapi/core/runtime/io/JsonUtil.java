@@ -15,6 +15,7 @@
  */
 package io.smallrye.asyncapi.core.runtime.io;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
@@ -23,16 +24,21 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 public class JsonUtil {
 
-    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final ObjectMapper MAPPER = new ObjectMapper().disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
 
     private static final JsonNodeFactory factory = JsonNodeFactory.instance;
 
@@ -95,6 +101,41 @@ public class JsonUtil {
         node.set(propertyName, factory.textNode(propertyValue.toString()));
     }
 
+    /**
+     * Writes a string property to the generator. Does nothing if the value is null.
+     *
+     * @param generator JsonGenerator
+     * @param propertyName Property name
+     * @param propertyValue Property value
+     * @throws IOException if the property could not be written
+     */
+    public static void stringProperty(JsonGenerator generator, String propertyName, String propertyValue)
+            throws IOException {
+        if (propertyValue == null) {
+            return;
+        }
+        if (propertyName == null) {
+            return;
+        }
+        generator.writeStringField(propertyName, propertyValue);
+    }
+
+    /**
+     * Writes an enum property to the generator. Does nothing if the value is null.
+     *
+     * @param generator JsonGenerator
+     * @param propertyName Property name
+     * @param propertyValue Property value
+     * @throws IOException if the property could not be written
+     */
+    public static <E extends Enum<E>> void enumProperty(JsonGenerator generator, String propertyName, E propertyValue)
+            throws IOException {
+        if (propertyValue == null) {
+            return;
+        }
+        generator.writeStringField(propertyName, propertyValue.toString());
+    }
+
     /**
      * Extract a boolean property from the given json tree. Returns null if no property exists or is not a boolean node.
      *
@@ -124,6 +165,22 @@ public class JsonUtil {
         node.set(propertyName, factory.booleanNode(propertyValue));
     }
 
+    /**
+     * Writes a boolean property to the generator. Does nothing if the value is null.
+     *
+     * @param generator JsonGenerator
+     * @param propertyName Property name
+     * @param propertyValue Property value
+     * @throws IOException if the property could not be written
+     */
+    public static void booleanProperty(JsonGenerator generator, String propertyName, Boolean propertyValue)
+            throws IOException {
+        if (propertyValue == null) {
+            return;
+        }
+        generator.writeBooleanField(propertyName, propertyValue);
+    }
+
     /**
      * Extract a integer property from the given json tree. Returns null if no property exists or is not a boolean node.
      *
@@ -153,6 +210,22 @@ public class JsonUtil {
         node.set(propertyName, factory.numberNode(propertyValue));
     }
 
+    /**
+     * Writes an integer property to the generator. Does nothing if the value is null.
+     *
+     * @param generator JsonGenerator
+     * @param propertyName Property name
+     * @param propertyValue Property value
+     * @throws IOException if the property could not be written
+     */
+    public static void intProperty(JsonGenerator generator, String propertyName, Integer propertyValue)
+            throws IOException {
+        if (propertyValue == null) {
+            return;
+        }
+        generator.writeNumberField(propertyName, propertyValue);
+    }
+
     /**
      * Extract a BigDecimal property from the given json tree. Returns null if no property exists or is not a boolean node.
      *
@@ -186,6 +259,28 @@ public class JsonUtil {
         }
     }
 
+    /**
+     * Writes a BigDecimal property to the generator. Does nothing if the value is null. The value is written the same
+     * way it is stored in a json tree, i.e. integer values without fraction and others without trailing zeros.
+     *
+     * @param generator JsonGenerator
+     * @param propertyName Property name
+     * @param propertyValue Property value
+     * @throws IOException if the property could not be written
+     */
+    public static void bigDecimalProperty(JsonGenerator generator, String propertyName, BigDecimal propertyValue)
+            throws IOException {
+        if (propertyValue == null) {
+            return;
+        }
+        generator.writeFieldName(propertyName);
+        if (isIntegerValue(propertyValue)) {
+            generator.writeNumber(propertyValue.toBigInteger());
+        } else {
+            generator.writeNumber(propertyValue.stripTrailingZeros());
+        }
+    }
+
     private static boolean isIntegerValue(BigDecimal bd) {
         return bd.signum() == 0 || bd.scale() <= 0 || bd.stripTrailingZeros()
                 .scale() <= 0;
@@ -357,4 +452,113 @@ public class JsonUtil {
         return Optional.empty();
     }
 
+    /**
+     * Reads the current value of the parser as a string. Mirrors {@link JsonNode#asText()}, so objects and arrays are
+     * skipped and read as an empty string.
+     *
+     * @param parser the parser positioned on a value token
+     * @return String holding the value
+     * @throws IOException if the value could not be read
+     */
+    public static String stringValue(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return "";
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return "null";
+        }
+        return parser.getText();
+    }
+
+    /**
+     * Reads the current value of the parser as a boolean. Mirrors {@link JsonNode#asBoolean()}.
+     *
+     * @param parser the parser positioned on a value token
+     * @return Boolean holding the value
+     * @throws IOException if the value could not be read
+     */
+    public static Boolean booleanValue(JsonParser parser) throws IOException {
+        if (parser.currentToken().isStructStart()) {
+            parser.skipChildren();
+            return false;
+        }
+        return parser.getValueAsBoolean();
+    }
+
+    /**
+     * Reads the current value of the parser as an integer. Mirrors {@link JsonNode#asInt()}.
+     *
+     * @param parser the parser positioned on a value token
+     * @return Integer holding the value
+     * @throws IOException if the value could not be read
+     */
+    public static Integer intValue(JsonParser parser) throws IOException {
+        if (parser.currentToken().isStructStart()) {
+            parser.skipChildren();
+            return 0;
+        }
+        return parser.getValueAsInt();
+    }
+
+    /**
+     * Reads the current value of the parser as a BigDecimal.
+     *
+     * @param parser the parser positioned on a value token
+     * @return BigDecimal holding the value
+     * @throws IOException if the value could not be read
+     */
+    public static BigDecimal bigDecimalValue(JsonParser parser) throws IOException {
+        return new BigDecimal(stringValue(parser));
+    }
+
+    /**
+     * Reads a string array from the parser.
+     *
+     * @param parser the parser positioned on a value token
+     * @return List of strings
+     * @throws IOException if the value could not be read
+     */
+    public static Optional<List<String>> readStringArray(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return Optional.empty();
+        }
+        List<String> rval = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            rval.add(stringValue(parser));
+        }
+        return Optional.of(rval);
+    }
+
+    /**
+     * Reads the current value of the parser into a json tree. Used by the streaming readers for small parts of a
+     * document which are handed over to the tree based readers.
+     *
+     * @param parser the parser positioned on a value token
+     * @return the json node
+     * @throws IOException if the value could not be read
+     */
+    public static JsonNode readTree(JsonParser parser) throws IOException {
+        return MAPPER.readTree(parser);
+    }
+
+    /**
+     * Writes the properties created by the given tree writer to the generator. Used by the streaming writers for small
+     * parts of a document which are written by the tree based writers.
+     *
+     * @param generator the generator positioned inside of an object
+     * @param writer tree writer adding properties to the given node
+     * @throws IOException if the properties could not be written
+     */
+    public static void writeTree(JsonGenerator generator, Consumer<ObjectNode> writer) throws IOException {
+        ObjectNode node = objectNode();
+        writer.accept(node);
+        for (Iterator<Map.Entry<String, JsonNode>> fields = node.fields(); fields.hasNext();) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            generator.writeFieldName(field.getKey());
+            MAPPER.writeTree(generator, field.getValue());
+        }
+    }
 }
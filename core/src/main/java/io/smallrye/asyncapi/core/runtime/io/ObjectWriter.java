@@ -15,11 +15,13 @@
  */
 package io.smallrye.asyncapi.core.runtime.io;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.List;
 import java.util.Map;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -46,6 +48,26 @@ public class ObjectWriter {
         }
     }
 
+    /**
+     * Writes an array of strings to the generator.
+     *
+     * @param generator the generator positioned inside of an object
+     * @param models list of Strings
+     * @param propertyName the name of the node
+     * @throws IOException if the array could not be written
+     */
+    public static void writeStringArray(JsonGenerator generator, List<String> models, String propertyName)
+            throws IOException {
+        if (models == null) {
+            return;
+        }
+        generator.writeArrayFieldStart(propertyName);
+        for (String model : models) {
+            generator.writeString(model);
+        }
+        generator.writeEndArray();
+    }
+
     /**
      * Writes an array of objects to the parent node.
      *
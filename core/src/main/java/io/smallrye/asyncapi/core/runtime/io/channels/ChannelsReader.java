@@ -15,12 +15,15 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.channels;
 
+import java.io.IOException;
 import java.util.Iterator;
 
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationValue;
 import org.jboss.jandex.MethodInfo;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 
 import io.smallrye.asyncapi.core.api.models.channel.ChannelItemImpl;
@@ -143,6 +146,71 @@ public class ChannelsReader {
         return channelItem;
     }
 
+    /**
+     * Reads the {@link ChannelItem} AsyncAPI nodes from the parser.
+     *
+     * @param parser the parser positioned on the channels object
+     * @return a Channels model
+     * @throws IOException if the channels could not be read
+     */
+    public static Channels readChannelItems(final JsonParser parser) throws IOException {
+        IoLogging.logger.jsonNodeMap("ChannelItem");
+
+        Channels channels = new ChannelsImpl();
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return channels;
+        }
+        for (String fieldName = parser.nextFieldName(); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!ExtensionConstant.isExtensionField(fieldName)) {
+                channels.addChannel(fieldName, readChannelItem(parser));
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        return channels;
+    }
+
+    private static ChannelItem readChannelItem(final JsonParser parser) throws IOException {
+        IoLogging.logger.singleJsonNode("ChannelItem");
+
+        ChannelItem channelItem = new ChannelItemImpl();
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return channelItem;
+        }
+        for (String fieldName = parser.nextFieldName(); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+            switch (fieldName) {
+                case ChannelsConstants.PROP_CHANNEL:
+                    channelItem.setChannel(JsonUtil.stringValue(parser));
+                    break;
+                case ChannelsConstants.PROP_DESCRIPTION:
+                    channelItem.setDescription(JsonUtil.stringValue(parser));
+                    break;
+                case ChannelsConstants.PROP_SUBSCRIBE:
+                    channelItem.setSubscribe(OperationReader.readOperation(parser));
+                    break;
+                case ChannelsConstants.PROP_PUBLISH:
+                    channelItem.setPublish(OperationReader.readOperation(parser));
+                    break;
+                case ChannelsConstants.PROP_PARAMETERS:
+                    channelItem.setParameters(ParameterReader.readParametersList(JsonUtil.readTree(parser)));
+                    break;
+                case ChannelsConstants.PROP_BINDING:
+                    channelItem.setBindings(ChannelBindingsReader.readChannelBindings(JsonUtil.readTree(parser)));
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+            }
+        }
+
+        return channelItem;
+    }
+
     public static AnnotationInstance getChannelItemAnnotation(final MethodInfo method) {
         return method.annotation(ChannelsConstants.DOTNAME_CHANNEL_ITEM);
     }
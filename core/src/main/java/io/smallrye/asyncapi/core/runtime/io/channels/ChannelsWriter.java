@@ -15,9 +15,12 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.channels;
 
+import java.io.IOException;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import io.smallrye.asyncapi.core.runtime.io.JsonUtil;
@@ -65,4 +68,44 @@ public class ChannelsWriter {
         ParameterWriter.writeParameters(node, model.getParameters());
         ChannelBindingsWriter.writeChannelBindings(node, model.getBindings());
     }
+
+    /**
+     * Writes the {@link Channels} model to the generator.
+     *
+     * @param generator the generator positioned inside of the parent object
+     * @param channels the Channels model
+     * @throws IOException if the channels could not be written
+     */
+    public static void writeChannel(JsonGenerator generator, Channels channels) throws IOException {
+        if (channels == null || channels.getChannels() == null) {
+            return;
+        }
+
+        // channel items are written by their channel, a later item replaces an earlier one with the same channel
+        Map<String, ChannelItem> byChannel = new LinkedHashMap<>();
+        for (ChannelItem channelItem : channels.getChannels().values()) {
+            if (channelItem != null) {
+                byChannel.put(channelItem.getChannel(), channelItem);
+            }
+        }
+
+        generator.writeObjectFieldStart(DefinitionConstant.PROP_CHANNELS);
+        for (ChannelItem channelItem : byChannel.values()) {
+            writeChannelToGenerator(generator, channelItem);
+        }
+        generator.writeEndObject();
+    }
+
+    private static void writeChannelToGenerator(JsonGenerator generator, ChannelItem model) throws IOException {
+        generator.writeObjectFieldStart(model.getChannel());
+        JsonUtil.stringProperty(generator, ChannelsConstants.PROP_CHANNEL, model.getChannel());
+        JsonUtil.stringProperty(generator, ChannelsConstants.PROP_DESCRIPTION, model.getDescription());
+        OperationWriter.writePublish(generator, model.getPublish());
+        OperationWriter.writeSubscribe(generator, model.getSubscribe());
+        JsonUtil.writeTree(generator, node -> {
+            ParameterWriter.writeParameters(node, model.getParameters());
+            ChannelBindingsWriter.writeChannelBindings(node, model.getBindings());
+        });
+        generator.writeEndObject();
+    }
 }
@@ -15,6 +15,7 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.components;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -24,10 +25,13 @@ import io.smallrye.asyncapi.core.runtime.io.schema.SchemaReader;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationValue;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 
 import io.smallrye.asyncapi.core.api.models.ComponentsImpl;
 import io.smallrye.asyncapi.core.runtime.io.IoLogging;
+import io.smallrye.asyncapi.core.runtime.io.JsonUtil;
 import io.smallrye.asyncapi.core.runtime.io.message.MessageReader;
 import io.smallrye.asyncapi.core.runtime.io.parameter.ParameterReader;
 import io.smallrye.asyncapi.core.runtime.io.securityscheme.SecuritySchemesReader;
@@ -58,7 +62,7 @@ public class ComponentsReader {
                 .setMessages(MessageReader.readMessages(context, nested.value(ComponentsConstant.PROP_MESSAGES)).orElse(null));
         components.setSecuritySchemes(SecuritySchemesReader
                 .readSecuritySchemes(context, nested.value(ComponentsConstant.PROP_SECURITY_SCHEMES)).orElse(null));
-        components.setSchemas(SchemaReader.readSchemas(context,nested.value(ComponentsConstant.PROP_SCHEMAS)));
+        components.setSchemas(SchemaReader.readSchemas(context, nested.value(ComponentsConstant.PROP_SCHEMAS)));
 
         return components;
     }
@@ -79,4 +83,44 @@ public class ComponentsReader {
 
         return components;
     }
+
+    /**
+     * Reads a {@link Components} AsyncAPI node from the parser.
+     *
+     * @param parser the parser positioned on the components object
+     * @return Components model
+     * @throws IOException if the components could not be read
+     */
+    public static Components readComponents(final JsonParser parser) throws IOException {
+        IoLogging.logger.singleJsonNode("Components");
+
+        Components components = new ComponentsImpl();
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return components;
+        }
+        for (String fieldName = parser.nextFieldName(); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+            switch (fieldName) {
+                case ComponentsConstant.PROP_MESSAGES:
+                    components.setMessages(MessageReader.readMessages(parser));
+                    break;
+                case ComponentsConstant.PROP_SECURITY_SCHEMES:
+                    components.setSecuritySchemes(
+                            SecuritySchemesReader.readSecuritySchemes(JsonUtil.readTree(parser)).orElse(null));
+                    break;
+                case ComponentsConstant.PROP_PARAMETERS:
+                    components.setParameters(ParameterReader.readParametersMap(JsonUtil.readTree(parser)).orElse(null));
+                    break;
+                case ComponentsConstant.PROP_SCHEMAS:
+                    components.setSchemas(SchemaReader.readSchemas(parser).orElse(null));
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+            }
+        }
+
+        return components;
+    }
 }
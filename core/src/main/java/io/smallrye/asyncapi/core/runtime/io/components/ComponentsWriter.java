@@ -15,8 +15,12 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.components;
 
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
+import io.smallrye.asyncapi.core.runtime.io.JsonUtil;
 import io.smallrye.asyncapi.core.runtime.io.definition.DefinitionConstant;
 import io.smallrye.asyncapi.core.runtime.io.extension.ExtensionWriter;
 import io.smallrye.asyncapi.core.runtime.io.message.MessageWriter;
@@ -52,4 +56,26 @@ public class ComponentsWriter {
         ExtensionWriter.writeExtensions(node, model);
     }
 
+    /**
+     * Writes the {@link Components} model to the generator.
+     *
+     * @param generator the generator positioned inside of the parent object
+     * @param model the Components model
+     * @throws IOException if the components could not be written
+     */
+    public static void writeComponents(JsonGenerator generator, Components model) throws IOException {
+        if (model == null) {
+            return;
+        }
+
+        generator.writeObjectFieldStart(DefinitionConstant.PROP_COMPONENTS);
+        MessageWriter.writeMessages(generator, model.getMessages());
+        JsonUtil.writeTree(generator, node -> {
+            SecuritySchemesWriter.writeSecuritySchemes(node, model.getSecuritySchemes());
+            ParameterWriter.writeParameters(node, model.getParameters());
+        });
+        SchemaWriter.writeSchemas(generator, model.getSchemas());
+        ExtensionWriter.writeExtensions(generator, model);
+        generator.writeEndObject();
+    }
 }
@@ -15,9 +15,13 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.definition;
 
+import java.io.IOException;
+
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.ClassInfo;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 
 import io.smallrye.asyncapi.core.runtime.io.IoLogging;
@@ -33,6 +37,7 @@ import io.smallrye.asyncapi.core.runtime.io.tag.TagReader;
 import io.smallrye.asyncapi.core.runtime.scanner.spi.AnnotationScannerContext;
 import io.smallrye.asyncapi.core.runtime.util.JandexUtil;
 import io.smallrye.asyncapi.spec.models.AsyncAPI;
+import io.smallrye.asyncapi.spec.models.channel.Channels;
 
 /**
  * Reading the OpenAPIDefinition from an annotation or json
@@ -88,6 +93,61 @@ public class DefinitionReader {
         ExtensionReader.readExtensions(node, asyncAPI);
     }
 
+    /**
+     * Reads a AsyncAPI document from the parser. The channels and components are read token by token, all other
+     * (small) parts of the document are read as json nodes and handed over to the node based readers.
+     *
+     * @param asyncAPI the AsyncAPI model
+     * @param parser the parser positioned on the root object
+     * @throws IOException if the document could not be read
+     */
+    public static void processDefinition(final AsyncAPI asyncAPI, final JsonParser parser) throws IOException {
+        IoLogging.logger.jsonNode("AsyncAPI");
+
+        // like the node based reader, a document without channels results in no channels
+        Channels channels = null;
+        if (parser.currentToken() == JsonToken.START_OBJECT) {
+            for (String fieldName = parser.nextFieldName(); fieldName != null; fieldName = parser.nextFieldName()) {
+                parser.nextToken();
+                switch (fieldName) {
+                    case DefinitionConstant.PROP_ASYNCAPI:
+                        asyncAPI.setAsyncapi(JsonUtil.stringValue(parser));
+                        break;
+                    case DefinitionConstant.PROP_IDENTIFIER:
+                        asyncAPI.setIdentifier(JsonUtil.stringValue(parser));
+                        break;
+                    case DefinitionConstant.PROP_CONTENT_TYPE:
+                        asyncAPI.setDefaultContentType(JsonUtil.stringValue(parser));
+                        break;
+                    case DefinitionConstant.PROP_INFO:
+                        asyncAPI.setInfo(InfoReader.readInfo(JsonUtil.readTree(parser)));
+                        break;
+                    case DefinitionConstant.PROP_SERVERS:
+                        asyncAPI.setServers(ServerReader.readServers(JsonUtil.readTree(parser)).orElse(null));
+                        break;
+                    case DefinitionConstant.PROP_CHANNELS:
+                        channels = ChannelsReader.readChannelItems(parser);
+                        break;
+                    case ExternalDocsConstant.PROP_EXTERNAL_DOCS:
+                        asyncAPI.setExternalDocs(ExternalDocsReader.readExternalDocs(JsonUtil.readTree(parser)));
+                        break;
+                    case DefinitionConstant.PROP_COMPONENTS:
+                        asyncAPI.setComponents(ComponentsReader.readComponents(parser));
+                        break;
+                    case DefinitionConstant.PROP_TAGS:
+                        asyncAPI.setTags(TagReader.readTags(JsonUtil.readTree(parser)).orElse(null));
+                        break;
+                    default:
+                        ExtensionReader.readExtension(fieldName, parser, asyncAPI);
+                        break;
+                }
+            }
+        } else {
+            parser.skipChildren();
+        }
+        asyncAPI.setChannels(channels);
+    }
+
     // helper methods for scanners
     public static AnnotationInstance getDefinitionAnnotation(final ClassInfo targetClass) {
         return JandexUtil.getClassAnnotation(targetClass, DefinitionConstant.DOTNAME_ASYNC_API);
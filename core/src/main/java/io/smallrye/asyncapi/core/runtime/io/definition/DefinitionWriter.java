@@ -15,6 +15,9 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.definition;
 
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import io.smallrye.asyncapi.core.runtime.io.JsonUtil;
@@ -55,4 +58,29 @@ public class DefinitionWriter {
         TagWriter.writeTags(node, model.getTags());
         ExtensionWriter.writeExtensions(node, model);
     }
+
+    /**
+     * Writes the given model as json object to the generator. The channels and components are written property by
+     * property, all other (small) parts of the model are written by the tree based writers.
+     *
+     * @param generator the json generator
+     * @param model the AsyncAPI model
+     * @throws IOException if the model could not be written
+     */
+    public static void writeAsyncAPI(JsonGenerator generator, AsyncAPI model) throws IOException {
+        generator.writeStartObject();
+        JsonUtil.stringProperty(generator, DefinitionConstant.PROP_ASYNCAPI, model.getAsyncapi());
+        JsonUtil.stringProperty(generator, DefinitionConstant.PROP_CONTENT_TYPE, model.getDefaultContentType());
+        JsonUtil.writeTree(generator, node -> {
+            InfoWriter.writeInfo(node, model.getInfo());
+            ServerWriter.writeServers(node, model.getServers());
+        });
+        ChannelsWriter.writeChannel(generator, model.getChannels());
+        JsonUtil.writeTree(generator, node -> ExternalDocsWriter.writeExternalDocumentation(node, model.getExternalDocs()));
+        JsonUtil.stringProperty(generator, DefinitionConstant.PROP_IDENTIFIER, model.getIdentifier());
+        ComponentsWriter.writeComponents(generator, model.getComponents());
+        JsonUtil.writeTree(generator, node -> TagWriter.writeTags(node, model.getTags()));
+        ExtensionWriter.writeExtensions(generator, model);
+        generator.writeEndObject();
+    }
 }
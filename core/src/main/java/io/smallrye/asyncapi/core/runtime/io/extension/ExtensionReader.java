@@ -17,6 +17,7 @@ package io.smallrye.asyncapi.core.runtime.io.extension;
 
 import static io.smallrye.asyncapi.core.runtime.io.JsonUtil.readObject;
 
+import java.io.IOException;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -26,9 +27,11 @@ import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationTarget;
 import org.jboss.jandex.AnnotationValue;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 
 import io.smallrye.asyncapi.core.runtime.io.IoLogging;
+import io.smallrye.asyncapi.core.runtime.io.JsonUtil;
 import io.smallrye.asyncapi.core.runtime.scanner.AnnotationScannerExtension;
 import io.smallrye.asyncapi.core.runtime.scanner.spi.AnnotationScannerContext;
 import io.smallrye.asyncapi.core.runtime.util.JandexUtil;
@@ -138,6 +141,23 @@ public class ExtensionReader {
         }
     }
 
+    /**
+     * Reads a single model extension from the parser. Values of fields which are no extension are skipped.
+     *
+     * @param fieldName the name of the current field
+     * @param parser the parser positioned on the value of the field
+     * @param model the model to read to
+     * @throws IOException if the value could not be read
+     */
+    public static void readExtension(final String fieldName, final JsonParser parser, final Extensible<?> model)
+            throws IOException {
+        if (ExtensionConstant.isExtensionField(fieldName)) {
+            model.addExtension(fieldName, readObject(JsonUtil.readTree(parser)));
+        } else {
+            parser.skipChildren();
+        }
+    }
+
     // helper methods for scanners
 
     public static List<AnnotationInstance> getExtensionsAnnotations(final AnnotationTarget target) {
@@ -15,10 +15,13 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.extension;
 
+import java.io.IOException;
 import java.util.Map;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
+import io.smallrye.asyncapi.core.runtime.io.JsonUtil;
 import io.smallrye.asyncapi.core.runtime.io.ObjectWriter;
 import io.smallrye.asyncapi.spec.models.Extensible;
 
@@ -48,4 +51,18 @@ public class ExtensionWriter {
         }
     }
 
+    /**
+     * Writes the extensions of the model to the generator.
+     *
+     * @param generator the generator positioned inside of the model object
+     * @param model the Extensible model
+     * @throws IOException if the extensions could not be written
+     */
+    public static void writeExtensions(JsonGenerator generator, Extensible<?> model) throws IOException {
+        Map<String, Object> extensions = model.getExtensions();
+        if (extensions == null || extensions.isEmpty()) {
+            return;
+        }
+        JsonUtil.writeTree(generator, node -> writeExtensions(node, model));
+    }
 }
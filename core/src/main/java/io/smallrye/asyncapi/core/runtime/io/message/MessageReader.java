@@ -15,6 +15,7 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.message;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -26,6 +27,8 @@ import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationValue;
 import org.jboss.jandex.MethodInfo;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 
 import io.smallrye.asyncapi.core.api.models.message.MessageImpl;
@@ -176,4 +179,89 @@ public class MessageReader {
 
         return message;
     }
+
+    public static Map<String, Message> readMessages(final JsonParser parser) throws IOException {
+        IoLogging.logger.singleJsonNode("Message");
+
+        HashMap<String, Message> messages = new HashMap<>();
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return messages;
+        }
+        for (String fieldName = parser.nextFieldName(); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+            if (!ExtensionConstant.isExtensionField(fieldName)) {
+                messages.put(fieldName, readMessage(parser));
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        return messages;
+    }
+
+    public static Message readMessage(final JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        IoLogging.logger.singleJsonNode("Message");
+
+        Message message = new MessageImpl();
+        for (String fieldName = parser.nextFieldName(); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+            switch (fieldName) {
+                case Referenceable.PROP_$REF:
+                    message.setRef(JsonUtil.stringValue(parser));
+                    break;
+                case MessageConstant.PROP_HEADERS:
+                    message.setHeaders(SchemaReader.readSchema(parser));
+                    break;
+                case MessageConstant.PROP_PAYLOAD:
+                    message.setPayload(SchemaReader.readSchema(parser));
+                    break;
+                case MessageConstant.PROP_CORRELATION_ID:
+                    message.setCorrelationID(CorrelationIdReader.readCorrelationID(JsonUtil.readTree(parser)));
+                    break;
+                case MessageConstant.PROP_SCHEME_FORMAT:
+                    message.setSchemaFormat(JsonUtil.stringValue(parser));
+                    break;
+                case MessageConstant.PROP_CONTENT_TYPE:
+                    message.setContentType(JsonUtil.stringValue(parser));
+                    break;
+                case MessageConstant.PROP_NAME:
+                    message.setName(JsonUtil.stringValue(parser));
+                    break;
+                case MessageConstant.PROP_TITLE:
+                    message.setTitle(JsonUtil.stringValue(parser));
+                    break;
+                case MessageConstant.PROP_SUMMARY:
+                    message.setSummary(JsonUtil.stringValue(parser));
+                    break;
+                case MessageConstant.PROP_DESCRIPTION:
+                    message.setDescription(JsonUtil.stringValue(parser));
+                    break;
+                case MessageConstant.PROP_TRAITS:
+                    message.setTraits(MessageTraitReader.readMessageTraits(JsonUtil.readTree(parser)).orElse(null));
+                    break;
+                case MessageConstant.PROP_EXAMPLE:
+                    JsonUtil.readStringArray(parser).ifPresent(message::setExample);
+                    break;
+                case MessageConstant.PROP_BINDINGS:
+                    message.setBindings(MessageBindingsReader.readMessageBindings(JsonUtil.readTree(parser)));
+                    break;
+                case MessageConstant.PROP_TAGS:
+                    message.setTags(TagReader.readTags(JsonUtil.readTree(parser)).orElse(null));
+                    break;
+                case MessageConstant.PROP_EXTERNAL_DOCS:
+                    message.setExternalDocumentation(ExternalDocsReader.readExternalDocs(JsonUtil.readTree(parser)));
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+            }
+        }
+
+        return message;
+    }
 }
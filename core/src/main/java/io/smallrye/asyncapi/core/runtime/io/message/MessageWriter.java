@@ -15,8 +15,11 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.message;
 
+import java.io.IOException;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import io.smallrye.asyncapi.core.runtime.io.JsonUtil;
@@ -97,4 +100,59 @@ public class MessageWriter {
         JsonUtil.stringProperty(node, MessageConstant.PROP_REF, model.getRef());
         ExtensionWriter.writeExtensions(node, model);
     }
+
+    public static void writeMessages(JsonGenerator generator, Map<String, Message> messages) throws IOException {
+        if (messages == null || messages.size() == 0) {
+            return;
+        }
+
+        // messages are written by their name, a later message replaces an earlier one with the same name
+        Map<String, Message> byName = new LinkedHashMap<>();
+        for (Message message : messages.values()) {
+            if (message != null) {
+                byName.put(message.getName(), message);
+            }
+        }
+
+        generator.writeObjectFieldStart(ComponentsConstant.PROP_MESSAGES);
+        for (Map.Entry<String, Message> entry : byName.entrySet()) {
+            generator.writeObjectFieldStart(entry.getKey());
+            writeMessageContent(generator, entry.getValue());
+            generator.writeEndObject();
+        }
+        generator.writeEndObject();
+    }
+
+    public static void writeMessage(JsonGenerator generator, Message model) throws IOException {
+        if (model == null) {
+            return;
+        }
+
+        generator.writeObjectFieldStart(OperationConstant.PROP_MESSAGE);
+        writeMessageContent(generator, model);
+        generator.writeEndObject();
+    }
+
+    private static void writeMessageContent(final JsonGenerator generator, final Message model) throws IOException {
+        if (StringUtil.isNotEmpty(model.getRef())) {
+            JsonUtil.stringProperty(generator, Referenceable.PROP_$REF, model.getRef());
+            return;
+        }
+        SchemaWriter.writeSchema(generator, model.getHeaders(), MessageConstant.PROP_HEADERS);
+        SchemaWriter.writeSchema(generator, model.getPayload(), MessageConstant.PROP_PAYLOAD);
+        JsonUtil.writeTree(generator, node -> CorrelationIdWriter.writeCorrelationID(node, model.getCorrelationID()));
+        JsonUtil.stringProperty(generator, MessageConstant.PROP_SCHEME_FORMAT, model.getSchemaFormat());
+        JsonUtil.stringProperty(generator, MessageConstant.PROP_CONTENT_TYPE, model.getContentType());
+        JsonUtil.stringProperty(generator, MessageConstant.PROP_NAME, model.getName());
+        JsonUtil.stringProperty(generator, MessageConstant.PROP_TITLE, model.getTitle());
+        JsonUtil.stringProperty(generator, MessageConstant.PROP_SUMMARY, model.getSummary());
+        JsonUtil.stringProperty(generator, MessageConstant.PROP_DESCRIPTION, model.getDescription());
+        JsonUtil.writeTree(generator, node -> {
+            TagWriter.writeTags(node, model.getTags());
+            MessageBindingsWriter.writeMessageBindings(node, model.getBindings());
+            MessageTraitWriter.writeMessageTraits(node, model.getTraits());
+        });
+        JsonUtil.stringProperty(generator, MessageConstant.PROP_REF, model.getRef());
+        ExtensionWriter.writeExtensions(generator, model);
+    }
 }
@@ -15,9 +15,13 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.operation;
 
+import java.io.IOException;
+
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationValue;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 
 import io.smallrye.asyncapi.core.api.models.operation.OperationImpl;
@@ -78,4 +82,49 @@ public class OperationReader {
 
         return operation;
     }
+
+    public static Operation readOperation(final JsonParser parser) throws IOException {
+        IoLogging.logger.singleJsonNode("Operation");
+
+        Operation operation = new OperationImpl();
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return operation;
+        }
+        for (String fieldName = parser.nextFieldName(); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+            switch (fieldName) {
+                case OperationConstant.PROP_OPERATION_ID:
+                    operation.setOperationId(JsonUtil.stringValue(parser));
+                    break;
+                case OperationConstant.PROP_SUMMARY:
+                    operation.setSummary(JsonUtil.stringValue(parser));
+                    break;
+                case OperationConstant.PROP_DESCRIPTION:
+                    operation.setDescription(JsonUtil.stringValue(parser));
+                    break;
+                case OperationConstant.PROP_TAGS:
+                    operation.setTags(TagReader.readTags(JsonUtil.readTree(parser)).orElse(null));
+                    break;
+                case OperationConstant.PROP_BINDINGS:
+                    operation.setBindings(OperationBindingsReader.readOperationBindings(JsonUtil.readTree(parser)));
+                    break;
+                case OperationConstant.PROP_TRAITS:
+                    operation.setOperationTraits(
+                            OperationTraitReader.readOperationTraits(JsonUtil.readTree(parser)).orElse(null));
+                    break;
+                case OperationConstant.PROP_MESSAGE:
+                    operation.setMessage(MessageReader.readMessage(parser));
+                    break;
+                case OperationConstant.PROP_EXTERNAL_DOCS:
+                    operation.setExternalDocumentation(ExternalDocsReader.readExternalDocs(JsonUtil.readTree(parser)));
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+            }
+        }
+
+        return operation;
+    }
 }
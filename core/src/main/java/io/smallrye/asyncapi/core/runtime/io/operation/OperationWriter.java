@@ -15,6 +15,9 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.operation;
 
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import io.smallrye.asyncapi.core.runtime.io.JsonUtil;
@@ -60,4 +63,37 @@ public class OperationWriter {
         ExternalDocsWriter.writeExternalDocumentation(node, model.getExternalDocumentation());
         ExtensionWriter.writeExtensions(node, model);
     }
+
+    public static void writeSubscribe(JsonGenerator generator, Operation model) throws IOException {
+        if (model == null) {
+            return;
+        }
+        generator.writeObjectFieldStart(ChannelsConstants.PROP_SUBSCRIBE);
+        writeOperation(model, generator);
+        generator.writeEndObject();
+    }
+
+    public static void writePublish(JsonGenerator generator, Operation model) throws IOException {
+        if (model == null) {
+            return;
+        }
+        generator.writeObjectFieldStart(ChannelsConstants.PROP_PUBLISH);
+        writeOperation(model, generator);
+        generator.writeEndObject();
+    }
+
+    private static void writeOperation(final Operation model, final JsonGenerator generator) throws IOException {
+        JsonUtil.stringProperty(generator, OperationConstant.PROP_OPERATION_ID, model.getOperationId());
+        JsonUtil.stringProperty(generator, OperationConstant.PROP_SUMMARY, model.getSummary());
+        JsonUtil.stringProperty(generator, OperationConstant.PROP_DESCRIPTION, model.getDescription());
+        JsonUtil.writeTree(generator, node -> {
+            TagWriter.writeTags(node, model.getTags());
+            OperationBindingWriter.writeOperationBindings(node, model.getBindings());
+            OperationTraitWriter.writeOperationTraits(node, model.getOperationTraits());
+        });
+        MessageWriter.writeMessage(generator, model.getMessage());
+        JsonUtil.writeTree(generator,
+                node -> ExternalDocsWriter.writeExternalDocumentation(node, model.getExternalDocumentation()));
+        ExtensionWriter.writeExtensions(generator, model);
+    }
 }
@@ -17,6 +17,7 @@ package io.smallrye.asyncapi.core.runtime.io.schema;
 
 import static io.smallrye.asyncapi.core.runtime.io.JsonUtil.readObject;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -29,6 +30,8 @@ import java.util.Optional;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationValue;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 
@@ -135,7 +138,7 @@ public class SchemaReader {
              * {@link org.eclipse.microprofile.openapi.annotations.Components}.
              */
             if (name != null) {
-              map.put(name, SchemaFactory.readSchema(context, new SchemaImpl(name), nested, Collections.emptyMap()));
+                map.put(name, SchemaFactory.readSchema(context, new SchemaImpl(name), nested, Collections.emptyMap()));
             }
         }
         return map;
@@ -190,6 +193,176 @@ public class SchemaReader {
         return schema;
     }
 
+    /**
+     * Reads a schema type from the parser.
+     *
+     * @param parser the parser positioned on the value
+     * @return SchemaType enum
+     */
+    private static SchemaType readSchemaType(final JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_STRING) {
+            return SchemaType.valueOf(parser.getText().toUpperCase());
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    /**
+     * Reads a list of schemas from the parser.
+     *
+     * @param parser the parser positioned on the json array
+     * @return List of Schema models
+     */
+    private static Optional<List<Schema>> readSchemaArray(final JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return Optional.empty();
+        }
+        List<Schema> rval = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            rval.add(readSchema(parser));
+        }
+        return Optional.of(rval);
+    }
+
+    /**
+     * Reads the {@link Schema} AsyncAPI nodes from the parser.
+     *
+     * @param parser the parser positioned on the map of schemas
+     * @return Map of Schema model
+     * @throws IOException if the schemas could not be read
+     */
+    public static Optional<Map<String, Schema>> readSchemas(final JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return Optional.empty();
+        }
+        Map<String, Schema> models = new LinkedHashMap<>();
+        for (String fieldName = parser.nextFieldName(); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+            models.put(fieldName, readSchema(parser));
+        }
+        return Optional.of(models);
+    }
+
+    /**
+     * Reads a {@link Schema} AsyncAPI node from the parser.
+     *
+     * @param parser the parser positioned on the schema object
+     * @return Schema model
+     * @throws IOException if the schema could not be read
+     */
+    public static Schema readSchema(final JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+
+        IoLogging.logger.singleJsonObject("Schema");
+
+        Schema schema = new SchemaImpl();
+        for (String fieldName = parser.nextFieldName(); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+            switch (fieldName) {
+                case SchemaConstant.PROP_NAME:
+                    schema.setName(JsonUtil.stringValue(parser));
+                    break;
+                case Referenceable.PROP_$REF:
+                    schema.setRef(JsonUtil.stringValue(parser));
+                    break;
+                case SchemaConstant.PROP_FORMAT:
+                    schema.setFormat(JsonUtil.stringValue(parser));
+                    break;
+                case SchemaConstant.PROP_TITLE:
+                    schema.setTitle(JsonUtil.stringValue(parser));
+                    break;
+                case SchemaConstant.PROP_DESCRIPTION:
+                    schema.setDescription(JsonUtil.stringValue(parser));
+                    break;
+                case SchemaConstant.PROP_MULTIPLE_OF:
+                    schema.setMultipleOf(JsonUtil.bigDecimalValue(parser));
+                    break;
+                case SchemaConstant.PROP_MAXIMUM:
+                    schema.setMaximum(JsonUtil.bigDecimalValue(parser));
+                    break;
+                case SchemaConstant.PROP_EXCLUSIVE_MAXIMUM:
+                    schema.setExclusiveMaximum(JsonUtil.booleanValue(parser));
+                    break;
+                case SchemaConstant.PROP_MINIMUM:
+                    schema.setMinimum(JsonUtil.bigDecimalValue(parser));
+                    break;
+                case SchemaConstant.PROP_EXCLUSIVE_MINIMUM:
+                    schema.setExclusiveMinimum(JsonUtil.booleanValue(parser));
+                    break;
+                case SchemaConstant.PROP_MAX_LENGTH:
+                    schema.setMaxLength(JsonUtil.intValue(parser));
+                    break;
+                case SchemaConstant.PROP_MIN_LENGTH:
+                    schema.setMinLength(JsonUtil.intValue(parser));
+                    break;
+                case SchemaConstant.PROP_PATTERN:
+                    schema.setPattern(JsonUtil.stringValue(parser));
+                    break;
+                case SchemaConstant.PROP_MAX_ITEMS:
+                    schema.setMaxItems(JsonUtil.intValue(parser));
+                    break;
+                case SchemaConstant.PROP_MIN_ITEMS:
+                    schema.setMinItems(JsonUtil.intValue(parser));
+                    break;
+                case SchemaConstant.PROP_UNIQUE_ITEMS:
+                    schema.setUniqueItems(JsonUtil.booleanValue(parser));
+                    break;
+                case SchemaConstant.PROP_MAX_PROPERTIES:
+                    schema.setMaxProperties(JsonUtil.intValue(parser));
+                    break;
+                case SchemaConstant.PROP_MIN_PROPERTIES:
+                    schema.setMinProperties(JsonUtil.intValue(parser));
+                    break;
+                case SchemaConstant.PROP_REQUIRED:
+                    schema.setRequired(JsonUtil.readStringArray(parser).orElse(null));
+                    break;
+                case SchemaConstant.PROP_ENUMERATION:
+                    schema.setEnumeration(JsonUtil.readStringArray(parser).orElse(null));
+                    break;
+                case SchemaConstant.PROP_TYPE:
+                    schema.setType(readSchemaType(parser));
+                    break;
+                case SchemaConstant.PROP_NOT:
+                    schema.setNot(readSchema(parser));
+                    break;
+                case SchemaConstant.PROP_ALL_OF:
+                    schema.setAllOf(readSchemaArray(parser).orElse(null));
+                    break;
+                case SchemaConstant.PROP_PROPERTIES:
+                    schema.setProperties(readSchemas(parser).orElse(null));
+                    break;
+                case SchemaConstant.PROP_READ_ONLY:
+                    schema.setReadOnly(JsonUtil.booleanValue(parser));
+                    break;
+                case ExternalDocsConstant.PROP_EXTERNAL_DOCS:
+                    schema.setExternalDocs(ExternalDocsReader.readExternalDocs(JsonUtil.readTree(parser)));
+                    break;
+                case SchemaConstant.PROP_EXAMPLE:
+                    schema.setExample((String) readObject(JsonUtil.readTree(parser)));
+                    break;
+                case SchemaConstant.PROP_ONE_OF:
+                    schema.setOneOf(readSchemaArray(parser).orElse(null));
+                    break;
+                case SchemaConstant.PROP_ANY_OF:
+                    schema.setAnyOf(readSchemaArray(parser).orElse(null));
+                    break;
+                case SchemaConstant.PROP_WRITE_ONLY:
+                    schema.setWriteOnly(JsonUtil.booleanValue(parser));
+                    break;
+                default:
+                    ExtensionReader.readExtension(fieldName, parser, schema);
+                    break;
+            }
+        }
+
+        return schema;
+    }
+
     private static Optional<Map<String, SchemaProperty>> readSchemaProperties(final JsonNode node) {
         if (node == null) {
             return Optional.empty();
@@ -15,9 +15,11 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.schema;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
@@ -218,4 +220,109 @@ public class SchemaWriter {
             writeSchema(schemasNode.addObject(), schema);
         }
     }
+
+    /**
+     * Writes a map of {@link Schema} to the generator.
+     *
+     * @param generator the generator positioned inside of the parent object
+     * @param schemas map of Schema models
+     * @throws IOException if the schemas could not be written
+     */
+    public static void writeSchemas(JsonGenerator generator, Map<String, Schema> schemas) throws IOException {
+        writeSchemas(generator, schemas, ComponentsConstant.PROP_SCHEMAS);
+    }
+
+    private static void writeSchemas(JsonGenerator generator, Map<String, Schema> schemas, String propertyName)
+            throws IOException {
+        if (schemas == null) {
+            return;
+        }
+        generator.writeObjectFieldStart(propertyName);
+        for (Map.Entry<String, Schema> entry : schemas.entrySet()) {
+            writeSchema(generator, entry.getValue(), entry.getKey());
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes a {@link Schema} to the generator.
+     *
+     * @param generator the generator positioned inside of the parent object
+     * @param model Schema model
+     * @param name name of the node
+     * @throws IOException if the schema could not be written
+     */
+    public static void writeSchema(JsonGenerator generator, Schema model, String name) throws IOException {
+        if (model == null) {
+            return;
+        }
+        generator.writeObjectFieldStart(name);
+        writeSchema(generator, model);
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes the properties of the {@link Schema} model to the generator.
+     *
+     * @param generator the generator positioned inside of the schema object
+     * @param model Schema model
+     * @throws IOException if the schema could not be written
+     */
+    public static void writeSchema(JsonGenerator generator, Schema model) throws IOException {
+        if (model == null) {
+            return;
+        }
+
+        if (StringUtil.isNotEmpty(model.getRef())) {
+            JsonUtil.stringProperty(generator, Referenceable.PROP_$REF, model.getRef());
+        } else {
+            JsonUtil.stringProperty(generator, SchemaConstant.PROP_FORMAT, model.getFormat());
+            JsonUtil.stringProperty(generator, SchemaConstant.PROP_TITLE, model.getTitle());
+            JsonUtil.stringProperty(generator, SchemaConstant.PROP_DESCRIPTION, model.getDescription());
+            JsonUtil.bigDecimalProperty(generator, SchemaConstant.PROP_MULTIPLE_OF, model.getMultipleOf());
+            JsonUtil.bigDecimalProperty(generator, SchemaConstant.PROP_MAXIMUM, model.getMaximum());
+            JsonUtil.booleanProperty(generator, SchemaConstant.PROP_EXCLUSIVE_MAXIMUM, model.getExclusiveMaximum());
+            JsonUtil.bigDecimalProperty(generator, SchemaConstant.PROP_MINIMUM, model.getMinimum());
+            JsonUtil.booleanProperty(generator, SchemaConstant.PROP_EXCLUSIVE_MINIMUM, model.getExclusiveMinimum());
+            JsonUtil.intProperty(generator, SchemaConstant.PROP_MAX_LENGTH, model.getMaxLength());
+            JsonUtil.intProperty(generator, SchemaConstant.PROP_MIN_LENGTH, model.getMinLength());
+            JsonUtil.stringProperty(generator, SchemaConstant.PROP_PATTERN, model.getPattern());
+            JsonUtil.intProperty(generator, SchemaConstant.PROP_MAX_ITEMS, model.getMaxItems());
+            JsonUtil.intProperty(generator, SchemaConstant.PROP_MIN_ITEMS, model.getMinItems());
+            JsonUtil.booleanProperty(generator, SchemaConstant.PROP_UNIQUE_ITEMS, model.getUniqueItems());
+            JsonUtil.intProperty(generator, SchemaConstant.PROP_MAX_PROPERTIES, model.getMaxProperties());
+            JsonUtil.intProperty(generator, SchemaConstant.PROP_MIN_PROPERTIES, model.getMinProperties());
+            ObjectWriter.writeStringArray(generator, model.getRequired(), SchemaConstant.PROP_REQUIRED);
+            ObjectWriter.writeStringArray(generator, model.getEnumeration(), SchemaConstant.PROP_ENUMERATION);
+            JsonUtil.enumProperty(generator, SchemaConstant.PROP_TYPE, model.getType());
+            writeSchemaList(generator, model.getAllOf(), SchemaConstant.PROP_ALL_OF);
+            writeSchemas(generator, model.getProperties(), SchemaConstant.PROP_PROPERTIES);
+            JsonUtil.booleanProperty(generator, SchemaConstant.PROP_READ_ONLY, model.getReadOnly());
+            if (model.getExternalDocs() != null || model.getExample() != null) {
+                JsonUtil.writeTree(generator, node -> {
+                    ExternalDocsWriter.writeExternalDocumentation(node, model.getExternalDocs());
+                    ObjectWriter.writeObject(node, SchemaConstant.PROP_EXAMPLE, model.getExample());
+                });
+            }
+            writeSchemaList(generator, model.getOneOf(), SchemaConstant.PROP_ONE_OF);
+            writeSchemaList(generator, model.getAnyOf(), SchemaConstant.PROP_ANY_OF);
+            writeSchema(generator, model.getNot(), SchemaConstant.PROP_NOT);
+            JsonUtil.booleanProperty(generator, SchemaConstant.PROP_WRITE_ONLY, model.getWriteOnly());
+            ExtensionWriter.writeExtensions(generator, model);
+        }
+    }
+
+    private static void writeSchemaList(JsonGenerator generator, List<Schema> models, String propertyName)
+            throws IOException {
+        if (models == null) {
+            return;
+        }
+        generator.writeArrayFieldStart(propertyName);
+        for (Schema schema : models) {
+            generator.writeStartObject();
+            writeSchema(generator, schema);
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+    }
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.routing;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.smallrye.asyncapi.spec.models.channel.ChannelItem;
+
+/**
+ * A channel matching a topic, and the values of the parameters of the channel name extracted from the topic.
+ */
+public final class ChannelMatch {
+
+    private final ChannelTemplate template;
+
+    private final String[] values;
+
+    ChannelMatch(ChannelTemplate template, String[] values) {
+        this.template = template;
+        this.values = values;
+    }
+
+    /**
+     * @return the name of the channel, e.g. {@code smartylighting/streetlights/1/0/event/{streetlightId}/lighting/on}
+     */
+    public String getName() {
+        return template.getName();
+    }
+
+    /**
+     * @return the channel
+     */
+    public ChannelItem getChannel() {
+        return template.getChannel();
+    }
+
+    /**
+     * Get the value of a parameter.
+     *
+     * @param name the name of the parameter in the channel name
+     * @return the value of the parameter in the topic, null if the channel name has no such parameter
+     */
+    public String getParameter(String name) {
+        String[] names = template.getParameterNames();
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return values[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the values of the parameters by name, in the order of the channel name
+     */
+    public Map<String, String> getParameters() {
+        String[] names = template.getParameterNames();
+        if (names.length == 0) {
+            return Collections.emptyMap();
+        }
+        Map<String, String> parameters = new LinkedHashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            parameters.putIfAbsent(names[i], values[i]);
+        }
+        return Collections.unmodifiableMap(parameters);
+    }
+
+    @Override
+    public String toString() {
+        return template.getName() + getParameters();
+    }
+}
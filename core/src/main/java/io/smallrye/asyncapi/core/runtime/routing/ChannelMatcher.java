@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.routing;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import io.smallrye.asyncapi.spec.models.AsyncAPI;
+import io.smallrye.asyncapi.spec.models.channel.ChannelItem;
+
+/**
+ * Routes concrete topics to the channels of an AsyncAPI document. The channel names, e.g.
+ * {@code smartylighting/streetlights/1/0/event/{streetlightId}/lighting/measured}, are compiled into a trie of
+ * their segments, which is matched as an automaton: every segment of a topic is read once, so matching takes time
+ * linear in the length of the topic, independent of the number of channels.
+ * <p>
+ * A parameter matches a non-empty part of a single segment. If several channel names match a topic, the most
+ * specific one wins: at the first segment where they differ, a literal wins over a segment mixing literals and
+ * parameters, which wins over a parameter, and of two mixed segments the one with more literal characters wins.
+ * Names of the same specificity are ordered by their position in the document. Wildcards of the protocols, e.g.
+ * {@code +} and {@code #} of MQTT, have no special meaning.
+ * <p>
+ * A matcher is thread safe. The states of the automaton are created on first use.
+ *
+ * <pre>
+ * ChannelMatcher matcher = ChannelMatcher.compile(document);
+ * ChannelMatch match = matcher.match("smartylighting/streetlights/1/0/event/42/lighting/measured");
+ * String streetlightId = match.getParameter("streetlightId");
+ * </pre>
+ */
+public final class ChannelMatcher {
+
+    /**
+     * The separator of the segments of topics of MQTT, Kafka and most other protocols.
+     */
+    public static final char DEFAULT_SEPARATOR = '/';
+
+    private final char separator;
+
+    private final MatchState root;
+
+    private ChannelMatcher(char separator, MatchState root) {
+        this.separator = separator;
+        this.root = root;
+    }
+
+    /**
+     * Compile the channel names of a document, using the {@link #DEFAULT_SEPARATOR}.
+     *
+     * @param document the document
+     * @return the matcher
+     * @throws IllegalArgumentException if a channel name is invalid
+     */
+    public static ChannelMatcher compile(AsyncAPI document) {
+        return compile(document, DEFAULT_SEPARATOR);
+    }
+
+    /**
+     * Compile the channel names of a document.
+     *
+     * @param document the document
+     * @param separator the separator of the segments, e.g. {@code '.'} for AMQP routing keys
+     * @return the matcher
+     * @throws IllegalArgumentException if a channel name is invalid
+     */
+    public static ChannelMatcher compile(AsyncAPI document, char separator) {
+        Map<String, ChannelItem> channels = document.getChannels() != null
+                && document.getChannels().getChannels() != null ? document.getChannels().getChannels()
+                        : Collections.emptyMap();
+        return compile(channels, separator);
+    }
+
+    /**
+     * Compile channel names.
+     *
+     * @param channels the channels by name
+     * @param separator the separator of the segments
+     * @return the matcher
+     * @throws IllegalArgumentException if a channel name is invalid
+     */
+    public static ChannelMatcher compile(Map<String, ChannelItem> channels, char separator) {
+        List<ChannelTemplate> templates = new ArrayList<>(channels.size());
+        for (Map.Entry<String, ChannelItem> channel : channels.entrySet()) {
+            if (channel.getKey() != null && channel.getValue() != null) {
+                templates.add(ChannelTemplate.parse(channel.getKey(), channel.getValue(), separator, templates.size()));
+            }
+        }
+        return new ChannelMatcher(separator, new MatchState.States(TrieNode.build(templates)).getRoot());
+    }
+
+    /**
+     * Match a topic, e.g. an MQTT topic or an AMQP routing key.
+     *
+     * @param topic the topic
+     * @return the most specific channel matching the topic, null if none matches
+     */
+    public ChannelMatch match(CharSequence topic) {
+        MatchState state = root;
+        int length = topic.length();
+        int start = 0;
+        while (true) {
+            int end = indexOf(topic, separator, start);
+            state = state.next(topic, start, end);
+            if (state.isDead()) {
+                return null;
+            }
+            if (end == length) {
+                break;
+            }
+            start = end + 1;
+        }
+        ChannelTemplate template = state.getAccepted();
+        return template != null ? template.match(topic, separator) : null;
+    }
+
+    /**
+     * @return the separator of the segments
+     */
+    public char getSeparator() {
+        return separator;
+    }
+
+    // the position of the next separator, the length of the topic if there is none
+    static int indexOf(CharSequence topic, char separator, int start) {
+        int length = topic.length();
+        for (int i = start; i < length; i++) {
+            if (topic.charAt(i) == separator) {
+                return i;
+            }
+        }
+        return length;
+    }
+}
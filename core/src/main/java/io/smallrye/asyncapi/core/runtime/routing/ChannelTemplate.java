@@ -0,0 +1,314 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.routing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import io.smallrye.asyncapi.spec.models.channel.ChannelItem;
+
+/**
+ * A parsed channel name, e.g. {@code smartylighting/streetlights/1/0/event/{streetlightId}/lighting/measured}. The
+ * name is split into segments at the separator, every segment is a literal, a single parameter, or literals mixed
+ * with parameters, e.g. {@code {region}-{zone}}.
+ */
+final class ChannelTemplate {
+
+    private final String name;
+
+    private final ChannelItem channel;
+
+    // the position of the channel in the document
+    private final int order;
+
+    private final Segment[] segments;
+
+    // the names of the parameters, in the order of their placeholders
+    private final String[] parameterNames;
+
+    // the match of a name without parameters, shared by all matching topics
+    private final ChannelMatch match;
+
+    private ChannelTemplate(String name, ChannelItem channel, int order, Segment[] segments,
+            String[] parameterNames) {
+        this.name = name;
+        this.channel = channel;
+        this.order = order;
+        this.segments = segments;
+        this.parameterNames = parameterNames;
+        this.match = parameterNames.length == 0 ? new ChannelMatch(this, new String[0]) : null;
+    }
+
+    /**
+     * Parse a channel name.
+     *
+     * @param name the channel name
+     * @param channel the channel
+     * @param separator the separator of the segments
+     * @param order the position of the channel in the document
+     * @return the template
+     * @throws IllegalArgumentException if a placeholder is not closed within its segment or has no name, or a
+     *         parameter occurs more than once
+     */
+    static ChannelTemplate parse(String name, ChannelItem channel, char separator, int order) {
+        List<Segment> segments = new ArrayList<>();
+        List<String> parameterNames = new ArrayList<>();
+        int start = 0;
+        while (true) {
+            int end = name.indexOf(separator, start);
+            if (end < 0) {
+                end = name.length();
+            }
+            segments.add(Segment.parse(name, start, end, parameterNames));
+            if (end == name.length()) {
+                break;
+            }
+            start = end + 1;
+        }
+        for (int i = 1; i < parameterNames.size(); i++) {
+            if (parameterNames.subList(0, i).contains(parameterNames.get(i))) {
+                throw RoutingMessages.msg.duplicateParameter(name, parameterNames.get(i));
+            }
+        }
+        return new ChannelTemplate(name, channel, order, segments.toArray(new Segment[0]),
+                parameterNames.toArray(new String[0]));
+    }
+
+    String getName() {
+        return name;
+    }
+
+    ChannelItem getChannel() {
+        return channel;
+    }
+
+    Segment[] getSegments() {
+        return segments;
+    }
+
+    String[] getParameterNames() {
+        return parameterNames;
+    }
+
+    /**
+     * Extract the parameter values of a topic matched by this template.
+     *
+     * @param topic the topic, matched by this template
+     * @param separator the separator of the segments
+     * @return the match
+     */
+    ChannelMatch match(CharSequence topic, char separator) {
+        if (match != null) {
+            return match;
+        }
+        String[] values = new String[parameterNames.length];
+        int[] bounds = new int[2];
+        int parameter = 0;
+        int start = 0;
+        for (Segment segment : segments) {
+            int end = ChannelMatcher.indexOf(topic, separator, start);
+            int count = segment.getParameterCount();
+            if (count > 0) {
+                if (bounds.length < count * 2) {
+                    bounds = new int[count * 2];
+                }
+                segment.match(topic, start, end, bounds);
+                for (int i = 0; i < count; i++) {
+                    values[parameter++] = topic.subSequence(bounds[i * 2], bounds[i * 2 + 1]).toString();
+                }
+            }
+            start = end + 1;
+        }
+        return new ChannelMatch(this, values);
+    }
+
+    /**
+     * Compare the specificity of two templates matching the same topic. At the first segment of a different kind,
+     * literals are more specific than segments mixing literals and parameters, which are more specific than single
+     * parameters. Of two mixed segments, the one with more literal characters is more specific. Templates of the
+     * same specificity are ordered by their position in the document.
+     *
+     * @param other the other template, having the same number of segments
+     * @return a positive number if this template takes precedence, a negative number if the other one does
+     */
+    int compareSpecificity(ChannelTemplate other) {
+        for (int i = 0; i < segments.length; i++) {
+            int difference = segments[i].kind - other.segments[i].kind;
+            if (difference == 0 && segments[i].kind == Segment.MIXED) {
+                difference = segments[i].literalLength - other.segments[i].literalLength;
+            }
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return other.order - order;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    /**
+     * A segment of a channel name. The segment is represented by the literals around its parameters, a literal
+     * segment has a single literal, a parameter segment two empty ones. Every parameter matches at least one
+     * character, if several parameters are separated by literals, each one ends at the first occurrence of the
+     * following literal.
+     */
+    static final class Segment {
+
+        static final int PARAMETER = 0;
+
+        static final int MIXED = 1;
+
+        static final int LITERAL = 2;
+
+        private final int kind;
+
+        private final String[] literals;
+
+        private final int literalLength;
+
+        private Segment(int kind, String[] literals) {
+            this.kind = kind;
+            this.literals = literals;
+            int length = 0;
+            for (String literal : literals) {
+                length += literal.length();
+            }
+            this.literalLength = length;
+        }
+
+        private static Segment parse(String name, int start, int end, List<String> parameterNames) {
+            List<String> literals = new ArrayList<>();
+            int literalStart = start;
+            int i = start;
+            while (i < end) {
+                if (name.charAt(i) == '{') {
+                    int close = name.indexOf('}', i + 1);
+                    int nested = name.indexOf('{', i + 1);
+                    if (close < 0 || close >= end || close == i + 1 || nested >= 0 && nested < close) {
+                        throw RoutingMessages.msg.invalidChannelName(name);
+                    }
+                    literals.add(name.substring(literalStart, i));
+                    parameterNames.add(name.substring(i + 1, close));
+                    i = close + 1;
+                    literalStart = i;
+                } else {
+                    i++;
+                }
+            }
+            literals.add(name.substring(literalStart, end));
+
+            int kind;
+            if (literals.size() == 1) {
+                kind = LITERAL;
+            } else if (literals.size() == 2 && literals.get(0).isEmpty() && literals.get(1).isEmpty()) {
+                kind = PARAMETER;
+            } else {
+                kind = MIXED;
+            }
+            return new Segment(kind, literals.toArray(new String[0]));
+        }
+
+        int getKind() {
+            return kind;
+        }
+
+        /**
+         * @return the text of a literal segment
+         */
+        String getLiteral() {
+            return literals[0];
+        }
+
+        int getParameterCount() {
+            return literals.length - 1;
+        }
+
+        /**
+         * Match a segment of a topic. The parameter values are stored as pairs of start and end in the bounds.
+         *
+         * @param topic the topic
+         * @param start the start of the segment in the topic
+         * @param end the end of the segment in the topic
+         * @param bounds the bounds of the parameter values, at least two per parameter, may be null
+         * @return true if the segment matches
+         */
+        boolean match(CharSequence topic, int start, int end, int[] bounds) {
+            int parameters = literals.length - 1;
+            if (parameters == 0) {
+                return end - start == literals[0].length() && regionMatches(topic, start, literals[0]);
+            }
+            String prefix = literals[0];
+            String suffix = literals[parameters];
+            if (end - start < prefix.length() + suffix.length() + parameters
+                    || !regionMatches(topic, start, prefix) || !regionMatches(topic, end - suffix.length(), suffix)) {
+                return false;
+            }
+            int position = start + prefix.length();
+            int limit = end - suffix.length();
+            for (int i = 1; i < parameters; i++) {
+                // the parameter before the literal and the ones after it match at least one character
+                int found = indexOf(topic, literals[i], position + 1, limit - (parameters - i));
+                if (found < 0) {
+                    return false;
+                }
+                if (bounds != null) {
+                    bounds[(i - 1) * 2] = position;
+                    bounds[(i - 1) * 2 + 1] = found;
+                }
+                position = found + literals[i].length();
+            }
+            if (position >= limit) {
+                return false;
+            }
+            if (bounds != null) {
+                bounds[(parameters - 1) * 2] = position;
+                bounds[(parameters - 1) * 2 + 1] = limit;
+            }
+            return true;
+        }
+
+        /**
+         * @return the literals of a segment mixing literals and parameters, equal for segments matching the same
+         *         topics
+         */
+        List<String> getLiterals() {
+            return Arrays.asList(literals);
+        }
+
+        private static boolean regionMatches(CharSequence topic, int offset, String literal) {
+            for (int i = 0; i < literal.length(); i++) {
+                if (topic.charAt(offset + i) != literal.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // the first occurrence of the literal within [from, to)
+        private static int indexOf(CharSequence topic, String literal, int from, int to) {
+            for (int i = from; i + literal.length() <= to; i++) {
+                if (regionMatches(topic, i, literal)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
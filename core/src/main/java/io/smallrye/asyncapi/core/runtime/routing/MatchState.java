@@ -0,0 +1,259 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.routing;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import io.smallrye.asyncapi.core.runtime.routing.TrieNode.Mixed;
+
+/**
+ * A state of the automaton matching topics segment by segment. A state is the set of trie nodes reachable by the
+ * segments read so far, so every segment is read once, whether it matches a literal or a parameter of a channel
+ * name. The transitions are created on first use and cached, states are interned by their set of nodes.
+ * <p>
+ * A segment equal to a literal child of any node is looked up in a hash table. Any other segment matches the
+ * parameter children of the nodes, and the mixed children whose literals it matches.
+ */
+final class MatchState {
+
+    private final States states;
+
+    private final TrieNode[] nodes;
+
+    private final ChannelTemplate accepted;
+
+    // the literal children of all nodes and their open addressing index, positions plus one, 0 for free slots
+    private final String[] literals;
+
+    private final int[] index;
+
+    private final AtomicReferenceArray<MatchState> literalTargets;
+
+    // the mixed children of all nodes
+    private final Mixed[] mixed;
+
+    private final ConcurrentMap<BitSet, MatchState> mixedTargets;
+
+    // the target of segments matching no literal or mixed child
+    private volatile MatchState parameterTarget;
+
+    private MatchState(States states, TrieNode[] nodes) {
+        this.states = states;
+        this.nodes = nodes;
+
+        ChannelTemplate mostSpecific = null;
+        Set<String> literalSet = new LinkedHashSet<>();
+        List<Mixed> mixedList = new ArrayList<>();
+        for (TrieNode node : nodes) {
+            ChannelTemplate template = node.getAccepted();
+            if (template != null && (mostSpecific == null || template.compareSpecificity(mostSpecific) > 0)) {
+                mostSpecific = template;
+            }
+            literalSet.addAll(node.getLiterals().keySet());
+            node.getMixed().forEach(mixedList::add);
+        }
+        this.accepted = mostSpecific;
+        this.literals = literalSet.toArray(new String[0]);
+        this.index = new int[Integer.highestOneBit(Math.max(literals.length, 1)) << 2];
+        for (int i = 0; i < literals.length; i++) {
+            int slot = spread(literals[i].hashCode()) & (index.length - 1);
+            while (index[slot] != 0) {
+                slot = (slot + 1) & (index.length - 1);
+            }
+            index[slot] = i + 1;
+        }
+        this.literalTargets = new AtomicReferenceArray<>(literals.length);
+        this.mixed = mixedList.toArray(new Mixed[0]);
+        this.mixedTargets = mixed.length > 0 ? new ConcurrentHashMap<>() : null;
+    }
+
+    /**
+     * @return the template of the most specific channel name matching the segments read so far, null if none
+     */
+    ChannelTemplate getAccepted() {
+        return accepted;
+    }
+
+    /**
+     * @return true if no channel name matches the segments read so far
+     */
+    boolean isDead() {
+        return nodes.length == 0;
+    }
+
+    /**
+     * Read the next segment of a topic.
+     *
+     * @param topic the topic
+     * @param start the start of the segment
+     * @param end the end of the segment, exclusive
+     * @return the next state
+     */
+    MatchState next(CharSequence topic, int start, int end) {
+        int literal = indexOf(topic, start, end);
+        if (literal >= 0) {
+            MatchState target = literalTargets.get(literal);
+            if (target == null) {
+                target = states.get(literalTarget(literals[literal]));
+                literalTargets.set(literal, target);
+            }
+            return target;
+        }
+        if (start == end) {
+            // parameters are never empty
+            return states.dead;
+        }
+
+        BitSet matched = null;
+        for (int i = 0; i < mixed.length; i++) {
+            if (mixed[i].segment.match(topic, start, end, null)) {
+                if (matched == null) {
+                    matched = new BitSet(mixed.length);
+                }
+                matched.set(i);
+            }
+        }
+        if (matched != null) {
+            return mixedTargets.computeIfAbsent(matched, m -> states.get(mixedTarget(m)));
+        }
+        MatchState target = parameterTarget;
+        if (target == null) {
+            target = states.get(mixedTarget(new BitSet()));
+            parameterTarget = target;
+        }
+        return target;
+    }
+
+    private int indexOf(CharSequence topic, int start, int end) {
+        if (literals.length == 0) {
+            return -1;
+        }
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + topic.charAt(i);
+        }
+        int mask = index.length - 1;
+        for (int slot = spread(hash) & mask; index[slot] != 0; slot = (slot + 1) & mask) {
+            String literal = literals[index[slot] - 1];
+            if (literal.length() == end - start && literal.hashCode() == hash && regionMatches(topic, start, literal)) {
+                return index[slot] - 1;
+            }
+        }
+        return -1;
+    }
+
+    private BitSet literalTarget(String literal) {
+        BitSet target = new BitSet();
+        for (TrieNode node : nodes) {
+            TrieNode child = node.getLiterals().get(literal);
+            if (child != null) {
+                target.set(child.getId());
+            }
+            if (!literal.isEmpty()) {
+                if (node.getParameter() != null) {
+                    target.set(node.getParameter().getId());
+                }
+                for (Mixed mixedChild : node.getMixed()) {
+                    if (mixedChild.segment.match(literal, 0, literal.length(), null)) {
+                        target.set(mixedChild.node.getId());
+                    }
+                }
+            }
+        }
+        return target;
+    }
+
+    private BitSet mixedTarget(BitSet matched) {
+        BitSet target = new BitSet();
+        for (TrieNode node : nodes) {
+            if (node.getParameter() != null) {
+                target.set(node.getParameter().getId());
+            }
+        }
+        for (int i = matched.nextSetBit(0); i >= 0; i = matched.nextSetBit(i + 1)) {
+            target.set(mixed[i].node.getId());
+        }
+        return target;
+    }
+
+    private static boolean regionMatches(CharSequence topic, int offset, String literal) {
+        for (int i = 0; i < literal.length(); i++) {
+            if (topic.charAt(offset + i) != literal.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * The interned states of an automaton.
+     */
+    static final class States {
+
+        private final List<TrieNode> nodes;
+
+        private final Map<BitSet, MatchState> states = new HashMap<>();
+
+        private final MatchState dead;
+
+        private final MatchState root;
+
+        /**
+         * @param nodes the nodes of the trie by id, the root first
+         */
+        States(List<TrieNode> nodes) {
+            this.nodes = nodes;
+            this.dead = new MatchState(this, new TrieNode[0]);
+            BitSet root = new BitSet();
+            root.set(0);
+            this.root = get(root);
+        }
+
+        MatchState getRoot() {
+            return root;
+        }
+
+        synchronized MatchState get(BitSet ids) {
+            if (ids.isEmpty()) {
+                return dead;
+            }
+            MatchState state = states.get(ids);
+            if (state == null) {
+                TrieNode[] stateNodes = new TrieNode[ids.cardinality()];
+                int i = 0;
+                for (int id = ids.nextSetBit(0); id >= 0; id = ids.nextSetBit(id + 1)) {
+                    stateNodes[i++] = nodes.get(id);
+                }
+                state = new MatchState(this, stateNodes);
+                states.put(ids, state);
+            }
+            return state;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.routing;
+
+import org.jboss.logging.Messages;
+import org.jboss.logging.annotations.Message;
+import org.jboss.logging.annotations.MessageBundle;
+
+@MessageBundle(projectCode = "OKAAP", length = 5)
+interface RoutingMessages {
+    RoutingMessages msg = Messages.getBundle(RoutingMessages.class);
+
+    @Message(id = 12000, value = "Invalid channel name %s, every '{' must be followed by a parameter name and '}' within the same segment")
+    IllegalArgumentException invalidChannelName(String name);
+
+    @Message(id = 12001, value = "Invalid channel name %s, the parameter %s occurs more than once")
+    IllegalArgumentException duplicateParameter(String name, String parameter);
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.routing;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.smallrye.asyncapi.core.runtime.routing.ChannelTemplate.Segment;
+
+/**
+ * A node of the segment trie of the channel names. The children of a node are keyed by the next segment: literal
+ * segments by their text, mixed segments by their literals, and a single child for all parameter segments.
+ */
+final class TrieNode {
+
+    private final int id;
+
+    private final Map<String, TrieNode> literals = new LinkedHashMap<>();
+
+    private final Map<List<String>, Mixed> mixed = new LinkedHashMap<>();
+
+    private TrieNode parameter;
+
+    // the most specific template ending at this node
+    private ChannelTemplate accepted;
+
+    private TrieNode(int id) {
+        this.id = id;
+    }
+
+    /**
+     * Build the trie of channel names.
+     *
+     * @param templates the templates of the channel names
+     * @return the nodes of the trie by id, the root first
+     */
+    static List<TrieNode> build(List<ChannelTemplate> templates) {
+        List<TrieNode> nodes = new ArrayList<>();
+        TrieNode root = new TrieNode(0);
+        nodes.add(root);
+        for (ChannelTemplate template : templates) {
+            TrieNode node = root;
+            for (Segment segment : template.getSegments()) {
+                node = node.child(segment, nodes);
+            }
+            if (node.accepted == null || template.compareSpecificity(node.accepted) > 0) {
+                node.accepted = template;
+            }
+        }
+        return nodes;
+    }
+
+    private TrieNode child(Segment segment, List<TrieNode> nodes) {
+        switch (segment.getKind()) {
+            case Segment.LITERAL:
+                return literals.computeIfAbsent(segment.getLiteral(), literal -> newNode(nodes));
+            case Segment.PARAMETER:
+                if (parameter == null) {
+                    parameter = newNode(nodes);
+                }
+                return parameter;
+            default:
+                return mixed.computeIfAbsent(segment.getLiterals(),
+                        literals -> new Mixed(segment, newNode(nodes))).node;
+        }
+    }
+
+    private static TrieNode newNode(List<TrieNode> nodes) {
+        TrieNode node = new TrieNode(nodes.size());
+        nodes.add(node);
+        return node;
+    }
+
+    int getId() {
+        return id;
+    }
+
+    Map<String, TrieNode> getLiterals() {
+        return literals;
+    }
+
+    Iterable<Mixed> getMixed() {
+        return mixed.values();
+    }
+
+    TrieNode getParameter() {
+        return parameter;
+    }
+
+    ChannelTemplate getAccepted() {
+        return accepted;
+    }
+
+    /**
+     * A child of a mixed segment.
+     */
+    static final class Mixed {
+
+        final Segment segment;
+
+        final TrieNode node;
+
+        private Mixed(Segment segment, TrieNode node) {
+            this.segment = segment;
+            this.node = node;
+        }
+    }
+}
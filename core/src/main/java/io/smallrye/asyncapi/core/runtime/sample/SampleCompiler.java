@@ -0,0 +1,770 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.sample;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+
+import io.smallrye.asyncapi.core.api.constants.AsyncApiConstants;
+import io.smallrye.asyncapi.core.api.models.schema.SchemaImpl;
+import io.smallrye.asyncapi.core.api.util.MergeUtil;
+import io.smallrye.asyncapi.core.runtime.sample.SampleNode.ArraySample;
+import io.smallrye.asyncapi.core.runtime.sample.SampleNode.BooleanSample;
+import io.smallrye.asyncapi.core.runtime.sample.SampleNode.ChoiceSample;
+import io.smallrye.asyncapi.core.runtime.sample.SampleNode.LiteralSample;
+import io.smallrye.asyncapi.core.runtime.sample.SampleNode.NumberSample;
+import io.smallrye.asyncapi.core.runtime.sample.SampleNode.ObjectSample;
+import io.smallrye.asyncapi.core.runtime.sample.SampleNode.StringFormat;
+import io.smallrye.asyncapi.core.runtime.sample.SampleNode.StringSample;
+import io.smallrye.asyncapi.core.runtime.validation.PayloadValidator;
+import io.smallrye.asyncapi.spec.annotations.schema.SchemaType;
+import io.smallrye.asyncapi.spec.models.AsyncAPI;
+import io.smallrye.asyncapi.spec.models.schema.Schema;
+
+/**
+ * Compiles the schemas of an AsyncAPI document into {@link SampleNode}s. Every schema is compiled once, recursive
+ * schemas result in cyclic nodes.
+ * <p>
+ * The branches of allOf are intersected with their schema: the larger minimum and the smaller maximum apply, the
+ * required properties are combined and properties constrained by several branches have to satisfy all of them.
+ * Every branch of anyOf and oneOf is intersected with a copy of its schema and becomes a choice. A value of a oneOf
+ * branch is only used if it matches no other branch, schemas for which no such value is found are rejected.
+ */
+final class SampleCompiler {
+
+    // the range of numbers bounded on one side only or not at all
+    private static final BigDecimal DEFAULT_RANGE = BigDecimal.valueOf(1000);
+
+    // the maximum number of characters of strings and of items of arrays above their minimum
+    private static final int DEFAULT_LENGTH = 16;
+
+    private static final int DEFAULT_ITEMS = 4;
+
+    // the number of values of a format tested against a pattern, and of a oneOf branch tested against the others
+    private static final int PATTERN_SAMPLES = 16;
+
+    private static final Pattern JSON_NUMBER = Pattern.compile("-?(0|[1-9][0-9]*)(\\.[0-9]+)?([eE][+-]?[0-9]+)?");
+
+    private static final BigDecimal MIN_INT = BigDecimal.valueOf(Integer.MIN_VALUE);
+
+    private static final BigDecimal MAX_INT = BigDecimal.valueOf(Integer.MAX_VALUE);
+
+    private final AsyncAPI document;
+
+    private final Map<String, Schema> schemas;
+
+    private final Map<Schema, SampleNode> nodes = new IdentityHashMap<>();
+
+    // the schemas created for properties and items constrained by several branches of allOf, by their branches
+    private final Map<Set<Schema>, Schema> intersections = new HashMap<>();
+
+    private final Map<Schema, List<Schema>> intersected = new IdentityHashMap<>();
+
+    // the choices of oneOf, completed once all schemas are compiled
+    private final List<ChoiceSample> exclusiveChoices = new ArrayList<>();
+
+    SampleCompiler(AsyncAPI document) {
+        Map<String, Schema> componentSchemas = document != null && document.getComponents() != null
+                ? document.getComponents().getSchemas()
+                : null;
+        this.document = document;
+        this.schemas = componentSchemas != null ? componentSchemas : Collections.emptyMap();
+    }
+
+    /**
+     * Compile a schema.
+     *
+     * @param schema the schema, null for a schema allowing any value
+     * @return the compiled schema
+     * @throws IllegalArgumentException if a reference cannot be resolved or no valid value can be generated
+     */
+    SampleNode compile(Schema schema) {
+        SampleNode root = node(schema);
+        // the innermost choices first, their values are part of the values of the outer ones
+        for (int i = exclusiveChoices.size() - 1; i >= 0; i--) {
+            completeChoice(exclusiveChoices.get(i));
+        }
+        exclusiveChoices.clear();
+        return root;
+    }
+
+    private SampleNode node(Schema schema) {
+        if (schema == null) {
+            return SampleNode.ANY;
+        }
+        Schema resolved = resolve(schema);
+        SampleNode node = nodes.get(resolved);
+        if (node != null) {
+            return node;
+        }
+
+        Schema effective = mergeAllOf(resolved, 0);
+        if (isNotEmpty(effective.getAnyOf()) || isNotEmpty(effective.getOneOf())) {
+            ChoiceSample choice = new ChoiceSample();
+            nodes.put(resolved, choice);
+            compileChoices(effective, choice);
+            return choice;
+        }
+
+        List<String> enumeration = effective.getEnumeration();
+        SchemaType type = typeOf(effective);
+        if (enumeration != null && !enumeration.isEmpty()) {
+            node = compileEnumeration(enumeration, type);
+        } else if (type == SchemaType.OBJECT) {
+            ObjectSample object = new ObjectSample();
+            // registered before the properties are compiled, recursive references terminate here
+            nodes.put(resolved, object);
+            compileObject(effective, object);
+            return object;
+        } else if (type == SchemaType.ARRAY) {
+            ArraySample array = new ArraySample();
+            nodes.put(resolved, array);
+            compileArray(effective, array);
+            return array;
+        } else if (type == SchemaType.BOOLEAN) {
+            node = new BooleanSample();
+        } else if (type == SchemaType.INTEGER || type == SchemaType.NUMBER) {
+            node = compileNumber(effective, type == SchemaType.INTEGER);
+        } else {
+            node = compileString(effective);
+        }
+        nodes.put(resolved, node);
+        return node;
+    }
+
+    private Schema resolve(Schema schema) {
+        Schema resolved = schema;
+        int references = 0;
+        while (resolved.getRef() != null) {
+            String ref = resolved.getRef();
+            String name = ref.startsWith(AsyncApiConstants.REF_PREFIX_SCHEMA)
+                    ? ref.substring(AsyncApiConstants.REF_PREFIX_SCHEMA.length())
+                    : ref;
+            resolved = schemas.get(name);
+            // a chain of references longer than the number of schemas is a cycle
+            if (resolved == null || ++references > schemas.size()) {
+                throw SampleMessages.msg.unresolvableReference(ref);
+            }
+        }
+        return resolved;
+    }
+
+    private Schema mergeAllOf(Schema schema, int depth) {
+        if (!isNotEmpty(schema.getAllOf())) {
+            return schema;
+        }
+        if (depth > schemas.size()) {
+            throw SampleMessages.msg.unsatisfiableSchema("allOf");
+        }
+        Schema merged = MergeUtil.copyObject(schema);
+        merged.setAllOf(null);
+        for (Schema branch : schema.getAllOf()) {
+            merged = intersect(merged, mergeAllOf(resolve(branch), depth + 1));
+        }
+        return merged;
+    }
+
+    /**
+     * Intersect the constraints of two schemas.
+     *
+     * @param schema a copy of the first schema, modified to contain the intersection
+     * @param other the second schema, not modified
+     * @return the intersection
+     */
+    private Schema intersect(Schema schema, Schema other) {
+        schema.setType(intersectType(schema.getType(), other.getType()));
+        schema.setFormat(intersectFormat(schema.getFormat(), other.getFormat()));
+
+        if (isStricter(other.getMinimum(), other.getExclusiveMinimum(), schema.getMinimum(),
+                schema.getExclusiveMinimum(), 1)) {
+            schema.setMinimum(other.getMinimum());
+            schema.setExclusiveMinimum(other.getExclusiveMinimum());
+        }
+        if (isStricter(other.getMaximum(), other.getExclusiveMaximum(), schema.getMaximum(),
+                schema.getExclusiveMaximum(), -1)) {
+            schema.setMaximum(other.getMaximum());
+            schema.setExclusiveMaximum(other.getExclusiveMaximum());
+        }
+        schema.setMultipleOf(leastCommonMultiple(schema.getMultipleOf(), other.getMultipleOf()));
+
+        schema.setMinLength(larger(schema.getMinLength(), other.getMinLength()));
+        schema.setMaxLength(smaller(schema.getMaxLength(), other.getMaxLength()));
+        schema.setMinItems(larger(schema.getMinItems(), other.getMinItems()));
+        schema.setMaxItems(smaller(schema.getMaxItems(), other.getMaxItems()));
+        schema.setMinProperties(larger(schema.getMinProperties(), other.getMinProperties()));
+        schema.setMaxProperties(smaller(schema.getMaxProperties(), other.getMaxProperties()));
+        if (Boolean.TRUE.equals(other.getUniqueItems())) {
+            schema.setUniqueItems(Boolean.TRUE);
+        }
+
+        if (other.getPattern() != null) {
+            // a value has to contain a match of both patterns
+            schema.setPattern(schema.getPattern() == null || schema.getPattern().equals(other.getPattern())
+                    ? other.getPattern()
+                    : "^(?=[\\s\\S]*?(?:" + schema.getPattern() + "))[\\s\\S]*?(?:" + other.getPattern() + ")");
+        }
+        if (other.getEnumeration() != null) {
+            List<String> values = new ArrayList<>(other.getEnumeration());
+            if (schema.getEnumeration() != null) {
+                values.retainAll(schema.getEnumeration());
+            }
+            if (values.isEmpty()) {
+                throw SampleMessages.msg.unsatisfiableSchema("enum");
+            }
+            schema.setEnumeration(values);
+        }
+        if (schema.getExample() == null) {
+            schema.setExample(other.getExample());
+        }
+
+        intersectProperties(schema, other);
+        schema.setItems(intersection(schema.getItems(), other.getItems()));
+        schema.setAnyOf(intersectChoices(schema.getAnyOf(), other.getAnyOf(), Schema::anyOf));
+        schema.setOneOf(intersectChoices(schema.getOneOf(), other.getOneOf(), Schema::oneOf));
+        return schema;
+    }
+
+    private static SchemaType intersectType(SchemaType type, SchemaType other) {
+        if (other == null || other == SchemaType.DEFAULT || other == type) {
+            return type;
+        }
+        if (type == null || type == SchemaType.DEFAULT) {
+            return other;
+        }
+        if (type == SchemaType.INTEGER && other == SchemaType.NUMBER
+                || type == SchemaType.NUMBER && other == SchemaType.INTEGER) {
+            return SchemaType.INTEGER;
+        }
+        throw SampleMessages.msg.unsatisfiableSchema("type");
+    }
+
+    private static String intersectFormat(String format, String other) {
+        if (other == null || other.equals(format)) {
+            return format;
+        }
+        if (format == null) {
+            return other;
+        }
+        if (format.equals("int32") && other.equals("int64") || format.equals("int64") && other.equals("int32")) {
+            return "int32";
+        }
+        throw SampleMessages.msg.unsatisfiableSchema("format");
+    }
+
+    /**
+     * @param direction 1 for minimums, -1 for maximums
+     * @return true if the first bound is set and excludes more values than the second bound
+     */
+    private static boolean isStricter(BigDecimal bound, Boolean exclusive, BigDecimal other, Boolean otherExclusive,
+            int direction) {
+        if (bound == null) {
+            return false;
+        }
+        if (other == null) {
+            return true;
+        }
+        int comparison = bound.compareTo(other) * direction;
+        return comparison > 0 || comparison == 0 && Boolean.TRUE.equals(exclusive)
+                && !Boolean.TRUE.equals(otherExclusive);
+    }
+
+    private static BigDecimal leastCommonMultiple(BigDecimal multipleOf, BigDecimal other) {
+        if (multipleOf == null || multipleOf.signum() <= 0) {
+            return other;
+        }
+        if (other == null || other.signum() <= 0) {
+            return multipleOf;
+        }
+        int scale = Math.max(multipleOf.scale(), other.scale());
+        BigInteger first = multipleOf.setScale(scale).unscaledValue();
+        BigInteger second = other.setScale(scale).unscaledValue();
+        return new BigDecimal(first.divide(first.gcd(second)).multiply(second), scale);
+    }
+
+    private static Integer larger(Integer value, Integer other) {
+        return value == null || other != null && other > value ? other : value;
+    }
+
+    private static Integer smaller(Integer value, Integer other) {
+        return value == null || other != null && other < value ? other : value;
+    }
+
+    /**
+     * Combine the properties of two object schemas. A property has to satisfy the schemas of both, the schema of
+     * the additional properties applies to the properties defined by the other schema only.
+     */
+    private void intersectProperties(Schema schema, Schema other) {
+        Set<String> required = new LinkedHashSet<>();
+        if (schema.getRequired() != null) {
+            required.addAll(schema.getRequired());
+        }
+        if (other.getRequired() != null) {
+            required.addAll(other.getRequired());
+        }
+        if (!required.isEmpty()) {
+            schema.setRequired(new ArrayList<>(required));
+        }
+        if (other.getProperties() == null && other.getAdditionalPropertiesSchema() == null
+                && other.getAdditionalPropertiesBoolean() == null) {
+            return;
+        }
+
+        Map<String, Schema> properties = schema.getProperties() != null ? schema.getProperties()
+                : Collections.emptyMap();
+        Map<String, Schema> otherProperties = other.getProperties() != null ? other.getProperties()
+                : Collections.emptyMap();
+        Set<String> names = new LinkedHashSet<>(properties.keySet());
+        names.addAll(otherProperties.keySet());
+        Map<String, Schema> merged = new LinkedHashMap<>();
+        for (String name : names) {
+            boolean defined = properties.containsKey(name);
+            boolean otherDefined = otherProperties.containsKey(name);
+            if (!defined && Boolean.FALSE.equals(schema.getAdditionalPropertiesBoolean())
+                    || !otherDefined && Boolean.FALSE.equals(other.getAdditionalPropertiesBoolean())) {
+                if (required.contains(name)) {
+                    throw SampleMessages.msg.unsatisfiableSchema("additionalProperties");
+                }
+                continue;
+            }
+            merged.put(name, intersection(defined ? properties.get(name) : schema.getAdditionalPropertiesSchema(),
+                    otherDefined ? otherProperties.get(name) : other.getAdditionalPropertiesSchema()));
+        }
+        schema.setProperties(merged.isEmpty() ? null : merged);
+
+        if (Boolean.FALSE.equals(schema.getAdditionalPropertiesBoolean())
+                || Boolean.FALSE.equals(other.getAdditionalPropertiesBoolean())) {
+            schema.setAdditionalPropertiesSchema(null);
+            schema.setAdditionalPropertiesBoolean(Boolean.FALSE);
+        } else {
+            schema.setAdditionalPropertiesSchema(intersection(schema.getAdditionalPropertiesSchema(),
+                    other.getAdditionalPropertiesSchema()));
+        }
+    }
+
+    /**
+     * Get a schema satisfied by values of both schemas. The schema is created once for every set of schemas, an
+     * intersection with a schema it already contains is the same schema, so recursive schemas result in cyclic
+     * nodes.
+     */
+    private Schema intersection(Schema schema, Schema other) {
+        if (schema == null || other == null || schema == other) {
+            return schema != null ? schema : other;
+        }
+        // the branches in the order of their first occurrence, the merge does not depend on identity hash codes
+        List<Schema> ordered = new ArrayList<>(branches(resolve(schema)));
+        Set<Schema> branches = Collections.newSetFromMap(new IdentityHashMap<>());
+        branches.addAll(ordered);
+        for (Schema branch : branches(resolve(other))) {
+            if (branches.add(branch)) {
+                ordered.add(branch);
+            }
+        }
+        return intersections.computeIfAbsent(branches, key -> {
+            Schema intersection = new SchemaImpl().allOf(ordered);
+            intersected.put(intersection, ordered);
+            return intersection;
+        });
+    }
+
+    private List<Schema> branches(Schema schema) {
+        List<Schema> branches = intersected.get(schema);
+        return branches != null ? branches : Collections.singletonList(schema);
+    }
+
+    /**
+     * Intersect two lists of anyOf or oneOf branches, every branch of the first list has to match the second list.
+     */
+    private static List<Schema> intersectChoices(List<Schema> branches, List<Schema> otherBranches,
+            BiFunction<Schema, List<Schema>, Schema> setter) {
+        if (!isNotEmpty(otherBranches)) {
+            return branches;
+        }
+        if (!isNotEmpty(branches)) {
+            return otherBranches;
+        }
+        Schema others = setter.apply(new SchemaImpl(), otherBranches);
+        List<Schema> combined = new ArrayList<>(branches.size());
+        for (Schema branch : branches) {
+            combined.add(new SchemaImpl().allOf(Arrays.asList(branch, others)));
+        }
+        return combined;
+    }
+
+    private void compileChoices(Schema schema, ChoiceSample choice) {
+        // anyOf is compiled first, the branches of oneOf remain part of every branch of anyOf
+        boolean exclusive = !isNotEmpty(schema.getAnyOf());
+        List<Schema> branches = exclusive ? schema.getOneOf() : schema.getAnyOf();
+        SampleNode[] choices = new SampleNode[branches.size()];
+        for (int i = 0; i < choices.length; i++) {
+            Schema base = MergeUtil.copyObject(schema);
+            if (exclusive) {
+                base.setOneOf(null);
+            } else {
+                base.setAnyOf(null);
+            }
+            choices[i] = node(intersect(base, mergeAllOf(resolve(branches.get(i)), 0)));
+        }
+        choice.choices = choices;
+
+        if (exclusive) {
+            PayloadValidator[] validators = new PayloadValidator[branches.size()];
+            for (int i = 0; i < validators.length; i++) {
+                validators[i] = PayloadValidator.compile(branches.get(i), document);
+            }
+            choice.validators = validators;
+            exclusiveChoices.add(choice);
+        }
+    }
+
+    /**
+     * Find a value of the branches of a oneOf which matches no other branch, it is used whenever no such value is
+     * generated randomly.
+     */
+    private static void completeChoice(ChoiceSample choice) {
+        SampleWriter writer = new SampleWriter();
+        List<byte[]> fallbacks = new ArrayList<>();
+        for (int i = 0; i < choice.choices.length; i++) {
+            for (int seed = 0; seed < PATTERN_SAMPLES; seed++) {
+                writer.start(seed);
+                try {
+                    choice.choices[i].write(writer);
+                } catch (IllegalStateException e) {
+                    // a nested choice without a fallback yet, or a recursive value
+                    continue;
+                }
+                if (choice.isExclusive(i, writer.buffer(), 0, writer.position())) {
+                    fallbacks.add(Arrays.copyOf(writer.buffer(), writer.position()));
+                    break;
+                }
+            }
+        }
+        if (fallbacks.isEmpty()) {
+            throw SampleMessages.msg.unsatisfiableSchema("oneOf");
+        }
+        choice.fallbacks = fallbacks.toArray(new byte[0][]);
+    }
+
+    private static SchemaType typeOf(Schema schema) {
+        SchemaType type = schema.getType();
+        if (type != null && type != SchemaType.DEFAULT) {
+            return type;
+        }
+        if (schema.getProperties() != null || schema.getAdditionalPropertiesSchema() != null
+                || schema.getRequired() != null) {
+            return SchemaType.OBJECT;
+        }
+        if (schema.getItems() != null) {
+            return SchemaType.ARRAY;
+        }
+        if (schema.getMinimum() != null || schema.getMaximum() != null || schema.getMultipleOf() != null) {
+            return SchemaType.NUMBER;
+        }
+        return SchemaType.STRING;
+    }
+
+    private static SampleNode compileEnumeration(List<String> enumeration, SchemaType type) {
+        List<byte[]> values = new ArrayList<>(enumeration.size());
+        // distinct values, arrays with unique items rely on them
+        for (String value : new LinkedHashSet<>(enumeration)) {
+            if (value == null) {
+                continue;
+            }
+            if (type == SchemaType.INTEGER || type == SchemaType.NUMBER) {
+                if (isNumber(value)) {
+                    values.add(value.getBytes(StandardCharsets.UTF_8));
+                }
+            } else if (type == SchemaType.BOOLEAN) {
+                if (value.equals("true") || value.equals("false")) {
+                    values.add(value.getBytes(StandardCharsets.UTF_8));
+                }
+            } else {
+                values.add(quote(value));
+            }
+        }
+        if (values.isEmpty()) {
+            throw SampleMessages.msg.unsatisfiableSchema("enum");
+        }
+        return new LiteralSample(values.toArray(new byte[0][]));
+    }
+
+    private SampleNode compileNumber(Schema schema, boolean integer) {
+        BigDecimal min = schema.getMinimum();
+        BigDecimal max = schema.getMaximum();
+        BigDecimal step = schema.getMultipleOf();
+        if (step == null || step.signum() <= 0) {
+            // one more decimal place than the bounds, to leave room between exclusive bounds
+            step = integer ? BigDecimal.ONE
+                    : BigDecimal.ONE.scaleByPowerOfTen(-Math.max(2, Math.max(scale(min), scale(max)) + 1));
+        } else if (integer) {
+            step = integralMultiple(step);
+        }
+        step = step.stripTrailingZeros();
+        if (step.scale() < 0) {
+            step = step.setScale(0);
+        }
+
+        if (min == null && max == null) {
+            min = BigDecimal.ZERO;
+            max = DEFAULT_RANGE;
+        } else if (min == null) {
+            min = max.subtract(DEFAULT_RANGE);
+        } else if (max == null) {
+            max = min.add(DEFAULT_RANGE);
+        }
+        if ("int32".equals(schema.getFormat())) {
+            min = min.max(MIN_INT);
+            max = max.min(MAX_INT);
+        }
+
+        BigDecimal minMultiple = min.divide(step, 0, RoundingMode.CEILING);
+        if (Boolean.TRUE.equals(schema.getExclusiveMinimum()) && minMultiple.multiply(step).compareTo(min) == 0) {
+            minMultiple = minMultiple.add(BigDecimal.ONE);
+        }
+        BigDecimal maxMultiple = max.divide(step, 0, RoundingMode.FLOOR);
+        if (Boolean.TRUE.equals(schema.getExclusiveMaximum()) && maxMultiple.multiply(step).compareTo(max) == 0) {
+            maxMultiple = maxMultiple.subtract(BigDecimal.ONE);
+        }
+
+        long unscaledStep;
+        try {
+            unscaledStep = step.unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            throw SampleMessages.msg.unsatisfiableSchema("multipleOf");
+        }
+        // the values are computed as long values
+        BigDecimal limit = BigDecimal.valueOf(Long.MAX_VALUE / 2 / unscaledStep);
+        minMultiple = minMultiple.max(limit.negate());
+        maxMultiple = maxMultiple.min(limit);
+        if (minMultiple.compareTo(maxMultiple) > 0) {
+            throw SampleMessages.msg.unsatisfiableSchema("minimum");
+        }
+        return new NumberSample(minMultiple.longValue(), maxMultiple.longValue(), unscaledStep, step.scale());
+    }
+
+    /**
+     * Get the smallest integral multiple of a number.
+     */
+    private static BigDecimal integralMultiple(BigDecimal multipleOf) {
+        BigDecimal stripped = multipleOf.stripTrailingZeros();
+        if (stripped.scale() <= 0) {
+            return stripped;
+        }
+        // u * 10^-s is integral for multiples of 10^s / gcd(u, 10^s)
+        BigInteger unscaled = stripped.unscaledValue();
+        return new BigDecimal(unscaled.divide(unscaled.gcd(BigInteger.TEN.pow(stripped.scale()))));
+    }
+
+    private SampleNode compileString(Schema schema) {
+        int minLength = nonNegative(schema.getMinLength(), 0);
+        int maxLength = nonNegative(schema.getMaxLength(), Integer.MAX_VALUE);
+        if (minLength > maxLength) {
+            throw SampleMessages.msg.unsatisfiableSchema("minLength");
+        }
+
+        StringFormat format = StringFormat.of(schema.getFormat());
+        SampleNode formatted = null;
+        if (format.length >= 0 && format.length >= minLength && format.length <= maxLength) {
+            formatted = new StringSample(format, format.length, format.length);
+        } else if (format == StringFormat.BYTE) {
+            int minGroups = (minLength + 3) / 4;
+            int maxGroups = (int) Math.min(maxLength, (long) minLength + DEFAULT_LENGTH) / 4;
+            if (minGroups <= maxGroups) {
+                formatted = new StringSample(format, minGroups, maxGroups);
+            }
+        }
+
+        if (schema.getPattern() != null) {
+            return compilePattern(schema, formatted, minLength, maxLength);
+        }
+        if (formatted != null) {
+            return formatted;
+        }
+        int length = minLength == 0 && maxLength > 0 ? 1 : minLength;
+        return new StringSample(StringFormat.PLAIN, length, (int) Math.min(maxLength, (long) length + DEFAULT_LENGTH - 1));
+    }
+
+    /**
+     * Strings with a pattern are only generated for formats whose values match the pattern, otherwise the example of
+     * the schema is used.
+     */
+    private static SampleNode compilePattern(Schema schema, SampleNode formatted, int minLength, int maxLength) {
+        Pattern pattern;
+        try {
+            pattern = Pattern.compile(schema.getPattern());
+        } catch (PatternSyntaxException e) {
+            throw SampleMessages.msg.unsupportedPattern(schema.getPattern());
+        }
+
+        if (formatted != null && matches(formatted, pattern)) {
+            return formatted;
+        }
+        String example = schema.getExample();
+        if (example != null && pattern.matcher(example).find()) {
+            int length = example.codePointCount(0, example.length());
+            if (length >= minLength && length <= maxLength) {
+                return new LiteralSample(new byte[][] { quote(example) });
+            }
+        }
+        throw SampleMessages.msg.unsupportedPattern(schema.getPattern());
+    }
+
+    private static boolean matches(SampleNode node, Pattern pattern) {
+        SampleWriter writer = new SampleWriter();
+        for (int seed = 0; seed < PATTERN_SAMPLES; seed++) {
+            writer.start(seed);
+            node.write(writer);
+            // without the quotes, the generated strings need no escaping
+            String value = new String(writer.buffer(), 1, writer.position() - 2, StandardCharsets.US_ASCII);
+            if (!pattern.matcher(value).find()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void compileObject(Schema schema, ObjectSample object) {
+        Map<String, Schema> properties = new LinkedHashMap<>();
+        if (schema.getProperties() != null) {
+            properties.putAll(schema.getProperties());
+        }
+        Schema additionalProperties = schema.getAdditionalPropertiesSchema();
+        boolean additionalPropertiesAllowed = !Boolean.FALSE.equals(schema.getAdditionalPropertiesBoolean());
+        List<String> required = schema.getRequired() != null ? schema.getRequired() : Collections.emptyList();
+        for (String name : required) {
+            if (!properties.containsKey(name)) {
+                if (!additionalPropertiesAllowed) {
+                    throw SampleMessages.msg.unsatisfiableSchema("required");
+                }
+                properties.put(name, additionalProperties);
+            }
+        }
+
+        int minProperties = nonNegative(schema.getMinProperties(), 0);
+        int maxProperties = nonNegative(schema.getMaxProperties(), Integer.MAX_VALUE);
+        // further properties to reach the minimum
+        for (int i = 0; properties.size() < minProperties; i++) {
+            if (!additionalPropertiesAllowed) {
+                throw SampleMessages.msg.unsatisfiableSchema("minProperties");
+            }
+            String name = "property" + i;
+            if (!properties.containsKey(name)) {
+                properties.put(name, additionalProperties);
+            }
+        }
+
+        int size = properties.size();
+        byte[][] names = new byte[size][];
+        SampleNode[] values = new SampleNode[size];
+        boolean[] isRequired = new boolean[size];
+        int requiredCount = 0;
+        int i = 0;
+        for (Map.Entry<String, Schema> property : properties.entrySet()) {
+            names[i] = nameOf(property.getKey());
+            values[i] = node(property.getValue());
+            isRequired[i] = required.contains(property.getKey());
+            if (isRequired[i]) {
+                requiredCount++;
+            }
+            i++;
+        }
+        // optional properties required to reach the minimum
+        for (i = 0; i < size && requiredCount < minProperties; i++) {
+            if (!isRequired[i]) {
+                isRequired[i] = true;
+                requiredCount++;
+            }
+        }
+        if (requiredCount > maxProperties) {
+            throw SampleMessages.msg.unsatisfiableSchema("maxProperties");
+        }
+
+        object.names = names;
+        object.values = values;
+        object.required = isRequired;
+        object.requiredCount = requiredCount;
+        object.maxProperties = maxProperties;
+    }
+
+    private void compileArray(Schema schema, ArraySample array) {
+        int minItems = nonNegative(schema.getMinItems(), 0);
+        int maxItems = nonNegative(schema.getMaxItems(), Integer.MAX_VALUE);
+        if (minItems > maxItems) {
+            throw SampleMessages.msg.unsatisfiableSchema("minItems");
+        }
+        array.items = node(schema.getItems());
+        array.uniqueItems = Boolean.TRUE.equals(schema.getUniqueItems());
+        if (array.uniqueItems) {
+            // the number of distinct items is known for enumerations, booleans, numbers and plain strings
+            long distinctItems = array.items.domainSize();
+            if (distinctItems < minItems) {
+                throw SampleMessages.msg.unsatisfiableSchema("uniqueItems");
+            }
+            maxItems = (int) Math.min(maxItems, distinctItems);
+        }
+        array.minItems = minItems;
+        array.maxItems = (int) Math.min(maxItems, (long) minItems + DEFAULT_ITEMS);
+    }
+
+    private static byte[] nameOf(String name) {
+        byte[] quoted = quote(name);
+        byte[] encoded = new byte[quoted.length + 1];
+        System.arraycopy(quoted, 0, encoded, 0, quoted.length);
+        encoded[quoted.length] = ':';
+        return encoded;
+    }
+
+    private static byte[] quote(String value) {
+        byte[] escaped = JsonStringEncoder.getInstance().quoteAsUTF8(value);
+        byte[] quoted = new byte[escaped.length + 2];
+        quoted[0] = '"';
+        System.arraycopy(escaped, 0, quoted, 1, escaped.length);
+        quoted[quoted.length - 1] = '"';
+        return quoted;
+    }
+
+    private static boolean isNumber(String value) {
+        return JSON_NUMBER.matcher(value).matches();
+    }
+
+    private static int scale(BigDecimal value) {
+        return value != null ? Math.max(value.stripTrailingZeros().scale(), 0) : 0;
+    }
+
+    private static boolean isNotEmpty(List<?> values) {
+        return values != null && !values.isEmpty();
+    }
+
+    private static int nonNegative(Integer value, int defaultValue) {
+        return value != null && value >= 0 ? value : defaultValue;
+    }
+}
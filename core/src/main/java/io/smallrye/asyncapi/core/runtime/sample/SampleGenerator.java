@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.sample;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import io.smallrye.asyncapi.core.api.constants.AsyncApiConstants;
+import io.smallrye.asyncapi.spec.models.AsyncAPI;
+import io.smallrye.asyncapi.spec.models.message.Message;
+import io.smallrye.asyncapi.spec.models.schema.Schema;
+
+/**
+ * Generates random JSON samples valid for a schema, e.g. the payloads of a message for load tests. The schema is
+ * compiled once, the generator is immutable and can be shared by any number of threads.
+ * <p>
+ * Every sample is determined by its seed, the same seed always produces the same sample. The samples of
+ * consecutive seeds are independent, a stream of samples is generated by incrementing the seed:
+ *
+ * <pre>
+ * SampleGenerator generator = SampleGenerator.compile(message, document);
+ * for (long seed = 0; seed &lt; count; seed++) {
+ *     int length = generator.write(seed, buffer, 0);
+ *     send(buffer, length);
+ * }
+ * </pre>
+ * <p>
+ * The samples are written directly as UTF-8 encoded JSON, strings use ASCII characters unless an enumeration or an
+ * example contains others. Strings with a pattern are only generated if their format produces matching values or
+ * if the example of the schema matches, the format keyword is honoured for byte, uuid, date, date-time, time and
+ * local-time. The not keyword is ignored.
+ */
+public final class SampleGenerator {
+
+    private static final ThreadLocal<SampleWriter> WRITER = ThreadLocal.withInitial(SampleWriter::new);
+
+    private final SampleNode root;
+
+    private SampleGenerator(SampleNode root) {
+        this.root = root;
+    }
+
+    /**
+     * Compile a schema.
+     *
+     * @param schema the schema, null for a schema allowing any value
+     * @param document the document containing the schemas referenced by the schema, may be null if the schema
+     *        does not contain references
+     * @return the generator
+     * @throws IllegalArgumentException if a reference cannot be resolved or no valid sample can be generated
+     */
+    public static SampleGenerator compile(Schema schema, AsyncAPI document) {
+        return new SampleGenerator(new SampleCompiler(document).compile(schema));
+    }
+
+    /**
+     * Compile the payload schema of a message.
+     *
+     * @param message the message, may be a reference to a message of the components of the document
+     * @param document the document containing the message
+     * @return the generator
+     * @throws IllegalArgumentException if a reference cannot be resolved or no valid sample can be generated
+     */
+    public static SampleGenerator compile(Message message, AsyncAPI document) {
+        Map<String, Message> messages = document != null && document.getComponents() != null
+                && document.getComponents().getMessages() != null ? document.getComponents().getMessages()
+                        : Collections.emptyMap();
+        Message resolved = message;
+        int references = 0;
+        while (resolved.getRef() != null) {
+            String ref = resolved.getRef();
+            String name = ref.startsWith(AsyncApiConstants.REF_PREFIX_MESSAGE)
+                    ? ref.substring(AsyncApiConstants.REF_PREFIX_MESSAGE.length())
+                    : ref;
+            resolved = messages.get(name);
+            if (resolved == null || ++references > messages.size()) {
+                throw SampleMessages.msg.unresolvableReference(ref);
+            }
+        }
+        return compile(resolved.getPayload(), document);
+    }
+
+    /**
+     * Generate a sample.
+     *
+     * @param seed the seed determining the sample
+     * @return the sample
+     */
+    public byte[] generate(long seed) {
+        SampleWriter writer = WRITER.get();
+        writer.start(seed);
+        root.write(writer);
+        return Arrays.copyOf(writer.buffer(), writer.position());
+    }
+
+    /**
+     * Write a sample into an array.
+     *
+     * @param seed the seed determining the sample
+     * @param target the array
+     * @param offset the offset at which the sample is written
+     * @return the length of the sample
+     * @throws BufferOverflowException if the sample does not fit, the content of the array after the offset is
+     *         undefined then
+     */
+    public int write(long seed, byte[] target, int offset) {
+        return write(seed, target, offset, target.length - offset);
+    }
+
+    /**
+     * Write a sample into a buffer, at its position. The position is advanced by the length of the sample.
+     *
+     * @param seed the seed determining the sample
+     * @param target the buffer
+     * @throws BufferOverflowException if the sample does not fit into the remaining space, the position is not
+     *         changed then
+     */
+    public void write(long seed, ByteBuffer target) {
+        if (target.hasArray()) {
+            int length = write(seed, target.array(), target.arrayOffset() + target.position(),
+                    target.remaining());
+            target.position(target.position() + length);
+            return;
+        }
+        SampleWriter writer = WRITER.get();
+        writer.start(seed);
+        root.write(writer);
+        if (writer.position() > target.remaining()) {
+            throw new BufferOverflowException();
+        }
+        target.put(writer.buffer(), 0, writer.position());
+    }
+
+    private int write(long seed, byte[] target, int offset, int length) {
+        SampleWriter writer = WRITER.get();
+        writer.start(seed, target, offset, length);
+        try {
+            root.write(writer);
+            return writer.position() - offset;
+        } finally {
+            writer.finish();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.sample;
+
+import org.jboss.logging.Messages;
+import org.jboss.logging.annotations.Message;
+import org.jboss.logging.annotations.MessageBundle;
+
+@MessageBundle(projectCode = "OKAAP", length = 5)
+interface SampleMessages {
+    SampleMessages msg = Messages.getBundle(SampleMessages.class);
+
+    @Message(id = 11000, value = "Reference %s can not be resolved, only references to components are supported")
+    IllegalArgumentException unresolvableReference(String ref);
+
+    @Message(id = 11001, value = "No sample matching the pattern %s can be generated, add a matching example to the schema")
+    IllegalArgumentException unsupportedPattern(String pattern);
+
+    @Message(id = 11002, value = "No value satisfies the %s constraints of the schema")
+    IllegalArgumentException unsatisfiableSchema(String keyword);
+
+    @Message(id = 11003, value = "No unique items can be generated for an array")
+    IllegalStateException noUniqueItems();
+
+    @Message(id = 11004, value = "Sample exceeds the maximum depth of %d, the schema is recursive")
+    IllegalStateException maxDepthExceeded(int maxDepth);
+
+    @Message(id = 11005, value = "No value matching a single branch of oneOf can be generated")
+    IllegalStateException noExclusiveValue();
+}
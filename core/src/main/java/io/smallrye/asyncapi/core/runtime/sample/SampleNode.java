@@ -0,0 +1,515 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.sample;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import io.smallrye.asyncapi.core.runtime.validation.PayloadValidator;
+
+/**
+ * A schema compiled for generating samples. A node writes one random value valid for its schema, the nodes of
+ * objects, arrays and composite schemas delegate to the nodes of their parts.
+ * <p>
+ * Nodes are created by the {@link SampleCompiler} and never modified once compiled, they can be used by any number
+ * of threads once they have been published safely.
+ */
+abstract class SampleNode {
+
+    static final SampleNode ANY = new StringSample(StringFormat.PLAIN, 1, 16);
+
+    private static final byte[] TRUE = { 't', 'r', 'u', 'e' };
+
+    private static final byte[] FALSE = { 'f', 'a', 'l', 's', 'e' };
+
+    // the characters of random strings, 64 characters which need no escaping in JSON
+    private static final byte[] PLAIN_ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_"
+            .getBytes();
+
+    private static final byte[] BASE64_ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/"
+            .getBytes();
+
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes();
+
+    // retries of an item of an array with unique items and of a value of oneOf, before falling back
+    private static final int ATTEMPTS = 32;
+
+    abstract void write(SampleWriter writer);
+
+    /**
+     * @return the number of distinct values, {@link Long#MAX_VALUE} if unknown or too many to count
+     */
+    long domainSize() {
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * Write a value of a node with a known number of distinct values.
+     *
+     * @param writer the writer
+     * @param index the index of the value, less than the {@link #domainSize()}
+     */
+    void write(SampleWriter writer, long index) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * The formats of strings for which valid values are generated.
+     */
+    enum StringFormat {
+        PLAIN(-1),
+        BYTE(-1),
+        UUID(36),
+        DATE(10),
+        DATE_TIME(20),
+        TIME(9),
+        LOCAL_TIME(8);
+
+        // the length of all values, -1 if variable
+        final int length;
+
+        StringFormat(int length) {
+            this.length = length;
+        }
+
+        static StringFormat of(String format) {
+            if (format == null) {
+                return PLAIN;
+            }
+            switch (format) {
+                case "byte":
+                    return BYTE;
+                case "uuid":
+                    return UUID;
+                case "date":
+                    return DATE;
+                case "date-time":
+                    return DATE_TIME;
+                case "time":
+                    return TIME;
+                case "local-time":
+                    return LOCAL_TIME;
+                default:
+                    return PLAIN;
+            }
+        }
+    }
+
+    /**
+     * One of a list of encoded values, used for enumerations and examples.
+     */
+    static final class LiteralSample extends SampleNode {
+
+        private final byte[][] values;
+
+        LiteralSample(byte[][] values) {
+            this.values = values;
+        }
+
+        @Override
+        void write(SampleWriter writer) {
+            writer.write(values.length == 1 ? values[0] : values[writer.nextInt(values.length)]);
+        }
+
+        @Override
+        long domainSize() {
+            return values.length;
+        }
+
+        @Override
+        void write(SampleWriter writer, long index) {
+            writer.write(values[(int) index]);
+        }
+    }
+
+    static final class BooleanSample extends SampleNode {
+
+        @Override
+        void write(SampleWriter writer) {
+            writer.write(writer.nextBoolean() ? TRUE : FALSE);
+        }
+
+        @Override
+        long domainSize() {
+            return 2;
+        }
+
+        @Override
+        void write(SampleWriter writer, long index) {
+            writer.write(index == 0 ? FALSE : TRUE);
+        }
+    }
+
+    /**
+     * A multiple of a step within a range, the step is an unscaled value and a scale like in
+     * {@link java.math.BigDecimal}.
+     */
+    static final class NumberSample extends SampleNode {
+
+        private final long minMultiple;
+
+        private final long maxMultiple;
+
+        private final long unscaledStep;
+
+        private final int scale;
+
+        NumberSample(long minMultiple, long maxMultiple, long unscaledStep, int scale) {
+            this.minMultiple = minMultiple;
+            this.maxMultiple = maxMultiple;
+            this.unscaledStep = unscaledStep;
+            this.scale = scale;
+        }
+
+        @Override
+        void write(SampleWriter writer) {
+            writer.writeDecimal(writer.nextLong(minMultiple, maxMultiple) * unscaledStep, scale);
+        }
+
+        @Override
+        long domainSize() {
+            long size = maxMultiple - minMultiple + 1;
+            return size > 0 ? size : Long.MAX_VALUE;
+        }
+
+        @Override
+        void write(SampleWriter writer, long index) {
+            writer.writeDecimal((minMultiple + index) * unscaledStep, scale);
+        }
+    }
+
+    /**
+     * A string of a format, the lengths only apply to the formats of variable length. The length of a
+     * {@link StringFormat#BYTE} string is the number of groups of four characters.
+     */
+    static final class StringSample extends SampleNode {
+
+        private final StringFormat format;
+
+        private final int minLength;
+
+        private final int maxLength;
+
+        StringSample(StringFormat format, int minLength, int maxLength) {
+            this.format = format;
+            this.minLength = minLength;
+            this.maxLength = maxLength;
+        }
+
+        @Override
+        void write(SampleWriter writer) {
+            writer.write((byte) '"');
+            switch (format) {
+                case BYTE:
+                    writer.writeRandom(BASE64_ALPHABET, 4 * (int) writer.nextLong(minLength, maxLength));
+                    break;
+                case UUID:
+                    writeUuid(writer);
+                    break;
+                case DATE:
+                    writeDate(writer);
+                    break;
+                case DATE_TIME:
+                    writeDate(writer);
+                    writer.write((byte) 'T');
+                    writeTime(writer);
+                    writer.write((byte) 'Z');
+                    break;
+                case TIME:
+                    writeTime(writer);
+                    writer.write((byte) 'Z');
+                    break;
+                case LOCAL_TIME:
+                    writeTime(writer);
+                    break;
+                default:
+                    writer.writeRandom(PLAIN_ALPHABET,
+                            minLength == maxLength ? minLength : (int) writer.nextLong(minLength, maxLength));
+                    break;
+            }
+            writer.write((byte) '"');
+        }
+
+        @Override
+        long domainSize() {
+            if (format != StringFormat.PLAIN) {
+                return Long.MAX_VALUE;
+            }
+            long size = 0;
+            for (int length = minLength; length <= maxLength; length++) {
+                // 64^length values of every length
+                if (length > 10) {
+                    return Long.MAX_VALUE;
+                }
+                size += 1L << 6 * length;
+            }
+            return size;
+        }
+
+        @Override
+        void write(SampleWriter writer, long index) {
+            int length = minLength;
+            long remaining = index;
+            while (remaining >= 1L << 6 * length) {
+                remaining -= 1L << 6 * length;
+                length++;
+            }
+            writer.write((byte) '"');
+            for (int i = 0; i < length; i++) {
+                writer.write(PLAIN_ALPHABET[(int) (remaining & 63)]);
+                remaining >>>= 6;
+            }
+            writer.write((byte) '"');
+        }
+
+        private static void writeUuid(SampleWriter writer) {
+            long bits = writer.nextLong();
+            for (int i = 0; i < 32; i++) {
+                if (i == 16) {
+                    bits = writer.nextLong();
+                }
+                if (i == 8 || i == 12 || i == 16 || i == 20) {
+                    writer.write((byte) '-');
+                }
+                writer.write(HEX_DIGITS[(int) (bits & 15)]);
+                bits >>>= 4;
+            }
+        }
+
+        private static void writeDate(SampleWriter writer) {
+            writer.writeDigits(2000 + writer.nextInt(30), 4);
+            writer.write((byte) '-');
+            writer.writeDigits(1 + writer.nextInt(12), 2);
+            writer.write((byte) '-');
+            // valid in every month
+            writer.writeDigits(1 + writer.nextInt(28), 2);
+        }
+
+        private static void writeTime(SampleWriter writer) {
+            writer.writeDigits(writer.nextInt(24), 2);
+            writer.write((byte) ':');
+            writer.writeDigits(writer.nextInt(60), 2);
+            writer.write((byte) ':');
+            writer.writeDigits(writer.nextInt(60), 2);
+        }
+    }
+
+    /**
+     * An object with all required and some of the optional properties. The parts are assigned by the compiler
+     * after the node has been registered, so recursive schemas can refer to the node.
+     */
+    static final class ObjectSample extends SampleNode {
+
+        // the names including the colon, encoded as JSON
+        byte[][] names;
+
+        SampleNode[] values;
+
+        boolean[] required;
+
+        int requiredCount;
+
+        int maxProperties;
+
+        @Override
+        void write(SampleWriter writer) {
+            writer.write((byte) '{');
+            writer.enter();
+            boolean optional = writer.depth() <= SampleWriter.OPTIONAL_DEPTH;
+            int remainingRequired = requiredCount;
+            int count = 0;
+            for (int i = 0; i < names.length; i++) {
+                if (required[i]) {
+                    remainingRequired--;
+                } else if (!optional || count + remainingRequired >= maxProperties || !writer.nextBoolean()) {
+                    continue;
+                }
+                if (count++ > 0) {
+                    writer.write((byte) ',');
+                }
+                writer.write(names[i]);
+                values[i].write(writer);
+            }
+            writer.exit();
+            writer.write((byte) '}');
+        }
+    }
+
+    /**
+     * An array of random items. The parts are assigned by the compiler after the node has been registered.
+     * <p>
+     * Unique items are retried a few times, then items with a known number of distinct values are enumerated, the
+     * compiler limits the number of items to that number. Other items are omitted once the minimum is reached.
+     */
+    static final class ArraySample extends SampleNode {
+
+        SampleNode items;
+
+        int minItems;
+
+        // the maximum number of generated items, may be less than allowed
+        int maxItems;
+
+        boolean uniqueItems;
+
+        @Override
+        void write(SampleWriter writer) {
+            writer.write((byte) '[');
+            writer.enter();
+            int count = writer.depth() <= SampleWriter.OPTIONAL_DEPTH ? (int) writer.nextLong(minItems, maxItems)
+                    : minItems;
+            // the start and end of every item in the bounds of the writer, to compare their encodings
+            int bounds = uniqueItems && count > 1 ? writer.pushBounds(count) : -1;
+            for (int i = 0; i < count; i++) {
+                int separator = writer.position();
+                if (i > 0) {
+                    writer.write((byte) ',');
+                }
+                int start = writer.position();
+                if (bounds < 0) {
+                    items.write(writer);
+                    continue;
+                }
+                if (!writeUnique(writer, bounds, i, start)) {
+                    if (i < minItems) {
+                        throw SampleMessages.msg.noUniqueItems();
+                    }
+                    writer.rewind(separator);
+                    break;
+                }
+                writer.bounds()[bounds + 2 * i] = start;
+                writer.bounds()[bounds + 2 * i + 1] = writer.position();
+            }
+            if (bounds >= 0) {
+                writer.popBounds(bounds);
+            }
+            writer.exit();
+            writer.write((byte) ']');
+        }
+
+        /**
+         * Write an item differing from the items before.
+         *
+         * @return false if no such item has been found
+         */
+        private boolean writeUnique(SampleWriter writer, int bounds, int index, int start) {
+            for (int attempt = 0; attempt <= ATTEMPTS; attempt++) {
+                items.write(writer);
+                if (!isDuplicate(writer, bounds, index, start)) {
+                    return true;
+                }
+                writer.rewind(start);
+            }
+            long size = items.domainSize();
+            if (size == Long.MAX_VALUE) {
+                return false;
+            }
+            // the items before have at most index distinct values, one of the next index + 1 values is unused
+            long first = writer.nextLong(0, size - 1);
+            for (long i = 0; i <= index; i++) {
+                items.write(writer, (first + i) % size);
+                if (!isDuplicate(writer, bounds, index, start)) {
+                    return true;
+                }
+                writer.rewind(start);
+            }
+            return false;
+        }
+
+        /**
+         * Compare the encoding of an item with the items before, equal values have equal encodings.
+         */
+        private static boolean isDuplicate(SampleWriter writer, int bounds, int count, int start) {
+            byte[] buffer = writer.buffer();
+            int[] itemBounds = writer.bounds();
+            int end = writer.position();
+            for (int i = 0; i < count; i++) {
+                int otherStart = itemBounds[bounds + 2 * i];
+                if (itemBounds[bounds + 2 * i + 1] - otherStart == end - start
+                        && equals(buffer, otherStart, start, end - start)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean equals(byte[] buffer, int start1, int start2, int length) {
+            for (int i = 0; i < length; i++) {
+                if (buffer[start1 + i] != buffer[start2 + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * A value of one of several schemas, for anyOf and oneOf. The choices are assigned by the compiler after the
+     * node has been registered.
+     * <p>
+     * For oneOf, a value is only kept if it does not match the other branches. After a few attempts, one of the
+     * values found by the compiler is written.
+     */
+    static final class ChoiceSample extends SampleNode {
+
+        SampleNode[] choices;
+
+        // the validators of the branches of oneOf, null for anyOf
+        PayloadValidator[] validators;
+
+        // the encoded values matching a single branch of oneOf
+        byte[][] fallbacks;
+
+        @Override
+        void write(SampleWriter writer) {
+            if (validators == null) {
+                choices[writer.nextInt(choices.length)].write(writer);
+                return;
+            }
+            int start = writer.position();
+            for (int attempt = 0; attempt < ATTEMPTS; attempt++) {
+                int choice = writer.nextInt(choices.length);
+                choices[choice].write(writer);
+                if (isExclusive(choice, writer.buffer(), start, writer.position())) {
+                    return;
+                }
+                writer.rewind(start);
+            }
+            if (fallbacks == null) {
+                // the compiler is still looking for values
+                throw SampleMessages.msg.noExclusiveValue();
+            }
+            writer.write(fallbacks[writer.nextInt(fallbacks.length)]);
+        }
+
+        /**
+         * @return true if an encoded value of a branch matches none of the other branches
+         */
+        boolean isExclusive(int choice, byte[] buffer, int start, int end) {
+            try {
+                for (int i = 0; i < validators.length; i++) {
+                    if (i != choice && validators[i].validate(buffer, start, end - start, 1).isValid()) {
+                        return false;
+                    }
+                }
+                return true;
+            } catch (IOException e) {
+                // the encoding of generated values is well-formed
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
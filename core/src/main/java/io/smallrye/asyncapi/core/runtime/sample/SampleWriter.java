@@ -0,0 +1,284 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.sample;
+
+import java.nio.BufferOverflowException;
+import java.util.Arrays;
+
+/**
+ * Writes the JSON of a sample directly into a byte array and provides the random values deciding its content.
+ * <p>
+ * The random values are a SplitMix64 sequence started by the seed of the sample, so every seed produces the same
+ * sample on every JVM. A writer is reused by the thread generating samples.
+ */
+final class SampleWriter {
+
+    // samples nested deeper only contain the required properties and the minimum number of items
+    static final int OPTIONAL_DEPTH = 8;
+
+    static final int MAX_DEPTH = 64;
+
+    private static final byte[] MIN_LONG = Long.toString(Long.MIN_VALUE).getBytes();
+
+    private byte[] buffer;
+
+    private int position;
+
+    private int limit;
+
+    // true if the buffer is owned by the writer and grows as needed
+    private boolean growable;
+
+    private byte[] scratch = new byte[256];
+
+    // the start and end of the items of the arrays with unique items being written, nested arrays push their items
+    private int[] bounds = new int[32];
+
+    private int boundsSize;
+
+    private long state;
+
+    private int depth;
+
+    /**
+     * Start a sample written into an array owned by the caller.
+     */
+    void start(long seed, byte[] target, int offset, int length) {
+        buffer = target;
+        position = offset;
+        limit = offset + length;
+        growable = false;
+        reset(seed);
+    }
+
+    /**
+     * Start a sample written into the scratch buffer of the writer.
+     */
+    void start(long seed) {
+        buffer = scratch;
+        position = 0;
+        limit = scratch.length;
+        growable = true;
+        reset(seed);
+    }
+
+    private void reset(long seed) {
+        state = seed;
+        depth = 0;
+        boundsSize = 0;
+    }
+
+    byte[] buffer() {
+        return buffer;
+    }
+
+    int position() {
+        return position;
+    }
+
+    /**
+     * Move back to a previous position, discarding what has been written since.
+     */
+    void rewind(int previous) {
+        position = previous;
+    }
+
+    /**
+     * Release the array of the caller.
+     */
+    void finish() {
+        buffer = null;
+    }
+
+    /**
+     * Reserve bounds for the items of an array.
+     *
+     * @param count the number of items
+     * @return the offset of the bounds of the first item in {@link #bounds()}
+     */
+    int pushBounds(int count) {
+        int offset = boundsSize;
+        boundsSize += 2 * count;
+        if (boundsSize > bounds.length) {
+            bounds = Arrays.copyOf(bounds, Math.max(bounds.length * 2, boundsSize));
+        }
+        return offset;
+    }
+
+    /**
+     * Release the bounds reserved by {@link #pushBounds(int)}.
+     */
+    void popBounds(int offset) {
+        boundsSize = offset;
+    }
+
+    /**
+     * @return the bounds of the items, the array is replaced when it grows
+     */
+    int[] bounds() {
+        return bounds;
+    }
+
+    int depth() {
+        return depth;
+    }
+
+    void enter() {
+        if (++depth > MAX_DEPTH) {
+            throw SampleMessages.msg.maxDepthExceeded(MAX_DEPTH);
+        }
+    }
+
+    void exit() {
+        depth--;
+    }
+
+    long nextLong() {
+        long z = state += 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * @return a random value from 0 (inclusive) to bound (exclusive)
+     */
+    int nextInt(int bound) {
+        return (int) (((nextLong() >>> 32) * bound) >>> 32);
+    }
+
+    /**
+     * @return a random value from min to max, both inclusive
+     */
+    long nextLong(long min, long max) {
+        long span = max - min + 1;
+        if (span <= 0) {
+            // the range covers more than half of all long values
+            long value;
+            do {
+                value = nextLong();
+            } while (value < min || value > max);
+            return value;
+        }
+        return min + Math.floorMod(nextLong(), span);
+    }
+
+    boolean nextBoolean() {
+        return nextLong() < 0;
+    }
+
+    void write(byte value) {
+        ensure(1);
+        buffer[position++] = value;
+    }
+
+    void write(byte[] values) {
+        ensure(values.length);
+        System.arraycopy(values, 0, buffer, position, values.length);
+        position += values.length;
+    }
+
+    /**
+     * Write characters chosen randomly from an alphabet of 64 ASCII characters.
+     */
+    void writeRandom(byte[] alphabet, int length) {
+        ensure(length);
+        long bits = 0;
+        for (int i = 0; i < length; i++) {
+            if (i % 10 == 0) {
+                bits = nextLong();
+            }
+            buffer[position++] = alphabet[(int) (bits & 63)];
+            bits >>>= 6;
+        }
+    }
+
+    void writeLong(long value) {
+        if (value == Long.MIN_VALUE) {
+            write(MIN_LONG);
+            return;
+        }
+        if (value < 0) {
+            write((byte) '-');
+            value = -value;
+        }
+        int digits = digits(value);
+        ensure(digits);
+        for (int i = position + digits - 1; i >= position; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        position += digits;
+    }
+
+    /**
+     * Write the decimal unscaledValue * 10^-scale.
+     */
+    void writeDecimal(long unscaledValue, int scale) {
+        if (scale == 0 || unscaledValue == Long.MIN_VALUE) {
+            writeLong(unscaledValue);
+            return;
+        }
+        long value = unscaledValue;
+        if (value < 0) {
+            write((byte) '-');
+            value = -value;
+        }
+        int digits = Math.max(digits(value), scale + 1);
+        ensure(digits + 1);
+        int point = position + digits - scale;
+        for (int i = position + digits; i >= position; i--) {
+            if (i == point) {
+                buffer[i] = '.';
+            } else {
+                buffer[i] = (byte) ('0' + value % 10);
+                value /= 10;
+            }
+        }
+        position += digits + 1;
+    }
+
+    /**
+     * Write a non-negative value with leading zeros.
+     */
+    void writeDigits(int value, int width) {
+        ensure(width);
+        for (int i = position + width - 1; i >= position; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        position += width;
+    }
+
+    private void ensure(int length) {
+        if (position + length > limit) {
+            if (!growable) {
+                throw new BufferOverflowException();
+            }
+            scratch = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + length));
+            buffer = scratch;
+            limit = scratch.length;
+        }
+    }
+
+    private static int digits(long value) {
+        int digits = 1;
+        for (long bound = 10; digits < 19 && value >= bound; bound *= 10) {
+            digits++;
+        }
+        return digits;
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.scanner;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+
+import org.jboss.jandex.DotName;
+
+import io.smallrye.asyncapi.core.api.models.AsyncAPIImpl;
+import io.smallrye.asyncapi.core.runtime.io.CurrentScannerInfo;
+import io.smallrye.asyncapi.core.runtime.scanner.spi.AnnotationScannerContext;
+import io.smallrye.asyncapi.core.runtime.util.ModelUtil;
+import io.smallrye.asyncapi.spec.models.AsyncAPI;
+import io.smallrye.asyncapi.spec.models.Components;
+import io.smallrye.asyncapi.spec.models.channel.Channels;
+
+/**
+ * Processes a list of independent annotation targets (e.g. all methods annotated with {@literal @}ChannelItem).
+ * <p>
+ * By default the targets are processed one after the other on the current thread. If parallel scanning is enabled
+ * ({@link io.smallrye.asyncapi.core.api.AsyncApiConfig#scanParallelEnable()}), each target is processed on the
+ * fork-join pool into its own partial model, using a copy of a snapshot of the current {@link SchemaRegistry}. The
+ * copies only record the registrations of their target on top of the shared snapshot. The partial models
+ * are merged in the order of the targets afterwards. A target whose schema registrations overlap with the ones of
+ * a preceding target is processed again on the current thread, so the result is the same as scanning sequentially.
+ * <p>
+ * If the context provides a {@link ScanCache}, the partial model of every target is recorded in the cache, and
+ * targets whose results are still valid are not processed again.
+ */
+public final class AnnotationTargetScanner {
+
+    /**
+     * Processes a single annotation target into the given model.
+     *
+     * @param <T> type of the annotation target
+     */
+    @FunctionalInterface
+    public interface TargetProcessor<T> {
+
+        void process(AnnotationScannerContext context, T target, AsyncAPI asyncAPI);
+    }
+
+    private AnnotationTargetScanner() {
+    }
+
+    /**
+     * Process all targets into the given model.
+     *
+     * @param context the scanning context
+     * @param asyncAPI the AsyncAPI model being created
+     * @param phase name of the scan phase, distinguishes the cached results of targets processed in several phases
+     * @param targets the annotation targets
+     * @param processor processes a single target
+     * @param <T> type of the annotation targets
+     */
+    public static <T> void scan(final AnnotationScannerContext context, final AsyncAPI asyncAPI, final String phase,
+            final List<T> targets, final TargetProcessor<T> processor) {
+        SchemaRegistry registry = SchemaRegistry.currentInstance();
+        ScanCache cache = registry != null ? context.getScanCache() : null;
+        boolean parallel = context.getConfig()
+                .scanParallelEnable() && registry != null && targets.size() >= 2;
+
+        if (!parallel && cache == null) {
+            targets.forEach(target -> processor.process(context, target, asyncAPI));
+            return;
+        }
+
+        SchemaRegistry base = parallel ? registry.snapshot() : null;
+        CurrentScannerInfo scannerInfo = CurrentScannerInfo.current();
+        ClassLoader classLoader = Thread.currentThread()
+                .getContextClassLoader();
+
+        List<ScanCache.Fragment> fragments = new ArrayList<>();
+        List<CompletableFuture<Partial>> partials = new ArrayList<>();
+        for (T target : targets) {
+            ScanCache.Fragment fragment = cache != null ? cache.lookup(ScanCache.key(phase, target)) : null;
+            fragments.add(fragment);
+
+            // targets with cached results are most likely not processed at all
+            partials.add(parallel && fragment == null
+                    ? CompletableFuture.supplyAsync(
+                            () -> process(context, target, processor, base, scannerInfo, classLoader),
+                            ForkJoinPool.commonPool())
+                    : null);
+        }
+
+        int reused = 0;
+        for (int i = 0; i < targets.size(); i++) {
+            T target = targets.get(i);
+            SchemaRegistry.State state = cache != null ? registry.state() : null;
+
+            ScanCache.Fragment fragment = fragments.get(i);
+            if (fragment != null && fragment.matches(state)) {
+                merge(fragment.replay(registry), asyncAPI);
+                reused++;
+                continue;
+            }
+
+            Partial partial = partials.get(i) != null ? join(partials.get(i)) : null;
+            if (partial == null || !registry.apply(partial.registry, partial.base)) {
+                if (partial != null) {
+                    ScannerLogging.logger.parallelScanConflict(target);
+                }
+                // the registry is not changed while the target is processed on this thread
+                partial = process(context, target, processor, registry, scannerInfo, classLoader);
+                registry.apply(partial.registry, registry);
+            }
+
+            if (cache != null) {
+                cache.store(ScanCache.key(phase, target), partial.dependencies, state,
+                        partial.registry.changes(), partial.asyncAPI);
+            }
+            merge(partial.asyncAPI, asyncAPI);
+        }
+
+        if (cache != null) {
+            ScannerLogging.logger.scanCacheReused(reused, targets.size(), phase);
+        }
+    }
+
+    private static <T> Partial process(final AnnotationScannerContext context, final T target,
+            final TargetProcessor<T> processor, final SchemaRegistry base, final CurrentScannerInfo scannerInfo,
+            final ClassLoader classLoader) {
+        Thread thread = Thread.currentThread();
+        ClassLoader previousClassLoader = thread.getContextClassLoader();
+        SchemaRegistry previousRegistry = SchemaRegistry.currentInstance();
+        CurrentScannerInfo previousScannerInfo = CurrentScannerInfo.current();
+
+        AsyncAPI asyncAPI = new AsyncAPIImpl();
+        SchemaRegistry registry = base.copy(asyncAPI);
+        Set<DotName> dependencies = new HashSet<>();
+        DotName declaringClass = ScanCache.declaringClass(target);
+        if (declaringClass != null) {
+            dependencies.add(declaringClass);
+        }
+        Set<DotName> previousDependencies = ScanCache.record(dependencies);
+
+        try {
+            thread.setContextClassLoader(classLoader);
+            SchemaRegistry.attach(registry);
+            CurrentScannerInfo.attach(scannerInfo);
+
+            processor.process(new AnnotationScannerContext(context), target, asyncAPI);
+        } finally {
+            ScanCache.record(previousDependencies);
+            CurrentScannerInfo.attach(previousScannerInfo);
+            SchemaRegistry.attach(previousRegistry);
+            thread.setContextClassLoader(previousClassLoader);
+        }
+
+        return new Partial(asyncAPI, registry, base, dependencies);
+    }
+
+    private static Partial join(final CompletableFuture<Partial> partial) {
+        try {
+            return partial.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Merge a partial model into the model being created, the same way processing the target
+     * directly would have added its results.
+     */
+    private static void merge(final AsyncAPI partial, final AsyncAPI asyncAPI) {
+        Channels channels = partial.getChannels();
+        if (channels != null && channels.getChannels() != null) {
+            channels.getChannels()
+                    .forEach(asyncAPI.getChannels()::addChannel);
+        }
+
+        Components partialComponents = partial.getComponents();
+        if (partialComponents != null) {
+            Components components = ModelUtil.components(asyncAPI);
+            merge(partialComponents.getSchemas(), components::addSchema);
+            merge(partialComponents.getMessages(), components::addMessage);
+            merge(partialComponents.getSecuritySchemes(), components::addSecurityScheme);
+            merge(partialComponents.getParameters(), components::addParameter);
+            merge(partialComponents.getCorrelationIds(), components::addCorrelationID);
+            merge(partialComponents.getOperationTraits(), components::addOperationTrait);
+            merge(partialComponents.getMessageTraits(), components::addMessageTrait);
+            merge(partialComponents.getServerBindings(), components::addServerBinding);
+            merge(partialComponents.getOperationBindings(), components::addOperationBinding);
+            merge(partialComponents.getMessageBindings(), components::addMessageBinding);
+        }
+    }
+
+    private static <V> void merge(final Map<String, V> values, final BiConsumer<String, V> add) {
+        if (values != null) {
+            values.forEach(add);
+        }
+    }
+
+    private static final class Partial {
+
+        private final AsyncAPI asyncAPI;
+
+        private final SchemaRegistry registry;
+
+        // the registry the registry of the partial model has been copied from
+        private final SchemaRegistry base;
+
+        // the classes read when processing the target
+        private final Set<DotName> dependencies;
+
+        private Partial(final AsyncAPI asyncAPI, final SchemaRegistry registry, final SchemaRegistry base,
+                final Set<DotName> dependencies) {
+            this.asyncAPI = asyncAPI;
+            this.registry = registry;
+            this.base = base;
+            this.dependencies = dependencies;
+        }
+    }
+}
@@ -21,11 +21,13 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 import io.smallrye.asyncapi.core.runtime.io.schema.SchemaConstant;
 import io.smallrye.asyncapi.core.runtime.io.schema.SchemaFactory;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.IndexView;
 
 import io.smallrye.asyncapi.core.api.AsyncApiConfig;
@@ -36,6 +38,9 @@ import io.smallrye.asyncapi.core.api.util.MergeUtil;
 import io.smallrye.asyncapi.core.runtime.io.CurrentScannerInfo;
 import io.smallrye.asyncapi.core.runtime.io.definition.DefinitionConstant;
 import io.smallrye.asyncapi.core.runtime.io.definition.DefinitionReader;
+import io.smallrye.asyncapi.core.runtime.instrumentation.Instrumentation;
+import io.smallrye.asyncapi.core.runtime.instrumentation.Instrumentations;
+import io.smallrye.asyncapi.core.runtime.instrumentation.Probe;
 import io.smallrye.asyncapi.core.runtime.scanner.spi.AnnotationScanner;
 import io.smallrye.asyncapi.core.runtime.scanner.spi.AnnotationScannerContext;
 import io.smallrye.asyncapi.core.runtime.scanner.spi.AnnotationScannerFactory;
@@ -49,10 +54,14 @@ import org.jboss.jandex.Type;
  */
 public class AsyncApiAnnotationScanner {
 
+    private static final String ASYNC_API_SCANNER = "AsyncAPI";
+
     private final AnnotationScannerContext annotationScannerContext;
 
     private final AnnotationScannerFactory annotationScannerFactory;
 
+    private final Instrumentation instrumentation;
+
     /**
      * Maven plugin
      *
@@ -85,6 +94,19 @@ public class AsyncApiAnnotationScanner {
         }));
     }
 
+    /**
+     * Quarkus extension in development mode
+     *
+     * @param config AsyncApiConfig instance
+     * @param index IndexView of deployment
+     * @param extensions A set of extensions to scanning
+     * @param scanCache results of previous scans of the deployment
+     */
+    public AsyncApiAnnotationScanner(AsyncApiConfig config, IndexView index, List<AnnotationScannerExtension> extensions,
+            ScanCache scanCache) {
+        this(config, ClassLoaderUtil.getDefaultClassLoader(), index, extensions, scanCache);
+    }
+
     /**
      * @param config AsyncApiConfig instance
      * @param index IndexView of deployment
@@ -92,6 +114,29 @@ public class AsyncApiAnnotationScanner {
      */
     public AsyncApiAnnotationScanner(AsyncApiConfig config, ClassLoader loader, IndexView index,
             List<AnnotationScannerExtension> extensions) {
+        this(config, loader, index, extensions, null);
+    }
+
+    /**
+     * @param config AsyncApiConfig instance
+     * @param index IndexView of deployment
+     * @param extensions A set of extensions to scanning
+     * @param scanCache results of previous scans of the deployment, may be null
+     */
+    public AsyncApiAnnotationScanner(AsyncApiConfig config, ClassLoader loader, IndexView index,
+            List<AnnotationScannerExtension> extensions, ScanCache scanCache) {
+        this(config, loader, index, extensions, scanCache, Instrumentations.load(loader));
+    }
+
+    /**
+     * @param config AsyncApiConfig instance
+     * @param index IndexView of deployment
+     * @param extensions A set of extensions to scanning
+     * @param scanCache results of previous scans of the deployment, may be null
+     * @param instrumentation measures the scanners
+     */
+    public AsyncApiAnnotationScanner(AsyncApiConfig config, ClassLoader loader, IndexView index,
+            List<AnnotationScannerExtension> extensions, ScanCache scanCache, Instrumentation instrumentation) {
         FilteredIndexView filteredIndexView;
 
         if (index instanceof FilteredIndexView) {
@@ -101,8 +146,9 @@ public class AsyncApiAnnotationScanner {
         }
 
         this.annotationScannerContext = new AnnotationScannerContext(filteredIndexView, loader, extensions, config,
-                new AsyncAPIImpl());
+                new AsyncAPIImpl(), scanCache);
         this.annotationScannerFactory = new AnnotationScannerFactory(loader);
+        this.instrumentation = instrumentation;
     }
 
     /**
@@ -112,8 +158,15 @@ public class AsyncApiAnnotationScanner {
      * @return AsyncAPI generated from scanning annotations
      */
     public AsyncAPI scan(String... filter) {
+        ScanCache scanCache = annotationScannerContext.getScanCache();
+        if (scanCache != null) {
+            scanCache.begin(annotationScannerContext.getIndex());
+        }
+
         // First scan the AsyncAPI Annotations. Maybe later we can load this with SPI as well, and allow other Annotation sets.
+        Probe probe = Probe.scanner(instrumentation, ASYNC_API_SCANNER, null);
         AsyncAPI asyncAPI = scanOKProfileAsyncApiAnnotations();
+        probe.stop(asyncAPI, annotationScannerContext.getIndex());
 
         // Now load all entry points with SPI and scan those
         List<AnnotationScanner> annotationScanners = annotationScannerFactory.getAnnotationScanners();
@@ -123,10 +176,16 @@ public class AsyncApiAnnotationScanner {
 
                 ScannerLogging.logger.scanning(annotationScanner.getName());
                 CurrentScannerInfo.register(annotationScanner);
+                probe = Probe.scanner(instrumentation, annotationScanner.getName(), asyncAPI);
                 asyncAPI = annotationScanner.scan(annotationScannerContext, asyncAPI);
+                probe.stop(asyncAPI, annotationScannerContext.getIndex());
             }
         }
 
+        if (scanCache != null) {
+            scanCache.end();
+        }
+
         return asyncAPI;
     }
 
@@ -144,7 +203,7 @@ public class AsyncApiAnnotationScanner {
         getCustomSchemaRegistry(annotationScannerContext.getConfig()).registerCustomSchemas(schemaRegistry);
 
         // Find all AsyncAPI annotations at the package level
-        ScannerLogging.logger.scanning("AsyncAPI");
+        ScannerLogging.logger.scanning(ASYNC_API_SCANNER);
         processAsyncAPIDefinitions(annotationScannerContext, asyncAPI);
 
         processClassSchemas(annotationScannerContext);
@@ -193,12 +252,17 @@ public class AsyncApiAnnotationScanner {
     private void processClassSchemas(final AnnotationScannerContext context) {
         CurrentScannerInfo.register(null);
 
-        context.getIndex()
-            .getAnnotations(SchemaConstant.DOTNAME_SCHEMA)
-            .stream()
-            .filter(this::annotatedClasses)
-            .map(annotation -> Type.create(annotation.target().asClass().name(), Type.Kind.CLASS))
-            .forEach(type -> SchemaFactory.typeToSchema(context, type, context.getExtensions()));
+        List<ClassInfo> schemaClasses = context.getIndex()
+                .getAnnotations(SchemaConstant.DOTNAME_SCHEMA)
+                .stream()
+                .filter(this::annotatedClasses)
+                .map(annotation -> annotation.target().asClass())
+                .distinct() // CompositeIndex instances may return duplicates
+                .collect(Collectors.toList());
+
+        AnnotationTargetScanner.scan(context, context.getAsyncAPI(), "schemas", schemaClasses,
+                (ctx, classInfo, asyncAPI) -> SchemaFactory.typeToSchema(ctx, Type.create(classInfo.name(), Type.Kind.CLASS),
+                        ctx.getExtensions()));
     }
 
     private boolean annotatedClasses(AnnotationInstance annotation) {
@@ -15,9 +15,6 @@
  */
 package io.smallrye.asyncapi.core.runtime.scanner;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.UncheckedIOException;
 import java.util.Collection;
 import java.util.Map;
 
@@ -25,20 +22,20 @@ import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationTarget;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
-import org.jboss.jandex.Index;
 import org.jboss.jandex.IndexView;
-import org.jboss.jandex.Indexer;
 import org.jboss.jandex.PrimitiveType;
 import org.jboss.jandex.Type;
 
 import io.smallrye.asyncapi.core.api.models.schema.SchemaImpl;
+import io.smallrye.asyncapi.core.runtime.instrumentation.ScanEvents;
 import io.smallrye.asyncapi.core.runtime.io.schema.SchemaFactory;
 import io.smallrye.asyncapi.core.runtime.scanner.dataobject.AnnotationTargetProcessor;
 import io.smallrye.asyncapi.core.runtime.scanner.dataobject.AugmentedIndexView;
 import io.smallrye.asyncapi.core.runtime.scanner.dataobject.DataObjectDeque;
-import io.smallrye.asyncapi.core.runtime.scanner.dataobject.IgnoreResolver;
+import io.smallrye.asyncapi.core.runtime.scanner.dataobject.IntrospectionCache;
 import io.smallrye.asyncapi.core.runtime.scanner.dataobject.TypeResolver;
 import io.smallrye.asyncapi.core.runtime.scanner.spi.AnnotationScannerContext;
+import io.smallrye.asyncapi.core.runtime.util.IndexResources;
 import io.smallrye.asyncapi.core.runtime.util.TypeUtil;
 import io.smallrye.asyncapi.spec.annotations.schema.SchemaType;
 import io.smallrye.asyncapi.spec.models.schema.Schema;
@@ -98,32 +95,10 @@ public class AsyncApiDataObjectScanner {
     // Array type
     public static final Type ARRAY_TYPE_OBJECT = Type.create(DotName.createSimple("[Ljava.lang.Object;"), Type.Kind.ARRAY);
 
-    private static ClassInfo collectionStandin;
-    private static ClassInfo iterableStandin;
-    private static ClassInfo mapStandin;
-
-    /*-
-     * Index the "standin" collection types for internal use. These are required to wrap
-     * collections of application classes (indexed elsewhere).
-     */
-    static {
-        Indexer indexer = new Indexer();
-        index(indexer, "CollectionStandin.class");
-        index(indexer, "IterableStandin.class");
-        index(indexer, "MapStandin.class");
-        Index index = indexer.complete();
-        collectionStandin = index.getClassByName(DotName.createSimple(CollectionStandin.class.getName()));
-        iterableStandin = index.getClassByName(DotName.createSimple(IterableStandin.class.getName()));
-        mapStandin = index.getClassByName(DotName.createSimple(MapStandin.class.getName()));
-    }
-
-    private static void index(Indexer indexer, String resourceName) {
-        try (InputStream stream = AsyncApiDataObjectScanner.class.getResourceAsStream(resourceName)) {
-            indexer.index(stream);
-        } catch (IOException ioe) {
-            throw new UncheckedIOException(ioe);
-        }
-    }
+    // Standin types, see IndexResources#standinIndex()
+    private static final DotName COLLECTION_STANDIN_NAME = DotName.createSimple(CollectionStandin.class.getName());
+    private static final DotName ITERABLE_STANDIN_NAME = DotName.createSimple(IterableStandin.class.getName());
+    private static final DotName MAP_STANDIN_NAME = DotName.createSimple(MapStandin.class.getName());
 
     private Schema rootSchema;
     private AnnotationTarget rootAnnotationTarget;
@@ -132,7 +107,7 @@ public class AsyncApiDataObjectScanner {
     private final AnnotationScannerContext context;
     private final AugmentedIndexView index;
     private final DataObjectDeque objectStack;
-    private final IgnoreResolver ignoreResolver;
+    private final IntrospectionCache introspectionCache;
 
     /**
      * Constructor for data object scanner.
@@ -151,7 +126,7 @@ public class AsyncApiDataObjectScanner {
         this.context = context;
         this.index = context.getAugmentedIndex();
         this.objectStack = new DataObjectDeque(this.index);
-        this.ignoreResolver = new IgnoreResolver(this.index);
+        this.introspectionCache = context.getIntrospectionCache();
         this.rootClassType = classType;
         this.rootSchema = new SchemaImpl();
         this.rootClassInfo = initialType(classType);
@@ -160,13 +135,33 @@ public class AsyncApiDataObjectScanner {
 
     /**
      * Build a Schema with ClassType as root.
+     * <p>
+     * The schema of a type without type annotations is cached in the current {@link SchemaRegistry}, repeated calls
+     * for the same type receive a copy of the cached schema.
      *
      * @param context scanning context
      * @param type root to begin scan
      * @return the OAI schema
      */
     public static Schema process(final AnnotationScannerContext context, Type type) {
-        return new AsyncApiDataObjectScanner(context, type).process();
+        Object event = ScanEvents.begin(ScanEvents.Kind.PROCESS);
+
+        SchemaRegistry registry = SchemaRegistry.currentInstance();
+        if (registry == null || !type.annotations()
+                .isEmpty()) {
+            Schema schema = new AsyncApiDataObjectScanner(context, type).process();
+            ScanEvents.end(event, type, 0, false);
+            return schema;
+        }
+
+        Schema schema = registry.lookupIntrospected(type);
+        boolean cacheHit = schema != null;
+        if (schema == null) {
+            schema = new AsyncApiDataObjectScanner(context, type).process();
+            registry.introspected(type, schema);
+        }
+        ScanEvents.end(event, type, 0, cacheHit);
+        return schema;
     }
 
     /**
@@ -255,16 +250,14 @@ public class AsyncApiDataObjectScanner {
                 AnnotationTarget reference = currentPathEntry.getAnnotationTarget();
 
                 // Get all fields *including* inherited.
-                Map<String, TypeResolver> properties = TypeResolver.getAllFields(index, ignoreResolver, currentType,
-                    currentClass,
-                    reference);
+                Map<String, TypeResolver> properties = introspectionCache.getAllFields(currentType, currentClass, reference);
 
                 // Handle fields
                 properties.values()
-                    .stream()
-                    .filter(resolver -> !resolver.isIgnored())
-                    .forEach(resolver -> AnnotationTargetProcessor.process(context, objectStack, resolver,
-                        currentPathEntry));
+                        .stream()
+                        .filter(resolver -> !resolver.isIgnored())
+                        .forEach(resolver -> AnnotationTargetProcessor.process(context, objectStack, resolver,
+                                currentPathEntry));
 
                 processInheritance(currentPathEntry);
             }
@@ -308,7 +301,7 @@ public class AsyncApiDataObjectScanner {
     }
 
     private void resolveSpecial(DataObjectDeque.PathEntry root, Type type) {
-        Map<String, TypeResolver> fieldResolution = TypeResolver.getAllFields(index, ignoreResolver, type, rootClassInfo,
+        Map<String, TypeResolver> fieldResolution = introspectionCache.getAllFields(type, rootClassInfo,
                 root.getAnnotationTarget());
         rootSchema = preProcessSpecial(type, fieldResolution.values().iterator().next(), root);
     }
@@ -328,15 +321,15 @@ public class AsyncApiDataObjectScanner {
 
     private ClassInfo initialType(Type type) {
         if (isA(type, COLLECTION_TYPE)) {
-            return collectionStandin;
+            return IndexResources.standinIndex().getClassByName(COLLECTION_STANDIN_NAME);
         }
 
         if (isA(type, ITERABLE_TYPE)) {
-            return iterableStandin;
+            return IndexResources.standinIndex().getClassByName(ITERABLE_STANDIN_NAME);
         }
 
         if (isA(type, MAP_TYPE)) {
-            return mapStandin;
+            return IndexResources.standinIndex().getClassByName(MAP_STANDIN_NAME);
         }
 
         return index.getClass(type);
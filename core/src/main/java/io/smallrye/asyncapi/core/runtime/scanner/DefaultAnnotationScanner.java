@@ -16,7 +16,6 @@
 
 package io.smallrye.asyncapi.core.runtime.scanner;
 
-import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -49,9 +48,10 @@ public class DefaultAnnotationScanner implements AnnotationScanner {
     }
 
     private void processChannelsMethods(final AnnotationScannerContext context, final AsyncAPI aai) {
-        Collection<MethodInfo> channelsMethods = getChannelsMethods(context.getIndex());
+        List<MethodInfo> channelsMethods = getChannelsMethods(context.getIndex());
 
-        channelsMethods.forEach(methodInfo -> processChannelItem(context, methodInfo, aai.getChannels()));
+        AnnotationTargetScanner.scan(context, aai, "channels", channelsMethods,
+                (ctx, methodInfo, asyncAPI) -> processChannelItem(ctx, methodInfo, asyncAPI.getChannels()));
     }
 
     private List<MethodInfo> getChannelsMethods(IndexView index) {
@@ -64,9 +64,9 @@ public class DefaultAnnotationScanner implements AnnotationScanner {
     }
 
     private void processMessagesMethod(final AnnotationScannerContext context, final AsyncAPI aai) {
-        Collection<MethodInfo> messageMethods = getMessageMethods(context.getIndex());
+        List<MethodInfo> messageMethods = getMessageMethods(context.getIndex());
 
-        messageMethods.forEach(methodInfo -> processMessages(context, methodInfo, aai));
+        AnnotationTargetScanner.scan(context, aai, "messages", messageMethods, this::processMessages);
     }
 
     private List<MethodInfo> getMessageMethods(IndexView index) {
@@ -79,9 +79,9 @@ public class DefaultAnnotationScanner implements AnnotationScanner {
     }
 
     private void processParametersMethod(final AnnotationScannerContext context, final AsyncAPI aai) {
-        Collection<MethodInfo> parametersMethods = getParameterMethods(context.getIndex());
+        List<MethodInfo> parametersMethods = getParameterMethods(context.getIndex());
 
-        parametersMethods.forEach(methodInfo -> processParameters(context, methodInfo, aai));
+        AnnotationTargetScanner.scan(context, aai, "parameters", parametersMethods, this::processParameters);
     }
 
     private List<MethodInfo> getParameterMethods(IndexView index) {
@@ -94,9 +94,9 @@ public class DefaultAnnotationScanner implements AnnotationScanner {
     }
 
     private void processSecuritySchemesClass(final AnnotationScannerContext context, final AsyncAPI aai) {
-        Collection<ClassInfo> securitySchemesClasses = getSecuritySchemesClass(context.getIndex());
+        List<ClassInfo> securitySchemesClasses = getSecuritySchemesClass(context.getIndex());
 
-        securitySchemesClasses.forEach(classInfo -> processSecuritySchemes(context, classInfo, aai));
+        AnnotationTargetScanner.scan(context, aai, "securitySchemes", securitySchemesClasses, this::processSecuritySchemes);
     }
 
     private List<ClassInfo> getSecuritySchemesClass(IndexView index) {
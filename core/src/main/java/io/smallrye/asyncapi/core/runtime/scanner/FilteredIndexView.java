@@ -15,7 +15,12 @@
  */
 package io.smallrye.asyncapi.core.runtime.scanner;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -40,6 +45,20 @@ public class FilteredIndexView implements IndexView {
 
     private final Pattern scanExcludePackages;
 
+    private final GroupMatcher scanClassesMatcher;
+
+    private final GroupMatcher scanPackagesMatcher;
+
+    private final GroupMatcher scanExcludeClassesMatcher;
+
+    private final GroupMatcher scanExcludePackagesMatcher;
+
+    private final ConcurrentMap<DotName, Boolean> decisions = new ConcurrentHashMap<>();
+
+    private final LongAdder cacheHits = new LongAdder();
+
+    private final LongAdder cacheMisses = new LongAdder();
+
     /**
      * @param delegate the original (to be wrapped) index
      * @param config the config
@@ -51,6 +70,11 @@ public class FilteredIndexView implements IndexView {
         scanPackages = config.scanPackages();
         scanExcludeClasses = config.scanExcludeClasses();
         scanExcludePackages = config.scanExcludePackages();
+
+        scanClassesMatcher = GroupMatcher.of(scanClasses);
+        scanPackagesMatcher = GroupMatcher.of(scanPackages);
+        scanExcludeClassesMatcher = GroupMatcher.of(scanExcludeClasses);
+        scanExcludePackagesMatcher = GroupMatcher.of(scanExcludePackages);
     }
 
     /**
@@ -61,6 +85,32 @@ public class FilteredIndexView implements IndexView {
      * @return true if the inclusion/exclusion configuration allows scanning of the class name
      */
     public boolean accepts(DotName className) {
+        Boolean decision = decisions.get(className);
+        if (decision != null) {
+            cacheHits.increment();
+            return decision;
+        }
+        cacheMisses.increment();
+        boolean accept = match(className);
+        decisions.putIfAbsent(className, accept);
+        return accept;
+    }
+
+    /**
+     * @return number of {@link #accepts(DotName)} calls answered from the decision cache
+     */
+    public long getCacheHits() {
+        return cacheHits.sum();
+    }
+
+    /**
+     * @return number of {@link #accepts(DotName)} calls which had to match the class name against the configuration
+     */
+    public long getCacheMisses() {
+        return cacheMisses.sum();
+    }
+
+    private boolean match(DotName className) {
         final boolean accept;
         final MatchHandler match = new MatchHandler(className);
 
@@ -144,10 +194,10 @@ public class FilteredIndexView implements IndexView {
             final int index = fqcn.lastIndexOf('.');
             this.packageName = index > -1 ? fqcn.substring(0, index) : "";
 
-            this.classExclGroup = matchingGroup(fqcn, scanExcludeClasses);
-            this.classInclGroup = matchingGroup(fqcn, scanClasses);
-            this.pkgExclGroup = matchingGroup(packageName, scanExcludePackages);
-            this.pkgInclGroup = matchingGroup(packageName, scanPackages);
+            this.classExclGroup = scanExcludeClassesMatcher.matchingGroup(fqcn);
+            this.classInclGroup = scanClassesMatcher.matchingGroup(fqcn);
+            this.pkgExclGroup = scanExcludePackagesMatcher.matchingGroup(packageName);
+            this.pkgInclGroup = scanPackagesMatcher.matchingGroup(packageName);
         }
 
         public boolean isQualifiedNameExcluded() {
@@ -206,13 +256,96 @@ public class FilteredIndexView implements IndexView {
         }
     }
 
-    String matchingGroup(String value, Pattern pattern) {
-        if (pattern == null || pattern.pattern()
-                .isEmpty() || value.isEmpty()) {
-            return "";
+    /**
+     * Finds the first group of a value matching one of the scan patterns. Patterns created from a list of literal
+     * class or package names (see {@link AsyncApiConfig#patternOf(String, java.util.Set)}) are matched without the
+     * regex engine by a {@link LiteralMatcher}, with the same result as {@link Matcher#find()}.
+     */
+    abstract static class GroupMatcher {
+
+        private static final Pattern LITERALS = Pattern.compile("\\(\\\\Q(.*?)\\\\E((?:\\|\\\\Q.*?\\\\E)*)\\)");
+
+        private static final Pattern LITERAL = Pattern.compile("\\|\\\\Q(.*?)\\\\E");
+
+        static final GroupMatcher NONE = new GroupMatcher() {
+            @Override
+            String matchingGroup(String value) {
+                return "";
+            }
+        };
+
+        abstract String matchingGroup(String value);
+
+        static GroupMatcher of(Pattern pattern) {
+            if (pattern == null || pattern.pattern()
+                    .isEmpty()) {
+                return NONE;
+            }
+            String[] literals = pattern.flags() == 0 ? literals(pattern.pattern()) : null;
+            if (literals != null) {
+                return new LiteralMatcher(literals);
+            }
+            return new GroupMatcher() {
+                @Override
+                String matchingGroup(String value) {
+                    if (value.isEmpty()) {
+                        return "";
+                    }
+                    Matcher m = pattern.matcher(value);
+                    return m.find() ? m.group() : "";
+                }
+            };
+        }
+
+        /**
+         * @return the literals of a pattern of the form <code>(\Qa\E|\Qb\E)</code> in order, or null if the pattern
+         *         has another form
+         */
+        private static String[] literals(String pattern) {
+            Matcher m = LITERALS.matcher(pattern);
+            if (!m.matches()) {
+                return null;
+            }
+            List<String> literals = new ArrayList<>();
+            literals.add(m.group(1));
+            Matcher rest = LITERAL.matcher(m.group(2));
+            while (rest.find()) {
+                literals.add(rest.group(1));
+            }
+            for (String literal : literals) {
+                if (literal.isEmpty() || literal.contains("\\E")) {
+                    return null;
+                }
+            }
+            return literals.toArray(new String[0]);
+        }
+    }
+
+    /**
+     * Matches a list of literals with {@link String#indexOf(String)}. Like the alternation the literals were given as,
+     * the match starting first wins and of the literals starting at the same position the one listed first.
+     */
+    static final class LiteralMatcher extends GroupMatcher {
+
+        private final String[] literals;
+
+        LiteralMatcher(String[] literals) {
+            this.literals = literals;
+        }
+
+        @Override
+        String matchingGroup(String value) {
+            int start = -1;
+            String match = "";
+            for (String literal : literals) {
+                int index = value.indexOf(literal);
+                if (index >= 0 && (start < 0 || index < start)) {
+                    start = index;
+                    match = literal;
+                }
+            }
+            return match;
         }
-        Matcher m = pattern.matcher(value);
-        return m.find() ? m.group() : "";
     }
 
     /**
@@ -231,6 +364,8 @@ public class FilteredIndexView implements IndexView {
      */
     @Override
     public ClassInfo getClassByName(DotName className) {
+        ScanCache.recordDependency(className);
+
         if (this.accepts(className)) {
             return this.delegate.getClassByName(className);
         } else {
@@ -333,6 +468,7 @@ public class FilteredIndexView implements IndexView {
     @Override
     public String toString() {
         return "FilteredIndexView{" + "delegate=" + delegate + ", scanClasses=" + scanClasses + ", scanPackages=" + scanPackages
-                + ", scanExcludeClasses=" + scanExcludeClasses + ", scanExcludePackages=" + scanExcludePackages + '}';
+                + ", scanExcludeClasses=" + scanExcludeClasses + ", scanExcludePackages=" + scanExcludePackages
+                + ", cacheHits=" + cacheHits + ", cacheMisses=" + cacheMisses + '}';
     }
 }
@@ -0,0 +1,415 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.scanner;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.MethodParameterInfo;
+import org.jboss.jandex.TypeTarget;
+
+import io.smallrye.asyncapi.core.api.util.MergeUtil;
+import io.smallrye.asyncapi.core.runtime.scanner.SchemaRegistry.GeneratedSchemaInfo;
+import io.smallrye.asyncapi.core.runtime.scanner.SchemaRegistry.TypeKey;
+import io.smallrye.asyncapi.spec.models.AsyncAPI;
+import io.smallrye.asyncapi.spec.models.Components;
+import io.smallrye.asyncapi.spec.models.schema.Schema;
+
+/**
+ * Caches the results of scanning single annotation targets across scans of the same application, e.g. the
+ * rebuilds of an application in development mode. The same cache instance must be passed to every scan.
+ * <p>
+ * For every target the cache records the partial model created for it, the schemas it registered and the
+ * classes read from the index while scanning it, together with a hash of their indexed information. A target
+ * is only scanned again if one of these classes has changed, was added or removed, or if the schemas registered
+ * before it differ from the previous scan. Otherwise the recorded results are reused, so only the targets
+ * affected by a change are scanned again.
+ * <p>
+ * The hashes are computed from the index, not from the class files: changes of method bodies do not
+ * invalidate any results. Changes of the configuration are not detected, the cache has to be {@link #clear()
+ * cleared} if it changes.
+ */
+public class ScanCache {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    // Initial value is null, classes are only recorded while scanning a single target
+    private static final ThreadLocal<Set<DotName>> dependencies = new ThreadLocal<>();
+
+    private final Map<String, Fragment> fragments = new ConcurrentHashMap<>();
+
+    private final Map<DotName, Long> hashes = new ConcurrentHashMap<>();
+
+    private final Set<String> scanned = ConcurrentHashMap.newKeySet();
+
+    private IndexView index;
+
+    /**
+     * Start a scan of the given index.
+     *
+     * @param index the index being scanned
+     */
+    void begin(IndexView index) {
+        this.index = index;
+        this.hashes.clear();
+        this.scanned.clear();
+    }
+
+    /**
+     * Finish a scan, the results of targets which no longer exist are discarded.
+     */
+    void end() {
+        fragments.keySet()
+                .retainAll(scanned);
+        this.index = null;
+        this.hashes.clear();
+    }
+
+    /**
+     * Discard all cached results.
+     */
+    public void clear() {
+        fragments.clear();
+    }
+
+    /**
+     * @return number of targets with cached results
+     */
+    public int size() {
+        return fragments.size();
+    }
+
+    /**
+     * Look up the results of a target, if none of the classes read when scanning it has changed.
+     *
+     * @param key key of the target, see {@link #key(String, Object)}
+     * @return the results or null
+     */
+    Fragment lookup(String key) {
+        scanned.add(key);
+
+        Fragment fragment = fragments.get(key);
+        if (fragment == null) {
+            return null;
+        }
+
+        for (Map.Entry<DotName, Long> dependency : fragment.dependencies.entrySet()) {
+            if (hash(dependency.getKey()) != dependency.getValue()) {
+                fragments.remove(key);
+                return null;
+            }
+        }
+        return fragment;
+    }
+
+    /**
+     * Record the results of a target.
+     *
+     * @param key key of the target, see {@link #key(String, Object)}
+     * @param classNames the classes read when scanning the target
+     * @param state the state of the registry before the target was scanned
+     * @param registrations the schemas registered for the target
+     * @param asyncAPI the partial model created for the target
+     */
+    void store(String key, Set<DotName> classNames, SchemaRegistry.State state,
+            Map<TypeKey, GeneratedSchemaInfo> registrations, AsyncAPI asyncAPI) {
+        Map<DotName, Long> classHashes = new HashMap<>();
+        for (DotName className : classNames) {
+            classHashes.put(className, hash(className));
+        }
+
+        fragments.put(key, new Fragment(classHashes, state, registrations, asyncAPI));
+    }
+
+    private long hash(DotName className) {
+        return hashes.computeIfAbsent(className, name -> hash(index.getClassByName(name)));
+    }
+
+    /**
+     * Start recording the classes read from the index on the current thread.
+     *
+     * @param classNames set the classes are added to, null to stop recording
+     * @return the set classes were recorded in before, to be restored afterwards
+     */
+    static Set<DotName> record(Set<DotName> classNames) {
+        Set<DotName> previous = dependencies.get();
+        if (classNames == null) {
+            dependencies.remove();
+        } else {
+            dependencies.set(classNames);
+        }
+        return previous;
+    }
+
+    /**
+     * Called for every class read from the index.
+     *
+     * @param className the name of the class
+     */
+    static void recordDependency(DotName className) {
+        Set<DotName> classNames = dependencies.get();
+        if (classNames != null) {
+            classNames.add(className);
+        }
+    }
+
+    /**
+     * Compute a value which is memoized for the whole scan, e.g. the properties of a class. The classes read by the
+     * computation are recorded for the current target and every target the value is reused for.
+     *
+     * @param computation computes the value
+     * @param <T> type of the value
+     * @return the memoized value
+     */
+    public static <T> Memoized<T> memoize(Supplier<T> computation) {
+        Set<DotName> classNames = new HashSet<>();
+        Set<DotName> previous = record(classNames);
+        try {
+            return new Memoized<>(computation.get(), classNames);
+        } finally {
+            record(previous);
+            if (previous != null) {
+                previous.addAll(classNames);
+            }
+        }
+    }
+
+    /**
+     * A value memoized for the whole scan, together with the classes read to compute it.
+     *
+     * @param <T> type of the value
+     */
+    public static final class Memoized<T> {
+
+        private final T value;
+
+        private final Set<DotName> classNames;
+
+        private Memoized(T value, Set<DotName> classNames) {
+            this.value = value;
+            this.classNames = classNames;
+        }
+
+        /**
+         * @return the value, the classes read to compute it are recorded for the current target
+         */
+        public T get() {
+            Set<DotName> recorded = dependencies.get();
+            if (recorded != null) {
+                recorded.addAll(classNames);
+            }
+            return value;
+        }
+    }
+
+    /**
+     * The key of a target, stable across scans of different indexes.
+     *
+     * @param phase name of the scan phase the target is processed in
+     * @param target the annotation target
+     * @return the key
+     */
+    static String key(String phase, Object target) {
+        String name = target instanceof AnnotationTarget ? describe((AnnotationTarget) target) : String.valueOf(target);
+        return phase + ':' + name;
+    }
+
+    /**
+     * The class of the target, which is always a dependency of the target.
+     */
+    static DotName declaringClass(Object target) {
+        if (!(target instanceof AnnotationTarget)) {
+            return null;
+        }
+
+        AnnotationTarget annotationTarget = (AnnotationTarget) target;
+        switch (annotationTarget.kind()) {
+            case CLASS:
+                return annotationTarget.asClass()
+                        .name();
+            case FIELD:
+                return annotationTarget.asField()
+                        .declaringClass()
+                        .name();
+            case METHOD:
+                return annotationTarget.asMethod()
+                        .declaringClass()
+                        .name();
+            case METHOD_PARAMETER:
+                return annotationTarget.asMethodParameter()
+                        .method()
+                        .declaringClass()
+                        .name();
+            case TYPE:
+                return declaringClass(annotationTarget.asType()
+                        .enclosingTarget());
+            default:
+                return null;
+        }
+    }
+
+    private static String describe(AnnotationTarget target) {
+        switch (target.kind()) {
+            case CLASS:
+                return target.asClass()
+                        .name()
+                        .toString();
+            case FIELD:
+                FieldInfo field = target.asField();
+                return field.declaringClass()
+                        .name() + "." + field.name();
+            case METHOD:
+                MethodInfo method = target.asMethod();
+                return method.declaringClass()
+                        .name() + "#" + method.name() + method.parameters();
+            case METHOD_PARAMETER:
+                MethodParameterInfo parameter = target.asMethodParameter();
+                return describe(parameter.method()) + "[" + parameter.position() + "]";
+            case TYPE:
+                TypeTarget typeTarget = target.asType();
+                return describe(typeTarget.enclosingTarget()) + " " + typeTarget.usage() + " " + typeTarget.target();
+            default:
+                return String.valueOf(target);
+        }
+    }
+
+    /**
+     * Hash of the indexed information of a class: its declaration, members and annotations.
+     */
+    static long hash(ClassInfo classInfo) {
+        if (classInfo == null) {
+            return 0;
+        }
+
+        long hash = hash(FNV_OFFSET_BASIS, classInfo.name() + " " + classInfo.flags() + " " + classInfo.typeParameters()
+                + " " + classInfo.superClassType() + " " + classInfo.interfaceTypes());
+
+        // members and annotations are combined independent of their order in the index
+        long members = 0;
+        for (FieldInfo field : classInfo.fields()) {
+            members += hash(FNV_OFFSET_BASIS, field.flags() + " " + field.type() + " " + field.name());
+        }
+        for (MethodInfo method : classInfo.methods()) {
+            members += hash(FNV_OFFSET_BASIS, method.flags() + " " + method.typeParameters() + " " + method.returnType()
+                    + " " + method.name() + method.parameters() + " " + method.exceptions());
+        }
+        for (List<AnnotationInstance> annotations : classInfo.annotations()
+                .values()) {
+            for (AnnotationInstance annotation : annotations) {
+                members += hash(FNV_OFFSET_BASIS, describe(annotation.target()) + " " + annotation);
+            }
+        }
+
+        return hash(hash, Long.toString(members));
+    }
+
+    private static long hash(long hash, String value) {
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * The recorded results of a single target. The partial model and the schemas are copies, detached from
+     * the model they were created for, and are copied again whenever they are reused.
+     */
+    static final class Fragment {
+
+        private final Map<DotName, Long> dependencies;
+
+        private final SchemaRegistry.State state;
+
+        private final Map<TypeKey, GeneratedSchemaInfo> registrations = new LinkedHashMap<>();
+
+        // registrations whose schema is the one contained in the components of the partial model
+        private final Set<TypeKey> inModel = new HashSet<>();
+
+        private final AsyncAPI asyncAPI;
+
+        private Fragment(Map<DotName, Long> dependencies, SchemaRegistry.State state,
+                Map<TypeKey, GeneratedSchemaInfo> registrations, AsyncAPI asyncAPI) {
+            this.dependencies = dependencies;
+            this.state = state;
+            this.asyncAPI = MergeUtil.copyObject(asyncAPI);
+
+            Map<String, Schema> schemas = schemas(asyncAPI);
+            registrations.forEach((key, info) -> {
+                Schema schema = info.schema;
+                if (schema != null && schemas.get(info.name) == schema) {
+                    inModel.add(key);
+                    schema = null;
+                }
+                this.registrations.put(key, new GeneratedSchemaInfo(info.name, MergeUtil.copyObject(schema),
+                        MergeUtil.copyObject(info.schemaRef)));
+            });
+        }
+
+        /**
+         * @param state the current state of the registry
+         * @return true if the registry is in the state the results were recorded in
+         */
+        boolean matches(SchemaRegistry.State state) {
+            return this.state.equals(state);
+        }
+
+        /**
+         * Add the recorded registrations to the registry.
+         *
+         * @param registry the registry of the scan
+         * @return a copy of the partial model, to be merged into the model of the scan
+         */
+        AsyncAPI replay(SchemaRegistry registry) {
+            AsyncAPI partial = MergeUtil.copyObject(asyncAPI);
+
+            Map<String, Schema> schemas = schemas(partial);
+            Map<TypeKey, GeneratedSchemaInfo> replayed = new LinkedHashMap<>();
+            registrations.forEach((key, info) -> {
+                Schema schema = inModel.contains(key) ? schemas.get(info.name) : MergeUtil.copyObject(info.schema);
+                replayed.put(key, new GeneratedSchemaInfo(info.name, schema, MergeUtil.copyObject(info.schemaRef)));
+            });
+            registry.replay(replayed);
+
+            return partial;
+        }
+
+        private static Map<String, Schema> schemas(AsyncAPI asyncAPI) {
+            Components components = asyncAPI.getComponents();
+            if (components == null || components.getSchemas() == null) {
+                return Collections.emptyMap();
+            }
+            return components.getSchemas();
+        }
+    }
+}
@@ -49,6 +49,14 @@ public interface ScannerLogging extends BasicLogger {
     @Message(id = 4004, value = "Configured schema for %s has been registered")
     void configSchemaRegistered(String className);
 
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 4005, value = "Schema registrations of %s overlap with a preceding target, scanning it again sequentially")
+    void parallelScanConflict(Object target);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 4006, value = "Reused the cached results of %d of %d targets scanned for %s")
+    void scanCacheReused(int reused, int targets, String phase);
+
     @LogMessage(level = Logger.Level.INFO)
     @Message(id = 99999, value = "LOG: %s")
     void log(String msg);
@@ -17,12 +17,15 @@ package io.smallrye.asyncapi.core.runtime.scanner;
 
 import static io.smallrye.asyncapi.core.runtime.util.TypeUtil.getSchemaAnnotation;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationTarget;
@@ -36,6 +39,8 @@ import org.jboss.jandex.WildcardType;
 import io.smallrye.asyncapi.core.api.AsyncApiConfig;
 import io.smallrye.asyncapi.core.api.constants.AsyncApiConstants;
 import io.smallrye.asyncapi.core.api.models.schema.SchemaImpl;
+import io.smallrye.asyncapi.core.api.util.MergeUtil;
+import io.smallrye.asyncapi.core.runtime.instrumentation.ScanEvents;
 import io.smallrye.asyncapi.core.runtime.io.AsyncApiParser;
 import io.smallrye.asyncapi.core.runtime.io.schema.SchemaConstant;
 import io.smallrye.asyncapi.core.runtime.scanner.dataobject.TypeResolver;
@@ -45,6 +50,17 @@ import io.smallrye.asyncapi.spec.models.AsyncAPI;
 import io.smallrye.asyncapi.spec.models.Components;
 import io.smallrye.asyncapi.spec.models.schema.Schema;
 
+/**
+ * Registry of the schemas generated for types during a scan. The registry is thread safe and may be shared by
+ * threads generating schemas: every operation is atomic, a type is registered once (see
+ * {@link #registerIfAbsent(Type, Function)}) and every name is handed out only once. A type keeps the name it was
+ * registered with first, types with the same name base are suffixed in the order they are registered.
+ * <p>
+ * As that order depends on the scheduling of the threads, a parallel scan does not share a registry but gives
+ * every worker its own {@link #copy(AsyncAPI) copy} of a {@link #snapshot() snapshot} and applies the registrations
+ * of the copies in the order of the scanned targets, see {@link AnnotationTargetScanner}. A copy only records its
+ * own registrations on top of the registry it was created from.
+ */
 public class SchemaRegistry {
 
     // Initial value is null
@@ -83,6 +99,20 @@ public class SchemaRegistry {
         current.remove();
     }
 
+    /**
+     * Set the given registry on the current thread, e.g. a worker thread of a parallel scan.
+     * A null registry removes the registry of the current thread.
+     *
+     * @param registry the registry
+     */
+    public static void attach(SchemaRegistry registry) {
+        if (registry == null) {
+            current.remove();
+        } else {
+            current.set(registry);
+        }
+    }
+
     /**
      * Check if the entityType is eligible for registration using the
      * typeResolver. The eligible kinds of types are
@@ -171,16 +201,23 @@ public class SchemaRegistry {
             return schema;
         }
 
+        Object event = ScanEvents.begin(ScanEvents.Kind.REGISTER);
         TypeKey key = new TypeKey(resolvedType);
 
-        if (registry.hasRef(key)) {
-            schema = registry.lookupRef(key);
-        } else if (registry.index.getClassByName(resolvedType.name()) == null) {
-            return schema;
-        } else {
-            schema = registrationAction.apply(registry, key);
+        boolean registered;
+        synchronized (registry) {
+            registered = registry.hasRef(key);
+            if (registered) {
+                schema = registry.lookupRef(key);
+            } else if (registry.index.getClassByName(resolvedType.name()) == null) {
+                ScanEvents.end(event, resolvedType, -1, false);
+                return schema;
+            } else {
+                schema = registrationAction.apply(registry, key);
+            }
         }
 
+        ScanEvents.end(event, resolvedType, -1, registered);
         return schema;
     }
 
@@ -235,13 +272,43 @@ public class SchemaRegistry {
 
     private final IndexView index;
 
+    /**
+     * The registry a copy records its registrations on top of, null for registries which are not a copy. The
+     * parent is not changed while the copy is used.
+     */
+    private final SchemaRegistry parent;
+
     private final Map<TypeKey, GeneratedSchemaInfo> registry = new LinkedHashMap<>();
 
     private final Set<String> names = new LinkedHashSet<>();
 
+    /**
+     * Registrations and names of the parent which have been removed from a copy.
+     */
+    private final Set<TypeKey> removed = new HashSet<>();
+
+    private final Set<String> released = new HashSet<>();
+
+    /**
+     * The number of names given up by replacement registrations, see {@link #apply(SchemaRegistry, SchemaRegistry)}.
+     */
+    private int releases;
+
+    /**
+     * Schemas introspected for types which have not been registered, see {@link #lookupIntrospected(Type)}.
+     */
+    private final Map<TypeKey, Schema> introspected = new HashMap<>();
+
+    /**
+     * Types looked up in a copy of a registry, null for registries which are not a copy.
+     */
+    private final Set<TypeKey> lookups;
+
     private SchemaRegistry(AsyncApiConfig config, AsyncAPI oai, IndexView index) {
         this.oai = oai;
         this.index = index;
+        this.parent = null;
+        this.lookups = null;
 
         /*
          * If anything has been added in the component scan, add the names here
@@ -276,6 +343,167 @@ public class SchemaRegistry {
                 });
     }
 
+    private SchemaRegistry(SchemaRegistry registry, AsyncAPI oai, boolean snapshot) {
+        this.oai = oai;
+        this.index = registry.index;
+        this.releases = registry.releases;
+        if (snapshot) {
+            this.parent = null;
+            this.lookups = null;
+            this.registry.putAll(registry.entries());
+            this.names.addAll(registry.allNames());
+        } else {
+            this.parent = registry;
+            this.lookups = new HashSet<>();
+        }
+    }
+
+    /**
+     * Create a copy of this registry. Schemas registered with the copy are added to the given
+     * AsyncAPI model instead of the model of this registry. The copy records its registrations on
+     * top of this registry, which must not be changed while the copy is used. The registrations may
+     * later be applied to this registry with {@link #apply(SchemaRegistry, SchemaRegistry)}.
+     *
+     * @param oai the (partial) AsyncAPI model the copy adds its schemas to
+     * @return a copy of this registry
+     */
+    SchemaRegistry copy(AsyncAPI oai) {
+        return new SchemaRegistry(this, oai, false);
+    }
+
+    /**
+     * Create a read-only snapshot of this registry, which may be shared by the threads of a parallel
+     * scan to create their {@link #copy(AsyncAPI) copies} while this registry is changed.
+     *
+     * @return a snapshot of this registry
+     */
+    synchronized SchemaRegistry snapshot() {
+        return new SchemaRegistry(this, null, true);
+    }
+
+    /**
+     * Apply the registrations made with a copy to this registry. The copy must have been created
+     * from base, either this registry itself or a {@link #snapshot() snapshot} of this registry taken
+     * before any of the registrations since applied.
+     * <p>
+     * The registrations are only applied if they are the same as registering the types with this
+     * registry directly, i.e. if none of the types registered or looked up by the copy and none of
+     * the names it assigned have been registered with this registry since base was taken.
+     *
+     * @param copy registry the registrations were made with
+     * @param base the state of this registry the copy was created from
+     * @return true if the registrations were applied, false if nothing was changed
+     */
+    synchronized boolean apply(SchemaRegistry copy, SchemaRegistry base) {
+        Map<TypeKey, GeneratedSchemaInfo> changes = copy.changes();
+
+        if (base != this) {
+            if (releases != base.releases) {
+                // a name given up since base was taken might have been assigned differently
+                return false;
+            }
+            for (Map.Entry<TypeKey, GeneratedSchemaInfo> entry : changes.entrySet()) {
+                String name = entry.getValue().name;
+                if (info(entry.getKey()) != base.info(entry.getKey()) || (hasName(name) && !base.hasName(name))) {
+                    return false;
+                }
+            }
+            for (TypeKey key : copy.lookups) {
+                if (info(key) != base.info(key)) {
+                    return false;
+                }
+            }
+        }
+
+        put(changes);
+
+        return true;
+    }
+
+    /**
+     * Add registrations recorded during a previous scan to this registry. The registrations are added
+     * unchecked, the caller makes sure this registry is in the {@link #state() state} it was in when they
+     * were recorded. The schemas themselves are added to the model by the caller.
+     *
+     * @param registrations the recorded registrations
+     */
+    synchronized void replay(Map<TypeKey, GeneratedSchemaInfo> registrations) {
+        put(registrations);
+    }
+
+    private void put(Map<TypeKey, GeneratedSchemaInfo> changes) {
+        for (Map.Entry<TypeKey, GeneratedSchemaInfo> entry : changes.entrySet()) {
+            GeneratedSchemaInfo previous = info(entry.getKey());
+            registry.put(entry.getKey(), entry.getValue());
+            if (previous != null) {
+                release(previous.name);
+            }
+            names.add(entry.getValue().name);
+        }
+    }
+
+    /**
+     * @return the types registered with this registry and the names handed out, without the schemas
+     */
+    synchronized State state() {
+        Map<TypeKey, String> registered = new HashMap<>();
+        entries().forEach((key, info) -> registered.put(key, info.name));
+        return new State(registered, new HashSet<>(allNames()));
+    }
+
+    /**
+     * @return registrations made with this copy of a registry, in registration order
+     */
+    synchronized Map<TypeKey, GeneratedSchemaInfo> changes() {
+        return new LinkedHashMap<>(registry);
+    }
+
+    /**
+     * @return all registrations of this registry and its parents, in registration order
+     */
+    private Map<TypeKey, GeneratedSchemaInfo> entries() {
+        if (parent == null) {
+            return registry;
+        }
+        Map<TypeKey, GeneratedSchemaInfo> entries = new LinkedHashMap<>(parent.entries());
+        entries.keySet()
+                .removeAll(removed);
+        entries.putAll(registry);
+        return entries;
+    }
+
+    /**
+     * @return all names handed out by this registry and its parents
+     */
+    private Set<String> allNames() {
+        if (parent == null) {
+            return names;
+        }
+        Set<String> allNames = new LinkedHashSet<>(parent.allNames());
+        allNames.removeAll(released);
+        allNames.addAll(names);
+        return allNames;
+    }
+
+    private GeneratedSchemaInfo info(TypeKey key) {
+        GeneratedSchemaInfo info = registry.get(key);
+        if (info != null || parent == null || removed.contains(key)) {
+            return info;
+        }
+        return parent.info(key);
+    }
+
+    private boolean hasName(String name) {
+        return names.contains(name) || (parent != null && !released.contains(name) && parent.hasName(name));
+    }
+
+    private void release(String name) {
+        releases++;
+        if (!names.remove(name) && parent != null) {
+            released.add(name);
+        }
+    }
+
     /**
      * Register the provided {@link Schema} for the provided {@link Type}. If an
      * existing schema has already been registered for the type, it will be
@@ -285,24 +513,51 @@ public class SchemaRegistry {
      * @param schema {@link Schema} to add to the registry
      * @return a reference to the newly registered {@link Schema}
      */
-    public Schema register(Type entityType, Schema schema) {
+    public synchronized Schema register(Type entityType, Schema schema) {
+        Object event = ScanEvents.begin(ScanEvents.Kind.REGISTER);
         TypeKey key = new TypeKey(entityType);
 
-        if (hasRef(key)) {
+        boolean registered = hasRef(key);
+        if (registered) {
             // This is a replacement registration
             remove(key);
         }
 
-        return register(key, schema, null);
+        Schema schemaRef = register(key, schema, null);
+        ScanEvents.end(event, entityType, -1, registered);
+        return schemaRef;
+    }
+
+    /**
+     * Register the {@link Schema} created by the factory for the provided {@link Type}, unless a
+     * schema has already been registered for the type. The check and the registration are atomic,
+     * the factory is called at most once per type and may register other types.
+     *
+     * @param entityType the type the {@link Schema} applies to
+     * @param factory creates the {@link Schema} for the type
+     * @return a reference to the {@link Schema} registered for the type
+     */
+    public synchronized Schema registerIfAbsent(Type entityType, Function<Type, Schema> factory) {
+        TypeKey key = new TypeKey(entityType);
+
+        if (hasRef(key)) {
+            return lookupRef(key);
+        }
+
+        return register(key, factory.apply(entityType), null);
     }
 
     private Schema registerReference(TypeKey key) {
-        String name = deriveName(key, null);
+        GeneratedSchemaInfo info = info(key);
+        if (info != null) {
+            return info.schemaRef;
+        }
+
+        String name = reserveName(key, null);
         Schema schemaRef = new SchemaImpl();
         schemaRef.setRef(AsyncApiConstants.REF_PREFIX_SCHEMA + name);
 
         registry.put(key, new GeneratedSchemaInfo(name, null, schemaRef));
-        names.add(name);
 
         return schemaRef;
     }
@@ -316,18 +571,24 @@ public class SchemaRegistry {
      * Note, this method does NOT merge schemas found during the scanning of the
      * {@link Components}
      * annotation with those found during the model scan.
+     * <p>
+     * If a schema has already been registered for the key, the registry is left unchanged.
      *
      * @param key a value to be used for referencing the schema in the registry
      * @param schema {@link Schema} to add to the registry
-     * @return a reference to the newly registered {@link Schema}
+     * @return a reference to the registered {@link Schema}
      */
     private Schema register(TypeKey key, Schema schema, String schemaName) {
-        String name = deriveName(key, schemaName);
+        GeneratedSchemaInfo info = info(key);
+        if (info != null) {
+            return info.schemaRef;
+        }
+
+        String name = reserveName(key, schemaName);
         Schema schemaRef = new SchemaImpl();
         schemaRef.setRef(AsyncApiConstants.REF_PREFIX_SCHEMA + name);
 
         registry.put(key, new GeneratedSchemaInfo(name, schema, schemaRef));
-        names.add(name);
 
         ModelUtil.components(oai)
                 .addSchema(name, schema);
@@ -335,7 +596,22 @@ public class SchemaRegistry {
         return schemaRef;
     }
 
-    String deriveName(TypeKey key, String schemaName) {
+    /**
+     * Derive the name for the key and reserve it, so it is not handed out to another type.
+     */
+    private String reserveName(TypeKey key, String schemaName) {
+        String nameBase = deriveNameBase(key, schemaName);
+        String name = nameBase;
+        int idx = 1;
+        while (hasName(name)) {
+            name = nameBase + idx++;
+        }
+        this.names.add(name);
+
+        return name;
+    }
+
+    private String deriveNameBase(TypeKey key, String schemaName) {
         /*
          * We cannot use the 'name' on the SchemaImpl because it may be a
          * property name rather then a schema name.
@@ -349,34 +625,62 @@ public class SchemaRegistry {
             }
         }
 
-        String nameBase = schemaName != null ? schemaName : key.defaultName();
-        String name = nameBase;
-        int idx = 1;
-        while (this.names.contains(name)) {
-            name = nameBase + idx++;
+        return schemaName != null ? schemaName : key.defaultName();
+    }
+
+    /**
+     * Retrieve a copy of the schema previously introspected for a type which has not been registered,
+     * e.g. a parameterized collection type. The schemas are cached per registry, as introspecting a
+     * type registers the types it refers to.
+     *
+     * @param instanceType the introspected type
+     * @return a copy of the introspected schema or null
+     */
+    public synchronized Schema lookupIntrospected(Type instanceType) {
+        TypeKey key = new TypeKey(instanceType);
+
+        if (hasRef(key)) {
+            return null;
         }
 
-        return name;
+        return MergeUtil.copyObject(introspected.get(key));
+    }
+
+    /**
+     * Cache a copy of the schema introspected for a type. The schema is not cached if the type has
+     * been registered, its reference will be used instead.
+     *
+     * @param instanceType the introspected type
+     * @param schema the introspected schema
+     */
+    public synchronized void introspected(Type instanceType, Schema schema) {
+        TypeKey key = new TypeKey(instanceType);
+
+        if (!hasRef(key)) {
+            introspected.putIfAbsent(key, MergeUtil.copyObject(schema));
+        }
     }
 
-    public Schema lookupRef(Type instanceType) {
+    public synchronized Schema lookupRef(Type instanceType) {
         return lookupRef(new TypeKey(instanceType));
     }
 
-    public boolean hasRef(Type instanceType) {
+    public synchronized boolean hasRef(Type instanceType) {
         return hasRef(new TypeKey(instanceType));
     }
 
-    public Schema lookupSchema(Type instanceType) {
+    public synchronized Schema lookupSchema(Type instanceType) {
         return lookupSchema(new TypeKey(instanceType));
     }
 
-    public boolean hasSchema(Type instanceType) {
+    public synchronized boolean hasSchema(Type instanceType) {
         return hasSchema(new TypeKey(instanceType));
     }
 
     private Schema lookupRef(TypeKey key) {
-        GeneratedSchemaInfo info = registry.get(key);
+        lookedUp(key);
+
+        GeneratedSchemaInfo info = info(key);
 
         if (info == null) {
             throw ScannerMessages.msg.notRegistered(key.type.name());
@@ -386,7 +690,9 @@ public class SchemaRegistry {
     }
 
     private Schema lookupSchema(TypeKey key) {
-        GeneratedSchemaInfo info = registry.get(key);
+        lookedUp(key);
+
+        GeneratedSchemaInfo info = info(key);
 
         if (info == null) {
             throw ScannerMessages.msg.notRegistered(key.type.name());
@@ -396,16 +702,63 @@ public class SchemaRegistry {
     }
 
     private boolean hasRef(TypeKey key) {
-        return registry.containsKey(key);
+        lookedUp(key);
+
+        return info(key) != null;
     }
 
     private boolean hasSchema(TypeKey key) {
-        return registry.containsKey(key) && registry.get(key).schema != null;
+        lookedUp(key);
+
+        GeneratedSchemaInfo info = info(key);
+        return info != null && info.schema != null;
+    }
+
+    private void lookedUp(TypeKey key) {
+        if (lookups != null) {
+            lookups.add(key);
+        }
     }
 
     private void remove(TypeKey key) {
-        GeneratedSchemaInfo info = this.registry.remove(key);
-        this.names.remove(info.name);
+        GeneratedSchemaInfo info = info(key);
+        this.registry.remove(key);
+        if (parent != null) {
+            this.removed.add(key);
+        }
+        release(info.name);
+    }
+
+    /**
+     * The names assigned by a registry. Two registries in the same state assign the same names
+     * when the same types are registered with them.
+     */
+    static final class State {
+        private final Map<TypeKey, String> registered;
+
+        private final Set<String> names;
+
+        private State(Map<TypeKey, String> registered, Set<String> names) {
+            this.registered = registered;
+            this.names = names;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            State other = (State) o;
+            return registered.equals(other.registered) && names.equals(other.names);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(registered, names);
+        }
     }
 
     /**
@@ -415,12 +768,12 @@ public class SchemaRegistry {
      * functions, with the exception that the {@link Type}'s annotations are not
      * considered in these versions of the methods.
      */
-    static class TypeKey {
+    public static class TypeKey {
         private final Type type;
 
         private int hashCode = 0;
 
-        TypeKey(Type type) {
+        public TypeKey(Type type) {
             this.type = type;
         }
 
@@ -24,6 +24,7 @@ import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.ParameterizedType;
 import org.jboss.jandex.Type;
 
+import io.smallrye.asyncapi.core.runtime.instrumentation.ScanEvents;
 import io.smallrye.asyncapi.spec.models.schema.Schema;
 
 /**
@@ -98,7 +99,9 @@ public class DataObjectDeque {
         validateInput(parentPathEntry, type, schema);
         PathEntry entry = leafNode(parentPathEntry, annotationTarget, type, schema);
         ClassInfo klazzInfo = entry.getClazz();
-        if (parentPathEntry.hasParent(entry)) {
+        Object event = ScanEvents.begin(ScanEvents.Kind.PUSH);
+        boolean cycle = parentPathEntry.hasParent(entry);
+        if (cycle) {
             // Cycle detected, don't push path.
             DataObjectLogging.logger.possibleCycle(klazzInfo);
             DataObjectLogging.logger.path(entry.toStringWithGraph());
@@ -110,6 +113,7 @@ public class DataObjectDeque {
             DataObjectLogging.logger.addingChildNode(klazzInfo);
             path.push(entry);
         }
+        ScanEvents.end(event, type, entry.getDepth(), cycle);
     }
 
     /**
@@ -151,6 +155,8 @@ public class DataObjectDeque {
 
         private final ClassInfo clazz;
 
+        private final int depth;
+
         // May be changed
         private Schema schema;
 
@@ -162,6 +168,7 @@ public class DataObjectDeque {
             this.clazz = clazz;
             this.clazzType = clazzType;
             this.schema = schema;
+            this.depth = enclosing != null ? enclosing.depth + 1 : 0;
         }
 
         public boolean hasParent(PathEntry candidate) {
@@ -183,6 +190,13 @@ public class DataObjectDeque {
             return enclosing;
         }
 
+        /**
+         * @return the number of enclosing entries, 0 for the root
+         */
+        public int getDepth() {
+            return depth;
+        }
+
         public Type getClazzType() {
             return clazzType;
         }
@@ -17,9 +17,10 @@ package io.smallrye.asyncapi.core.runtime.scanner.dataobject;
 
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
-import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationTarget;
@@ -186,7 +187,7 @@ public class IgnoreResolver {
      * Handler for <code>com.fasterxml.jackson.annotation.JsonIgnoreType</code>
      */
     private final class JsonIgnoreTypeHandler implements IgnoreAnnotationHandler {
-        private final Set<DotName> ignoredTypes = new LinkedHashSet<>();
+        private final Set<DotName> ignoredTypes = ConcurrentHashMap.newKeySet();
 
         @Override
         public Visibility shouldIgnore(AnnotationTarget target, AnnotationTarget reference) {
@@ -285,6 +286,25 @@ public class IgnoreResolver {
         DotName getName();
     }
 
+    /**
+     * Determine the properties a referencing member ignores on the type it refers to, i.e. the only part of
+     * the reference {@link #isIgnore(AnnotationTarget, AnnotationTarget)} depends on.
+     *
+     * @param reference an annotated member (field or method) referencing a type, may be null
+     * @return names of the ignored properties, or null if the reference does not restrict the properties
+     */
+    public List<String> ignoredProperties(AnnotationTarget reference) {
+        if (reference == null) {
+            return null;
+        }
+        AnnotationInstance annotation = TypeUtil.getAnnotation(reference, JacksonConstants.JSON_IGNORE_PROPERTIES);
+        if (annotation == null || annotation.value() == null) {
+            return null;
+        }
+        return Arrays.asList(annotation.value()
+                .asStringArray());
+    }
+
     public Visibility isIgnore(AnnotationTarget annotationTarget, AnnotationTarget reference) {
         for (IgnoreAnnotationHandler handler : ignoreHandlers) {
             Visibility v = handler.shouldIgnore(annotationTarget, reference);
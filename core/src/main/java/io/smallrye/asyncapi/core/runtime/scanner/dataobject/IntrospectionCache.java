@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.scanner.dataobject;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Type;
+
+import io.smallrye.asyncapi.core.runtime.scanner.ScanCache;
+import io.smallrye.asyncapi.core.runtime.scanner.ScanCache.Memoized;
+import io.smallrye.asyncapi.core.runtime.scanner.SchemaRegistry.TypeKey;
+
+/**
+ * Caches the introspection of types during a scan. The properties of a type, as resolved by
+ * {@link TypeResolver#getAllFields(AugmentedIndexView, IgnoreResolver, Type, ClassInfo, AnnotationTarget)} including
+ * the ignore decisions of the {@link IgnoreResolver}, only depend on the type and on the annotations of the
+ * referencing member which affect ignoring properties. They are computed once for every such combination.
+ * <p>
+ * The cache is thread safe. Callers receive their own copy of the property map, the {@link TypeResolver}s
+ * themselves are not modified once resolved.
+ */
+public class IntrospectionCache {
+
+    private final AugmentedIndexView index;
+
+    private final IgnoreResolver ignoreResolver;
+
+    private final ConcurrentMap<FieldsKey, Memoized<Map<String, TypeResolver>>> fields = new ConcurrentHashMap<>();
+
+    public IntrospectionCache(AugmentedIndexView index) {
+        this.index = index;
+        this.ignoreResolver = new IgnoreResolver(index);
+    }
+
+    public IgnoreResolver getIgnoreResolver() {
+        return ignoreResolver;
+    }
+
+    /**
+     * Get all fields of the type, see
+     * {@link TypeResolver#getAllFields(AugmentedIndexView, IgnoreResolver, Type, ClassInfo, AnnotationTarget)}.
+     *
+     * @param leaf the type
+     * @param leafKlazz the class of the type
+     * @param reference an annotated member (field or method) referencing the type, may be null
+     * @return a copy of the properties of the type
+     */
+    public Map<String, TypeResolver> getAllFields(Type leaf, ClassInfo leafKlazz, AnnotationTarget reference) {
+        FieldsKey key = new FieldsKey(leaf, leafKlazz, ignoreResolver.ignoredProperties(reference));
+        Memoized<Map<String, TypeResolver>> properties = fields.get(key);
+        if (properties == null) {
+            // not computed within computeIfAbsent, resolving the fields may look up other keys
+            properties = ScanCache.memoize(() -> TypeResolver.getAllFields(index, ignoreResolver, leaf, leafKlazz, reference));
+            Memoized<Map<String, TypeResolver>> previous = fields.putIfAbsent(key, properties);
+            if (previous != null) {
+                properties = previous;
+            }
+        }
+        return new LinkedHashMap<>(properties.get());
+    }
+
+    private static final class FieldsKey {
+
+        private final TypeKey type;
+
+        private final DotName klazz;
+
+        private final List<String> ignoredProperties;
+
+        private final int hashCode;
+
+        private FieldsKey(Type type, ClassInfo klazz, List<String> ignoredProperties) {
+            this.type = new TypeKey(type);
+            this.klazz = klazz != null ? klazz.name() : null;
+            this.ignoredProperties = ignoredProperties;
+            this.hashCode = Objects.hash(this.type, this.klazz, ignoredProperties);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            FieldsKey other = (FieldsKey) o;
+            return type.equals(other.type) && Objects.equals(klazz, other.klazz)
+                    && Objects.equals(ignoredProperties, other.ignoredProperties);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
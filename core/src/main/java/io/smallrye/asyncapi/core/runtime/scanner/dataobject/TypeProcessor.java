@@ -22,6 +22,7 @@ import org.jboss.jandex.Type;
 
 import io.smallrye.asyncapi.core.api.models.schema.SchemaImpl;
 import io.smallrye.asyncapi.core.api.util.MergeUtil;
+import io.smallrye.asyncapi.core.runtime.instrumentation.ScanEvents;
 import io.smallrye.asyncapi.core.runtime.io.schema.SchemaFactory;
 import io.smallrye.asyncapi.core.runtime.scanner.AsyncApiDataObjectScanner;
 import io.smallrye.asyncapi.core.runtime.scanner.SchemaRegistry;
@@ -70,6 +71,16 @@ public class TypeProcessor {
     }
 
     public Type processType() {
+        Object event = ScanEvents.begin(ScanEvents.Kind.PROCESS_TYPE);
+        Type processedType = type;
+
+        Type resolvedType = resolveType();
+
+        ScanEvents.end(event, processedType, parentPathEntry.getDepth() + 1, false);
+        return resolvedType;
+    }
+
+    private Type resolveType() {
         // If it's a terminal type.
         if (TypeUtil.isTerminalType(type)) {
             SchemaRegistry.checkRegistration(type, typeResolver, schema);
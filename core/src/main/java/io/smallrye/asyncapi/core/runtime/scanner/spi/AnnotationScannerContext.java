@@ -27,7 +27,10 @@ import io.smallrye.asyncapi.core.api.AsyncApiConfig;
 import io.smallrye.asyncapi.core.api.models.AsyncAPIImpl;
 import io.smallrye.asyncapi.core.runtime.scanner.AnnotationScannerExtension;
 import io.smallrye.asyncapi.core.runtime.scanner.FilteredIndexView;
+import io.smallrye.asyncapi.core.runtime.scanner.ScanCache;
 import io.smallrye.asyncapi.core.runtime.scanner.dataobject.AugmentedIndexView;
+import io.smallrye.asyncapi.core.runtime.scanner.dataobject.IntrospectionCache;
+import io.smallrye.asyncapi.core.runtime.util.TypeHierarchy;
 import io.smallrye.asyncapi.spec.models.AsyncAPI;
 
 /**
@@ -46,17 +49,31 @@ public class AnnotationScannerContext {
     private final ClassLoader classLoader;
     private final AsyncAPI asyncAPI;
     private final Deque<Type> scanStack = new ArrayDeque<>();
+    private final IntrospectionCache introspectionCache;
+    private final TypeHierarchy typeHierarchy;
+    private final ScanCache scanCache;
 
     public AnnotationScannerContext(FilteredIndexView index, ClassLoader classLoader,
             List<AnnotationScannerExtension> extensions,
             AsyncApiConfig config,
             AsyncAPI asyncAPI) {
+        this(index, classLoader, extensions, config, asyncAPI, null);
+    }
+
+    public AnnotationScannerContext(FilteredIndexView index, ClassLoader classLoader,
+            List<AnnotationScannerExtension> extensions,
+            AsyncApiConfig config,
+            AsyncAPI asyncAPI,
+            ScanCache scanCache) {
         this.index = index;
         this.augmentedIndex = AugmentedIndexView.augment(index);
         this.classLoader = classLoader;
         this.extensions = extensions;
         this.config = config;
         this.asyncAPI = asyncAPI;
+        this.introspectionCache = new IntrospectionCache(augmentedIndex);
+        this.typeHierarchy = new TypeHierarchy(index, classLoader);
+        this.scanCache = scanCache;
     }
 
     public AnnotationScannerContext(IndexView index, ClassLoader classLoader,
@@ -64,6 +81,25 @@ public class AnnotationScannerContext {
         this(new FilteredIndexView(index, config), classLoader, Collections.emptyList(), config, new AsyncAPIImpl());
     }
 
+    /**
+     * Create a context sharing the index, extensions, configuration and model of the given context,
+     * but with its own scan stack. The introspection and scan caches and the type hierarchy are shared as well.
+     * Used to scan on another thread.
+     *
+     * @param context the context to share
+     */
+    public AnnotationScannerContext(AnnotationScannerContext context) {
+        this.index = context.index;
+        this.augmentedIndex = context.augmentedIndex;
+        this.classLoader = context.classLoader;
+        this.extensions = context.extensions;
+        this.config = context.config;
+        this.asyncAPI = context.asyncAPI;
+        this.introspectionCache = context.introspectionCache;
+        this.typeHierarchy = context.typeHierarchy;
+        this.scanCache = context.scanCache;
+    }
+
     public FilteredIndexView getIndex() {
         return index;
     }
@@ -91,4 +127,19 @@ public class AnnotationScannerContext {
     public Deque<Type> getScanStack() {
         return scanStack;
     }
+
+    public IntrospectionCache getIntrospectionCache() {
+        return introspectionCache;
+    }
+
+    public TypeHierarchy getTypeHierarchy() {
+        return typeHierarchy;
+    }
+
+    /**
+     * @return the cache of results of previous scans, null if results are not cached
+     */
+    public ScanCache getScanCache() {
+        return scanCache;
+    }
 }
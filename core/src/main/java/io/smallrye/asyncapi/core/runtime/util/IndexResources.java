@@ -0,0 +1,245 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.jandex.Indexer;
+
+import io.smallrye.asyncapi.core.runtime.scanner.CollectionStandin;
+import io.smallrye.asyncapi.core.runtime.scanner.IterableStandin;
+import io.smallrye.asyncapi.core.runtime.scanner.MapStandin;
+
+/**
+ * The Jandex indexes of classes which are not part of the application index, but are needed by every scan: the
+ * well known JDK classes and the "standin" collection types.
+ * <p>
+ * The indexes are written to the build output by {@link #main(String[])} when this module is built and are read
+ * when first used. If an index resource is missing or can not be read, the classes are indexed from their
+ * bytecode instead.
+ */
+public final class IndexResources {
+
+    static final String JDK_INDEX = "META-INF/smallrye-asyncapi/jdk.idx";
+
+    static final String STANDIN_INDEX = "META-INF/smallrye-asyncapi/standins.idx";
+
+    private static final Class<?>[] JDK_CLASSES = {
+            Enum.class,
+            Object.class,
+
+            // Common, expected classes
+            Boolean.class,
+            Byte.class,
+            Character.class,
+            Double.class,
+            Float.class,
+            Integer.class,
+            Long.class,
+            Number.class,
+            Short.class,
+            String.class,
+            Void.class,
+            java.util.UUID.class,
+
+            // Collection Interfaces
+            Collection.class,
+            java.util.Deque.class,
+            java.util.List.class,
+            Map.class,
+            java.util.NavigableMap.class,
+            java.util.NavigableSet.class,
+            java.util.Queue.class,
+            Set.class,
+            java.util.SortedMap.class,
+            java.util.SortedSet.class,
+            java.util.concurrent.BlockingDeque.class,
+            java.util.concurrent.BlockingQueue.class,
+            java.util.concurrent.ConcurrentMap.class,
+            java.util.concurrent.ConcurrentNavigableMap.class,
+            java.util.concurrent.TransferQueue.class,
+
+            // Abstract Collections
+            java.util.AbstractCollection.class,
+            java.util.AbstractList.class,
+            java.util.AbstractMap.class,
+            java.util.AbstractQueue.class,
+            java.util.AbstractSequentialList.class,
+            java.util.AbstractSet.class,
+            java.util.EnumSet.class,
+
+            // Collections
+            java.util.ArrayDeque.class,
+            java.util.ArrayList.class,
+            java.util.EnumMap.class,
+            HashMap.class,
+            HashSet.class,
+            java.util.Hashtable.class,
+            java.util.IdentityHashMap.class,
+            LinkedHashMap.class,
+            java.util.LinkedHashSet.class,
+            java.util.LinkedList.class,
+            java.util.PriorityQueue.class,
+            java.util.Properties.class,
+            java.util.Stack.class,
+            java.util.TreeMap.class,
+            java.util.TreeSet.class,
+            java.util.Vector.class,
+            java.util.concurrent.ArrayBlockingQueue.class,
+            java.util.concurrent.ConcurrentHashMap.class,
+            java.util.concurrent.ConcurrentLinkedDeque.class,
+            java.util.concurrent.ConcurrentLinkedQueue.class,
+            java.util.concurrent.ConcurrentSkipListMap.class,
+            java.util.concurrent.ConcurrentSkipListSet.class,
+            java.util.concurrent.CopyOnWriteArrayList.class,
+            java.util.concurrent.CopyOnWriteArraySet.class,
+            java.util.concurrent.DelayQueue.class,
+            java.util.concurrent.LinkedBlockingDeque.class,
+            java.util.concurrent.LinkedBlockingQueue.class,
+            java.util.concurrent.LinkedTransferQueue.class,
+            java.util.concurrent.PriorityBlockingQueue.class,
+            java.util.concurrent.SynchronousQueue.class,
+
+            // CompletionStage and implementation
+            java.util.concurrent.CompletionStage.class,
+            java.util.concurrent.CompletableFuture.class,
+
+            // Common interfaces
+            Comparable.class,
+            CharSequence.class,
+            Iterable.class,
+            java.io.Serializable.class,
+            java.util.Optional.class,
+
+            // Date and time
+            Date.class,
+            java.sql.Date.class,
+            java.time.Duration.class,
+            java.time.Instant.class,
+            java.time.LocalDate.class,
+            java.time.LocalDateTime.class,
+            java.time.LocalTime.class,
+            java.time.OffsetDateTime.class,
+            java.time.OffsetTime.class,
+            java.time.Period.class,
+            java.time.ZonedDateTime.class,
+            java.time.chrono.ChronoLocalDate.class,
+            java.time.chrono.ChronoLocalDateTime.class,
+            java.time.chrono.ChronoPeriod.class,
+            java.time.chrono.ChronoZonedDateTime.class,
+            java.time.temporal.Temporal.class,
+            java.time.temporal.TemporalAccessor.class,
+            java.time.temporal.TemporalAdjuster.class,
+            java.time.temporal.TemporalAmount.class
+    };
+
+    private static final Class<?>[] STANDIN_CLASSES = {
+            CollectionStandin.class,
+            IterableStandin.class,
+            MapStandin.class
+    };
+
+    private IndexResources() {
+    }
+
+    /**
+     * Get the index of the well known JDK classes, e.g. wrappers, collections and date and time types.
+     *
+     * @return the index of the JDK classes
+     */
+    public static IndexView jdkIndex() {
+        return JdkIndex.INDEX;
+    }
+
+    /**
+     * Get the index of the "standin" collection types, used to wrap collections of application classes.
+     *
+     * @return the index of the standin types
+     */
+    public static IndexView standinIndex() {
+        return StandinIndex.INDEX;
+    }
+
+    /**
+     * Write the indexes to the build output.
+     *
+     * @param args the output directory
+     * @throws IOException if an index can not be written
+     */
+    public static void main(String[] args) throws IOException {
+        Path outputDirectory = Paths.get(args[0]);
+        write(outputDirectory.resolve(JDK_INDEX), index(JDK_CLASSES));
+        write(outputDirectory.resolve(STANDIN_INDEX), index(STANDIN_CLASSES));
+    }
+
+    private static void write(Path file, Index index) throws IOException {
+        Files.createDirectories(file.getParent());
+        try (OutputStream stream = Files.newOutputStream(file)) {
+            new IndexWriter(stream).write(index);
+        }
+    }
+
+    private static IndexView read(String resourceName, Class<?>[] classes) {
+        try (InputStream stream = IndexResources.class.getClassLoader().getResourceAsStream(resourceName)) {
+            if (stream != null) {
+                return new IndexReader(stream).read();
+            }
+            UtilLogging.logger.indexResourceNotFound(resourceName);
+        } catch (IOException | RuntimeException e) {
+            UtilLogging.logger.indexResourceNotReadable(resourceName, e);
+        }
+        return index(classes);
+    }
+
+    private static Index index(Class<?>[] classes) {
+        Indexer indexer = new Indexer();
+        for (Class<?> klazz : classes) {
+            try (InputStream stream = klazz.getResourceAsStream(klazz.getSimpleName() + ".class")) {
+                indexer.index(stream);
+            } catch (IOException ioe) {
+                throw new UncheckedIOException(ioe);
+            }
+        }
+        return indexer.complete();
+    }
+
+    // holders, each index is read when first used
+
+    private static final class JdkIndex {
+        private static final IndexView INDEX = read(JDK_INDEX, JDK_CLASSES);
+    }
+
+    private static final class StandinIndex {
+        private static final IndexView INDEX = read(STANDIN_INDEX, STANDIN_CLASSES);
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.Indexer;
+import org.jboss.jandex.Type;
+
+import io.smallrye.asyncapi.core.runtime.scanner.ScanCache;
+import io.smallrye.asyncapi.core.runtime.scanner.ScanCache.Memoized;
+
+/**
+ * The type hierarchy of the classes known to a scan. The transitive super classes and interfaces of a class are
+ * computed once per scan and shared by all threads, so testing whether one class is a subtype of another one is
+ * a single lookup.
+ * <p>
+ * Classes are looked up in the index of the scan and in the JDK index of {@link TypeUtil}. Classes not contained
+ * in either, e.g. classes of libraries, are indexed on demand from their class files, read as resources of the
+ * class loader of the scan. No class is ever loaded to determine the hierarchy.
+ */
+public class TypeHierarchy {
+
+    private final IndexView index;
+
+    private final ClassLoader classLoader;
+
+    private final Map<DotName, Memoized<SuperTypes>> superTypes = new ConcurrentHashMap<>();
+
+    private final Map<DotName, Optional<ClassInfo>> classFiles = new ConcurrentHashMap<>();
+
+    public TypeHierarchy(IndexView index, ClassLoader classLoader) {
+        this.index = index;
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * Get all super classes and interfaces of a class.
+     *
+     * @param className the name of the class
+     * @return the names of the super classes and interfaces, null if the class is unknown
+     */
+    public Set<DotName> superTypes(DotName className) {
+        SuperTypes classSuperTypes = getSuperTypes(className);
+        return classSuperTypes != null ? classSuperTypes.names : null;
+    }
+
+    /**
+     * Test whether a class is a subclass or implementation of another class.
+     *
+     * @param subject the name of the class to test
+     * @param object the name of the class to test against
+     * @return true or false, null if the hierarchy of the subject is not known completely
+     */
+    public Boolean isSubtype(DotName subject, DotName object) {
+        SuperTypes subjectSuperTypes = getSuperTypes(subject);
+        if (subjectSuperTypes == null) {
+            return null;
+        }
+        if (subjectSuperTypes.names.contains(object)) {
+            return Boolean.TRUE;
+        }
+        return subjectSuperTypes.complete ? Boolean.FALSE : null;
+    }
+
+    private SuperTypes getSuperTypes(DotName className) {
+        Memoized<SuperTypes> classSuperTypes = superTypes.get(className);
+        if (classSuperTypes == null) {
+            // not computed within computeIfAbsent, the super types are computed recursively
+            classSuperTypes = ScanCache.memoize(() -> computeSuperTypes(className));
+            Memoized<SuperTypes> previous = superTypes.putIfAbsent(className, classSuperTypes);
+            if (previous != null) {
+                classSuperTypes = previous;
+            }
+        }
+        return classSuperTypes.get();
+    }
+
+    private SuperTypes computeSuperTypes(DotName className) {
+        ClassInfo classInfo = getClassInfo(className);
+        if (classInfo == null) {
+            return null;
+        }
+
+        SuperTypes classSuperTypes = new SuperTypes();
+        for (DotName interfaceName : classInfo.interfaceNames()) {
+            classSuperTypes.add(interfaceName, getSuperTypes(interfaceName));
+        }
+
+        Type superType = classInfo.superClassType();
+        if (superType != null) {
+            DotName superName = TypeUtil.getName(superType);
+            classSuperTypes.add(superName, getSuperTypes(superName));
+        }
+
+        classSuperTypes.names = Collections.unmodifiableSet(classSuperTypes.names);
+        return classSuperTypes;
+    }
+
+    private ClassInfo getClassInfo(DotName className) {
+        ClassInfo classInfo = TypeUtil.getClassInfo(index, className);
+        if (classInfo == null && classLoader != null) {
+            classInfo = classFiles.computeIfAbsent(className, name -> Optional.ofNullable(readClassFile(name)))
+                    .orElse(null);
+        }
+        return classInfo;
+    }
+
+    private ClassInfo readClassFile(DotName className) {
+        String resourceName = className.toString()
+                .replace('.', '/') + ".class";
+
+        try (InputStream stream = classLoader.getResourceAsStream(resourceName)) {
+            return stream != null ? new Indexer().index(stream) : null;
+        } catch (IOException | RuntimeException e) {
+            // not a valid class file, the class is unknown
+            return null;
+        }
+    }
+
+    private static final class SuperTypes {
+
+        private Set<DotName> names = new HashSet<>();
+
+        // false if the class files of some super types are not available
+        private boolean complete = true;
+
+        private void add(DotName superName, SuperTypes superSuperTypes) {
+            names.add(superName);
+
+            if (superSuperTypes != null) {
+                names.addAll(superSuperTypes.names);
+                complete &= superSuperTypes.complete;
+            } else {
+                complete = false;
+            }
+        }
+    }
+}
@@ -15,9 +15,6 @@
  */
 package io.smallrye.asyncapi.core.runtime.util;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Arrays;
@@ -25,11 +22,9 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -39,7 +34,6 @@ import org.jboss.jandex.AnnotationValue;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.IndexView;
-import org.jboss.jandex.Indexer;
 import org.jboss.jandex.MethodParameterInfo;
 import org.jboss.jandex.PrimitiveType;
 import org.jboss.jandex.Type;
@@ -150,8 +144,6 @@ public class TypeUtil {
             .example("13:45.30.123456789")
             .build();
 
-    private static final IndexView jdkIndex;
-
     static {
         // String
         TYPE_MAP.put(DotName.createSimple(String.class.getName()), STRING_FORMAT);
@@ -207,96 +199,6 @@ public class TypeUtil {
         // Time
         TYPE_MAP.put(DotName.createSimple(java.time.LocalTime.class.getName()), TIME_LOCAL_FORMAT);
         TYPE_MAP.put(DotName.createSimple(java.time.OffsetTime.class.getName()), TIME_FORMAT);
-
-        Indexer indexer = new Indexer();
-        index(indexer, Enum.class);
-        index(indexer, Object.class);
-
-        // Common, expected classes
-        index(indexer, Boolean.class);
-        index(indexer, Byte.class);
-        index(indexer, Character.class);
-        index(indexer, Double.class);
-        index(indexer, Float.class);
-        index(indexer, Integer.class);
-        index(indexer, Long.class);
-        index(indexer, Number.class);
-        index(indexer, Short.class);
-        index(indexer, String.class);
-        index(indexer, Void.class);
-        index(indexer, java.util.UUID.class);
-
-        // Collection Interfaces
-        index(indexer, Collection.class);
-        index(indexer, java.util.Deque.class);
-        index(indexer, java.util.List.class);
-        index(indexer, Map.class);
-        index(indexer, java.util.NavigableMap.class);
-        index(indexer, java.util.NavigableSet.class);
-        index(indexer, java.util.Queue.class);
-        index(indexer, Set.class);
-        index(indexer, java.util.SortedMap.class);
-        index(indexer, java.util.SortedSet.class);
-        index(indexer, java.util.concurrent.BlockingDeque.class);
-        index(indexer, java.util.concurrent.BlockingQueue.class);
-        index(indexer, java.util.concurrent.ConcurrentMap.class);
-        index(indexer, java.util.concurrent.ConcurrentNavigableMap.class);
-        index(indexer, java.util.concurrent.TransferQueue.class);
-
-        // Abstract Collections
-        index(indexer, java.util.AbstractCollection.class);
-        index(indexer, java.util.AbstractList.class);
-        index(indexer, java.util.AbstractMap.class);
-        index(indexer, java.util.AbstractQueue.class);
-        index(indexer, java.util.AbstractSequentialList.class);
-        index(indexer, java.util.AbstractSet.class);
-        index(indexer, java.util.EnumSet.class);
-
-        // Collections
-        index(indexer, java.util.ArrayDeque.class);
-        index(indexer, java.util.ArrayList.class);
-        index(indexer, java.util.EnumMap.class);
-        index(indexer, HashMap.class);
-        index(indexer, HashSet.class);
-        index(indexer, java.util.Hashtable.class);
-        index(indexer, java.util.IdentityHashMap.class);
-        index(indexer, LinkedHashMap.class);
-        index(indexer, java.util.LinkedHashSet.class);
-        index(indexer, java.util.LinkedList.class);
-        index(indexer, java.util.PriorityQueue.class);
-        index(indexer, java.util.Properties.class);
-        index(indexer, java.util.Stack.class);
-        index(indexer, java.util.TreeMap.class);
-        index(indexer, java.util.TreeSet.class);
-        index(indexer, java.util.Vector.class);
-        index(indexer, java.util.concurrent.ArrayBlockingQueue.class);
-        index(indexer, java.util.concurrent.ConcurrentHashMap.class);
-        index(indexer, java.util.concurrent.ConcurrentLinkedDeque.class);
-        index(indexer, java.util.concurrent.ConcurrentLinkedQueue.class);
-        index(indexer, java.util.concurrent.ConcurrentSkipListMap.class);
-        index(indexer, java.util.concurrent.ConcurrentSkipListSet.class);
-        index(indexer, java.util.concurrent.CopyOnWriteArrayList.class);
-        index(indexer, java.util.concurrent.CopyOnWriteArraySet.class);
-        index(indexer, java.util.concurrent.DelayQueue.class);
-        index(indexer, java.util.concurrent.LinkedBlockingDeque.class);
-        index(indexer, java.util.concurrent.LinkedBlockingQueue.class);
-        index(indexer, java.util.concurrent.LinkedTransferQueue.class);
-        index(indexer, java.util.concurrent.PriorityBlockingQueue.class);
-        index(indexer, java.util.concurrent.SynchronousQueue.class);
-
-        // CompletionStage and implementation
-        index(indexer, java.util.concurrent.CompletionStage.class);
-        index(indexer, java.util.concurrent.CompletableFuture.class);
-
-        jdkIndex = indexer.complete();
-    }
-
-    private static void index(Indexer indexer, Class<?> klazz) {
-        try (InputStream stream = klazz.getResourceAsStream(klazz.getSimpleName() + ".class")) {
-            indexer.index(stream);
-        } catch (IOException ioe) {
-            throw new UncheckedIOException(ioe);
-        }
     }
 
     private TypeUtil() {
@@ -621,7 +523,6 @@ public class TypeUtil {
         return allOfTypes != null && Arrays.stream(allOfTypes).map(Type::name).anyMatch(type.name()::equals);
     }
 
-
     /**
      * Test whether testSubject is an instanceof type test.
      * <p>
@@ -635,7 +536,6 @@ public class TypeUtil {
      * @return true if is of type
      */
     public static boolean isA(final AnnotationScannerContext context, Type testSubject, Type testObject) {
-        IndexView index = context.getIndex();
         ClassLoader cl = context.getClassLoader();
 
         // The types may be the same -- short circuit looking in the index
@@ -646,45 +546,18 @@ public class TypeUtil {
             return false;
         }
 
-        // First, look in Jandex, as target might not be in our classloader
-        ClassInfo subJandexKlazz = getClassInfo(index, testSubject);
+        // First, look in Jandex and in the class files, as target might not be in our classloader
+        Boolean subtype = context.getTypeHierarchy()
+                .isSubtype(getName(testSubject), getName(testObject));
 
-        if (subJandexKlazz != null && superTypes(index, subJandexKlazz).contains(getName(testObject))) {
-            return true;
+        if (subtype != null) {
+            return subtype;
         }
 
+        // Only if the hierarchy is not known completely, load (but never initialize) the classes
         return isAssignableFrom(testSubject.name(), testObject.name(), cl);
     }
 
-    private static Set<DotName> superTypes(IndexView index, ClassInfo testSubject) {
-        Set<DotName> superTypes = new HashSet<>();
-
-        testSubject.interfaceNames()
-                .forEach(iface -> {
-                    superTypes.add(iface);
-
-                    ClassInfo superIFace = getClassInfo(index, iface);
-
-                    if (superIFace != null) {
-                        superTypes.addAll(superTypes(index, superIFace));
-                    }
-                });
-
-        Type superType = testSubject.superClassType();
-
-        if (superType != null) {
-            superTypes.add(getName(superType));
-
-            ClassInfo superKlazz = getClassInfo(index, superType);
-
-            if (superKlazz != null) {
-                superTypes.addAll(superTypes(index, superKlazz));
-            }
-        }
-
-        return superTypes;
-    }
-
     static ClassInfo getClassInfo(IndexView appIndex, Type type) {
         return getClassInfo(appIndex, getName(type));
     }
@@ -692,7 +565,7 @@ public class TypeUtil {
     static ClassInfo getClassInfo(IndexView appIndex, DotName className) {
         ClassInfo clazz = appIndex.getClassByName(className);
         if (clazz == null) {
-            clazz = jdkIndex.getClassByName(className);
+            clazz = IndexResources.jdkIndex().getClassByName(className);
         }
         return clazz;
     }
@@ -708,7 +581,7 @@ public class TypeUtil {
     }
 
     private static Class<?> getClass(DotName name, ClassLoader cl) throws ClassNotFoundException {
-        return Class.forName(name.toString(), true, cl);
+        return Class.forName(name.toString(), false, cl);
     }
 
     /**
@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.validation;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
+
+/**
+ * Feeds a non-blocking parser from a buffer. The content of a buffer with accessible array is passed to the parser
+ * at once, followed by the end of the input. The content of any other buffer, e.g. a direct {@link ByteBuffer}, is
+ * copied chunk by chunk whenever the parser needs more input, so validating a payload of any size only needs the
+ * chunk of the validating thread.
+ * <p>
+ * The methods reading tokens hide {@link JsonToken#NOT_AVAILABLE}, the parser behaves like a blocking parser.
+ */
+final class ChunkedInputParser extends JsonParserDelegate {
+
+    private final ByteArrayFeeder feeder;
+
+    private final byte[] chunk;
+
+    private final ByteBuffer input;
+
+    /**
+     * @param parser a non-blocking parser without input
+     * @param chunk the buffer used to copy the input
+     * @param input the input, consumed by the parser
+     */
+    ChunkedInputParser(JsonParser parser, byte[] chunk, ByteBuffer input) {
+        super(parser);
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        this.chunk = chunk;
+        this.input = input;
+    }
+
+    @Override
+    public JsonToken nextToken() throws IOException {
+        JsonToken token = delegate.nextToken();
+        while (token == JsonToken.NOT_AVAILABLE) {
+            feed();
+            token = delegate.nextToken();
+        }
+        return token;
+    }
+
+    @Override
+    public JsonToken nextValue() throws IOException {
+        JsonToken token = nextToken();
+        return token == JsonToken.FIELD_NAME ? nextToken() : token;
+    }
+
+    @Override
+    public JsonParser skipChildren() throws IOException {
+        JsonToken token = currentToken();
+        if (token != JsonToken.START_OBJECT && token != JsonToken.START_ARRAY) {
+            return this;
+        }
+        int open = 1;
+        while (open > 0) {
+            token = nextToken();
+            if (token == null) {
+                // the parser reports the unexpected end of the input
+                break;
+            } else if (token.isStructStart()) {
+                open++;
+            } else if (token.isStructEnd()) {
+                open--;
+            }
+        }
+        return this;
+    }
+
+    private void feed() throws IOException {
+        int length = input.remaining();
+        if (length == 0) {
+            feeder.endOfInput();
+        } else if (input.hasArray()) {
+            int start = input.arrayOffset() + input.position();
+            feeder.feedInput(input.array(), start, start + length);
+            feeder.endOfInput();
+            input.position(input.limit());
+        } else {
+            length = Math.min(chunk.length, length);
+            input.get(chunk, 0, length);
+            feeder.feedInput(chunk, 0, length);
+        }
+    }
+}
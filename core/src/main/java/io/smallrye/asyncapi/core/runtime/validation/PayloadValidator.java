@@ -0,0 +1,169 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.validation;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.smallrye.asyncapi.spec.models.AsyncAPI;
+import io.smallrye.asyncapi.spec.models.schema.Schema;
+
+/**
+ * Validates payloads against a schema. The schema is compiled once, the validator is immutable and can be shared
+ * by any number of threads.
+ *
+ * <pre>
+ * PayloadValidator validator = PayloadValidator.compile(message.getPayload(), document);
+ * ValidationResult result = validator.validate(parser);
+ * </pre>
+ * <p>
+ * Raw payloads are validated while they are parsed by a non-blocking parser, without building a tree. Arrays are
+ * passed to the parser at once, buffers without accessible array are copied to it in chunks. The state of the
+ * validation is reused by the validating thread, validating a valid payload allocates little more than the parser.
+ * Only composite schemas and unique items are validated on a tree of the value they constrain.
+ */
+public final class PayloadValidator {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    // the size of the chunks in which buffers without accessible array are copied to the parser
+    private static final int CHUNK_SIZE = 8192;
+
+    private static final ThreadLocal<StreamState> STREAM_STATE = ThreadLocal.withInitial(StreamState::new);
+
+    private final SchemaNode root;
+
+    PayloadValidator(SchemaNode root) {
+        this.root = root;
+    }
+
+    /**
+     * Compile a schema.
+     *
+     * @param schema the schema, null for a schema allowing any payload
+     * @param document the document containing the schemas referenced by the schema, may be null if the schema
+     *        does not contain references
+     * @return the validator
+     * @throws IllegalArgumentException if a reference cannot be resolved or a pattern is invalid
+     */
+    public static PayloadValidator compile(Schema schema, AsyncAPI document) {
+        return new PayloadValidator(new SchemaCompiler(document).compile(schema));
+    }
+
+    /**
+     * Validate a payload parsed into a tree.
+     *
+     * @param payload the payload
+     * @return the result listing all violations
+     */
+    public ValidationResult validate(JsonNode payload) {
+        ValidationContext context = new ValidationContext(Integer.MAX_VALUE, true);
+        root.validate(payload, context);
+        return context.result();
+    }
+
+    /**
+     * Validate the next value of a token stream. The value is consumed, the parser is left at its last token.
+     *
+     * @param parser the parser, positioned before or at the first token of the value
+     * @return the result listing all violations
+     * @throws IOException if the payload cannot be read or is not well-formed
+     */
+    public ValidationResult validate(JsonParser parser) throws IOException {
+        ValidationContext context = new ValidationContext(Integer.MAX_VALUE, true);
+        validate(parser, context);
+        return context.result();
+    }
+
+    /**
+     * Validate a payload while parsing it.
+     *
+     * @param payload the payload, JSON encoded as UTF-8
+     * @param maxViolations the number of violations after which the validation stops
+     * @return the result listing the first violations
+     * @throws IOException if the payload is not well-formed
+     */
+    public ValidationResult validate(byte[] payload, int maxViolations) throws IOException {
+        return validate(payload, 0, payload.length, maxViolations);
+    }
+
+    /**
+     * Validate a payload while parsing it.
+     *
+     * @param payload the array containing the payload, JSON encoded as UTF-8
+     * @param offset the offset of the payload in the array
+     * @param length the length of the payload
+     * @param maxViolations the number of violations after which the validation stops
+     * @return the result listing the first violations
+     * @throws IOException if the payload is not well-formed
+     */
+    public ValidationResult validate(byte[] payload, int offset, int length, int maxViolations) throws IOException {
+        return validate(ByteBuffer.wrap(payload, offset, length), maxViolations);
+    }
+
+    /**
+     * Validate the remaining content of a buffer while parsing it. The position of the buffer is not changed.
+     *
+     * @param payload the buffer containing the payload, JSON encoded as UTF-8
+     * @param maxViolations the number of violations after which the validation stops
+     * @return the result listing the first violations
+     * @throws IOException if the payload is not well-formed
+     */
+    public ValidationResult validate(ByteBuffer payload, int maxViolations) throws IOException {
+        int position = payload.position();
+        try {
+            JsonParser parser = new ChunkedInputParser(FACTORY.createNonBlockingByteArrayParser(),
+                    STREAM_STATE.get().chunk, payload);
+            return validateStream(parser, maxViolations);
+        } finally {
+            payload.position(position);
+        }
+    }
+
+    private ValidationResult validateStream(JsonParser parser, int maxViolations) throws IOException {
+        ValidationContext context = STREAM_STATE.get().context;
+        context.reset(Math.max(maxViolations, 1));
+        try (JsonParser payloadParser = parser) {
+            validate(payloadParser, context);
+            if (!context.isFull() && payloadParser.nextToken() != null) {
+                context.violation("type", "must be a single value");
+            }
+            return context.result();
+        }
+    }
+
+    void validate(JsonParser parser, ValidationContext context) throws IOException {
+        if (!parser.hasCurrentToken() && parser.nextToken() == null) {
+            context.violation("type", "must not be empty");
+            return;
+        }
+        root.validate(parser, context);
+    }
+
+    /**
+     * The state reused by all validations of raw payloads of a thread.
+     */
+    private static final class StreamState {
+
+        private final ValidationContext context = new ValidationContext(1, true);
+
+        private final byte[] chunk = new byte[CHUNK_SIZE];
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.validation;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import io.smallrye.asyncapi.core.api.constants.AsyncApiConstants;
+import io.smallrye.asyncapi.spec.models.AsyncAPI;
+import io.smallrye.asyncapi.spec.models.channel.ChannelItem;
+import io.smallrye.asyncapi.spec.models.message.Message;
+import io.smallrye.asyncapi.spec.models.operation.Operation;
+
+/**
+ * The payload validators of the messages of an AsyncAPI document, by message name. The validators of all
+ * messages are compiled together, schemas shared by several messages are compiled once.
+ * <p>
+ * The messages are those of the components and the named messages of the operations of the channels. A
+ * message defined in both places is validated by the schema of the components.
+ */
+public final class PayloadValidators {
+
+    private final Map<String, PayloadValidator> validators;
+
+    private PayloadValidators(Map<String, PayloadValidator> validators) {
+        this.validators = validators;
+    }
+
+    /**
+     * Compile the payload schemas of the messages of a document.
+     *
+     * @param document the document
+     * @return the validators
+     * @throws IllegalArgumentException if a reference cannot be resolved or a pattern is invalid
+     */
+    public static PayloadValidators compile(AsyncAPI document) {
+        SchemaCompiler compiler = new SchemaCompiler(document);
+        Map<String, Message> componentMessages = document.getComponents() != null
+                && document.getComponents().getMessages() != null ? document.getComponents().getMessages()
+                        : Collections.emptyMap();
+
+        Map<String, PayloadValidator> validators = new LinkedHashMap<>();
+        Map<Message, PayloadValidator> compiled = new IdentityHashMap<>();
+        for (Map.Entry<String, Message> message : componentMessages.entrySet()) {
+            Message resolved = resolve(message.getValue(), componentMessages);
+            validators.put(message.getKey(), compiled.computeIfAbsent(resolved,
+                    m -> new PayloadValidator(compiler.compile(m.getPayload()))));
+        }
+
+        if (document.getChannels() != null && document.getChannels().getChannels() != null) {
+            for (ChannelItem channel : document.getChannels().getChannels().values()) {
+                if (channel != null) {
+                    addOperationMessage(channel.getSubscribe(), componentMessages, compiler, validators, compiled);
+                    addOperationMessage(channel.getPublish(), componentMessages, compiler, validators, compiled);
+                }
+            }
+        }
+        return new PayloadValidators(Collections.unmodifiableMap(validators));
+    }
+
+    private static void addOperationMessage(Operation operation, Map<String, Message> componentMessages,
+            SchemaCompiler compiler, Map<String, PayloadValidator> validators, Map<Message, PayloadValidator> compiled) {
+        if (operation == null || operation.getMessage() == null) {
+            return;
+        }
+        Message message = resolve(operation.getMessage(), componentMessages);
+        if (message.getName() != null && !validators.containsKey(message.getName())) {
+            validators.put(message.getName(), compiled.computeIfAbsent(message,
+                    m -> new PayloadValidator(compiler.compile(m.getPayload()))));
+        }
+    }
+
+    private static Message resolve(Message message, Map<String, Message> componentMessages) {
+        Message resolved = message;
+        int references = 0;
+        while (resolved.getRef() != null) {
+            String ref = resolved.getRef();
+            String name = ref.startsWith(AsyncApiConstants.REF_PREFIX_MESSAGE)
+                    ? ref.substring(AsyncApiConstants.REF_PREFIX_MESSAGE.length())
+                    : ref;
+            resolved = componentMessages.get(name);
+            if (resolved == null || ++references > componentMessages.size()) {
+                throw ValidationMessages.msg.unresolvableReference(ref);
+            }
+        }
+        return resolved;
+    }
+
+    /**
+     * Get the validator of the payload of a message.
+     *
+     * @param messageName the name of the message
+     * @return the validator, null if the document does not define the message
+     */
+    public PayloadValidator get(String messageName) {
+        return validators.get(messageName);
+    }
+
+    /**
+     * @return the names of the messages
+     */
+    public Set<String> getMessageNames() {
+        return validators.keySet();
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.validation;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import io.smallrye.asyncapi.core.api.constants.AsyncApiConstants;
+import io.smallrye.asyncapi.spec.annotations.schema.SchemaType;
+import io.smallrye.asyncapi.spec.models.AsyncAPI;
+import io.smallrye.asyncapi.spec.models.schema.Schema;
+
+/**
+ * Compiles the schemas of an AsyncAPI document into {@link SchemaNode}s. Every schema is compiled once, schemas
+ * referenced several times share their node and recursive schemas result in cyclic nodes.
+ */
+final class SchemaCompiler {
+
+    private final Map<String, Schema> schemas;
+
+    private final Map<Schema, SchemaNode> nodes = new IdentityHashMap<>();
+
+    SchemaCompiler(AsyncAPI document) {
+        Map<String, Schema> componentSchemas = document != null && document.getComponents() != null
+                ? document.getComponents().getSchemas()
+                : null;
+        this.schemas = componentSchemas != null ? componentSchemas : Collections.emptyMap();
+    }
+
+    /**
+     * Compile a schema.
+     *
+     * @param schema the schema, null for a schema allowing any value
+     * @return the compiled schema
+     * @throws IllegalArgumentException if a reference cannot be resolved or a pattern is invalid
+     */
+    SchemaNode compile(Schema schema) {
+        if (schema == null) {
+            return SchemaNode.ANY;
+        }
+        Schema resolved = resolve(schema);
+        SchemaNode node = nodes.get(resolved);
+        if (node == null) {
+            node = new SchemaNode();
+            // registered before the constraints are compiled, recursive references terminate here
+            nodes.put(resolved, node);
+            compile(resolved, node);
+        }
+        return node;
+    }
+
+    private Schema resolve(Schema schema) {
+        Schema resolved = schema;
+        int references = 0;
+        while (resolved.getRef() != null) {
+            String ref = resolved.getRef();
+            String name = ref.startsWith(AsyncApiConstants.REF_PREFIX_SCHEMA)
+                    ? ref.substring(AsyncApiConstants.REF_PREFIX_SCHEMA.length())
+                    : ref;
+            resolved = schemas.get(name);
+            // a chain of references longer than the number of schemas is a cycle
+            if (resolved == null || ++references > schemas.size()) {
+                throw ValidationMessages.msg.unresolvableReference(ref);
+            }
+        }
+        return resolved;
+    }
+
+    private void compile(Schema schema, SchemaNode node) {
+        node.type = schema.getType() != SchemaType.DEFAULT ? schema.getType() : null;
+
+        node.minimum = schema.getMinimum();
+        node.exclusiveMinimum = Boolean.TRUE.equals(schema.getExclusiveMinimum());
+        node.maximum = schema.getMaximum();
+        node.exclusiveMaximum = Boolean.TRUE.equals(schema.getExclusiveMaximum());
+        BigDecimal multipleOf = schema.getMultipleOf();
+        node.multipleOf = multipleOf != null && multipleOf.signum() > 0 ? multipleOf : null;
+
+        node.minLength = nonNegative(schema.getMinLength(), 0);
+        node.maxLength = nonNegative(schema.getMaxLength(), Integer.MAX_VALUE);
+        if (schema.getPattern() != null) {
+            try {
+                node.pattern = Pattern.compile(schema.getPattern());
+            } catch (PatternSyntaxException e) {
+                throw ValidationMessages.msg.invalidPattern(schema.getPattern(), e);
+            }
+        }
+
+        List<String> enumeration = schema.getEnumeration();
+        if (enumeration != null && !enumeration.isEmpty()) {
+            node.enumeration = Collections.unmodifiableList(new ArrayList<>(enumeration));
+            node.enumerationValues = new HashSet<>(enumeration);
+            node.numericEnumerationValues = numericValues(enumeration);
+        }
+
+        Map<String, Schema> properties = schema.getProperties();
+        if (properties != null && !properties.isEmpty()) {
+            Map<String, SchemaNode> propertyNodes = new HashMap<>();
+            for (Map.Entry<String, Schema> property : properties.entrySet()) {
+                propertyNodes.put(property.getKey(), compile(property.getValue()));
+            }
+            node.properties = propertyNodes;
+        }
+        List<String> required = schema.getRequired();
+        if (required != null && !required.isEmpty()) {
+            node.required = new ArrayList<>(new LinkedHashSet<>(required)).toArray(new String[0]);
+            node.requiredIndices = new HashMap<>();
+            for (int i = 0; i < node.required.length; i++) {
+                node.requiredIndices.put(node.required[i], i);
+            }
+        }
+        node.minProperties = nonNegative(schema.getMinProperties(), 0);
+        node.maxProperties = nonNegative(schema.getMaxProperties(), Integer.MAX_VALUE);
+        if (schema.getAdditionalPropertiesSchema() != null) {
+            node.additionalProperties = compile(schema.getAdditionalPropertiesSchema());
+        } else {
+            node.additionalPropertiesAllowed = !Boolean.FALSE.equals(schema.getAdditionalPropertiesBoolean());
+        }
+
+        if (schema.getItems() != null) {
+            node.items = compile(schema.getItems());
+        }
+        node.minItems = nonNegative(schema.getMinItems(), 0);
+        node.maxItems = nonNegative(schema.getMaxItems(), Integer.MAX_VALUE);
+        node.uniqueItems = Boolean.TRUE.equals(schema.getUniqueItems());
+
+        node.allOf = compileAll(schema.getAllOf());
+        node.anyOf = compileAll(schema.getAnyOf());
+        node.oneOf = compileAll(schema.getOneOf());
+        if (schema.getNot() != null) {
+            node.not = compile(schema.getNot());
+        }
+
+        node.complete();
+    }
+
+    private SchemaNode[] compileAll(List<Schema> schemas) {
+        if (schemas == null || schemas.isEmpty()) {
+            return null;
+        }
+        SchemaNode[] compiled = new SchemaNode[schemas.size()];
+        for (int i = 0; i < compiled.length; i++) {
+            compiled[i] = compile(schemas.get(i));
+        }
+        return compiled;
+    }
+
+    private static Set<BigDecimal> numericValues(List<String> enumeration) {
+        Set<BigDecimal> values = new HashSet<>();
+        for (String value : enumeration) {
+            try {
+                if (value != null) {
+                    values.add(new BigDecimal(value).stripTrailingZeros());
+                }
+            } catch (NumberFormatException e) {
+                // not a number, only compared as string
+            }
+        }
+        return values.isEmpty() ? Collections.emptySet() : values;
+    }
+
+    private static int nonNegative(Integer value, int defaultValue) {
+        return value != null && value >= 0 ? value : defaultValue;
+    }
+}
@@ -0,0 +1,623 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.validation;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.smallrye.asyncapi.spec.annotations.schema.SchemaType;
+
+/**
+ * A schema compiled for validating payloads. All references are resolved, patterns are compiled and the bounds
+ * are converted to the representation used for the comparisons.
+ * <p>
+ * The constraints are assigned by the {@link SchemaCompiler} and never modified afterwards, a node can be used by
+ * any number of threads once it has been published safely.
+ */
+final class SchemaNode {
+
+    static final SchemaNode ANY = new SchemaNode();
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final String[] NO_NAMES = new String[0];
+
+    // null for any type
+    SchemaType type;
+
+    // numbers
+    BigDecimal minimum;
+
+    boolean exclusiveMinimum;
+
+    BigDecimal maximum;
+
+    boolean exclusiveMaximum;
+
+    BigDecimal multipleOf;
+
+    // true if the bounds and the multiple can be compared as long values
+    boolean longConstraints;
+
+    long minimumLong = Long.MIN_VALUE;
+
+    long maximumLong = Long.MAX_VALUE;
+
+    long multipleOfLong;
+
+    // strings, the lengths are counted in code points
+    int minLength;
+
+    int maxLength = Integer.MAX_VALUE;
+
+    Pattern pattern;
+
+    // enumeration, numeric values are also compared by value
+    List<String> enumeration;
+
+    Set<String> enumerationValues;
+
+    Set<BigDecimal> numericEnumerationValues = Collections.emptySet();
+
+    // objects
+    Map<String, SchemaNode> properties = Collections.emptyMap();
+
+    String[] required = NO_NAMES;
+
+    Map<String, Integer> requiredIndices;
+
+    int minProperties;
+
+    int maxProperties = Integer.MAX_VALUE;
+
+    SchemaNode additionalProperties;
+
+    boolean additionalPropertiesAllowed = true;
+
+    // arrays
+    SchemaNode items;
+
+    int minItems;
+
+    int maxItems = Integer.MAX_VALUE;
+
+    boolean uniqueItems;
+
+    // composition
+    SchemaNode[] allOf;
+
+    SchemaNode[] anyOf;
+
+    SchemaNode[] oneOf;
+
+    SchemaNode not;
+
+    // true if the constraints can only be validated on the complete value
+    boolean needsTree;
+
+    /**
+     * Compute the derived constraints, called by the compiler once all constraints have been assigned.
+     */
+    void complete() {
+        if (fitsLong(minimum) && fitsLong(maximum) && (multipleOf == null || fitsLong(multipleOf))) {
+            longConstraints = true;
+            if (minimum != null) {
+                minimumLong = exclusiveMinimum ? minimum.longValueExact() + 1 : minimum.longValueExact();
+            }
+            if (maximum != null) {
+                maximumLong = exclusiveMaximum ? maximum.longValueExact() - 1 : maximum.longValueExact();
+            }
+            multipleOfLong = multipleOf != null ? multipleOf.longValueExact() : 0;
+        }
+        needsTree = uniqueItems || allOf != null || anyOf != null || oneOf != null || not != null;
+    }
+
+    /**
+     * Validate a value parsed into a tree.
+     *
+     * @param value the value
+     * @param context the context collecting the violations
+     */
+    void validate(JsonNode value, ValidationContext context) {
+        if (context.isFull()) {
+            return;
+        }
+        if (!hasType(value)) {
+            typeViolation(context);
+            return;
+        }
+
+        switch (value.getNodeType()) {
+            case STRING:
+                validateString(value.textValue(), context);
+                break;
+            case NUMBER:
+                if (hasNumberConstraints()) {
+                    if (value.isIntegralNumber() && value.canConvertToLong()) {
+                        validateNumber(value.longValue(), context);
+                    } else {
+                        validateNumber(value.decimalValue(), context);
+                    }
+                }
+                break;
+            case OBJECT:
+                validateObject(value, context);
+                break;
+            case ARRAY:
+                validateArray(value, context);
+                break;
+            default:
+                break;
+        }
+
+        if (enumeration != null && !isEnumerated(value)) {
+            enumerationViolation(context);
+        }
+        validateComposition(value, context);
+    }
+
+    /**
+     * Validate the value at the current token of a parser. The parser is left at the last token of the value.
+     *
+     * @param parser the parser, positioned at the first token of the value
+     * @param context the context collecting the violations
+     * @throws IOException if the payload cannot be read
+     */
+    void validate(JsonParser parser, ValidationContext context) throws IOException {
+        if (context.isFull()) {
+            parser.skipChildren();
+            return;
+        }
+        if (needsTree) {
+            validate((JsonNode) MAPPER.readTree(parser), context);
+            return;
+        }
+
+        JsonToken token = parser.currentToken();
+        switch (token) {
+            case START_OBJECT:
+                if (type != null && type != SchemaType.OBJECT) {
+                    typeViolation(context);
+                    parser.skipChildren();
+                } else {
+                    validateObject(parser, context);
+                    if (enumeration != null) {
+                        enumerationViolation(context);
+                    }
+                }
+                break;
+            case START_ARRAY:
+                if (type != null && type != SchemaType.ARRAY) {
+                    typeViolation(context);
+                    parser.skipChildren();
+                } else {
+                    validateArray(parser, context);
+                    if (enumeration != null) {
+                        enumerationViolation(context);
+                    }
+                }
+                break;
+            case VALUE_STRING:
+                if (type != null && type != SchemaType.STRING) {
+                    typeViolation(context);
+                } else {
+                    validateString(parser, context);
+                }
+                break;
+            case VALUE_NUMBER_INT:
+                if (type != null && type != SchemaType.INTEGER && type != SchemaType.NUMBER) {
+                    typeViolation(context);
+                } else if (hasNumberConstraints() || enumeration != null) {
+                    validateNumber(parser, context);
+                }
+                break;
+            case VALUE_NUMBER_FLOAT:
+                if (type != null && type != SchemaType.NUMBER
+                        && (type != SchemaType.INTEGER || !isIntegral(parser.getDecimalValue()))) {
+                    typeViolation(context);
+                } else if (hasNumberConstraints() || enumeration != null) {
+                    validateNumber(parser.getDecimalValue(), context);
+                    if (enumeration != null && !isEnumerated(parser.getDecimalValue())) {
+                        enumerationViolation(context);
+                    }
+                }
+                break;
+            case VALUE_TRUE:
+            case VALUE_FALSE:
+                if (type != null && type != SchemaType.BOOLEAN) {
+                    typeViolation(context);
+                } else if (enumeration != null && !enumerationValues.contains(parser.getText())) {
+                    enumerationViolation(context);
+                }
+                break;
+            case VALUE_NULL:
+                if (type != null) {
+                    typeViolation(context);
+                } else if (enumeration != null && !enumerationValues.contains("null")) {
+                    enumerationViolation(context);
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Test whether a value matches the schema, used by the composite schemas.
+     */
+    private boolean matches(JsonNode value) {
+        ValidationContext probe = ValidationContext.probe();
+        validate(value, probe);
+        return !probe.hasViolations();
+    }
+
+    private boolean hasType(JsonNode value) {
+        if (type == null) {
+            return true;
+        }
+        switch (type) {
+            case STRING:
+                return value.isTextual();
+            case BOOLEAN:
+                return value.isBoolean();
+            case OBJECT:
+                return value.isObject();
+            case ARRAY:
+                return value.isArray();
+            case NUMBER:
+                return value.isNumber();
+            case INTEGER:
+                return value.isIntegralNumber() || value.isNumber() && isIntegral(value.decimalValue());
+            default:
+                return true;
+        }
+    }
+
+    private void validateString(String value, ValidationContext context) {
+        int length = value.length();
+        if (needsCodePoints(length)) {
+            validateLength(value.codePointCount(0, length), context);
+        }
+        if (pattern != null) {
+            validatePattern(value, context);
+        }
+    }
+
+    private void validateString(JsonParser parser, ValidationContext context) throws IOException {
+        // the text is only turned into a string if it is matched
+        int length = parser.getTextLength();
+        if (needsCodePoints(length)) {
+            validateLength(Character.codePointCount(parser.getTextCharacters(), parser.getTextOffset(), length), context);
+        }
+        if (pattern != null || enumeration != null) {
+            String text = parser.getText();
+            if (pattern != null) {
+                validatePattern(text, context);
+            }
+            if (enumeration != null && !enumerationValues.contains(text)) {
+                enumerationViolation(context);
+            }
+        }
+    }
+
+    private boolean needsCodePoints(int length) {
+        // a string has at least half as many code points as chars
+        return length < 2L * minLength || length > maxLength;
+    }
+
+    private void validateLength(int codePoints, ValidationContext context) {
+        if (codePoints < minLength) {
+            context.violation("minLength", "must be at least " + minLength + " characters long");
+        } else if (codePoints > maxLength) {
+            context.violation("maxLength", "must be at most " + maxLength + " characters long");
+        }
+    }
+
+    private void validatePattern(String value, ValidationContext context) {
+        if (!context.matcher(pattern, value).find()) {
+            context.violation("pattern", "must match the pattern " + pattern.pattern());
+        }
+    }
+
+    private boolean hasNumberConstraints() {
+        return minimum != null || maximum != null || multipleOf != null;
+    }
+
+    private void validateNumber(JsonParser parser, ValidationContext context) throws IOException {
+        JsonParser.NumberType numberType = parser.getNumberType();
+        if (numberType == JsonParser.NumberType.INT || numberType == JsonParser.NumberType.LONG) {
+            long value = parser.getLongValue();
+            validateNumber(value, context);
+            if (enumeration != null && !isEnumerated(BigDecimal.valueOf(value))) {
+                enumerationViolation(context);
+            }
+        } else {
+            BigDecimal value = parser.getDecimalValue();
+            validateNumber(value, context);
+            if (enumeration != null && !isEnumerated(value)) {
+                enumerationViolation(context);
+            }
+        }
+    }
+
+    private void validateNumber(long value, ValidationContext context) {
+        if (!longConstraints) {
+            validateNumber(BigDecimal.valueOf(value), context);
+            return;
+        }
+        if (value < minimumLong) {
+            minimumViolation(context);
+        } else if (value > maximumLong) {
+            maximumViolation(context);
+        }
+        if (multipleOfLong != 0 && value % multipleOfLong != 0) {
+            multipleOfViolation(context);
+        }
+    }
+
+    private void validateNumber(BigDecimal value, ValidationContext context) {
+        if (minimum != null) {
+            int comparison = value.compareTo(minimum);
+            if (comparison < 0 || exclusiveMinimum && comparison == 0) {
+                minimumViolation(context);
+            }
+        }
+        if (maximum != null) {
+            int comparison = value.compareTo(maximum);
+            if (comparison > 0 || exclusiveMaximum && comparison == 0) {
+                maximumViolation(context);
+            }
+        }
+        if (multipleOf != null && value.remainder(multipleOf).signum() != 0) {
+            multipleOfViolation(context);
+        }
+    }
+
+    private void validateObject(JsonNode value, ValidationContext context) {
+        Iterator<Map.Entry<String, JsonNode>> fields = value.fields();
+        while (fields.hasNext() && !context.isFull()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            context.push(field.getKey());
+            SchemaNode property = property(field.getKey(), context);
+            if (property != null) {
+                property.validate(field.getValue(), context);
+            }
+            context.pop();
+        }
+        for (String name : required) {
+            if (!value.has(name)) {
+                requiredViolation(name, context);
+            }
+        }
+        validatePropertyCount(value.size(), context);
+    }
+
+    private void validateObject(JsonParser parser, ValidationContext context) throws IOException {
+        int count = 0;
+        long present = 0;
+        BitSet presentMany = required.length > Long.SIZE ? new BitSet(required.length) : null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            count++;
+
+            if (requiredIndices != null) {
+                Integer index = requiredIndices.get(name);
+                if (index != null && presentMany != null) {
+                    presentMany.set(index);
+                } else if (index != null) {
+                    present |= 1L << index;
+                }
+            }
+
+            if (context.isFull()) {
+                parser.skipChildren();
+                continue;
+            }
+            context.push(name);
+            SchemaNode property = property(name, context);
+            if (property != null) {
+                property.validate(parser, context);
+            } else {
+                parser.skipChildren();
+            }
+            context.pop();
+        }
+
+        for (int i = 0; i < required.length; i++) {
+            boolean isPresent = presentMany != null ? presentMany.get(i) : (present & 1L << i) != 0;
+            if (!isPresent) {
+                requiredViolation(required[i], context);
+            }
+        }
+        validatePropertyCount(count, context);
+    }
+
+    /**
+     * Get the schema of a property, the context must point to the property.
+     *
+     * @return the schema, null if the property is not allowed or not constrained
+     */
+    private SchemaNode property(String name, ValidationContext context) {
+        SchemaNode property = properties.get(name);
+        if (property == null) {
+            property = additionalProperties;
+            if (property == null && !additionalPropertiesAllowed) {
+                context.violation("additionalProperties", "is not allowed");
+            }
+        }
+        return property;
+    }
+
+    private void validatePropertyCount(int count, ValidationContext context) {
+        if (count < minProperties) {
+            context.violation("minProperties", "must have at least " + minProperties + " properties");
+        } else if (count > maxProperties) {
+            context.violation("maxProperties", "must have at most " + maxProperties + " properties");
+        }
+    }
+
+    private void validateArray(JsonNode value, ValidationContext context) {
+        int size = value.size();
+        if (items != null) {
+            for (int i = 0; i < size && !context.isFull(); i++) {
+                context.push(i);
+                items.validate(value.get(i), context);
+                context.pop();
+            }
+        }
+        validateItemCount(size, context);
+        if (uniqueItems && size > 1) {
+            Set<JsonNode> distinct = new HashSet<>();
+            for (JsonNode item : value) {
+                if (!distinct.add(item)) {
+                    context.violation("uniqueItems", "must not contain duplicate items");
+                    break;
+                }
+            }
+        }
+    }
+
+    private void validateArray(JsonParser parser, ValidationContext context) throws IOException {
+        int count = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (items != null && !context.isFull()) {
+                context.push(count);
+                items.validate(parser, context);
+                context.pop();
+            } else {
+                parser.skipChildren();
+            }
+            count++;
+        }
+        validateItemCount(count, context);
+    }
+
+    private void validateItemCount(int count, ValidationContext context) {
+        if (count < minItems) {
+            context.violation("minItems", "must have at least " + minItems + " items");
+        } else if (count > maxItems) {
+            context.violation("maxItems", "must have at most " + maxItems + " items");
+        }
+    }
+
+    private void validateComposition(JsonNode value, ValidationContext context) {
+        if (allOf != null) {
+            for (SchemaNode schema : allOf) {
+                schema.validate(value, context);
+            }
+        }
+        if (anyOf != null && countMatches(anyOf, value, 1) == 0) {
+            context.violation("anyOf", "must match at least one of the schemas");
+        }
+        if (oneOf != null) {
+            int matches = countMatches(oneOf, value, 2);
+            if (matches != 1) {
+                context.violation("oneOf", matches == 0 ? "must match one of the schemas"
+                        : "must match exactly one of the schemas");
+            }
+        }
+        if (not != null && not.matches(value)) {
+            context.violation("not", "must not match the schema");
+        }
+    }
+
+    private static int countMatches(SchemaNode[] schemas, JsonNode value, int limit) {
+        int matches = 0;
+        for (int i = 0; i < schemas.length && matches < limit; i++) {
+            if (schemas[i].matches(value)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    private boolean isEnumerated(JsonNode value) {
+        switch (value.getNodeType()) {
+            case STRING:
+                return enumerationValues.contains(value.textValue());
+            case NUMBER:
+                return isEnumerated(value.decimalValue());
+            case BOOLEAN:
+                return enumerationValues.contains(value.asText());
+            case NULL:
+                return enumerationValues.contains("null");
+            default:
+                return false;
+        }
+    }
+
+    private boolean isEnumerated(BigDecimal value) {
+        return numericEnumerationValues.contains(value.stripTrailingZeros());
+    }
+
+    private void typeViolation(ValidationContext context) {
+        context.violation("type", "must be of type " + type);
+    }
+
+    private void minimumViolation(ValidationContext context) {
+        context.violation("minimum", (exclusiveMinimum ? "must be greater than " : "must be at least ")
+                + minimum.toPlainString());
+    }
+
+    private void maximumViolation(ValidationContext context) {
+        context.violation("maximum", (exclusiveMaximum ? "must be less than " : "must be at most ")
+                + maximum.toPlainString());
+    }
+
+    private void multipleOfViolation(ValidationContext context) {
+        context.violation("multipleOf", "must be a multiple of " + multipleOf.toPlainString());
+    }
+
+    private void enumerationViolation(ValidationContext context) {
+        context.violation("enum", "must be one of " + enumeration);
+    }
+
+    private static void requiredViolation(String name, ValidationContext context) {
+        context.violation("required", "must have the property " + name);
+    }
+
+    private static boolean isIntegral(BigDecimal value) {
+        return value.signum() == 0 || value.scale() <= 0 || value.stripTrailingZeros().scale() <= 0;
+    }
+
+    private static boolean fitsLong(BigDecimal value) {
+        if (value == null) {
+            return true;
+        }
+        try {
+            long exact = value.longValueExact();
+            // leave room for the exclusive bounds
+            return exact > Long.MIN_VALUE && exact < Long.MAX_VALUE;
+        } catch (ArithmeticException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.validation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The state of a single validation: the path of the value being validated and the violations found so far. The
+ * path is only turned into a JSON pointer if a violation is found, validating a valid payload does not allocate
+ * anything for the path.
+ * <p>
+ * A context can be reset and reused for validating further payloads by the same thread. It then also reuses the
+ * matchers of the patterns and the list of violations.
+ */
+final class ValidationContext {
+
+    private int maxViolations;
+
+    private final boolean recording;
+
+    private List<Violation> violations;
+
+    private int violationCount;
+
+    private String[] names = new String[16];
+
+    private int[] indices = new int[16];
+
+    private int depth;
+
+    private Map<Pattern, Matcher> matchers;
+
+    /**
+     * @param maxViolations the number of violations after which the validation stops
+     * @param recording false if only the number of violations is of interest
+     */
+    ValidationContext(int maxViolations, boolean recording) {
+        this.maxViolations = maxViolations;
+        this.recording = recording;
+    }
+
+    /**
+     * @return a context for testing whether a value matches a schema, stops at the first violation
+     */
+    static ValidationContext probe() {
+        return new ValidationContext(1, false);
+    }
+
+    /**
+     * @return true if the maximum number of violations has been found, the remaining values need not be validated
+     */
+    boolean isFull() {
+        return violationCount >= maxViolations;
+    }
+
+    boolean hasViolations() {
+        return violationCount > 0;
+    }
+
+    void push(String name) {
+        ensureCapacity();
+        names[depth] = name;
+        indices[depth++] = -1;
+    }
+
+    void push(int index) {
+        ensureCapacity();
+        names[depth] = null;
+        indices[depth++] = index;
+    }
+
+    void pop() {
+        names[--depth] = null;
+    }
+
+    void violation(String keyword, String message) {
+        if (isFull()) {
+            return;
+        }
+        violationCount++;
+        if (recording) {
+            if (violations == null) {
+                violations = new ArrayList<>();
+            }
+            violations.add(new Violation(pointer(), keyword, message));
+        }
+    }
+
+    /**
+     * Get a matcher of a pattern, reused for all values validated with this context.
+     */
+    Matcher matcher(Pattern pattern, CharSequence input) {
+        if (matchers == null) {
+            matchers = new IdentityHashMap<>();
+        }
+        Matcher matcher = matchers.get(pattern);
+        if (matcher == null) {
+            matcher = pattern.matcher(input);
+            matchers.put(pattern, matcher);
+            return matcher;
+        }
+        return matcher.reset(input);
+    }
+
+    ValidationResult result() {
+        return violations == null || violations.isEmpty() ? ValidationResult.VALID
+                : new ValidationResult(Collections.unmodifiableList(new ArrayList<>(violations)));
+    }
+
+    /**
+     * Reset the context to validate another payload.
+     *
+     * @param maxViolations the number of violations after which the validation stops
+     */
+    void reset(int maxViolations) {
+        this.maxViolations = maxViolations;
+        Arrays.fill(names, 0, depth, null);
+        depth = 0;
+        violationCount = 0;
+        if (violations != null) {
+            violations.clear();
+        }
+        if (matchers != null) {
+            // do not retain the last validated values
+            for (Matcher matcher : matchers.values()) {
+                matcher.reset("");
+            }
+        }
+    }
+
+    private String pointer() {
+        if (depth == 0) {
+            return "";
+        }
+        StringBuilder pointer = new StringBuilder();
+        for (int i = 0; i < depth; i++) {
+            pointer.append('/');
+            if (names[i] != null) {
+                // escaped as defined by RFC 6901
+                pointer.append(names[i].replace("~", "~0")
+                        .replace("/", "~1"));
+            } else {
+                pointer.append(indices[i]);
+            }
+        }
+        return pointer.toString();
+    }
+
+    private void ensureCapacity() {
+        if (depth == names.length) {
+            names = Arrays.copyOf(names, depth * 2);
+            indices = Arrays.copyOf(indices, depth * 2);
+        }
+    }
+}
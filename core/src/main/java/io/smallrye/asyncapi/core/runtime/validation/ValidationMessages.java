@@ -0,0 +1,32 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.validation;
+
+import org.jboss.logging.Messages;
+import org.jboss.logging.annotations.Cause;
+import org.jboss.logging.annotations.Message;
+import org.jboss.logging.annotations.MessageBundle;
+
+@MessageBundle(projectCode = "OKAAP", length = 5)
+interface ValidationMessages {
+    ValidationMessages msg = Messages.getBundle(ValidationMessages.class);
+
+    @Message(id = 10000, value = "Reference %s can not be resolved, only references to components are supported")
+    IllegalArgumentException unresolvableReference(String ref);
+
+    @Message(id = 10001, value = "Invalid pattern %s")
+    IllegalArgumentException invalidPattern(String pattern, @Cause Throwable cause);
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.validation;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The result of validating a payload.
+ */
+public final class ValidationResult {
+
+    /**
+     * The result of a valid payload.
+     */
+    public static final ValidationResult VALID = new ValidationResult(Collections.emptyList());
+
+    private final List<Violation> violations;
+
+    ValidationResult(List<Violation> violations) {
+        this.violations = violations;
+    }
+
+    /**
+     * @return true if the payload is valid
+     */
+    public boolean isValid() {
+        return violations.isEmpty();
+    }
+
+    /**
+     * @return the violations, in the order of their values in the payload
+     */
+    public List<Violation> getViolations() {
+        return violations;
+    }
+
+    @Override
+    public String toString() {
+        return isValid() ? "valid" : violations.toString();
+    }
+}
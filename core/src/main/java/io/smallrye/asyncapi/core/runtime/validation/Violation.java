@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.validation;
+
+/**
+ * A violation of a payload schema.
+ */
+public final class Violation {
+
+    private final String path;
+
+    private final String keyword;
+
+    private final String message;
+
+    Violation(String path, String keyword, String message) {
+        this.path = path;
+        this.keyword = keyword;
+        this.message = message;
+    }
+
+    /**
+     * @return the JSON pointer of the violating value, the empty string for the payload itself
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * @return the schema keyword which has been violated, e.g. {@code type}, {@code required} or {@code pattern}
+     */
+    public String getKeyword() {
+        return keyword;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public String toString() {
+        return (path.isEmpty() ? "/" : path) + ": " + message;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.asyncapi.core.api.util.FreezeUtil;
+import io.smallrye.asyncapi.core.runtime.AsyncApiFormat;
+import io.smallrye.asyncapi.core.runtime.io.AsyncApiParser;
+import io.smallrye.asyncapi.core.runtime.io.AsyncApiSerializer;
+import io.smallrye.asyncapi.spec.AASFilter;
+import io.smallrye.asyncapi.spec.models.AsyncAPI;
+
+class AsyncApiDocumentBuilderTest {
+
+    private static final String DOCUMENT = String.join("\n",
+            "asyncapi: 2.0.0",
+            "info:",
+            "  title: Orders",
+            "  version: 1.0.0",
+            "defaultContentType: application/json",
+            "channels:",
+            "  orders:",
+            "    channel: orders",
+            "    subscribe:",
+            "      message:",
+            "        name: Order",
+            "");
+
+    private static final AsyncApiConfig CONFIG = new AsyncApiConfig() {
+    };
+
+    @Test
+    void buildsModelInPlaceOnce() throws IOException {
+        AsyncAPI model = parse();
+        String expected = serialize(parse());
+        AsyncApiDocumentBuilder builder = AsyncApiDocumentBuilder.create()
+                .config(CONFIG)
+                .modelFromStaticFile(model);
+
+        AsyncAPI first = builder.build();
+        AsyncAPI second = builder.archiveName("orders")
+                .build();
+
+        assertSame(model, first);
+        assertNotSame(model, second);
+        assertEquals(expected, serialize(first));
+        assertEquals(expected, serialize(second));
+    }
+
+    @Test
+    void copiesModelIfFiltered() throws IOException {
+        AsyncAPI model = parse();
+        String expected = serialize(model);
+
+        AsyncAPI document = AsyncApiDocumentBuilder.create()
+                .config(CONFIG)
+                .modelFromStaticFile(model)
+                .filter(new AASFilter() {
+                    @Override
+                    public void filterAsyncAPI(AsyncAPI asyncAPI) {
+                        asyncAPI.getInfo()
+                                .setTitle("Filtered");
+                    }
+                })
+                .build();
+
+        assertNotSame(model, document);
+        assertEquals("Filtered", document.getInfo()
+                .getTitle());
+        assertEquals(expected, serialize(model));
+    }
+
+    @Test
+    void copiesFrozenModel() throws IOException {
+        AsyncAPI model = FreezeUtil.freeze(parse());
+
+        AsyncAPI document = AsyncApiDocumentBuilder.create()
+                .config(CONFIG)
+                .modelFromStaticFile(model)
+                .build();
+
+        assertNotSame(model, document);
+        assertEquals(serialize(model), serialize(document));
+    }
+
+    private static AsyncAPI parse() throws IOException {
+        return AsyncApiParser.parse(new ByteArrayInputStream(DOCUMENT.getBytes(StandardCharsets.UTF_8)),
+                AsyncApiFormat.YAML);
+    }
+
+    private static String serialize(AsyncAPI model) throws IOException {
+        return AsyncApiSerializer.serialize(model, AsyncApiFormat.JSON);
+    }
+}
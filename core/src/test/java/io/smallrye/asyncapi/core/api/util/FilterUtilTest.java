@@ -0,0 +1,267 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.api.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.asyncapi.core.api.models.AsyncAPIImpl;
+import io.smallrye.asyncapi.core.api.models.ComponentsImpl;
+import io.smallrye.asyncapi.core.api.models.channel.ChannelItemImpl;
+import io.smallrye.asyncapi.core.api.models.channel.ChannelsImpl;
+import io.smallrye.asyncapi.core.api.models.message.MessageImpl;
+import io.smallrye.asyncapi.core.api.models.operation.OperationImpl;
+import io.smallrye.asyncapi.core.api.models.schema.SchemaImpl;
+import io.smallrye.asyncapi.core.api.models.server.ServerImpl;
+import io.smallrye.asyncapi.core.api.models.tag.TagImpl;
+import io.smallrye.asyncapi.spec.AASFilter;
+import io.smallrye.asyncapi.spec.models.AsyncAPI;
+import io.smallrye.asyncapi.spec.models.channel.ChannelItem;
+import io.smallrye.asyncapi.spec.models.message.Message;
+import io.smallrye.asyncapi.spec.models.operation.Operation;
+import io.smallrye.asyncapi.spec.models.schema.Schema;
+import io.smallrye.asyncapi.spec.models.server.Server;
+import io.smallrye.asyncapi.spec.models.tag.Tag;
+
+class FilterUtilTest {
+
+    private static final String HIDDEN = "hidden";
+
+    /**
+     * Removes every node described as hidden.
+     */
+    private static final AASFilter REMOVE_HIDDEN = new AASFilter() {
+
+        @Override
+        public Tag filterTag(Tag tag) {
+            return HIDDEN.equals(tag.getDescription()) ? null : tag;
+        }
+
+        @Override
+        public Server filterServer(Server server) {
+            return HIDDEN.equals(server.getDescription()) ? null : server;
+        }
+
+        @Override
+        public Schema filterSchema(Schema schema) {
+            return HIDDEN.equals(schema.getDescription()) ? null : schema;
+        }
+
+        @Override
+        public Message filterMessage(Message message) {
+            return HIDDEN.equals(message.getDescription()) ? null : message;
+        }
+
+        @Override
+        public ChannelItem filterChannelItem(ChannelItem channelItem) {
+            return HIDDEN.equals(channelItem.getDescription()) ? null : channelItem;
+        }
+    };
+
+    @Test
+    void removesNodesOnEachLevel() {
+        AsyncAPI model = model();
+
+        assertSame(model, FilterUtil.applyFilter(REMOVE_HIDDEN, model));
+
+        assertEquals(Collections.singletonList("public"), descriptions(model.getServers()));
+        assertEquals(Collections.singletonList("public"), names(model.getTags()));
+        assertEquals(Collections.singleton("orders"), model.getChannels()
+                .getChannels()
+                .keySet());
+        Operation subscribe = model.getChannels()
+                .getChannels()
+                .get("orders")
+                .getSubscribe();
+        assertEquals(Collections.singletonList("public"), names(subscribe.getTags()));
+        Message message = subscribe.getMessage();
+        assertEquals(Collections.singletonList("public"), names(message.getTags()));
+        assertEquals(Collections.singleton("total"), message.getPayload()
+                .getProperties()
+                .keySet());
+        assertEquals(Collections.singleton("Order"), model.getComponents()
+                .getMessages()
+                .keySet());
+        assertEquals(Collections.singleton("Order"), model.getComponents()
+                .getSchemas()
+                .keySet());
+    }
+
+    @Test
+    void appliesFiltersInOrder() {
+        AsyncAPI model = model();
+        List<String> calls = new ArrayList<>();
+        AASFilter first = new AASFilter() {
+            @Override
+            public Tag filterTag(Tag tag) {
+                calls.add("first " + tag.getName());
+                return HIDDEN.equals(tag.getDescription()) ? null : new TagImpl().name(tag.getName() + "-first");
+            }
+        };
+        AASFilter second = new AASFilter() {
+            @Override
+            public Tag filterTag(Tag tag) {
+                calls.add("second " + tag.getName());
+                return new TagImpl().name(tag.getName() + "-second");
+            }
+        };
+        model.setChannels(null);
+        model.setComponents(null);
+
+        FilterUtil.applyFilters(Arrays.asList(first, second), model);
+
+        assertEquals(Arrays.asList("first public", "second public-first", "first internal"), calls);
+        assertEquals(Collections.singletonList("public-first-second"), names(model.getTags()));
+    }
+
+    @Test
+    void filtersSharedModelsOnce() {
+        AsyncAPI model = model();
+        Message shared = model.getComponents()
+                .getMessages()
+                .get("Order");
+        Message replacement = new MessageImpl().name("Replacement");
+        List<Message> visited = new ArrayList<>();
+        AASFilter filter = new AASFilter() {
+            @Override
+            public Message filterMessage(Message message) {
+                visited.add(message);
+                return message == shared ? replacement : message;
+            }
+        };
+
+        FilterUtil.applyFilter(filter, model);
+
+        assertEquals(1, visited.stream()
+                .filter(message -> message == shared)
+                .count());
+        assertSame(replacement, model.getComponents()
+                .getMessages()
+                .get("Order"));
+        assertSame(replacement, model.getChannels()
+                .getChannels()
+                .get("orders")
+                .getSubscribe()
+                .getMessage());
+    }
+
+    @Test
+    void callsFilterAsyncAPIForEachFilter() {
+        AsyncAPI model = model();
+        List<String> calls = new ArrayList<>();
+        AASFilter first = new AASFilter() {
+            @Override
+            public void filterAsyncAPI(AsyncAPI asyncAPI) {
+                calls.add("first");
+                // the children have been filtered before
+                assertFalse(asyncAPI.getComponents()
+                        .getMessages()
+                        .containsKey("Hidden"));
+            }
+        };
+        AASFilter second = new AASFilter() {
+            @Override
+            public void filterAsyncAPI(AsyncAPI asyncAPI) {
+                calls.add("second");
+            }
+        };
+
+        FilterUtil.applyFilters(Arrays.asList(REMOVE_HIDDEN, first, second), model);
+
+        assertEquals(Arrays.asList("first", "second"), calls);
+    }
+
+    @Test
+    void ignoresMissingModelAndFilters() {
+        AsyncAPI model = model();
+
+        assertNull(FilterUtil.applyFilter(REMOVE_HIDDEN, null));
+        assertSame(model, FilterUtil.applyFilters(Collections.emptyList(), model));
+        assertTrue(model.getComponents()
+                .getMessages()
+                .containsKey("Hidden"));
+    }
+
+    /**
+     * A model with a visible and a hidden node on each level, the message of the channel is shared with the
+     * components.
+     */
+    private static AsyncAPI model() {
+        Schema payload = new SchemaImpl()
+                .addProperty("total", new SchemaImpl().description("total"))
+                .addProperty("secret", new SchemaImpl().description(HIDDEN));
+        Message order = new MessageImpl()
+                .name("Order")
+                .tags(tags());
+        order.setPayload(payload);
+
+        AsyncAPI model = new AsyncAPIImpl();
+        model.setServers(new ArrayList<>(Arrays.asList(server("public"), server(HIDDEN))));
+        model.setTags(tags());
+
+        ChannelsImpl channels = new ChannelsImpl();
+        channels.addChannel("orders", new ChannelItemImpl()
+                .subscribe(new OperationImpl()
+                        .tags(tags())
+                        .message(order)));
+        channels.addChannel("audit", new ChannelItemImpl()
+                .description(HIDDEN)
+                .subscribe(new OperationImpl().message(order)));
+        model.setChannels(channels);
+
+        ComponentsImpl components = new ComponentsImpl();
+        components.addMessage("Order", order);
+        components.addMessage("Hidden", new MessageImpl().description(HIDDEN));
+        components.addSchema("Order", payload);
+        components.addSchema("Hidden", new SchemaImpl().description(HIDDEN));
+        model.setComponents(components);
+        return model;
+    }
+
+    private static Server server(String description) {
+        Server server = new ServerImpl();
+        server.setDescription(description);
+        return server;
+    }
+
+    private static List<Tag> tags() {
+        return new ArrayList<>(Arrays.asList(new TagImpl().name("public"),
+                new TagImpl().name("internal")
+                        .description(HIDDEN)));
+    }
+
+    private static List<String> names(List<Tag> tags) {
+        List<String> names = new ArrayList<>();
+        tags.forEach(tag -> names.add(tag.getName()));
+        return names;
+    }
+
+    private static List<String> descriptions(List<Server> servers) {
+        List<String> descriptions = new ArrayList<>();
+        servers.forEach(server -> descriptions.add(server.getDescription()));
+        return descriptions;
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.api.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.asyncapi.core.api.models.schema.SchemaImpl;
+import io.smallrye.asyncapi.core.runtime.AsyncApiFormat;
+import io.smallrye.asyncapi.core.runtime.io.AsyncApiParser;
+import io.smallrye.asyncapi.core.runtime.io.AsyncApiSerializer;
+import io.smallrye.asyncapi.core.runtime.sample.SampleGenerator;
+import io.smallrye.asyncapi.spec.annotations.schema.SchemaType;
+import io.smallrye.asyncapi.spec.models.AsyncAPI;
+import io.smallrye.asyncapi.spec.models.info.Info;
+import io.smallrye.asyncapi.spec.models.schema.Schema;
+
+class FreezeUtilTest {
+
+    private static final String DOCUMENT = String.join("\n",
+            "asyncapi: 2.0.0",
+            "id: urn:example:orders",
+            "info:",
+            "  title: Orders",
+            "  version: 1.0.0",
+            "  x-team: checkout",
+            "channels:",
+            "  orders/{id}:",
+            "    channel: orders/{id}",
+            "    subscribe:",
+            "      message:",
+            "        $ref: '#/components/messages/Order'",
+            "components:",
+            "  messages:",
+            "    Order:",
+            "      name: Order",
+            "      payload:",
+            "        $ref: '#/components/schemas/Order'",
+            "  schemas:",
+            "    Order:",
+            "      allOf:",
+            "      - $ref: '#/components/schemas/Entity'",
+            "      - type: object",
+            "        required:",
+            "        - total",
+            "        properties:",
+            "          total:",
+            "            type: number",
+            "            minimum: 0",
+            "          discount:",
+            "            type: number",
+            "            minimum: 0",
+            "          tags:",
+            "            type: array",
+            "            items:",
+            "              type: string",
+            "    Entity:",
+            "      type: object",
+            "      required:",
+            "      - id",
+            "      properties:",
+            "        id:",
+            "          type: string",
+            "          format: uuid",
+            "");
+
+    @Test
+    void frozenDocumentsSerializeIdentically() throws IOException {
+        AsyncAPI document = parse();
+        AsyncAPI frozen = FreezeUtil.freeze(document);
+        assertTrue(FreezeUtil.isFrozen(frozen));
+        assertFalse(FreezeUtil.isFrozen(document));
+        for (AsyncApiFormat format : AsyncApiFormat.values()) {
+            assertEquals(AsyncApiSerializer.serialize(document, format), AsyncApiSerializer.serialize(frozen, format));
+        }
+        assertSame(frozen, FreezeUtil.freeze(frozen));
+    }
+
+    @Test
+    void frozenModelsAreReadOnly() throws IOException {
+        AsyncAPI frozen = FreezeUtil.freeze(parse());
+        Info info = frozen.getInfo();
+        assertEquals("Orders", info.getTitle());
+        assertThrows(UnsupportedOperationException.class, () -> info.setTitle("Changed"));
+        assertThrows(UnsupportedOperationException.class, () -> frozen.setInfo(null));
+        assertThrows(UnsupportedOperationException.class, () -> info.addExtension("x-other", "value"));
+        assertThrows(UnsupportedOperationException.class,
+                () -> frozen.getComponents().getSchemas().put("Other", new SchemaImpl()));
+        assertThrows(UnsupportedOperationException.class,
+                () -> frozen.getComponents().getSchemas().get("Order").getAllOf().clear());
+        assertThrows(UnsupportedOperationException.class,
+                () -> frozen.getComponents().getSchemas().get("Entity").getRequired().add("name"));
+    }
+
+    @Test
+    void equalModelsAreShared() throws IOException {
+        AsyncAPI frozen = FreezeUtil.freeze(parse());
+        Schema order = frozen.getComponents().getSchemas().get("Order").getAllOf().get(1);
+        assertSame(order.getProperties().get("total"), order.getProperties().get("discount"));
+        assertNotSame(order.getProperties().get("total"), order.getProperties().get("tags"));
+
+        Schema first = new SchemaImpl().type(SchemaType.STRING).maxLength(3);
+        Schema second = new SchemaImpl().type(SchemaType.STRING).maxLength(3);
+        Schema object = new SchemaImpl().type(SchemaType.OBJECT).addProperty("a", first).addProperty("b", second);
+        Schema frozenObject = FreezeUtil.freeze(object, Schema.class);
+        assertSame(frozenObject.getProperties().get("a"), frozenObject.getProperties().get("b"));
+    }
+
+    @Test
+    void cyclesAreRejected() {
+        Schema node = new SchemaImpl().type(SchemaType.OBJECT);
+        node.addProperty("next", node);
+        assertThrows(IllegalArgumentException.class, () -> FreezeUtil.freeze(node, Schema.class));
+    }
+
+    @Test
+    void modelInterfaceIsRequired() {
+        SchemaImpl schema = new SchemaImpl();
+        assertThrows(IllegalArgumentException.class, () -> FreezeUtil.freeze(schema, SchemaImpl.class));
+        Schema frozen = FreezeUtil.freeze(schema, Schema.class);
+        assertTrue(FreezeUtil.isFrozen(frozen));
+    }
+
+    @Test
+    void copiesOfFrozenModelsAreModifiable() throws IOException {
+        AsyncAPI document = parse();
+        AsyncAPI frozen = FreezeUtil.freeze(document);
+        AsyncAPI copy = MergeUtil.copyObject(frozen);
+        assertFalse(FreezeUtil.isFrozen(copy));
+        assertEquals(AsyncApiSerializer.serialize(document, AsyncApiFormat.JSON),
+                AsyncApiSerializer.serialize(copy, AsyncApiFormat.JSON));
+
+        Schema order = MergeUtil.copyObject(frozen.getComponents().getSchemas().get("Order"));
+        order.setAllOf(null);
+        copy.getInfo().setTitle("Changed");
+        copy.getComponents().getSchemas().get("Entity").addRequired("name");
+        copy.getComponents().addSchema("Other", new SchemaImpl());
+        assertEquals("Orders", frozen.getInfo().getTitle());
+        assertEquals(Collections.singletonList("id"), frozen.getComponents().getSchemas().get("Entity").getRequired());
+
+        AsyncAPI merged = MergeUtil.mergeObjects(frozen, copy);
+        assertEquals("Changed", merged.getInfo().getTitle());
+        assertFalse(FreezeUtil.isFrozen(merged));
+    }
+
+    @Test
+    void samplesOfFrozenDocuments() throws IOException {
+        AsyncAPI frozen = FreezeUtil.freeze(parse());
+        Schema order = frozen.getComponents().getSchemas().get("Order");
+        assertEquals(new String(SampleGenerator.compile(order, parse()).generate(7), StandardCharsets.UTF_8),
+                new String(SampleGenerator.compile(order, frozen).generate(7), StandardCharsets.UTF_8));
+    }
+
+    private static AsyncAPI parse() throws IOException {
+        return AsyncApiParser.parse(new ByteArrayInputStream(DOCUMENT.getBytes(StandardCharsets.UTF_8)),
+                AsyncApiFormat.YAML);
+    }
+}
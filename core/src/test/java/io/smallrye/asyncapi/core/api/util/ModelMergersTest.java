@@ -0,0 +1,335 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.api.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.asyncapi.core.api.models.AsyncAPIImpl;
+import io.smallrye.asyncapi.core.api.models.ComponentsImpl;
+import io.smallrye.asyncapi.core.api.models.schema.SchemaImpl;
+import io.smallrye.asyncapi.core.api.models.server.ServerVariableImpl;
+import io.smallrye.asyncapi.core.api.models.tag.TagImpl;
+import io.smallrye.asyncapi.spec.models.Constructible;
+import io.smallrye.asyncapi.spec.models.schema.Schema;
+import io.smallrye.asyncapi.spec.models.tag.Tag;
+
+class ModelMergersTest {
+
+    private static final List<Class<?>> TYPES = ModelMergers.registeredTypes()
+            .stream()
+            .sorted(Comparator.comparing(Class::getName))
+            .collect(Collectors.toList());
+
+    @Test
+    void registersModelImplementations() {
+        assertFalse(TYPES.isEmpty());
+        for (Class<?> type : TYPES) {
+            assertTrue(Constructible.class.isAssignableFrom(type), type::getName);
+            assertTrue(type.getSimpleName()
+                    .endsWith("Impl"), type::getName);
+        }
+    }
+
+    @Test
+    void copiesAllProperties() throws Exception {
+        for (Class<?> type : TYPES) {
+            Object source = populate(type);
+            Object copy = MergeUtil.copyObject(source);
+
+            assertNotSame(source, copy, type::getName);
+            assertSame(type, copy.getClass());
+            for (PropertyDescriptor property : properties(type)) {
+                assertCopied(type, property, property.getReadMethod()
+                        .invoke(source),
+                        property.getReadMethod()
+                                .invoke(copy));
+            }
+        }
+    }
+
+    @Test
+    void mergesAllProperties() throws Exception {
+        for (Class<?> type : TYPES) {
+            Object source = populate(type);
+            Object merged = MergeUtil.mergeObjects(type.getConstructor()
+                    .newInstance(), source);
+
+            for (PropertyDescriptor property : properties(type)) {
+                Object expected = property.getReadMethod()
+                        .invoke(source);
+                Object actual = property.getReadMethod()
+                        .invoke(merged);
+                assertEquivalent(type, property, expected, actual);
+            }
+        }
+    }
+
+    @Test
+    void keepsPropertiesMissingInOverride() throws Exception {
+        for (Class<?> type : TYPES) {
+            Object target = populate(type);
+            Object expected = populate(type);
+            Object merged = MergeUtil.mergeObjects(target, type.getConstructor()
+                    .newInstance());
+
+            assertSame(target, merged);
+            for (PropertyDescriptor property : properties(type)) {
+                assertEquivalent(type, property, property.getReadMethod()
+                        .invoke(expected),
+                        property.getReadMethod()
+                                .invoke(merged));
+            }
+        }
+    }
+
+    @Test
+    void overridesValues() {
+        TagImpl target = new TagImpl();
+        target.setName("orders");
+        target.setDescription("Orders");
+        TagImpl source = new TagImpl();
+        source.setDescription("All orders");
+
+        MergeUtil.mergeObjects(target, source);
+
+        assertEquals("orders", target.getName());
+        assertEquals("All orders", target.getDescription());
+    }
+
+    @Test
+    void mergesStringListsAsSets() {
+        ServerVariableImpl target = new ServerVariableImpl();
+        target.setEnumeration(Arrays.asList("a", "b"));
+        ServerVariableImpl source = new ServerVariableImpl();
+        source.setEnumeration(Arrays.asList("b", "c"));
+
+        MergeUtil.mergeObjects(target, source);
+
+        assertEquals(Arrays.asList("a", "b", "c"), target.getEnumeration());
+    }
+
+    @Test
+    void mergesTagListsByName() {
+        AsyncAPIImpl target = new AsyncAPIImpl();
+        target.setTags(Arrays.asList(tag("orders", "Orders"), tag("users", null)));
+        AsyncAPIImpl source = new AsyncAPIImpl();
+        source.setTags(Arrays.asList(tag("orders", "All orders"), tag("audit", null)));
+
+        MergeUtil.mergeObjects(target, source);
+
+        assertEquals(Arrays.asList("orders", "users", "audit"), target.getTags()
+                .stream()
+                .map(Tag::getName)
+                .collect(Collectors.toList()));
+        assertEquals("All orders", target.getTags()
+                .get(0)
+                .getDescription());
+    }
+
+    @Test
+    void concatenatesModelLists() {
+        Schema first = schema("first");
+        Schema second = schema("second");
+        SchemaImpl target = new SchemaImpl();
+        target.setAllOf(new ArrayList<>(Collections.singletonList(first)));
+        SchemaImpl source = new SchemaImpl();
+        source.setAllOf(new ArrayList<>(Collections.singletonList(second)));
+
+        MergeUtil.mergeObjects(target, source);
+
+        assertEquals(Arrays.asList(first, second), target.getAllOf());
+    }
+
+    @Test
+    void mergesMapsByKey() {
+        Schema order = schema("Order");
+        order.setTitle("Order");
+        Schema orderOverride = schema("Order");
+        orderOverride.setDescription("An order");
+        Schema user = schema("User");
+        ComponentsImpl target = new ComponentsImpl();
+        target.setSchemas(new LinkedHashMap<>(Collections.singletonMap("Order", order)));
+        ComponentsImpl source = new ComponentsImpl();
+        Map<String, Schema> schemas = new LinkedHashMap<>();
+        schemas.put("Order", orderOverride);
+        schemas.put("User", user);
+        source.setSchemas(schemas);
+
+        MergeUtil.mergeObjects(target, source);
+
+        assertEquals(Arrays.asList("Order", "User"), new ArrayList<>(target.getSchemas()
+                .keySet()));
+        Schema merged = target.getSchemas()
+                .get("Order");
+        assertSame(order, merged);
+        assertEquals("Order", merged.getTitle());
+        assertEquals("An order", merged.getDescription());
+        assertSame(user, target.getSchemas()
+                .get("User"));
+    }
+
+    @Test
+    void prefersSetModelOverNull() {
+        SchemaImpl items = schema("items");
+        SchemaImpl target = new SchemaImpl();
+        target.setItems(items);
+
+        MergeUtil.mergeObjects(target, new SchemaImpl());
+        assertSame(items, target.getItems());
+
+        SchemaImpl empty = new SchemaImpl();
+        MergeUtil.mergeObjects(empty, target);
+        assertSame(items, empty.getItems());
+    }
+
+    /**
+     * Create an instance of a model type with every property set.
+     */
+    private static Object populate(Class<?> type) throws Exception {
+        Object model = type.getConstructor()
+                .newInstance();
+        for (PropertyDescriptor property : properties(type)) {
+            Object value = sample(property.getReadMethod()
+                    .getGenericReturnType(), property.getName());
+            property.getWriteMethod()
+                    .invoke(model, value);
+        }
+        return model;
+    }
+
+    private static Object sample(Type type, String name) throws ReflectiveOperationException {
+        if (type instanceof ParameterizedType) {
+            ParameterizedType parameterized = (ParameterizedType) type;
+            Class<?> raw = (Class<?>) parameterized.getRawType();
+            Type[] arguments = parameterized.getActualTypeArguments();
+            if (List.class.isAssignableFrom(raw)) {
+                return new ArrayList<>(Collections.singletonList(sample(arguments[0], name)));
+            }
+            if (Map.class.isAssignableFrom(raw)) {
+                Map<String, Object> map = new LinkedHashMap<>();
+                map.put(name, sample(arguments[1], name));
+                return map;
+            }
+            return sample(raw, name);
+        }
+        Class<?> raw = (Class<?>) type;
+        if (raw == String.class || raw == Object.class) {
+            return name;
+        }
+        if (raw == Boolean.class || raw == boolean.class) {
+            return Boolean.TRUE;
+        }
+        if (raw == Integer.class || raw == int.class) {
+            return 3;
+        }
+        if (raw == Long.class || raw == long.class) {
+            return 3L;
+        }
+        if (raw == Double.class || raw == double.class) {
+            return 3d;
+        }
+        if (raw == BigDecimal.class) {
+            return BigDecimal.TEN;
+        }
+        if (raw.isEnum()) {
+            return raw.getEnumConstants()[0];
+        }
+        if (Constructible.class.isAssignableFrom(raw)) {
+            return implementation(raw).getConstructor()
+                    .newInstance();
+        }
+        throw new IllegalArgumentException("No sample value of " + type);
+    }
+
+    private static Class<?> implementation(Class<?> type) {
+        for (Class<?> candidate : TYPES) {
+            if (type.isAssignableFrom(candidate)) {
+                return candidate;
+            }
+        }
+        throw new IllegalArgumentException("No implementation of " + type);
+    }
+
+    private static List<PropertyDescriptor> properties(Class<?> type) throws IntrospectionException {
+        List<PropertyDescriptor> properties = new ArrayList<>();
+        for (PropertyDescriptor property : Introspector.getBeanInfo(type)
+                .getPropertyDescriptors()) {
+            if (property.getReadMethod() != null && property.getWriteMethod() != null) {
+                properties.add(property);
+            }
+        }
+        return properties;
+    }
+
+    private static void assertCopied(Class<?> type, PropertyDescriptor property, Object expected, Object actual) {
+        assertEquivalent(type, property, expected, actual);
+        if (expected instanceof Constructible) {
+            assertNotSame(expected, actual, () -> type.getName() + "." + property.getName() + " is not copied");
+        }
+    }
+
+    private static void assertEquivalent(Class<?> type, PropertyDescriptor property, Object expected,
+            Object actual) {
+        String message = type.getName() + "." + property.getName();
+        if (expected != null) {
+            assertNotNull(actual, message);
+        }
+        if (expected instanceof Constructible) {
+            assertSame(expected.getClass(), actual.getClass(), message);
+        } else if (expected instanceof List) {
+            assertEquals(((List<?>) expected).size(), ((List<?>) actual).size(), message);
+        } else if (expected instanceof Map) {
+            assertEquals(((Map<?, ?>) expected).keySet(), ((Map<?, ?>) actual).keySet(), message);
+        } else {
+            assertEquals(expected, actual, message);
+        }
+    }
+
+    private static Tag tag(String name, String description) {
+        Tag tag = new TagImpl();
+        tag.setName(name);
+        tag.setDescription(description);
+        return tag;
+    }
+
+    private static SchemaImpl schema(String name) {
+        SchemaImpl schema = new SchemaImpl();
+        schema.setName(name);
+        return schema;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.smallrye.asyncapi.core.runtime.AsyncApiFormat;
+import io.smallrye.asyncapi.spec.models.AsyncAPI;
+
+/**
+ * The streaming parser and the tree parser must read the same model from a document.
+ */
+class AsyncApiParserTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = { "gitter.json", "simpleapi.json", "streetlights.yaml" })
+    void parsesSameModelStreamingAndFromTree(String fixture) throws IOException {
+        AsyncApiFormat format = fixture.endsWith(".json") ? AsyncApiFormat.JSON : AsyncApiFormat.YAML;
+
+        AsyncAPI tree = parse(fixture, format, false);
+        assertSameDocuments(tree, parse(fixture, format, true));
+
+        // the same document in the other format
+        AsyncApiFormat other = format == AsyncApiFormat.JSON ? AsyncApiFormat.YAML : AsyncApiFormat.JSON;
+        byte[] converted = AsyncApiSerializer.serializeBytes(tree, other);
+        assertSameDocuments(AsyncApiParser.parse(new ByteArrayInputStream(converted), other, false),
+                AsyncApiParser.parse(new ByteArrayInputStream(converted), other, true));
+    }
+
+    private static void assertSameDocuments(AsyncAPI expected, AsyncAPI actual) throws IOException {
+        for (AsyncApiFormat format : AsyncApiFormat.values()) {
+            assertArrayEquals(AsyncApiSerializer.serializeBytes(expected, format),
+                    AsyncApiSerializer.serializeBytes(actual, format), format::toString);
+        }
+    }
+
+    private static AsyncAPI parse(String fixture, AsyncApiFormat format, boolean streaming) throws IOException {
+        try (InputStream stream = AsyncApiParserTest.class.getResourceAsStream(fixture)) {
+            assertNotNull(stream, fixture);
+            return AsyncApiParser.parse(stream, format, streaming);
+        }
+    }
+}
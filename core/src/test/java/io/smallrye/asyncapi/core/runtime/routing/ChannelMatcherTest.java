@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.routing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.asyncapi.core.api.models.channel.ChannelItemImpl;
+import io.smallrye.asyncapi.spec.models.channel.ChannelItem;
+
+class ChannelMatcherTest {
+
+    @Test
+    void mostSpecificChannelWins() {
+        ChannelMatcher matcher = compile('/', "a/{x}/{y}", "a/{x}/c", "a/b/{y}", "a/b/c", "d/{first}", "d/{second}");
+        assertMatch(matcher, "a/b/c", "a/b/c");
+        assertMatch(matcher, "a/b/d", "a/b/{y}", "y", "d");
+        assertMatch(matcher, "a/z/c", "a/{x}/c", "x", "z");
+        assertMatch(matcher, "a/z/d", "a/{x}/{y}", "x", "z", "y", "d");
+        // the same specificity, the first channel of the document wins
+        assertMatch(matcher, "d/1", "d/{first}", "first", "1");
+        assertNull(matcher.match("a/b"));
+        assertNull(matcher.match("a/b/c/d"));
+        assertNull(matcher.match("x/b/c"));
+    }
+
+    @Test
+    void mixedSegments() {
+        ChannelMatcher matcher = compile('/', "s/{any}", "s/{id}-{zone}", "s/pre-{id}", "s/{id}.json");
+        assertMatch(matcher, "s/pre-1", "s/pre-{id}", "id", "1");
+        assertMatch(matcher, "s/a-b", "s/{id}-{zone}", "id", "a", "zone", "b");
+        // parameters end at the first occurrence of the following literal
+        assertMatch(matcher, "s/a-b-c", "s/{id}-{zone}", "id", "a", "zone", "b-c");
+        assertMatch(matcher, "s/a-b.json", "s/{id}.json", "id", "a-b");
+        assertMatch(matcher, "s/ab", "s/{any}", "any", "ab");
+        // parameters are not empty
+        assertMatch(matcher, "s/-b", "s/{any}", "any", "-b");
+        assertMatch(matcher, "s/pre-", "s/{any}", "any", "pre-");
+    }
+
+    @Test
+    void emptySegments() {
+        ChannelMatcher matcher = compile('/', "a/{x}", "a/{x}/", "a/{x}/b", "/lead", "c//d");
+        assertMatch(matcher, "a/b", "a/{x}", "x", "b");
+        assertMatch(matcher, "a/b/", "a/{x}/", "x", "b");
+        assertMatch(matcher, "a/b/b", "a/{x}/b", "x", "b");
+        assertMatch(matcher, "/lead", "/lead");
+        assertMatch(matcher, "c//d", "c//d");
+        assertNull(matcher.match("a/"));
+        assertNull(matcher.match("a//b"));
+        assertNull(matcher.match("lead"));
+        assertNull(matcher.match("c/d"));
+        assertNull(matcher.match(""));
+    }
+
+    @Test
+    void otherSeparators() {
+        ChannelMatcher matcher = compile('.', "orders.{region}.created", "orders.eu.created", "orders/{id}");
+        assertEquals('.', matcher.getSeparator());
+        assertMatch(matcher, "orders.us.created", "orders.{region}.created", "region", "us");
+        assertMatch(matcher, "orders.eu.created", "orders.eu.created");
+        // the slash is a literal character
+        assertMatch(matcher, "orders.eu/1.created", "orders.{region}.created", "region", "eu/1");
+        assertMatch(matcher, "orders/1", "orders/{id}", "id", "1");
+        assertMatch(matcher, "orders/us/created", "orders/{id}", "id", "us/created");
+        assertNull(matcher.match("orders..created"));
+    }
+
+    @Test
+    void invalidNames() {
+        assertThrows(IllegalArgumentException.class, () -> compile('/', "a/{id}/x/{id}"));
+        assertThrows(IllegalArgumentException.class, () -> compile('/', "a/{id}-{id}"));
+        assertThrows(IllegalArgumentException.class, () -> compile('/', "a/{id"));
+        assertThrows(IllegalArgumentException.class, () -> compile('/', "a/{}"));
+        assertThrows(IllegalArgumentException.class, () -> compile('/', "a/{x/y}"));
+        assertThrows(IllegalArgumentException.class, () -> compile('/', "a/{x{y}}"));
+    }
+
+    private static ChannelMatcher compile(char separator, String... names) {
+        Map<String, ChannelItem> channels = new LinkedHashMap<>();
+        for (String name : names) {
+            channels.put(name, new ChannelItemImpl());
+        }
+        return ChannelMatcher.compile(channels, separator);
+    }
+
+    private static void assertMatch(ChannelMatcher matcher, String topic, String name, String... parameters) {
+        ChannelMatch match = matcher.match(topic);
+        assertEquals(name, match != null ? match.getName() : null, topic);
+        Map<String, String> expected = new LinkedHashMap<>();
+        for (int i = 0; i < parameters.length; i += 2) {
+            expected.put(parameters[i], parameters[i + 1]);
+        }
+        assertEquals(expected, match.getParameters(), topic);
+        if (parameters.length == 0) {
+            assertSame(match, matcher.match(topic));
+            assertEquals(Collections.emptyMap(), match.getParameters());
+        }
+    }
+}
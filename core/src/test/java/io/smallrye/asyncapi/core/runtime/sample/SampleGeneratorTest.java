@@ -0,0 +1,254 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.sample;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.smallrye.asyncapi.core.api.models.AsyncAPIImpl;
+import io.smallrye.asyncapi.core.api.models.ComponentsImpl;
+import io.smallrye.asyncapi.core.api.models.schema.SchemaImpl;
+import io.smallrye.asyncapi.core.runtime.validation.PayloadValidator;
+import io.smallrye.asyncapi.core.runtime.validation.ValidationResult;
+import io.smallrye.asyncapi.spec.annotations.schema.SchemaType;
+import io.smallrye.asyncapi.spec.models.AsyncAPI;
+import io.smallrye.asyncapi.spec.models.schema.Schema;
+
+class SampleGeneratorTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final int SEEDS = 500;
+
+    @Test
+    void allOfIntersectsConstraints() throws IOException {
+        Schema numbers = new SchemaImpl().allOf(Arrays.asList(
+                range(type(SchemaType.INTEGER), 5, 50),
+                range(new SchemaImpl(), 10, 100).exclusiveMaximum(true),
+                new SchemaImpl().multipleOf(BigDecimal.valueOf(4))));
+        assertValidSamples(numbers, null);
+        for (long seed = 0; seed < SEEDS; seed++) {
+            int value = MAPPER.readTree(generate(numbers, seed)).intValue();
+            assertTrue(value >= 12 && value <= 48 && value % 4 == 0, String.valueOf(value));
+        }
+
+        Schema strings = new SchemaImpl().allOf(Arrays.asList(
+                type(SchemaType.STRING).minLength(3),
+                new SchemaImpl().maxLength(5)));
+        assertValidSamples(strings, null);
+
+        Schema first = object(property("a", range(type(SchemaType.INTEGER), 0, 100))).required(
+                Collections.singletonList("a"));
+        Schema second = object(property("a", new SchemaImpl().maximum(BigDecimal.valueOf(3))),
+                property("b", type(SchemaType.BOOLEAN))).required(Collections.singletonList("b"));
+        Schema objects = new SchemaImpl().allOf(Arrays.asList(first, second));
+        assertValidSamples(objects, null);
+        for (long seed = 0; seed < SEEDS; seed++) {
+            JsonNode value = MAPPER.readTree(generate(objects, seed));
+            assertTrue(value.has("a") && value.has("b") && value.get("a").intValue() <= 3, value.toString());
+        }
+
+        Schema arrays = new SchemaImpl().allOf(Arrays.asList(
+                type(SchemaType.ARRAY).items(type(SchemaType.INTEGER)).minItems(1),
+                new SchemaImpl().maxItems(2).items(range(new SchemaImpl(), 7, 9))));
+        assertValidSamples(arrays, null);
+    }
+
+    @Test
+    void emptyIntersectionsAreRejected() {
+        assertRejected(new SchemaImpl().allOf(Arrays.asList(
+                type(SchemaType.INTEGER).minimum(BigDecimal.TEN), new SchemaImpl().maximum(BigDecimal.ONE))));
+        assertRejected(new SchemaImpl().allOf(Arrays.asList(type(SchemaType.STRING), type(SchemaType.INTEGER))));
+        assertRejected(new SchemaImpl().allOf(Arrays.asList(
+                type(SchemaType.STRING).minLength(4), new SchemaImpl().maxLength(3))));
+        assertRejected(new SchemaImpl().allOf(Arrays.asList(
+                new SchemaImpl().enumeration(Arrays.asList("a", "b")),
+                new SchemaImpl().enumeration(Arrays.asList("c")))));
+        assertRejected(new SchemaImpl().allOf(Arrays.asList(
+                object(property("a", type(SchemaType.STRING))).additionalPropertiesBoolean(false),
+                object().required(Collections.singletonList("b")))));
+    }
+
+    @Test
+    void oneOfValuesMatchASingleBranch() throws IOException {
+        Schema overlapping = new SchemaImpl().oneOf(Arrays.asList(
+                range(type(SchemaType.INTEGER), 0, 10),
+                range(type(SchemaType.INTEGER), 5, 20)));
+        assertValidSamples(overlapping, null);
+
+        Schema numbers = new SchemaImpl().oneOf(Arrays.asList(
+                type(SchemaType.INTEGER), range(type(SchemaType.NUMBER), 0, 1)));
+        assertValidSamples(numbers, null);
+
+        // integers 0 to 3 match both branches, only 4 and 5 match a single branch
+        Schema mostlyOverlapping = new SchemaImpl().oneOf(Arrays.asList(
+                range(type(SchemaType.INTEGER), 0, 3),
+                range(type(SchemaType.INTEGER), 0, 5)));
+        assertValidSamples(mostlyOverlapping, null);
+
+        Schema nested = object(property("value", overlapping), property("values",
+                type(SchemaType.ARRAY).items(overlapping).minItems(2)))
+                        .required(Arrays.asList("value", "values"));
+        assertValidSamples(nested, null);
+
+        assertRejected(new SchemaImpl().oneOf(Arrays.asList(type(SchemaType.INTEGER), type(SchemaType.INTEGER))));
+    }
+
+    @Test
+    void uniqueItemsAreLimitedToDistinctValues() throws IOException {
+        Schema booleans = type(SchemaType.ARRAY).items(type(SchemaType.BOOLEAN)).uniqueItems(true).maxItems(10);
+        assertValidSamples(booleans, null);
+        for (long seed = 0; seed < SEEDS; seed++) {
+            assertTrue(MAPPER.readTree(generate(booleans, seed)).size() <= 2);
+        }
+
+        Schema enumeration = type(SchemaType.ARRAY).items(
+                type(SchemaType.STRING).enumeration(Arrays.asList("a", "b", "c", "a"))).uniqueItems(true)
+                .minItems(3);
+        assertValidSamples(enumeration, null);
+        for (long seed = 0; seed < SEEDS; seed++) {
+            assertEquals(3, MAPPER.readTree(generate(enumeration, seed)).size());
+        }
+
+        Schema integers = type(SchemaType.ARRAY).items(range(type(SchemaType.INTEGER), 1, 6)).uniqueItems(true)
+                .minItems(6);
+        assertValidSamples(integers, null);
+
+        Schema characters = type(SchemaType.ARRAY).items(type(SchemaType.STRING).minLength(1).maxLength(1))
+                .uniqueItems(true).minItems(60).maxItems(64);
+        assertValidSamples(characters, null);
+
+        Schema nested = type(SchemaType.ARRAY).items(booleans).uniqueItems(true).minItems(2);
+        assertValidSamples(nested, null);
+
+        assertRejected(type(SchemaType.ARRAY).items(type(SchemaType.BOOLEAN)).uniqueItems(true).minItems(3));
+    }
+
+    @Test
+    void recursiveSchemas() throws IOException {
+        Map<String, Schema> schemas = new LinkedHashMap<>();
+        schemas.put("Node", object(property("value", range(type(SchemaType.INTEGER), 0, 9)),
+                property("next", new SchemaImpl().ref("#/components/schemas/Node")))
+                        .required(Collections.singletonList("value")));
+        schemas.put("Bounded", new SchemaImpl().allOf(Arrays.asList(
+                new SchemaImpl().ref("#/components/schemas/Node"),
+                object(property("next", new SchemaImpl().ref("#/components/schemas/Bounded")))
+                        .maxProperties(1))));
+        AsyncAPI document = new AsyncAPIImpl();
+        document.setComponents(new ComponentsImpl());
+        document.getComponents().setSchemas(schemas);
+
+        assertValidSamples(new SchemaImpl().ref("#/components/schemas/Node"), document);
+        assertValidSamples(new SchemaImpl().ref("#/components/schemas/Bounded"), document);
+    }
+
+    @Test
+    void samplesAreDeterministic() {
+        Schema[] schemas = {
+                object(property("id", type(SchemaType.STRING).format("uuid")),
+                        property("at", type(SchemaType.STRING).format("date-time")),
+                        property("amount", range(type(SchemaType.NUMBER), -5, 5)),
+                        property("tags", type(SchemaType.ARRAY).items(type(SchemaType.STRING)).uniqueItems(true)))
+                                .required(Arrays.asList("id", "at")),
+                new SchemaImpl().oneOf(Arrays.asList(
+                        range(type(SchemaType.INTEGER), 0, 10),
+                        range(type(SchemaType.INTEGER), 5, 20))),
+                type(SchemaType.ARRAY).items(type(SchemaType.BOOLEAN)).uniqueItems(true)
+        };
+        for (Schema schema : schemas) {
+            SampleGenerator generator = SampleGenerator.compile(schema, null);
+            for (long seed = 0; seed < SEEDS; seed++) {
+                byte[] sample = generator.generate(seed);
+                assertArrayEquals(sample, generator.generate(seed));
+                assertArrayEquals(sample, SampleGenerator.compile(schema, null).generate(seed));
+
+                byte[] array = new byte[sample.length + 8];
+                assertEquals(sample.length, generator.write(seed, array, 3));
+                assertArrayEquals(sample, Arrays.copyOfRange(array, 3, 3 + sample.length));
+
+                ByteBuffer heap = ByteBuffer.allocate(sample.length + 8);
+                heap.position(5);
+                generator.write(seed, heap);
+                assertEquals(5 + sample.length, heap.position());
+                assertArrayEquals(sample, Arrays.copyOfRange(heap.array(), 5, 5 + sample.length));
+
+                ByteBuffer direct = ByteBuffer.allocateDirect(sample.length + 8);
+                direct.position(2);
+                generator.write(seed, direct);
+                assertEquals(2 + sample.length, direct.position());
+                byte[] written = new byte[sample.length];
+                direct.position(2);
+                direct.get(written);
+                assertArrayEquals(sample, written);
+            }
+        }
+    }
+
+    private static void assertValidSamples(Schema schema, AsyncAPI document) throws IOException {
+        SampleGenerator generator = SampleGenerator.compile(schema, document);
+        PayloadValidator validator = PayloadValidator.compile(schema, document);
+        for (long seed = 0; seed < SEEDS; seed++) {
+            byte[] sample = generator.generate(seed);
+            ValidationResult result = validator.validate(sample, 10);
+            assertTrue(result.isValid(), () -> new String(sample, StandardCharsets.UTF_8) + ": " + result);
+        }
+    }
+
+    private static void assertRejected(Schema schema) {
+        assertThrows(IllegalArgumentException.class, () -> SampleGenerator.compile(schema, null));
+    }
+
+    private static byte[] generate(Schema schema, long seed) {
+        return SampleGenerator.compile(schema, null).generate(seed);
+    }
+
+    private static Schema type(SchemaType type) {
+        return new SchemaImpl().type(type);
+    }
+
+    private static Schema range(Schema schema, long minimum, long maximum) {
+        return schema.minimum(BigDecimal.valueOf(minimum)).maximum(BigDecimal.valueOf(maximum));
+    }
+
+    @SafeVarargs
+    private static Schema object(Map.Entry<String, Schema>... properties) {
+        Map<String, Schema> map = new LinkedHashMap<>();
+        for (Map.Entry<String, Schema> property : properties) {
+            map.put(property.getKey(), property.getValue());
+        }
+        return type(SchemaType.OBJECT).properties(map);
+    }
+
+    private static Map.Entry<String, Schema> property(String name, Schema schema) {
+        return Collections.singletonMap(name, schema).entrySet().iterator().next();
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.scanner;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+import org.jboss.jandex.IndexView;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.asyncapi.core.api.AsyncApiConfig;
+import io.smallrye.asyncapi.core.runtime.AsyncApiFormat;
+import io.smallrye.asyncapi.core.runtime.io.AsyncApiSerializer;
+import io.smallrye.asyncapi.spec.annotations.schema.Schema;
+import io.smallrye.asyncapi.spec.models.AsyncAPI;
+
+class AnnotationTargetScannerTest {
+
+    private static final AsyncApiConfig SEQUENTIAL = new AsyncApiConfig() {
+    };
+
+    private static final AsyncApiConfig PARALLEL = new AsyncApiConfig() {
+        @Override
+        public boolean scanParallelEnable() {
+            return true;
+        }
+    };
+
+    @Test
+    void parallelScanEqualsSequentialScan() throws IOException {
+        IndexView index = ScanCacheTest.index(Order.class, Order.Item.class, Invoice.class, Invoice.Item.class,
+                Customer.class, Address.class, Shipment.class);
+        AsyncAPI sequential = scan(SEQUENTIAL, index, null);
+        assertTrue(json(sequential).contains("\"Item1\""));
+        // the targets share types and names, registrations overlapping with preceding targets are made again
+        for (int i = 0; i < 20; i++) {
+            assertIdentical(sequential, scan(PARALLEL, index, null));
+        }
+
+        ScanCache cache = new ScanCache();
+        for (int i = 0; i < 3; i++) {
+            assertIdentical(sequential, scan(PARALLEL, index, cache));
+            assertIdentical(sequential, scan(SEQUENTIAL, index, cache));
+        }
+    }
+
+    private static void assertIdentical(AsyncAPI expected, AsyncAPI actual) throws IOException {
+        for (AsyncApiFormat format : AsyncApiFormat.values()) {
+            assertArrayEquals(AsyncApiSerializer.serializeBytes(expected, format),
+                    AsyncApiSerializer.serializeBytes(actual, format));
+        }
+    }
+
+    private static AsyncAPI scan(AsyncApiConfig config, IndexView index, ScanCache cache) {
+        try {
+            return new AsyncApiAnnotationScanner(config, AnnotationTargetScannerTest.class.getClassLoader(), index,
+                    Collections.emptyList(), cache).scan();
+        } finally {
+            SchemaRegistry.remove();
+        }
+    }
+
+    private static String json(AsyncAPI model) throws IOException {
+        return AsyncApiSerializer.serialize(model, AsyncApiFormat.JSON);
+    }
+
+    @Schema(name = "Order")
+    static class Order {
+        Customer customer;
+        List<Item> items;
+
+        static class Item {
+            String sku;
+            Address origin;
+        }
+    }
+
+    @Schema(name = "Invoice")
+    static class Invoice {
+        Customer customer;
+        List<Item> items;
+
+        static class Item {
+            String text;
+        }
+    }
+
+    @Schema(name = "Shipment")
+    static class Shipment {
+        Address address;
+        Order order;
+    }
+
+    static class Customer {
+        String name;
+        Address address;
+    }
+
+    static class Address {
+        String street;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.scanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.asyncapi.core.api.AsyncApiConfig;
+
+class FilteredIndexViewTest {
+
+    private static final AsyncApiConfig CONFIG = new AsyncApiConfig() {
+    };
+
+    @Test
+    void literalsMatchLikeTheirPattern() {
+        String[] configValues = {
+                "com.example",
+                "com.example.api,com.example,example.api.Order",
+                "a.b.c,b,a.b,ab,bc,c",
+                "b.a,a,aa,aaa,a.a.a",
+                "x.Y,Y,x"
+        };
+        Random random = new Random(17);
+        for (String configValue : configValues) {
+            Pattern pattern = CONFIG.patternOf(configValue);
+            FilteredIndexView.GroupMatcher matcher = FilteredIndexView.GroupMatcher.of(pattern);
+            assertTrue(matcher instanceof FilteredIndexView.LiteralMatcher, configValue);
+
+            assertMatches(pattern, matcher, "");
+            assertMatches(pattern, matcher, "com.example.api.Order");
+            for (int i = 0; i < 2000; i++) {
+                StringBuilder value = new StringBuilder();
+                int length = random.nextInt(16);
+                for (int j = 0; j < length; j++) {
+                    value.append("abcxY.".charAt(random.nextInt(6)));
+                }
+                assertMatches(pattern, matcher, value.toString());
+            }
+        }
+    }
+
+    @Test
+    void literalsWithFlagsMatchLikeTheirPattern() {
+        Pattern pattern = Pattern.compile(CONFIG.patternOf("com.example,Order")
+                .pattern(), Pattern.CASE_INSENSITIVE);
+        FilteredIndexView.GroupMatcher matcher = FilteredIndexView.GroupMatcher.of(pattern);
+        assertFalse(matcher instanceof FilteredIndexView.LiteralMatcher);
+
+        assertMatches(pattern, matcher, "COM.EXAMPLE.api.order");
+        assertMatches(pattern, matcher, "org.example.api.ORDER");
+    }
+
+    private static void assertMatches(Pattern pattern, FilteredIndexView.GroupMatcher matcher, String value) {
+        Matcher m = pattern.matcher(value);
+        assertEquals(m.find() ? m.group() : "", matcher.matchingGroup(value), value);
+    }
+}
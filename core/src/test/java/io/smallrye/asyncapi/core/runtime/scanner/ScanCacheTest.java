@@ -0,0 +1,212 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.scanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.Indexer;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.asyncapi.core.api.AsyncApiConfig;
+import io.smallrye.asyncapi.core.api.models.AsyncAPIImpl;
+import io.smallrye.asyncapi.core.runtime.AsyncApiFormat;
+import io.smallrye.asyncapi.core.runtime.io.AsyncApiSerializer;
+import io.smallrye.asyncapi.spec.annotations.schema.Schema;
+import io.smallrye.asyncapi.spec.models.AsyncAPI;
+
+class ScanCacheTest {
+
+    private static final DotName FIRST = DotName.createSimple(First.class.getName());
+
+    private static final DotName SECOND = DotName.createSimple(Second.class.getName());
+
+    private static final DotName SHARED = DotName.createSimple(Shared.class.getName());
+
+    private static final AsyncApiConfig CONFIG = new AsyncApiConfig() {
+    };
+
+    @Test
+    void targetsReusingMemoizedValuesAreScannedAgain() throws IOException {
+        Index index = index(First.class, Second.class, Shared.class, SharedChanged.class);
+        SchemaRegistry.State state = SchemaRegistry.newInstance(CONFIG, new AsyncAPIImpl(), index).state();
+        SchemaRegistry.remove();
+
+        ScanCache cache = new ScanCache();
+        cache.begin(index);
+        assertNull(cache.lookup("first"));
+        Set<DotName> first = new HashSet<>();
+        ScanCache.record(first);
+        ScanCache.recordDependency(FIRST);
+        ScanCache.Memoized<ClassInfo> shared = ScanCache.memoize(() -> {
+            ScanCache.recordDependency(SHARED);
+            return index.getClassByName(SHARED);
+        });
+        ScanCache.record(null);
+        cache.store("first", first, state, Collections.emptyMap(), new AsyncAPIImpl());
+
+        // the second target only reads the shared class through the memoized value
+        assertNull(cache.lookup("second"));
+        Set<DotName> second = new HashSet<>();
+        ScanCache.record(second);
+        ScanCache.recordDependency(SECOND);
+        assertNotNull(shared.get());
+        ScanCache.record(null);
+        cache.store("second", second, state, Collections.emptyMap(), new AsyncAPIImpl());
+
+        assertNull(cache.lookup("other"));
+        Set<DotName> other = new HashSet<>();
+        ScanCache.record(other);
+        ScanCache.recordDependency(SECOND);
+        ScanCache.record(null);
+        cache.store("other", other, state, Collections.emptyMap(), new AsyncAPIImpl());
+        cache.end();
+
+        cache.begin(index);
+        assertNotNull(cache.lookup("first"));
+        assertNotNull(cache.lookup("second"));
+        assertNotNull(cache.lookup("other"));
+        cache.end();
+
+        cache.begin(new ChangedIndex(index));
+        assertNull(cache.lookup("first"));
+        assertNull(cache.lookup("second"));
+        assertNotNull(cache.lookup("other"));
+        cache.end();
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void changedClassIsScannedAgain() throws IOException {
+        Index index = index(First.class, Second.class, Shared.class, SharedChanged.class);
+        ScanCache cache = new ScanCache();
+        String before = json(scan(index, cache));
+        assertTrue(before.contains("\"before\""));
+        assertEquals(before, json(scan(index, cache)));
+
+        String after = json(scan(new ChangedIndex(index), cache));
+        assertEquals(json(scan(new ChangedIndex(index), null)), after);
+        assertTrue(after.contains("\"after\""));
+        assertFalse(after.contains("\"before\""));
+    }
+
+    static Index index(Class<?>... classes) throws IOException {
+        Indexer indexer = new Indexer();
+        for (Class<?> klass : classes) {
+            try (InputStream stream = klass.getClassLoader()
+                    .getResourceAsStream(klass.getName().replace('.', '/') + ".class")) {
+                indexer.index(stream);
+            }
+        }
+        return indexer.complete();
+    }
+
+    private static AsyncAPI scan(IndexView index, ScanCache cache) {
+        return new AsyncApiAnnotationScanner(CONFIG, ScanCacheTest.class.getClassLoader(), index,
+                Collections.emptyList(), cache).scan();
+    }
+
+    private static String json(AsyncAPI model) throws IOException {
+        return AsyncApiSerializer.serialize(model, AsyncApiFormat.JSON);
+    }
+
+    @Schema(name = "First")
+    static class First {
+        Shared shared;
+    }
+
+    @Schema(name = "Second")
+    static class Second {
+        Shared shared;
+    }
+
+    static class Shared {
+        String before;
+    }
+
+    static class SharedChanged {
+        String after;
+    }
+
+    /**
+     * The index after a change of {@link Shared}: the class is indexed as {@link SharedChanged}.
+     */
+    private static final class ChangedIndex implements IndexView {
+
+        private final IndexView index;
+
+        private ChangedIndex(IndexView index) {
+            this.index = index;
+        }
+
+        @Override
+        public Collection<ClassInfo> getKnownClasses() {
+            return index.getKnownClasses();
+        }
+
+        @Override
+        public ClassInfo getClassByName(DotName className) {
+            return index.getClassByName(SHARED.equals(className)
+                    ? DotName.createSimple(SharedChanged.class.getName())
+                    : className);
+        }
+
+        @Override
+        public Collection<ClassInfo> getKnownDirectSubclasses(DotName className) {
+            return index.getKnownDirectSubclasses(className);
+        }
+
+        @Override
+        public Collection<ClassInfo> getAllKnownSubclasses(DotName className) {
+            return index.getAllKnownSubclasses(className);
+        }
+
+        @Override
+        public Collection<ClassInfo> getKnownDirectImplementors(DotName className) {
+            return index.getKnownDirectImplementors(className);
+        }
+
+        @Override
+        public Collection<ClassInfo> getAllKnownImplementors(DotName interfaceName) {
+            return index.getAllKnownImplementors(interfaceName);
+        }
+
+        @Override
+        public Collection<AnnotationInstance> getAnnotations(DotName annotationName) {
+            return index.getAnnotations(annotationName);
+        }
+
+        @Override
+        public Collection<AnnotationInstance> getAnnotationsWithRepeatable(DotName annotationName, IndexView index) {
+            return this.index.getAnnotationsWithRepeatable(annotationName, index);
+        }
+    }
+}
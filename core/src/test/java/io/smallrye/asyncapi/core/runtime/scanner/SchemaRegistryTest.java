@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.scanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Type;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.asyncapi.core.api.AsyncApiConfig;
+import io.smallrye.asyncapi.core.api.models.AsyncAPIImpl;
+import io.smallrye.asyncapi.core.api.models.schema.SchemaImpl;
+import io.smallrye.asyncapi.spec.models.AsyncAPI;
+import io.smallrye.asyncapi.spec.models.schema.Schema;
+
+class SchemaRegistryTest {
+
+    private static final int THREADS = 8;
+
+    private static final int TYPES = 200;
+
+    @Test
+    void sharedRegistryRegistersEveryTypeOnce() throws Exception {
+        AsyncAPI model = new AsyncAPIImpl();
+        SchemaRegistry registry = SchemaRegistry.newInstance(new AsyncApiConfig() {
+        }, model, ScanCacheTest.index(ScanCacheTest.Shared.class));
+        SchemaRegistry.remove();
+
+        // types of different packages with the same simple name compete for the names Item, Item1, ...
+        List<Type> types = new ArrayList<>();
+        for (int i = 0; i < TYPES; i++) {
+            types.add(Type.create(DotName.createSimple("p" + i + ".Item"), Type.Kind.CLASS));
+        }
+        Map<Type, AtomicInteger> created = new ConcurrentHashMap<>();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<List<Schema>>> results = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    List<Schema> refs = new ArrayList<>();
+                    for (Type type : types) {
+                        refs.add(registry.registerIfAbsent(type, registered -> {
+                            created.computeIfAbsent(registered, k -> new AtomicInteger())
+                                    .incrementAndGet();
+                            return new SchemaImpl().description(registered.name()
+                                    .toString());
+                        }));
+                    }
+                    return refs;
+                }));
+            }
+            start.countDown();
+
+            List<Schema> first = results.get(0)
+                    .get();
+            for (Future<List<Schema>> result : results) {
+                List<Schema> refs = result.get();
+                for (int i = 0; i < TYPES; i++) {
+                    assertSame(first.get(i), refs.get(i));
+                }
+            }
+            Set<String> names = new HashSet<>();
+            for (Type type : types) {
+                assertEquals(1, created.get(type)
+                        .get());
+                names.add(registry.lookupRef(type)
+                        .getRef());
+                assertEquals(type.name()
+                        .toString(),
+                        registry.lookupSchema(type)
+                                .getDescription());
+            }
+            assertEquals(TYPES, names.size());
+            assertEquals(TYPES, model.getComponents()
+                    .getSchemas()
+                    .size());
+            assertSame(registry.lookupSchema(types.get(0)), model.getComponents()
+                    .getSchemas()
+                    .get(registry.lookupRef(types.get(0))
+                            .getRef()
+                            .substring("#/components/schemas/".length())));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.validation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.smallrye.asyncapi.core.api.models.schema.SchemaImpl;
+import io.smallrye.asyncapi.spec.annotations.schema.SchemaType;
+import io.smallrye.asyncapi.spec.models.schema.Schema;
+
+class PayloadValidatorTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    void scalarRoots() throws IOException {
+        assertSameResults(type(SchemaType.INTEGER), "10", " 10 \n", "0.5", "true", "\"10\"");
+        assertSameResults(type(SchemaType.NUMBER), "0.5", "10", "1e3", "null");
+        assertSameResults(type(SchemaType.BOOLEAN), "true", "false\t", "0");
+        assertSameResults(type(SchemaType.STRING), "\"x\"", "\"\"", "1");
+
+        assertTrue(validator(type(SchemaType.INTEGER)).validate(bytes("10"), 10).isValid());
+        assertTrue(validator(type(SchemaType.NUMBER)).validate(bytes("0.5"), 10).isValid());
+        assertTrue(validator(type(SchemaType.BOOLEAN)).validate(bytes("true"), 10).isValid());
+    }
+
+    @Test
+    void compositeRoots() throws IOException {
+        SchemaImpl small = type(SchemaType.INTEGER);
+        small.setMaximum(BigDecimal.TEN);
+        Schema oneOf = new SchemaImpl().oneOf(Arrays.asList(small, type(SchemaType.STRING)));
+        assertSameResults(oneOf, "7", "20", "\"a\"", "true");
+
+        Schema anyOf = new SchemaImpl().anyOf(Arrays.asList(type(SchemaType.BOOLEAN), small));
+        assertSameResults(anyOf, "true", "3", "30", "[]");
+
+        Schema allOf = new SchemaImpl().allOf(Arrays.asList(type(SchemaType.INTEGER), small));
+        assertSameResults(allOf, "3", "11", "1.5");
+
+        assertTrue(validator(oneOf).validate(bytes("7"), 10).isValid());
+    }
+
+    @Test
+    void objectAndArrayRoots() throws IOException {
+        SchemaImpl object = type(SchemaType.OBJECT);
+        Map<String, Schema> properties = new LinkedHashMap<>();
+        properties.put("a", type(SchemaType.INTEGER));
+        properties.put("b", type(SchemaType.STRING));
+        object.setProperties(properties);
+        object.setRequired(Arrays.asList("a"));
+        assertSameResults(object, "{\"a\":1}", "{\"a\":1,\"b\":\"x\"}  ", "{}", "{\"a\":\"x\",\"b\":2}", "[1]");
+
+        SchemaImpl array = type(SchemaType.ARRAY);
+        array.setItems(type(SchemaType.INTEGER));
+        array.setMaxItems(2);
+        array.setUniqueItems(true);
+        assertSameResults(array, "[1,2]", "[1,1]", "[1,2,3]", "[\"a\"]", " [ ] ");
+    }
+
+    @Test
+    void truncatedInput() {
+        SchemaImpl object = type(SchemaType.OBJECT);
+        for (String payload : new String[] { "{\"a\":1", "[1,", "\"abc", "tru", "" }) {
+            PayloadValidator validator = validator(object);
+            if (!payload.isEmpty()) {
+                assertThrows(IOException.class, () -> MAPPER.readTree(payload), payload);
+            }
+            assertThrows(IOException.class, () -> failOnEmpty(validator.validate(bytes(payload), 10)), payload);
+            assertThrows(IOException.class, () -> failOnEmpty(validator.validate(direct(payload), 10)), payload);
+        }
+    }
+
+    @Test
+    void trailingValues() throws IOException {
+        PayloadValidator validator = validator(type(SchemaType.INTEGER));
+        assertEquals("[/: must be a single value]", validator.validate(bytes("1 2"), 10).toString());
+        assertEquals("[/: must be a single value]", validator.validate(direct("1 2"), 10).toString());
+    }
+
+    @Test
+    void bufferPositionIsKept() throws IOException {
+        ByteBuffer buffer = direct("{\"a\":1}");
+        validator(type(SchemaType.OBJECT)).validate(buffer, 10);
+        assertEquals(0, buffer.position());
+    }
+
+    private static void assertSameResults(Schema schema, String... payloads) throws IOException {
+        PayloadValidator validator = validator(schema);
+        for (String payload : payloads) {
+            List<String> tree = violations(validator.validate(MAPPER.readTree(payload)));
+            assertEquals(tree, violations(validator.validate(bytes(payload), Integer.MAX_VALUE)), payload);
+            assertEquals(tree, violations(validator.validate(ByteBuffer.wrap(bytes(payload)), Integer.MAX_VALUE)),
+                    payload);
+            assertEquals(tree, violations(validator.validate(direct(payload), Integer.MAX_VALUE)), payload);
+        }
+    }
+
+    // an empty payload is reported as a violation instead of an exception
+    private static void failOnEmpty(ValidationResult result) throws IOException {
+        if (!result.isValid()) {
+            throw new IOException(result.toString());
+        }
+    }
+
+    private static List<String> violations(ValidationResult result) {
+        return result.getViolations().stream().map(Violation::toString).collect(Collectors.toList());
+    }
+
+    private static PayloadValidator validator(Schema schema) {
+        return PayloadValidator.compile(schema, null);
+    }
+
+    private static SchemaImpl type(SchemaType type) {
+        SchemaImpl schema = new SchemaImpl();
+        schema.setType(type);
+        return schema;
+    }
+
+    private static byte[] bytes(String payload) {
+        return payload.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static ByteBuffer direct(String payload) {
+        byte[] bytes = bytes(payload);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip();
+        return buffer;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.quarkus.asyncapi.deployment;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import io.quarkus.asyncapi.runtime.AsyncApiBuildMeasurement;
+import io.quarkus.builder.item.SimpleBuildItem;
+import io.smallrye.asyncapi.core.runtime.instrumentation.Instrumentation;
+import io.smallrye.asyncapi.core.runtime.instrumentation.Measurement;
+
+/**
+ * The measurements of the phases and scanners of the AsyncAPI document generation, collected if metrics are
+ * enabled.
+ */
+public final class AsyncApiMeasurementsBuildItem extends SimpleBuildItem {
+
+    private final List<AsyncApiBuildMeasurement> measurements;
+
+    public AsyncApiMeasurementsBuildItem(List<AsyncApiBuildMeasurement> measurements) {
+        this.measurements = measurements;
+    }
+
+    public List<AsyncApiBuildMeasurement> getMeasurements() {
+        return measurements;
+    }
+
+    /**
+     * Collects the measurements of a document generation.
+     */
+    static final class Collector implements Instrumentation {
+
+        private final List<AsyncApiBuildMeasurement> measurements = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void phaseCompleted(Phase phase, Measurement measurement) {
+            measurements.add(toBuildMeasurement("phase", phase.name()
+                    .toLowerCase(), measurement));
+        }
+
+        @Override
+        public void scannerCompleted(String scanner, Measurement measurement) {
+            measurements.add(toBuildMeasurement("scanner", scanner, measurement));
+        }
+
+        AsyncApiMeasurementsBuildItem toBuildItem() {
+            synchronized (measurements) {
+                return new AsyncApiMeasurementsBuildItem(new ArrayList<>(measurements));
+            }
+        }
+
+        private static AsyncApiBuildMeasurement toBuildMeasurement(String tag, String name, Measurement measurement) {
+            return new AsyncApiBuildMeasurement(tag, name, measurement.getDurationNanos(),
+                    measurement.getAllocatedBytes(), measurement.getClasses(), measurement.getSchemas(),
+                    measurement.getChannels(), measurement.getMessages());
+        }
+    }
+}
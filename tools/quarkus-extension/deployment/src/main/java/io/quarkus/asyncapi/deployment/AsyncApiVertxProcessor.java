@@ -17,13 +17,13 @@ package io.quarkus.asyncapi.deployment;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -34,10 +34,12 @@ import org.jboss.jandex.IndexView;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.BeanArchiveIndexBuildItem;
+import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.asyncapi.runtime.AsyncApiConstants;
 import io.quarkus.asyncapi.runtime.AsyncApiDocumentService;
-import io.quarkus.asyncapi.runtime.AsyncApiHandler;
 import io.quarkus.asyncapi.runtime.AsyncApiRecorder;
+import io.quarkus.asyncapi.runtime.ContentEncoding;
+import io.quarkus.asyncapi.runtime.SmallRyeAsyncApiRuntimeConfig;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
@@ -47,21 +49,32 @@ import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
 import io.quarkus.deployment.builditem.HotDeploymentWatchedFileBuildItem;
+import io.quarkus.deployment.builditem.LaunchModeBuildItem;
+import io.quarkus.deployment.builditem.LiveReloadBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.deployment.pkg.builditem.OutputTargetBuildItem;
+import io.quarkus.runtime.LaunchMode;
 import io.quarkus.vertx.http.deployment.HttpRootPathBuildItem;
 import io.quarkus.vertx.http.deployment.RouteBuildItem;
 import io.quarkus.vertx.http.runtime.HandlerType;
 import io.smallrye.asyncapi.core.api.AsyncApiConfig;
 import io.smallrye.asyncapi.core.api.AsyncApiConfigImpl;
-import io.smallrye.asyncapi.core.api.AsyncApiDocument;
+import io.smallrye.asyncapi.core.api.AsyncApiDocumentBuilder;
+import io.smallrye.asyncapi.core.api.util.ClassLoaderUtil;
 import io.smallrye.asyncapi.core.runtime.AsyncApiFormat;
 import io.smallrye.asyncapi.core.runtime.AsyncApiProcessor;
 import io.smallrye.asyncapi.core.runtime.AsyncApiStaticFile;
+import io.smallrye.asyncapi.core.runtime.instrumentation.Instrumentation;
+import io.smallrye.asyncapi.core.runtime.instrumentation.Instrumentation.Phase;
+import io.smallrye.asyncapi.core.runtime.instrumentation.Instrumentations;
+import io.smallrye.asyncapi.core.runtime.instrumentation.Probe;
 import io.smallrye.asyncapi.core.runtime.io.AsyncApiSerializer;
 import io.smallrye.asyncapi.core.runtime.scanner.AnnotationScannerExtension;
 import io.smallrye.asyncapi.core.runtime.scanner.AsyncApiAnnotationScanner;
 import io.smallrye.asyncapi.core.runtime.scanner.FilteredIndexView;
+import io.smallrye.asyncapi.core.runtime.scanner.ScanCache;
 import io.smallrye.asyncapi.spec.AASFilter;
 import io.smallrye.asyncapi.spec.models.AsyncAPI;
 
@@ -103,10 +116,41 @@ public class AsyncApiVertxProcessor {
                 .collect(Collectors.toList());
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    RouteBuildItem createHandler(AsyncApiRecorder recorder, SmallRyeAsyncApiRuntimeConfig runtimeConfig) {
+        // the documents are served from memory or from the stored files, they are never created on the event loop
+        return new RouteBuildItem("/asyncapi", recorder.handler(runtimeConfig), HandlerType.NORMAL);
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void configureDocuments(AsyncApiRecorder recorder, SmallRyeAsyncApiRuntimeConfig runtimeConfig,
+            BeanContainerBuildItem beanContainer) {
+        recorder.configureDocuments(beanContainer.getValue(), runtimeConfig);
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void serveStoredDocuments(AsyncApiRecorder recorder, SmallRyeAsyncApiRuntimeConfig runtimeConfig,
+            BeanContainerBuildItem beanContainer, OutputTargetBuildItem out) {
+        if (asyncApiConfig.storeSchemaDirectory.isPresent()) {
+            // served from the directory the documents are stored in, resolved the same way
+            recorder.serveStoredDocuments(beanContainer.getValue(), runtimeConfig, storeSchemaDirectory(out)
+                    .toAbsolutePath()
+                    .toString());
+        }
+    }
+
     @BuildStep
     @Record(ExecutionTime.STATIC_INIT)
-    RouteBuildItem createHandler(AsyncApiRecorder recorder) {
-        return new RouteBuildItem("/asyncapi", new AsyncApiHandler(), HandlerType.BLOCKING);
+    void buildMetrics(AsyncApiRecorder recorder, Optional<AsyncApiMeasurementsBuildItem> measurements,
+            Optional<MetricsCapabilityBuildItem> metricsCapability,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metricsFactoryConsumers) {
+        if (measurements.isPresent() && metricsCapability.isPresent()) {
+            metricsFactoryConsumers.produce(new MetricsFactoryConsumerBuildItem(recorder.buildMetrics(measurements.get()
+                    .getMeasurements())));
+        }
     }
 
     @BuildStep
@@ -129,26 +173,42 @@ public class AsyncApiVertxProcessor {
     public void build(ApplicationArchivesBuildItem archivesBuildItem,
             BuildProducer<GeneratedResourceBuildItem> resourceBuildItemBuildProducer,
             BuildProducer<NativeImageResourceBuildItem> nativeImageResources,
+            BuildProducer<AsyncApiMeasurementsBuildItem> measurementsProducer,
             AsyncApiFilteredIndexViewBuildItem asyncApiFilteredIndexViewBuildItem,
             List<AddToAsyncAPIDefinitionBuildItem> asyncAPIBuildItems,
-            HttpRootPathBuildItem httpRootPathBuildItem, OutputTargetBuildItem out) throws Exception {
+            HttpRootPathBuildItem httpRootPathBuildItem, OutputTargetBuildItem out,
+            LaunchModeBuildItem launchMode, LiveReloadBuildItem liveReload) throws Exception {
 
         FilteredIndexView index = asyncApiFilteredIndexViewBuildItem.getIndex();
 
-        AsyncAPI staticModel = generateStaticModel(archivesBuildItem);
-        AsyncAPI annotationModel = generateAnnotationModel(index, httpRootPathBuildItem);
+        AsyncApiMeasurementsBuildItem.Collector measurements = asyncApiConfig.metricsEnabled
+                ? new AsyncApiMeasurementsBuildItem.Collector()
+                : null;
+        Instrumentation instrumentation = Instrumentations.of(Instrumentations.load(ClassLoaderUtil.getDefaultClassLoader()),
+                measurements);
+
+        AsyncAPI staticModel = generateStaticModel(archivesBuildItem, instrumentation);
+        AsyncAPI annotationModel = generateAnnotationModel(index, httpRootPathBuildItem, scanCache(launchMode, liveReload),
+                instrumentation);
 
-        AsyncApiDocument finalDocument = loadDocument(staticModel, annotationModel, asyncAPIBuildItems);
+        AsyncAPI finalDocument = loadDocument(staticModel, annotationModel, asyncAPIBuildItems, instrumentation);
+
+        if (measurements != null) {
+            measurementsProducer.produce(measurements.toBuildItem());
+        }
 
         boolean shouldStore = asyncApiConfig.storeSchemaDirectory.isPresent();
         for (AsyncApiFormat format : AsyncApiFormat.values()) {
             String name = AsyncApiConstants.BASE_NAME + format;
 
-            byte[] schemaDocument = AsyncApiSerializer.serialize(finalDocument.get(), format)
-                    .getBytes(StandardCharsets.UTF_8);
+            byte[] schemaDocument = AsyncApiSerializer.serializeBytes(finalDocument, format);
 
-            resourceBuildItemBuildProducer.produce(new GeneratedResourceBuildItem(name, schemaDocument));
-            nativeImageResources.produce(new NativeImageResourceBuildItem(name));
+            for (ContentEncoding encoding : ContentEncoding.values()) {
+                String encodedName = name + encoding.getExtension();
+                resourceBuildItemBuildProducer.produce(new GeneratedResourceBuildItem(encodedName,
+                        encoding.encode(schemaDocument)));
+                nativeImageResources.produce(new NativeImageResourceBuildItem(encodedName));
+            }
 
             if (shouldStore) {
                 storeGeneratedSchema(out, schemaDocument, format);
@@ -158,39 +218,67 @@ public class AsyncApiVertxProcessor {
 
     private void storeGeneratedSchema(OutputTargetBuildItem out, byte[] schemaDocument, AsyncApiFormat format)
             throws IOException {
-        Path directory = asyncApiConfig.storeSchemaDirectory.get();
-
-        Path outputDirectory = out.getOutputDirectory();
-
-        if (!directory.isAbsolute() && outputDirectory != null) {
-            directory = Paths.get(outputDirectory.getParent()
-                    .toString(), directory.toString());
-        }
+        Path directory = storeSchemaDirectory(out);
 
         if (!Files.exists(directory)) {
             Files.createDirectories(directory);
         }
 
-        Path file = Paths.get(directory.toString(), "asyncapi." + format.toString()
+        Path file = Paths.get(directory.toString(), AsyncApiConstants.STORED_DOC_BASE + format.toString()
                 .toLowerCase());
         if (!Files.exists(file)) {
             Files.createFile(file);
         }
-        Files.write(file, schemaDocument, StandardOpenOption.WRITE);
+        Files.write(file, schemaDocument, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
     }
 
-    private AsyncAPI generateStaticModel(ApplicationArchivesBuildItem archivesBuildItem) throws IOException {
+    private Path storeSchemaDirectory(OutputTargetBuildItem out) {
+        Path directory = asyncApiConfig.storeSchemaDirectory.get();
+
+        Path outputDirectory = out.getOutputDirectory();
+
+        if (!directory.isAbsolute() && outputDirectory != null) {
+            directory = Paths.get(outputDirectory.getParent()
+                    .toString(), directory.toString());
+        }
+        return directory;
+    }
+
+    private AsyncAPI generateStaticModel(ApplicationArchivesBuildItem archivesBuildItem, Instrumentation instrumentation)
+            throws IOException {
         Result result = findStaticModel(archivesBuildItem);
         if (result != null) {
             try (InputStream is = Files.newInputStream(result.path);
                     AsyncApiStaticFile staticFile = new AsyncApiStaticFile(is, result.format)) {
-                return AsyncApiProcessor.modelFromStaticFile(staticFile);
+                Probe probe = Probe.phase(instrumentation, Phase.STATIC_FILE);
+                AsyncAPI model = AsyncApiProcessor.modelFromStaticFile(staticFile);
+                probe.stop(model);
+                return model;
             }
         }
         return null;
     }
 
-    private AsyncAPI generateAnnotationModel(IndexView indexView, HttpRootPathBuildItem httpRootPathBuildItem) {
+    private ScanCache scanCache(LaunchModeBuildItem launchMode, LiveReloadBuildItem liveReload) {
+        if (launchMode.getLaunchMode() != LaunchMode.DEVELOPMENT || !asyncApiConfig.devScanCacheEnabled) {
+            return null;
+        }
+
+        // the cache is kept across live reloads
+        ScanCache scanCache = liveReload.getContextObject(ScanCache.class);
+        if (scanCache == null) {
+            scanCache = new ScanCache();
+            liveReload.setContextObject(ScanCache.class, scanCache);
+        } else if (!liveReload.getChangedResources()
+                .isEmpty()) {
+            // changes of the configuration are not detected by the cache
+            scanCache.clear();
+        }
+        return scanCache;
+    }
+
+    private AsyncAPI generateAnnotationModel(IndexView indexView, HttpRootPathBuildItem httpRootPathBuildItem,
+            ScanCache scanCache, Instrumentation instrumentation) {
         Config config = ConfigProvider.getConfig();
         AsyncApiConfig asyncApiConfig = new AsyncApiConfigImpl(config);
 
@@ -202,9 +290,12 @@ public class AsyncApiVertxProcessor {
             extensions.add(new CustomPathExtension(defaultPath));
         }
 
-        AsyncApiAnnotationScanner asyncApiAnnotationScanner = new AsyncApiAnnotationScanner(asyncApiConfig, indexView,
-                extensions);
-        return asyncApiAnnotationScanner.scan(getScanners());
+        Probe probe = Probe.phase(instrumentation, Phase.ANNOTATIONS);
+        AsyncApiAnnotationScanner asyncApiAnnotationScanner = new AsyncApiAnnotationScanner(asyncApiConfig,
+                ClassLoaderUtil.getDefaultClassLoader(), indexView, extensions, scanCache, instrumentation);
+        AsyncAPI model = asyncApiAnnotationScanner.scan(getScanners());
+        probe.stop(model, indexView);
+        return model;
     }
 
     private Result findStaticModel(ApplicationArchivesBuildItem archivesBuildItem) {
@@ -259,36 +350,29 @@ public class AsyncApiVertxProcessor {
         }
     }
 
-    private AsyncApiDocument loadDocument(AsyncAPI staticModel, AsyncAPI annotationModel,
-            List<AddToAsyncAPIDefinitionBuildItem> asyncAPIBuildItems) {
+    private AsyncAPI loadDocument(AsyncAPI staticModel, AsyncAPI annotationModel,
+            List<AddToAsyncAPIDefinitionBuildItem> asyncAPIBuildItems, Instrumentation instrumentation) {
         Config config = ConfigProvider.getConfig();
         AsyncApiConfig openApiConfig = new AsyncApiConfigImpl(config);
 
+        Probe probe = Probe.phase(instrumentation, Phase.READER);
         AsyncAPI readerModel = AsyncApiProcessor.modelFromReader(openApiConfig, Thread.currentThread()
                 .getContextClassLoader());
-
-        AsyncApiDocument document = createDocument(openApiConfig);
-        if (annotationModel != null) {
-            document.modelFromAnnotations(annotationModel);
-        }
-        document.modelFromReader(readerModel);
-        document.modelFromStaticFile(staticModel);
-
-        document.filter(filter(openApiConfig));
+        probe.stop(readerModel);
+
+        AsyncApiDocumentBuilder document = AsyncApiDocumentBuilder.create()
+                .config(openApiConfig)
+                .instrumentation(instrumentation)
+                .modelFromAnnotations(annotationModel)
+                .modelFromReader(readerModel)
+                .modelFromStaticFile(staticModel)
+                .filter(filter(openApiConfig));
         for (AddToAsyncAPIDefinitionBuildItem asyncAPIBuildItem : asyncAPIBuildItems) {
             AASFilter otherExtensionFilter = asyncAPIBuildItem.getAASFilter();
-            document.filter(otherExtensionFilter);
+            document = document.filter(otherExtensionFilter);
         }
-        document.initialize();
-
-        return document;
-    }
 
-    private AsyncApiDocument createDocument(AsyncApiConfig openApiConfig) {
-        AsyncApiDocument document = AsyncApiDocument.INSTANCE;
-        document.reset();
-        document.config(openApiConfig);
-        return document;
+        return document.build();
     }
 
     private AASFilter filter(AsyncApiConfig openApiConfig) {
@@ -26,8 +26,24 @@ public final class SmallRyeAsyncApiConfig {
 
     /**
      * If set, the generated AsyncAPI schema documents will be stored here on build.
-     * Both asyncapi.json and asyncapi.yaml will be stored here if this is set.
+     * Both asyncapi.json and asyncapi.yaml will be stored here if this is set. A relative directory is resolved
+     * against the project directory.
      */
     @ConfigItem
     public Optional<Path> storeSchemaDirectory;
+
+    /**
+     * Reuse the results of scanning unchanged classes on a live reload in development mode. Only the classes
+     * affected by a change are scanned again.
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean devScanCacheEnabled;
+
+    /**
+     * Publish the duration, the allocations and the size of the produced models of every phase and scanner of the
+     * document generation at build time as metrics, if a metrics extension is present. The phases and scanners are
+     * also reported as JFR events, whenever a recording of the build has them enabled.
+     */
+    @ConfigItem(name = "metrics.enabled", defaultValue = "false")
+    public boolean metricsEnabled;
 }
@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.quarkus.asyncapi.runtime;
+
+/**
+ * The measurement of a phase or scanner of the document generation at build time, recorded for the metrics.
+ */
+public class AsyncApiBuildMeasurement {
+
+    private String tag;
+
+    private String name;
+
+    private long durationNanos;
+
+    private long allocatedBytes;
+
+    private int classes;
+
+    private int schemas;
+
+    private int channels;
+
+    private int messages;
+
+    public AsyncApiBuildMeasurement() {
+    }
+
+    public AsyncApiBuildMeasurement(String tag, String name, long durationNanos, long allocatedBytes, int classes,
+            int schemas, int channels, int messages) {
+        this.tag = tag;
+        this.name = name;
+        this.durationNanos = durationNanos;
+        this.allocatedBytes = allocatedBytes;
+        this.classes = classes;
+        this.schemas = schemas;
+        this.channels = channels;
+        this.messages = messages;
+    }
+
+    /**
+     * @return the kind of the measurement and the tag of its metrics, {@code phase} or {@code scanner}
+     */
+    public String getTag() {
+        return tag;
+    }
+
+    public void setTag(String tag) {
+        this.tag = tag;
+    }
+
+    /**
+     * @return the name of the phase or scanner
+     */
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    public void setDurationNanos(long durationNanos) {
+        this.durationNanos = durationNanos;
+    }
+
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    public void setAllocatedBytes(long allocatedBytes) {
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    public int getClasses() {
+        return classes;
+    }
+
+    public void setClasses(int classes) {
+        this.classes = classes;
+    }
+
+    public int getSchemas() {
+        return schemas;
+    }
+
+    public void setSchemas(int schemas) {
+        this.schemas = schemas;
+    }
+
+    public int getChannels() {
+        return channels;
+    }
+
+    public void setChannels(int channels) {
+        this.channels = channels;
+    }
+
+    public int getMessages() {
+        return messages;
+    }
+
+    public void setMessages(int messages) {
+        this.messages = messages;
+    }
+}
@@ -23,6 +23,8 @@ public class AsyncApiConstants {
 
     public static final String BASE_NAME = "META-INF/" + GENERATED_DOC_BASE;
 
+    public static final String STORED_DOC_BASE = "asyncapi.";
+
     public static final String META_INF_ASYNCAPI_YAML = "META-INF/asyncapi.yaml";
 
     public static final String WEB_INF_CLASSES_META_INF_ASYNCAPI_YAML = "WEB-INF/classes/META-INF/asyncapi.yaml";
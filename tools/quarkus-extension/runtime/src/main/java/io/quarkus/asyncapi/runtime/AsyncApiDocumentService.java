@@ -15,75 +15,424 @@
  */
 package io.quarkus.asyncapi.runtime;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.annotation.PostConstruct;
 import javax.enterprise.context.ApplicationScoped;
 
-import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.ConfigProvider;
+import org.jboss.logging.Logger;
 
+import io.netty.buffer.Unpooled;
 import io.smallrye.asyncapi.core.api.AsyncApiConfig;
 import io.smallrye.asyncapi.core.api.AsyncApiConfigImpl;
-import io.smallrye.asyncapi.core.api.AsyncApiDocument;
+import io.smallrye.asyncapi.core.api.AsyncApiDocumentBuilder;
 import io.smallrye.asyncapi.core.runtime.AsyncApiFormat;
 import io.smallrye.asyncapi.core.runtime.AsyncApiProcessor;
 import io.smallrye.asyncapi.core.runtime.AsyncApiStaticFile;
 import io.smallrye.asyncapi.core.runtime.io.AsyncApiSerializer;
+import io.smallrye.asyncapi.spec.models.AsyncAPI;
+import io.vertx.core.buffer.Buffer;
 
+/**
+ * Provides the AsyncAPI documents generated at build time.
+ * <p>
+ * The document of a format is created when it is first requested. The generated document is parsed, configured
+ * with the runtime configuration, filtered and serialized again, unless it is served as it is, see
+ * {@link SmallRyeAsyncApiRuntimeConfig#serveGeneratedDocuments}. Documents of at least
+ * {@link SmallRyeAsyncApiRuntimeConfig#offHeapThreshold} bytes are kept in direct buffers, stored documents can be
+ * served from the file system, see {@link SmallRyeAsyncApiRuntimeConfig#serveStoredDocuments}. A stored document
+ * is checked against the digest of the document when it is first used, and against its size and modification time
+ * on each use, the document is created again if the stored file has changed.
+ */
 @ApplicationScoped
 public class AsyncApiDocumentService {
 
-    private byte[] jsonDocument;
+    private static final Logger LOG = Logger.getLogger(AsyncApiDocumentService.class);
+
+    private final Map<AsyncApiFormat, Document> documents = new ConcurrentHashMap<>();
+
+    private ClassLoader cl;
+
+    private AsyncApiConfig openApiConfig;
+
+    private volatile boolean serveGenerated;
+
+    private volatile long offHeapThreshold = Long.MAX_VALUE;
 
-    private byte[] yamlDocument;
+    private volatile Path storedDocumentDirectory;
+
+    private AsyncAPI model;
+
+    private Instant lastModified;
+
+    private String lastModifiedHeader;
 
     @PostConstruct
     void create() throws IOException {
-
-        ClassLoader cl = AsyncApiConstants.classLoader == null ? Thread.currentThread().getContextClassLoader()
+        this.cl = AsyncApiConstants.classLoader == null ? Thread.currentThread().getContextClassLoader()
                 : AsyncApiConstants.classLoader;
 
-        try (InputStream is = cl.getResourceAsStream(AsyncApiConstants.BASE_NAME + AsyncApiFormat.JSON)) {
-            if (is != null) {
-                try (AsyncApiStaticFile staticFile = new AsyncApiStaticFile(is, AsyncApiFormat.JSON)) {
-                    Config config = ConfigProvider.getConfig();
-                    AsyncApiConfig openApiConfig = new AsyncApiConfigImpl(config);
-
-                    AsyncApiDocument document = AsyncApiDocument.INSTANCE;
-                    document.reset();
-                    document.config(openApiConfig);
-                    document.modelFromStaticFile(AsyncApiProcessor.modelFromStaticFile(staticFile));
-                    document.filter(AsyncApiProcessor.getFilter(openApiConfig, cl));
-                    document.initialize();
-
-                    this.jsonDocument = AsyncApiSerializer.serialize(document.get(), AsyncApiFormat.JSON)
-                            .getBytes(StandardCharsets.UTF_8);
-                    this.yamlDocument = AsyncApiSerializer.serialize(document.get(), AsyncApiFormat.YAML)
-                            .getBytes(StandardCharsets.UTF_8);
-                    document.reset();
-                    document = null;
-                }
-            } else {
-                throw new IOException("Could not find [" + AsyncApiConstants.BASE_NAME + AsyncApiFormat.JSON + "]");
+        if (cl.getResource(AsyncApiConstants.BASE_NAME + AsyncApiFormat.JSON) == null) {
+            throw new IOException("Could not find [" + AsyncApiConstants.BASE_NAME + AsyncApiFormat.JSON + "]");
+        }
+
+        this.openApiConfig = new AsyncApiConfigImpl(ConfigProvider.getConfig());
+
+        this.lastModified = Instant.now()
+                .truncatedTo(ChronoUnit.SECONDS);
+        this.lastModifiedHeader = DateTimeFormatter.RFC_1123_DATE_TIME
+                .format(lastModified.atOffset(ZoneOffset.UTC));
+    }
+
+    /**
+     * Get the document in a format, it is created if it has not been requested before. Creating a document may
+     * block, use {@link #getCreatedDocument(AsyncApiFormat)} on the event loop.
+     *
+     * @param format the format of the document
+     * @return the document
+     * @throws UncheckedIOException if the document can not be created
+     */
+    public Document getOrCreateDocument(AsyncApiFormat format) {
+        Document document = getCreatedDocument(format);
+        if (document != null) {
+            return document;
+        }
+        return documents.computeIfAbsent(format, f -> {
+            try {
+                return createDocument(f);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * @param format the format of the document
+     * @return the document in the format, null if it has not been created yet or has to be created again
+     */
+    public Document getCreatedDocument(AsyncApiFormat format) {
+        Document document = documents.get(format);
+        if (document != null && document.isStale()) {
+            LOG.infof("Stored AsyncAPI document %s has changed, the document is created again", document.file);
+            documents.remove(format, document);
+            return null;
+        }
+        return document;
+    }
+
+    private Document createDocument(AsyncApiFormat format) throws IOException {
+        String name = AsyncApiConstants.BASE_NAME + format;
+        byte[] generated = readResource(cl, name);
+
+        boolean generatedAsIs = serveGenerated && openApiConfig.filter() == null;
+        byte[] document = generatedAsIs ? generated : AsyncApiSerializer.serializeBytes(getModel(), format);
+        boolean unchanged = generatedAsIs || Arrays.equals(document, generated);
+
+        byte[] digest = digest(document);
+        Path file = storedDocument(format);
+        FileTime fileModified = file != null ? storedDocumentModified(file, document.length, digest) : null;
+        if (fileModified == null) {
+            file = null;
+        }
+
+        // the documents encoded at build time are used, unless the document has been changed at runtime
+        Map<ContentEncoding, Buffer> encoded = new EnumMap<>(ContentEncoding.class);
+        for (ContentEncoding encoding : ContentEncoding.values()) {
+            if (encoding == ContentEncoding.IDENTITY && file != null) {
+                continue;
+            }
+            byte[] prebuilt = unchanged ? readResource(cl, name + encoding.getExtension()) : null;
+            encoded.put(encoding, store(prebuilt != null ? prebuilt : encoding.encode(document)));
+        }
+        return new Document(eTag(digest), encoded, file, document.length, fileModified);
+    }
+
+    private Path storedDocument(AsyncApiFormat format) {
+        Path directory = storedDocumentDirectory;
+        if (directory == null) {
+            return null;
+        }
+        return directory.resolve(AsyncApiConstants.STORED_DOC_BASE + format.toString()
+                .toLowerCase());
+    }
+
+    /**
+     * Get the modification time of a stored document, if it equals the document served. The stored document is
+     * compared by its digest, the modification time is read before, so a change while it is read is noticed on its
+     * next use.
+     */
+    private static FileTime storedDocumentModified(Path file, long length, byte[] digest) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            LOG.infof("Stored AsyncAPI document %s not found, the document is served from memory", file);
+            return null;
+        }
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        if (attributes.size() != length || !Arrays.equals(digest(file), digest)) {
+            LOG.infof("Stored AsyncAPI document %s differs from the generated document, the document is served from "
+                    + "memory", file);
+            return null;
+        }
+        return attributes.lastModifiedTime();
+    }
+
+    /**
+     * Serve the documents stored in a directory, see {@link SmallRyeAsyncApiRuntimeConfig#serveStoredDocuments}.
+     *
+     * @param storedDocumentDirectory the directory
+     */
+    public void setStoredDocumentDirectory(Path storedDocumentDirectory) {
+        this.storedDocumentDirectory = storedDocumentDirectory;
+    }
+
+    /**
+     * Configure how the documents are created, see {@link SmallRyeAsyncApiRuntimeConfig#serveGeneratedDocuments}
+     * and {@link SmallRyeAsyncApiRuntimeConfig#offHeapThreshold}. Documents already created are not changed.
+     *
+     * @param serveGenerated serve the generated documents as they are, if no filter is configured
+     * @param offHeapThreshold the size in bytes of the documents kept in direct buffers
+     */
+    public void setDocumentSettings(boolean serveGenerated, long offHeapThreshold) {
+        this.serveGenerated = serveGenerated;
+        this.offHeapThreshold = offHeapThreshold;
+    }
+
+    private synchronized AsyncAPI getModel() throws IOException {
+        if (model == null) {
+            try (InputStream is = cl.getResourceAsStream(AsyncApiConstants.BASE_NAME + AsyncApiFormat.JSON);
+                    AsyncApiStaticFile staticFile = new AsyncApiStaticFile(is, AsyncApiFormat.JSON)) {
+                model = AsyncApiDocumentBuilder.create()
+                        .config(openApiConfig)
+                        .modelFromStaticFile(AsyncApiProcessor.modelFromStaticFile(staticFile))
+                        .filter(AsyncApiProcessor.getFilter(openApiConfig, cl))
+                        .build();
+            }
+        }
+        return model;
+    }
+
+    private Buffer store(byte[] document) {
+        if (document.length < offHeapThreshold) {
+            return Buffer.buffer(Unpooled.wrappedBuffer(document));
+        }
+        ByteBuffer direct = ByteBuffer.allocateDirect(document.length);
+        direct.put(document)
+                .flip();
+        return Buffer.buffer(Unpooled.wrappedBuffer(direct));
+    }
+
+    private static String eTag(byte[] digest) {
+        StringBuilder eTag = new StringBuilder(digest.length * 2 + 2).append('"');
+        for (byte b : digest) {
+            eTag.append(Character.forDigit((b >> 4) & 0xf, 16))
+                    .append(Character.forDigit(b & 0xf, 16));
+        }
+        return eTag.append('"')
+                .toString();
+    }
+
+    private static byte[] digest(byte[] document) throws IOException {
+        return messageDigest().digest(document);
+    }
+
+    private static byte[] digest(Path file) throws IOException {
+        MessageDigest digest = messageDigest();
+        try (InputStream is = Files.newInputStream(file)) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = is.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return digest.digest();
+    }
+
+    private static MessageDigest messageDigest() throws IOException {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private static byte[] readResource(ClassLoader cl, String name) throws IOException {
+        try (InputStream is = cl.getResourceAsStream(name)) {
+            if (is == null) {
+                return null;
             }
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = is.read(buffer)) != -1) {
+                content.write(buffer, 0, read);
+            }
+            return content.toByteArray();
         }
     }
 
     public byte[] getJsonDocument() {
-        return jsonDocument;
+        return getDocument(AsyncApiFormat.JSON);
     }
 
     public byte[] getYamlDocument() {
-        return yamlDocument;
+        return getDocument(AsyncApiFormat.YAML);
     }
 
     public byte[] getDocument(AsyncApiFormat format) {
-        if (format.equals(AsyncApiFormat.JSON)) {
-            return getJsonDocument();
+        return getDocument(format, ContentEncoding.IDENTITY);
+    }
+
+    /**
+     * @param format the format of the document
+     * @param encoding the content coding of the document
+     * @return a copy of the encoded document, null if the document is not available in the coding
+     */
+    public byte[] getDocument(AsyncApiFormat format, ContentEncoding encoding) {
+        Document document = getOrCreateDocument(format);
+        Buffer content = document.getContent(encoding);
+        if (content != null) {
+            return content.getBytes();
+        }
+        Path file = document.getFile(encoding);
+        if (file != null) {
+            try {
+                return Files.readAllBytes(file);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param format the format of the document
+     * @return the strong entity tag of the document in the format, including the quotes
+     */
+    public String getETag(AsyncApiFormat format) {
+        return getETag(format, ContentEncoding.IDENTITY);
+    }
+
+    /**
+     * @param format the format of the document
+     * @param encoding the content coding of the document
+     * @return the strong entity tag of the encoded document in the format, including the quotes
+     */
+    public String getETag(AsyncApiFormat format, ContentEncoding encoding) {
+        return getOrCreateDocument(format).getETag(encoding);
+    }
+
+    /**
+     * @return the time the documents have been created, in seconds
+     */
+    public Instant getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * @return the time the documents have been created, formatted for the Last-Modified header
+     */
+    public String getLastModifiedHeader() {
+        return lastModifiedHeader;
+    }
+
+    /**
+     * The document in one format, in all content codings. The buffers can be sent any number of times. The
+     * uncompressed document is a stored file instead of a buffer, if it is served from the file system.
+     */
+    public static final class Document {
+
+        private final String eTag;
+
+        private final Map<ContentEncoding, Buffer> content;
+
+        private final Path file;
+
+        private final long fileLength;
+
+        private final FileTime fileModified;
+
+        Document(String eTag, Map<ContentEncoding, Buffer> content, Path file, long fileLength,
+                FileTime fileModified) {
+            this.eTag = eTag;
+            this.content = content;
+            this.file = file;
+            this.fileLength = fileLength;
+            this.fileModified = fileModified;
+        }
+
+        /**
+         * @return true if the stored file has changed since the document was created
+         */
+        boolean isStale() {
+            if (file == null) {
+                return false;
+            }
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                return attributes.size() != fileLength || !attributes.lastModifiedTime()
+                        .equals(fileModified);
+            } catch (IOException e) {
+                return true;
+            }
+        }
+
+        /**
+         * @param encoding the content coding of the document
+         * @return true if the document is available in the coding
+         */
+        public boolean isAvailable(ContentEncoding encoding) {
+            return content.containsKey(encoding) || getFile(encoding) != null;
+        }
+
+        /**
+         * @param encoding the content coding of the document
+         * @return the length of the encoded document in bytes
+         */
+        public long getLength(ContentEncoding encoding) {
+            Buffer buffer = content.get(encoding);
+            return buffer != null ? buffer.length() : fileLength;
+        }
+
+        /**
+         * @param encoding the content coding of the document
+         * @return the stored file of the encoded document, null if it is not served from the file system
+         */
+        public Path getFile(ContentEncoding encoding) {
+            return encoding == ContentEncoding.IDENTITY ? file : null;
+        }
+
+        /**
+         * @param encoding the content coding of the document
+         * @return the strong entity tag of the encoded document, including the quotes
+         */
+        public String getETag(ContentEncoding encoding) {
+            return encoding.eTag(eTag);
+        }
+
+        /**
+         * @param encoding the content coding of the document
+         * @return the encoded document, null if the document is not available in the coding
+         */
+        public Buffer getContent(ContentEncoding encoding) {
+            return content.get(encoding);
         }
-        return getYamlDocument();
     }
 }
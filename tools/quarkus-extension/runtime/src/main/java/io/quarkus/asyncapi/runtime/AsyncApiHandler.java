@@ -15,6 +15,9 @@
  */
 package io.quarkus.asyncapi.runtime;
 
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -22,19 +25,29 @@ import java.util.Map;
 import io.quarkus.arc.Arc;
 import io.smallrye.asyncapi.core.runtime.AsyncApiFormat;
 import io.vertx.core.Handler;
-import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RoutingContext;
 
 /**
- * Handler that serve the AsyncAPI document in either json or yaml format
+ * Serves the AsyncAPI document. The handler runs on the event loop, a document is only created off the event loop
+ * when it is first requested.
+ * <p>
+ * The responses carry a strong entity tag per format and the time the documents have been created. Conditional
+ * requests (If-None-Match, If-Modified-Since) are answered with 304 (Not Modified) while the document did not
+ * change, HEAD requests are answered without a body.
+ * <p>
+ * The documents are sent compressed if the client accepts it, the compressed documents are created at build time.
+ * A request which accepts no coding the document is available in, e.g. {@code identity;q=0} only, is answered with
+ * 406 (Not Acceptable). Stored documents are sent from the file system if configured.
  */
 public class AsyncApiHandler implements Handler<RoutingContext> {
 
     private volatile AsyncApiDocumentService asyncApiDocumentService;
 
+    private final String cacheControl;
+
     private static final String ALLOWED_METHODS = "GET, HEAD, OPTIONS";
 
     private static final String QUERY_PARAM_FORMAT = "format";
@@ -50,6 +63,16 @@ public class AsyncApiHandler implements Handler<RoutingContext> {
     }
 
     public AsyncApiHandler() {
+        this(null);
+    }
+
+    public AsyncApiHandler(String cacheControl) {
+        this.cacheControl = cacheControl;
+    }
+
+    AsyncApiHandler(String cacheControl, AsyncApiDocumentService asyncApiDocumentService) {
+        this.cacheControl = cacheControl;
+        this.asyncApiDocumentService = asyncApiDocumentService;
     }
 
     @Override
@@ -75,11 +98,103 @@ public class AsyncApiHandler implements Handler<RoutingContext> {
                 format = AsyncApiFormat.JSON;
             }
 
-            resp.headers().setAll(RESPONSE_HEADERS);
-            resp.headers().set("Content-Type", format.getMimeType() + ";charset=UTF-8");
-            byte[] schemaDocument = getAsyncApiDocumentService().getDocument(format);
-            resp.end(Buffer.buffer(schemaDocument));
+            AsyncApiDocumentService documentService = getAsyncApiDocumentService();
+            AsyncApiDocumentService.Document document = documentService.getCreatedDocument(format);
+            if (document != null) {
+                send(event, documentService, format, document);
+            } else {
+                // the document is created once, off the event loop
+                AsyncApiFormat requestedFormat = format;
+                event.vertx().<AsyncApiDocumentService.Document> executeBlocking(
+                        promise -> promise.complete(documentService.getOrCreateDocument(requestedFormat)), false,
+                        result -> {
+                            if (result.succeeded()) {
+                                send(event, documentService, requestedFormat, result.result());
+                            } else {
+                                event.fail(result.cause());
+                            }
+                        });
+            }
+        }
+    }
+
+    private void send(RoutingContext event, AsyncApiDocumentService documentService, AsyncApiFormat format,
+            AsyncApiDocumentService.Document document) {
+        HttpServerRequest req = event.request();
+        HttpServerResponse resp = event.response();
+
+        ContentEncoding encoding = ContentEncoding.select(req.headers().get("Accept-Encoding"),
+                document::isAvailable);
+
+        resp.headers().setAll(RESPONSE_HEADERS);
+        resp.headers().set("Vary", "Accept, Accept-Encoding");
+        if (encoding == null) {
+            // not even identity is acceptable
+            resp.setStatusCode(406).end();
+            return;
+        }
+        String eTag = document.getETag(encoding);
+        resp.headers().set("ETag", eTag);
+        resp.headers().set("Last-Modified", documentService.getLastModifiedHeader());
+        if (cacheControl != null && !cacheControl.isEmpty()) {
+            resp.headers().set("Cache-Control", cacheControl);
+        }
+
+        if (isNotModified(req, eTag, documentService.getLastModified())) {
+            resp.setStatusCode(304).end();
+            return;
+        }
+
+        resp.headers().set("Content-Type", format.getMimeType() + ";charset=UTF-8");
+        if (encoding != ContentEncoding.IDENTITY) {
+            resp.headers().set("Content-Encoding", encoding.getCoding());
+        }
+        if (req.method().equals(HttpMethod.HEAD)) {
+            resp.headers().set("Content-Length", Long.toString(document.getLength(encoding)));
+            resp.end();
+        } else if (document.getFile(encoding) != null) {
+            // sent from the file system, zero-copy if possible
+            resp.sendFile(document.getFile(encoding)
+                    .toString(), result -> {
+                        if (result.failed()) {
+                            event.fail(result.cause());
+                        }
+                    });
+        } else {
+            resp.end(document.getContent(encoding));
+        }
+    }
+
+    /**
+     * Evaluate the conditional headers of a GET or HEAD request, If-Modified-Since is only used without If-None-Match.
+     */
+    private static boolean isNotModified(HttpServerRequest req, String eTag, Instant lastModified) {
+        String ifNoneMatch = req.headers().get("If-None-Match");
+        if (ifNoneMatch != null) {
+            for (String candidate : ifNoneMatch.split(",")) {
+                candidate = candidate.trim();
+                // weak comparison, see RFC 7232 section 3.2
+                if (candidate.startsWith("W/")) {
+                    candidate = candidate.substring(2);
+                }
+                if ("*".equals(candidate) || eTag.equals(candidate)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        String ifModifiedSince = req.headers().get("If-Modified-Since");
+        if (ifModifiedSince != null) {
+            try {
+                Instant since = Instant.from(DateTimeFormatter.RFC_1123_DATE_TIME.parse(ifModifiedSince.trim()));
+                return !lastModified.isAfter(since);
+            } catch (DateTimeParseException e) {
+                // an invalid date is ignored
+                return false;
+            }
         }
+        return false;
     }
 
     private AsyncApiDocumentService getAsyncApiDocumentService() {
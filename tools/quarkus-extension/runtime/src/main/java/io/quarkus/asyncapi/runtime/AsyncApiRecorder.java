@@ -15,8 +15,18 @@
  */
 package io.quarkus.asyncapi.runtime;
 
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import io.quarkus.arc.runtime.BeanContainer;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.configuration.MemorySize;
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.vertx.core.Handler;
+import io.vertx.ext.web.RoutingContext;
 
 @Recorder
 public class AsyncApiRecorder {
@@ -25,4 +35,61 @@ public class AsyncApiRecorder {
         AsyncApiConstants.classLoader = Thread.currentThread().getContextClassLoader();
         shutdownContext.addShutdownTask(() -> AsyncApiConstants.classLoader = null);
     }
+
+    public Handler<RoutingContext> handler(SmallRyeAsyncApiRuntimeConfig runtimeConfig) {
+        return new AsyncApiHandler(runtimeConfig.cacheControl);
+    }
+
+    public void configureDocuments(BeanContainer beanContainer, SmallRyeAsyncApiRuntimeConfig runtimeConfig) {
+        beanContainer.instance(AsyncApiDocumentService.class)
+                .setDocumentSettings(runtimeConfig.serveGeneratedDocuments, runtimeConfig.offHeapThreshold
+                        .map(MemorySize::asLongValue)
+                        .orElse(Long.MAX_VALUE));
+    }
+
+    /**
+     * Serve the stored documents, see {@link SmallRyeAsyncApiRuntimeConfig#serveStoredDocuments}.
+     *
+     * @param storeSchemaDirectory the absolute directory the documents have been stored in at build time
+     */
+    public void serveStoredDocuments(BeanContainer beanContainer, SmallRyeAsyncApiRuntimeConfig runtimeConfig,
+            String storeSchemaDirectory) {
+        if (runtimeConfig.serveStoredDocuments) {
+            beanContainer.instance(AsyncApiDocumentService.class)
+                    .setStoredDocumentDirectory(Paths.get(storeSchemaDirectory));
+        }
+    }
+
+    /**
+     * Register the measurements of the document generation at build time as gauges, e.g.
+     * {@code asyncapi.build.phase.duration} tagged with the phase or {@code asyncapi.build.scanner.duration} tagged
+     * with the scanner.
+     */
+    public Consumer<MetricsFactory> buildMetrics(List<AsyncApiBuildMeasurement> measurements) {
+        return metrics -> {
+            for (AsyncApiBuildMeasurement measurement : measurements) {
+                gauge(metrics, measurement, "duration", "nanoseconds", measurement::getDurationNanos);
+                if (measurement.getAllocatedBytes() >= 0) {
+                    gauge(metrics, measurement, "allocated", "bytes", measurement::getAllocatedBytes);
+                }
+                if (measurement.getClasses() > 0) {
+                    gauge(metrics, measurement, "classes", null, measurement::getClasses);
+                }
+                gauge(metrics, measurement, "schemas", null, measurement::getSchemas);
+                gauge(metrics, measurement, "channels", null, measurement::getChannels);
+                gauge(metrics, measurement, "messages", null, measurement::getMessages);
+            }
+        };
+    }
+
+    private static void gauge(MetricsFactory metrics, AsyncApiBuildMeasurement measurement, String name, String unit,
+            Supplier<Number> value) {
+        MetricsFactory.MetricBuilder builder = metrics
+                .builder("asyncapi.build." + measurement.getTag() + "." + name, MetricsFactory.Type.VENDOR)
+                .tag(measurement.getTag(), measurement.getName());
+        if (unit != null) {
+            builder = builder.unit(unit);
+        }
+        builder.buildGauge(value);
+    }
 }
@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.quarkus.asyncapi.runtime;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.function.Predicate;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The content codings the AsyncAPI document is served with. The encoded documents are created once, at build
+ * time if possible, so no document is compressed per request.
+ */
+public enum ContentEncoding {
+    // ordered by compactness
+    IDENTITY("identity", ""),
+    GZIP("gzip", ".gz");
+
+    private final String coding;
+
+    private final String extension;
+
+    ContentEncoding(String coding, String extension) {
+        this.coding = coding;
+        this.extension = extension;
+    }
+
+    /**
+     * @return the name of the coding, as used by the Accept-Encoding and Content-Encoding headers
+     */
+    public String getCoding() {
+        return coding;
+    }
+
+    /**
+     * @return the extension of the resource name of an encoded document
+     */
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Encode a document.
+     *
+     * @param document the document
+     * @return the encoded document
+     * @throws IOException if the document can not be encoded
+     */
+    public byte[] encode(byte[] document) throws IOException {
+        if (this == IDENTITY) {
+            return document;
+        }
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream(document.length / 4 + 64);
+        try (OutputStream stream = new GZIPOutputStream(encoded)) {
+            stream.write(document);
+        }
+        return encoded.toByteArray();
+    }
+
+    /**
+     * Derive the entity tag of an encoded document, representations of different codings must not share a
+     * strong entity tag.
+     *
+     * @param eTag the entity tag of the document, including the quotes
+     * @return the entity tag of the encoded document
+     */
+    public String eTag(String eTag) {
+        if (this == IDENTITY) {
+            return eTag;
+        }
+        return eTag.substring(0, eTag.length() - 1) + '-' + coding + '"';
+    }
+
+    /**
+     * Select the coding of a response by the Accept-Encoding header of the request, see RFC 7231 section 5.3.4. Of
+     * the available codings accepted with the highest quality the one declared last, the most compact one, is
+     * selected.
+     *
+     * @param acceptEncoding the Accept-Encoding header, may be null
+     * @param available tests whether a document is available in a coding
+     * @return the coding, null if no available coding is acceptable, e.g. for {@code identity;q=0}
+     */
+    public static ContentEncoding select(String acceptEncoding, Predicate<ContentEncoding> available) {
+        if (acceptEncoding == null || acceptEncoding.isEmpty()) {
+            return IDENTITY;
+        }
+
+        // identity is acceptable unless excluded, it is only preferred if it is accepted
+        float identityQuality = quality(acceptEncoding, IDENTITY.coding);
+        ContentEncoding selected = identityQuality != 0f ? IDENTITY : null;
+        float selectedQuality = Math.max(identityQuality, 0f);
+        for (ContentEncoding encoding : values()) {
+            if (encoding == IDENTITY || !available.test(encoding)) {
+                continue;
+            }
+            float quality = quality(acceptEncoding, encoding.coding);
+            if (quality > 0f && quality >= selectedQuality) {
+                selected = encoding;
+                selectedQuality = quality;
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * @return the quality of the coding, or of the wildcard if the coding is not listed, -1 if neither is listed
+     */
+    private static float quality(String acceptEncoding, String coding) {
+        float wildcard = -1f;
+        for (String candidate : acceptEncoding.split(",")) {
+            String[] parameters = candidate.split(";");
+            String name = parameters[0].trim()
+                    .toLowerCase(Locale.ROOT);
+            float quality = 1f;
+            for (int i = 1; i < parameters.length; i++) {
+                String parameter = parameters[i].trim();
+                if (parameter.startsWith("q=") || parameter.startsWith("Q=")) {
+                    try {
+                        quality = Float.parseFloat(parameter.substring(2));
+                    } catch (NumberFormatException e) {
+                        // an invalid quality value is ignored
+                        quality = 0f;
+                    }
+                }
+            }
+            if (name.equals(coding)) {
+                return quality;
+            }
+            if (name.equals("*")) {
+                wildcard = quality;
+            }
+        }
+        return wildcard;
+    }
+}
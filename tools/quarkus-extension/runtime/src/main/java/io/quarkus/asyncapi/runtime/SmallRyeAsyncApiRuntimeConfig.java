@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.quarkus.asyncapi.runtime;
+
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.runtime.configuration.MemorySize;
+
+@ConfigRoot(name = "smallrye-asyncapi", phase = ConfigPhase.RUN_TIME)
+public final class SmallRyeAsyncApiRuntimeConfig {
+
+    /**
+     * The value of the Cache-Control header of the AsyncAPI document responses. By default clients have to
+     * revalidate the document on every use, which is answered with 304 (Not Modified) while it did not change.
+     */
+    @ConfigItem(defaultValue = "no-cache")
+    public String cacheControl;
+
+    /**
+     * Serve the documents generated at build time as they are, if no filter is configured. By default the documents
+     * are parsed and serialized again at runtime, applying the configuration of the runtime, e.g. info properties or
+     * servers. Enable this if the configuration is not changed at runtime, to skip that work at startup.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean serveGeneratedDocuments;
+
+    /**
+     * Documents of at least this size are kept off the heap, in direct buffers. By default all documents are
+     * kept on the heap.
+     */
+    @ConfigItem
+    public Optional<MemorySize> offHeapThreshold;
+
+    /**
+     * Serve the documents stored in {@code quarkus.smallrye-asyncapi.store-schema-directory} from the file system,
+     * without copying them into memory. The documents are served from the directory they have been stored in at
+     * build time. A stored document is only used while it equals the generated document, it is served from memory
+     * otherwise.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean serveStoredDocuments;
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.quarkus.asyncapi.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.smallrye.asyncapi.core.runtime.AsyncApiFormat;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
+import io.vertx.ext.web.Router;
+
+/**
+ * Requests the documents from a handler on a Vert.x server, the documents are the ones generated at build time.
+ */
+class AsyncApiHandlerTest {
+
+    private static final byte[] YAML = String.join("\n",
+            "asyncapi: 2.0.0",
+            "info:",
+            "  title: Orders",
+            "  version: 1.0.0",
+            "")
+            .getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] JSON = "{\"asyncapi\":\"2.0.0\",\"info\":{\"title\":\"Orders\",\"version\":\"1.0.0\"}}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    static Path resources;
+
+    private static Vertx vertx;
+
+    private static HttpServer server;
+
+    private static AsyncApiDocumentService documentService;
+
+    @BeforeAll
+    static void start() throws Exception {
+        write(AsyncApiFormat.YAML, YAML);
+        write(AsyncApiFormat.JSON, JSON);
+        AsyncApiConstants.classLoader = new URLClassLoader(new URL[] { resources.toUri()
+                .toURL() }, AsyncApiHandlerTest.class.getClassLoader());
+
+        documentService = new AsyncApiDocumentService();
+        documentService.create();
+        documentService.setDocumentSettings(true, Long.MAX_VALUE);
+
+        vertx = Vertx.vertx();
+        Router router = Router.router(vertx);
+        router.route("/asyncapi")
+                .handler(new AsyncApiHandler("no-cache", documentService));
+        CompletableFuture<HttpServer> started = new CompletableFuture<>();
+        vertx.createHttpServer()
+                .requestHandler(router)
+                .listen(0, result -> {
+                    if (result.succeeded()) {
+                        started.complete(result.result());
+                    } else {
+                        started.completeExceptionally(result.cause());
+                    }
+                });
+        server = started.get(10, TimeUnit.SECONDS);
+    }
+
+    @AfterAll
+    static void stop() throws Exception {
+        CompletableFuture<Void> closed = new CompletableFuture<>();
+        vertx.close(result -> closed.complete(null));
+        closed.get(10, TimeUnit.SECONDS);
+        AsyncApiConstants.classLoader = null;
+    }
+
+    @Test
+    void getsDocument() throws IOException {
+        HttpURLConnection connection = request("GET", "");
+
+        assertEquals(200, connection.getResponseCode());
+        assertEquals("application/yaml;charset=UTF-8", connection.getHeaderField("Content-Type"));
+        assertEquals(documentService.getETag(AsyncApiFormat.YAML), connection.getHeaderField("ETag"));
+        assertEquals(documentService.getLastModifiedHeader(), connection.getHeaderField("Last-Modified"));
+        assertEquals("Accept, Accept-Encoding", connection.getHeaderField("Vary"));
+        assertEquals("no-cache", connection.getHeaderField("Cache-Control"));
+        assertNull(connection.getHeaderField("Content-Encoding"));
+        assertArrayEquals(YAML, body(connection));
+
+        HttpURLConnection json = request("GET", "?format=JSON");
+        assertEquals("application/json;charset=UTF-8", json.getHeaderField("Content-Type"));
+        assertArrayEquals(JSON, body(json));
+    }
+
+    @Test
+    void answersWeakIfNoneMatchWithNotModified() throws IOException {
+        String eTag = documentService.getETag(AsyncApiFormat.YAML);
+
+        assertNotModified(request("GET", "", "If-None-Match", "W/" + eTag));
+        assertNotModified(request("GET", "", "If-None-Match", "\"other\", " + eTag));
+        assertNotModified(request("GET", "", "If-None-Match", "*"));
+        assertEquals(200, request("GET", "", "If-None-Match", "\"other\"").getResponseCode());
+    }
+
+    @Test
+    void answersIfModifiedSinceWithNotModified() throws IOException {
+        String lastModified = documentService.getLastModifiedHeader();
+        String before = DateTimeFormatter.RFC_1123_DATE_TIME.format(documentService.getLastModified()
+                .minusSeconds(3600)
+                .atOffset(ZoneOffset.UTC));
+
+        assertNotModified(request("GET", "", "If-Modified-Since", lastModified));
+        assertEquals(200, request("GET", "", "If-Modified-Since", before).getResponseCode());
+        assertEquals(200, request("GET", "", "If-Modified-Since", "yesterday").getResponseCode());
+        // If-Modified-Since is ignored if If-None-Match is sent
+        assertEquals(200, request("GET", "", "If-None-Match", "\"other\"", "If-Modified-Since", lastModified)
+                .getResponseCode());
+    }
+
+    @Test
+    void answersHeadWithoutBody() throws IOException {
+        HttpURLConnection connection = request("HEAD", "");
+
+        assertEquals(200, connection.getResponseCode());
+        assertEquals(Integer.toString(YAML.length), connection.getHeaderField("Content-Length"));
+        assertEquals(documentService.getETag(AsyncApiFormat.YAML), connection.getHeaderField("ETag"));
+        assertEquals(0, body(connection).length);
+
+        HttpURLConnection gzip = request("HEAD", "", "Accept-Encoding", "gzip");
+        assertEquals(Integer.toString(ContentEncoding.GZIP.encode(YAML).length), gzip.getHeaderField("Content-Length"));
+    }
+
+    @Test
+    void negotiatesContentEncoding() throws IOException {
+        String eTag = documentService.getETag(AsyncApiFormat.YAML);
+
+        HttpURLConnection gzip = request("GET", "", "Accept-Encoding", "gzip, deflate");
+        assertEquals(200, gzip.getResponseCode());
+        assertEquals("gzip", gzip.getHeaderField("Content-Encoding"));
+        assertEquals(ContentEncoding.GZIP.eTag(eTag), gzip.getHeaderField("ETag"));
+        assertArrayEquals(YAML, gunzip(body(gzip)));
+
+        HttpURLConnection identity = request("GET", "", "Accept-Encoding", "gzip;q=0");
+        assertNull(identity.getHeaderField("Content-Encoding"));
+        assertEquals(eTag, identity.getHeaderField("ETag"));
+        assertArrayEquals(YAML, body(identity));
+
+        assertEquals(406, request("GET", "", "Accept-Encoding", "*;q=0").getResponseCode());
+    }
+
+    @Test
+    void comparesEntityTagOfCoding() throws IOException {
+        String eTag = documentService.getETag(AsyncApiFormat.YAML);
+
+        // the entity tag of the uncompressed document does not match the compressed one
+        assertEquals(200, request("GET", "", "Accept-Encoding", "gzip", "If-None-Match", eTag).getResponseCode());
+        assertNotModified(request("GET", "", "Accept-Encoding", "gzip", "If-None-Match",
+                ContentEncoding.GZIP.eTag(eTag)));
+    }
+
+    private static void assertNotModified(HttpURLConnection connection) throws IOException {
+        assertEquals(304, connection.getResponseCode());
+        assertNotNull(connection.getHeaderField("ETag"));
+        assertEquals(0, body(connection).length);
+    }
+
+    private static HttpURLConnection request(String method, String query, String... headers) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + server.actualPort()
+                + "/asyncapi" + query).openConnection();
+        connection.setRequestMethod(method);
+        for (int i = 0; i < headers.length; i += 2) {
+            connection.setRequestProperty(headers[i], headers[i + 1]);
+        }
+        return connection;
+    }
+
+    private static byte[] body(HttpURLConnection connection) throws IOException {
+        InputStream stream = connection.getResponseCode() < 400 ? connection.getInputStream()
+                : connection.getErrorStream();
+        if (stream == null) {
+            return new byte[0];
+        }
+        try (InputStream is = stream) {
+            return readAll(is);
+        }
+    }
+
+    private static byte[] gunzip(byte[] encoded) throws IOException {
+        try (InputStream is = new GZIPInputStream(new ByteArrayInputStream(encoded))) {
+            return readAll(is);
+        }
+    }
+
+    private static byte[] readAll(InputStream is) throws IOException {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = is.read(buffer)) != -1) {
+            content.write(buffer, 0, read);
+        }
+        return content.toByteArray();
+    }
+
+    private static void write(AsyncApiFormat format, byte[] document) throws IOException {
+        Path directory = resources.resolve("META-INF");
+        Files.createDirectories(directory);
+        for (ContentEncoding encoding : ContentEncoding.values()) {
+            Files.write(directory.resolve(AsyncApiConstants.GENERATED_DOC_BASE + format + encoding.getExtension()),
+                    encoding.encode(document));
+        }
+    }
+}
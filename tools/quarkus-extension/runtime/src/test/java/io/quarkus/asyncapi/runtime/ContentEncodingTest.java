@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.quarkus.asyncapi.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+class ContentEncodingTest {
+
+    private static final Predicate<ContentEncoding> ALL = encoding -> true;
+
+    private static final Predicate<ContentEncoding> IDENTITY_ONLY = encoding -> encoding == ContentEncoding.IDENTITY;
+
+    @Test
+    void selectsIdentityWithoutHeader() {
+        assertEquals(ContentEncoding.IDENTITY, ContentEncoding.select(null, ALL));
+        assertEquals(ContentEncoding.IDENTITY, ContentEncoding.select("", ALL));
+    }
+
+    @Test
+    void selectsAcceptedCoding() {
+        assertEquals(ContentEncoding.GZIP, ContentEncoding.select("gzip, deflate, br", ALL));
+        assertEquals(ContentEncoding.GZIP, ContentEncoding.select("*", ALL));
+        assertEquals(ContentEncoding.GZIP, ContentEncoding.select("identity, gzip", ALL));
+        assertEquals(ContentEncoding.IDENTITY, ContentEncoding.select("identity, gzip;q=0.5", ALL));
+        assertEquals(ContentEncoding.IDENTITY, ContentEncoding.select("gzip;q=0", ALL));
+        assertEquals(ContentEncoding.IDENTITY, ContentEncoding.select("br", ALL));
+        assertEquals(ContentEncoding.IDENTITY, ContentEncoding.select("gzip", IDENTITY_ONLY));
+    }
+
+    @Test
+    void selectsNothingIfIdentityIsExcluded() {
+        assertEquals(ContentEncoding.GZIP, ContentEncoding.select("identity;q=0, gzip", ALL));
+        assertNull(ContentEncoding.select("identity;q=0", IDENTITY_ONLY));
+        assertNull(ContentEncoding.select("gzip, identity;q=0", IDENTITY_ONLY));
+        assertNull(ContentEncoding.select("*;q=0", ALL));
+        assertEquals(ContentEncoding.IDENTITY, ContentEncoding.select("identity, *;q=0", ALL));
+    }
+
+    @Test
+    void derivesEntityTagPerCoding() {
+        assertEquals("\"abc\"", ContentEncoding.IDENTITY.eTag("\"abc\""));
+        assertEquals("\"abc-gzip\"", ContentEncoding.GZIP.eTag("\"abc\""));
+    }
+}